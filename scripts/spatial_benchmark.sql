@@ -0,0 +1,116 @@
+-- Spatial query benchmark: HAVERSINE vs EARTH_DISTANCE (mohe.spatial.mode)
+--
+-- Seeds 500,000 synthetic places into an isolated schema and runs the
+-- nearby-place query from PlaceRepository in both modes with EXPLAIN ANALYZE.
+-- Nothing in the public schema is touched.
+--
+-- Usage:
+--   docker exec -i mohe-postgres psql -U mohe_user -d mohe_db < scripts/spatial_benchmark.sql
+
+\timing on
+
+CREATE EXTENSION IF NOT EXISTS cube;
+CREATE EXTENSION IF NOT EXISTS earthdistance;
+
+DROP SCHEMA IF EXISTS spatial_bench CASCADE;
+CREATE SCHEMA spatial_bench;
+SET search_path TO spatial_bench, public;
+
+CREATE TABLE places (
+    id bigint PRIMARY KEY,
+    latitude numeric(10,8),
+    longitude numeric(11,8),
+    rating numeric(38,2),
+    review_count integer,
+    embed_status varchar(20),
+    location earth
+);
+
+-- 500k places spread over South Korea (33.0~38.6N, 124.6~131.0E), denser around Seoul
+INSERT INTO places (id, latitude, longitude, rating, review_count, embed_status)
+SELECT g,
+       CASE WHEN g % 3 = 0 THEN 37.40 + random() * 0.35 ELSE 33.0 + random() * 5.6 END,
+       CASE WHEN g % 3 = 0 THEN 126.80 + random() * 0.40 ELSE 124.6 + random() * 6.4 END,
+       round((random() * 5)::numeric, 2),
+       (random() * 2000)::int,
+       CASE WHEN random() < 0.9 THEN 'COMPLETED' ELSE 'PENDING' END
+FROM generate_series(1, 500000) AS g;
+
+UPDATE places
+SET location = ll_to_earth(CAST(latitude AS DOUBLE PRECISION), CAST(longitude AS DOUBLE PRECISION));
+
+CREATE INDEX idx_bench_places_lat_lon ON places (latitude, longitude);
+CREATE INDEX idx_bench_places_location_gist ON places USING gist (location);
+ANALYZE places;
+
+-- ---------------------------------------------------------------------------
+-- HAVERSINE mode (findNearbyPlacesForLLM / findNearbyPlacesByCategory shape)
+-- 10km around Seoul City Hall, nearest 40
+-- ---------------------------------------------------------------------------
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT p.id FROM places p
+WHERE p.latitude IS NOT NULL AND p.longitude IS NOT NULL
+AND p.embed_status = 'COMPLETED'
+AND (p.rating >= 3.0 OR p.rating IS NULL)
+AND (
+    6371 * acos(LEAST(1.0, GREATEST(-1.0,
+        cos(radians(37.5665)) * cos(radians(CAST(p.latitude AS DOUBLE PRECISION))) *
+        cos(radians(CAST(p.longitude AS DOUBLE PRECISION)) - radians(126.9780)) +
+        sin(radians(37.5665)) * sin(radians(CAST(p.latitude AS DOUBLE PRECISION)))
+    )))
+) <= 10.0
+ORDER BY (
+    6371 * acos(LEAST(1.0, GREATEST(-1.0,
+        cos(radians(37.5665)) * cos(radians(CAST(p.latitude AS DOUBLE PRECISION))) *
+        cos(radians(CAST(p.longitude AS DOUBLE PRECISION)) - radians(126.9780)) +
+        sin(radians(37.5665)) * sin(radians(CAST(p.latitude AS DOUBLE PRECISION)))
+    )))
+) ASC
+LIMIT 40;
+
+-- ---------------------------------------------------------------------------
+-- EARTH_DISTANCE mode (same filter, GiST earth_box + KNN ordering)
+-- ---------------------------------------------------------------------------
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT p.id FROM places p
+WHERE p.location IS NOT NULL
+AND p.embed_status = 'COMPLETED'
+AND (p.rating >= 3.0 OR p.rating IS NULL)
+AND earth_box(ll_to_earth(37.5665, 126.9780), 10.0 * 1000) @> p.location
+AND earth_distance(ll_to_earth(37.5665, 126.9780), p.location) <= 10.0 * 1000
+ORDER BY p.location <-> ll_to_earth(37.5665, 126.9780)
+LIMIT 40;
+
+-- ---------------------------------------------------------------------------
+-- Wide radius (100km, PlaceService.getLocationWeightedPlaces) in both modes
+-- ---------------------------------------------------------------------------
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT p.id FROM places p
+WHERE p.embed_status = 'COMPLETED'
+AND (
+    6371 * acos(LEAST(1.0, GREATEST(-1.0,
+        cos(radians(37.5665)) * cos(radians(CAST(p.latitude AS DOUBLE PRECISION))) *
+        cos(radians(CAST(p.longitude AS DOUBLE PRECISION)) - radians(126.9780)) +
+        sin(radians(37.5665)) * sin(radians(CAST(p.latitude AS DOUBLE PRECISION)))
+    )))
+) <= 100.0
+ORDER BY (
+    6371 * acos(LEAST(1.0, GREATEST(-1.0,
+        cos(radians(37.5665)) * cos(radians(CAST(p.latitude AS DOUBLE PRECISION))) *
+        cos(radians(CAST(p.longitude AS DOUBLE PRECISION)) - radians(126.9780)) +
+        sin(radians(37.5665)) * sin(radians(CAST(p.latitude AS DOUBLE PRECISION)))
+    )))
+) ASC
+LIMIT 160;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT p.id FROM places p
+WHERE p.location IS NOT NULL
+AND p.embed_status = 'COMPLETED'
+AND earth_box(ll_to_earth(37.5665, 126.9780), 100.0 * 1000) @> p.location
+AND earth_distance(ll_to_earth(37.5665, 126.9780), p.location) <= 100.0 * 1000
+ORDER BY p.location <-> ll_to_earth(37.5665, 126.9780)
+LIMIT 160;
+
+RESET search_path;
+DROP SCHEMA spatial_bench CASCADE;
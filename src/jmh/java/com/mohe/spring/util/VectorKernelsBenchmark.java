@@ -0,0 +1,77 @@
+package com.mohe.spring.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link VectorKernels#dot} 마이크로벤치마크 (임베딩 차원 1536)
+ *
+ * <p>단일 누산기 루프를 기준선으로 두고, 언롤 커널과 후보 풀 스코어링(행 우선 행렬의 각 행 · 질의)을 비교합니다.
+ * 실행: {@code ./gradlew jmh -PjmhIncludes=VectorKernelsBenchmark}</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VectorKernelsBenchmark {
+
+    @Param("1536")
+    private int dimension;
+
+    /** 후보 풀 크기 (컨텍스트 추천에서 한 번에 스코어링하는 키워드 임베딩 수) */
+    @Param("500")
+    private int rows;
+
+    private float[] a;
+    private float[] b;
+    private float[] matrix;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        a = randomVector(random, dimension);
+        b = randomVector(random, dimension);
+        matrix = randomVector(random, dimension * rows);
+        VectorKernels.normalize(b);
+    }
+
+    private static float[] randomVector(Random random, int length) {
+        float[] vector = new float[length];
+        for (int i = 0; i < length; i++) {
+            vector[i] = random.nextFloat() * 2f - 1f;
+        }
+        return vector;
+    }
+
+    @Benchmark
+    public float scalarDot() {
+        float sum = 0f;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public float unrolledDot() {
+        return VectorKernels.dot(a, b);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public float candidatePool() {
+        float best = Float.NEGATIVE_INFINITY;
+        for (int row = 0; row < rows; row++) {
+            best = Math.max(best, VectorKernels.dot(matrix, row * dimension, b, 0, dimension));
+        }
+        return best;
+    }
+}
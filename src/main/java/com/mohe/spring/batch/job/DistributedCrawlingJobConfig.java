@@ -102,6 +102,7 @@ public class DistributedCrawlingJobConfig {
     ) {
         return new StepBuilder("distributedCrawlingStep", jobRepository)
                 .<Place, Place>chunk(5, transactionManager)
+                // DistributedPlaceReader는 ChunkListener로 자동 등록되어 chunk 커밋/롤백 후 lease를 정리함
                 .reader(distributedPlaceReader)
                 .processor(distributedPlaceProcessor)
                 .writer(distributedPlaceWriter)
@@ -321,6 +322,7 @@ public class DistributedCrawlingJobConfig {
                         place.getBusinessHours().add(businessHour);
                     }
                 }
+                place.compileOpenHours();
 
                 // SNS
                 place.getSns().clear();
@@ -29,9 +29,11 @@ import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 이미지 새로고침 배치 Job
@@ -42,7 +44,7 @@ import java.util.Set;
  * <ol>
  *   <li>Reader: 모드에 따라 Place 조회 (ALL, NO_IMAGES, READY_ONLY, NOT_READY)</li>
  *   <li>Processor: 네이버에서 이미지 크롤링 (최대 5장)</li>
- *   <li>Writer: 기존 이미지 삭제 후 새 이미지 저장</li>
+ *   <li>Writer: chunk의 모든 장소 이미지 저장을 먼저 시작한 뒤, 장소별로 기존 이미지 삭제 후 새 이미지 저장</li>
  * </ol>
  *
  * <h3>실행 모드 (JobParameter: mode)</h3>
@@ -111,7 +113,7 @@ public class ImageRefreshJobConfig {
 
     @Bean
     @StepScope
-    public ItemReader<Place> imageRefreshReader(
+    public ImageRefreshReader imageRefreshReader(
         @Value("#{jobParameters['mode'] ?: 'NO_IMAGES'}") String modeStr
     ) {
         RefreshMode mode = RefreshMode.valueOf(modeStr.toUpperCase());
@@ -207,10 +209,21 @@ public class ImageRefreshJobConfig {
     @Bean
     public ItemWriter<Place> imageRefreshWriter() {
         return places -> {
+            // chunk의 모든 장소 이미지 저장을 먼저 시작 (장소 간 이미지 저장이 겹쳐서 진행)
+            Map<Place, CompletableFuture<List<String>>> savesByPlace = new LinkedHashMap<>();
             for (Place place : places) {
                 if (place == null || place.getImageUrls() == null || place.getImageUrls().isEmpty()) {
                     continue;
                 }
+                savesByPlace.put(place, imageService.downloadAndSaveImagesAsync(
+                    place.getId(),
+                    place.getName(),
+                    place.getImageUrls()
+                ));
+            }
+
+            for (Map.Entry<Place, CompletableFuture<List<String>>> entry : savesByPlace.entrySet()) {
+                Place place = entry.getKey();
 
                 try {
                     logger.info("💾 Saving images for place: {} (ID: {})", place.getName(), place.getId());
@@ -224,12 +237,7 @@ public class ImageRefreshJobConfig {
                     }
 
                     // 2. 새 이미지 저장
-                    List<String> imageUrls = place.getImageUrls();
-                    List<String> savedPaths = imageService.downloadAndSaveImages(
-                        place.getId(),
-                        place.getName(),
-                        imageUrls
-                    );
+                    List<String> savedPaths = entry.getValue().join();
 
                     if (savedPaths != null && !savedPaths.isEmpty()) {
                         List<PlaceImage> newImages = new ArrayList<>();
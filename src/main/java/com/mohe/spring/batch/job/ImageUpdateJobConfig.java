@@ -8,6 +8,7 @@ import com.mohe.spring.repository.PlaceImageRepository;
 import com.mohe.spring.repository.PlaceRepository;
 import com.mohe.spring.service.crawling.CrawlingService;
 import com.mohe.spring.service.image.ImageService;
+import com.mohe.spring.util.TokenBucket;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.batch.core.Job;
@@ -20,6 +21,7 @@ import org.springframework.batch.item.ItemReader;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.integration.async.AsyncItemProcessor;
 import org.springframework.batch.integration.async.AsyncItemWriter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.TaskExecutor;
@@ -28,7 +30,9 @@ import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 
 /**
@@ -39,8 +43,10 @@ import java.util.concurrent.Future;
  * <h3>처리 흐름</h3>
  * <ol>
  *   <li>Reader: crawlerFound=true AND (ready=false OR ready IS NULL)인 Place 조회 (ID 순서)</li>
- *   <li>Processor: 새로운 이미지 API 호출하여 이미지 가져오기</li>
- *   <li>Writer: 기존 이미지 삭제 후 새 이미지 저장, ready=true로 업데이트</li>
+ *   <li>Processor: 새로운 이미지 API 호출하여 이미지 가져오기
+ *       (크롤러 호출 속도는 공유 토큰 버킷이 제한 — 장소당 고정 sleep 대신)</li>
+ *   <li>Writer: chunk의 모든 장소 이미지 저장을 먼저 시작한 뒤, 완료되는 대로
+ *       기존 이미지 삭제 후 새 이미지 저장, ready=true로 업데이트</li>
  * </ol>
  *
  * <h3>API 엔드포인트</h3>
@@ -60,16 +66,21 @@ public class ImageUpdateJobConfig {
     private final PlaceRepository placeRepository;
     private final PlaceImageRepository placeImageRepository;
 
+    /** 네이버 차단 방지: 모든 processor 스레드가 공유하는 크롤러 호출 속도 제한 */
+    private final TokenBucket crawlRateLimiter;
+
     public ImageUpdateJobConfig(
         CrawlingService crawlingService,
         ImageService imageService,
         PlaceRepository placeRepository,
-        PlaceImageRepository placeImageRepository
+        PlaceImageRepository placeImageRepository,
+        @Value("${mohe.image-update.crawl-requests-per-second:1.5}") double crawlRequestsPerSecond
     ) {
         this.crawlingService = crawlingService;
         this.imageService = imageService;
         this.placeRepository = placeRepository;
         this.placeImageRepository = placeImageRepository;
+        this.crawlRateLimiter = new TokenBucket(crawlRequestsPerSecond, 1);
     }
 
     @Bean
@@ -119,7 +130,7 @@ public class ImageUpdateJobConfig {
     }
 
     @Bean
-    public ItemReader<Place> imageUpdateReader() {
+    public ImageUpdateReader imageUpdateReader() {
         return new ImageUpdateReader(placeRepository, 5);
     }
 
@@ -127,8 +138,8 @@ public class ImageUpdateJobConfig {
     public ItemProcessor<Place, Place> imageUpdateProcessor() {
         return place -> {
             try {
-                // 네이버 차단 방지: 장소당 2초 대기
-                Thread.sleep(2000);
+                // 네이버 차단 방지: 공유 토큰 버킷으로 크롤러 호출 간격 유지
+                crawlRateLimiter.acquire();
 
                 logger.info("🖼️ Fetching images for place: {} (ID: {})", place.getName(), place.getId());
 
@@ -169,35 +180,43 @@ public class ImageUpdateJobConfig {
     @Bean
     public ItemWriter<Place> imageUpdateWriter() {
         return places -> {
+            // 1. chunk의 모든 장소 이미지 저장을 먼저 시작 (장소 간 이미지 저장이 겹쳐서 진행)
+            Map<Place, List<String>> urlsByPlace = new LinkedHashMap<>();
+            Map<Place, CompletableFuture<List<String>>> savesByPlace = new LinkedHashMap<>();
             for (Place place : places) {
                 if (place == null || place.getImageUrls() == null || place.getImageUrls().isEmpty()) {
                     continue;
                 }
+                // 최대 5개 이미지만 처리
+                List<String> imageUrls = place.getImageUrls();
+                List<String> imageUrlsToSave = imageUrls.subList(0, Math.min(imageUrls.size(), 5));
+                urlsByPlace.put(place, imageUrlsToSave);
+                savesByPlace.put(place, imageService.downloadAndSaveImagesAsync(
+                    place.getId(),
+                    place.getName(),
+                    imageUrlsToSave
+                ));
+            }
+
+            // 2. 장소별로 완료를 기다린 뒤 DB 반영
+            for (Map.Entry<Place, CompletableFuture<List<String>>> entry : savesByPlace.entrySet()) {
+                Place place = entry.getKey();
+                List<String> imageUrlsToSave = urlsByPlace.get(place);
 
                 try {
                     logger.info("💾 Updating images for place: {} (ID: {})", place.getName(), place.getId());
 
-                    // 1. 기존 이미지 삭제
+                    // 3. 기존 이미지 삭제
                     List<PlaceImage> existingImages = placeImageRepository.findByPlaceIdOrderByOrderIndexAsc(place.getId());
                     if (!existingImages.isEmpty()) {
                         placeImageRepository.deleteAll(existingImages);
                         logger.info("🗑️ Deleted {} existing images for place: {}", existingImages.size(), place.getName());
                     }
 
-                    // 2. 새 이미지 저장
+                    // 4. 새 이미지 저장
                     List<PlaceImage> newImages = new ArrayList<>();
-                    List<String> imageUrls = place.getImageUrls();
-
-                    // 최대 5개 이미지만 처리
-                    List<String> imageUrlsToSave = imageUrls.subList(0, Math.min(imageUrls.size(), 5));
-
                     try {
-                        // 이미지 다운로드 및 저장 (일괄 처리)
-                        List<String> savedImagePaths = imageService.downloadAndSaveImages(
-                            place.getId(),
-                            place.getName(),
-                            imageUrlsToSave
-                        );
+                        List<String> savedImagePaths = entry.getValue().join();
 
                         if (savedImagePaths != null && !savedImagePaths.isEmpty()) {
                             for (int i = 0; i < savedImagePaths.size(); i++) {
@@ -221,7 +240,7 @@ public class ImageUpdateJobConfig {
                         placeImageRepository.saveAll(newImages);
                         logger.info("✅ Saved {} new images for place: {}", newImages.size(), place.getName());
 
-                        // 3. Mark place as embed_status=COMPLETED ONLY after successful image update
+                        // 5. Mark place as embed_status=COMPLETED ONLY after successful image update
                         place.setEmbedStatus(EmbedStatus.COMPLETED);
                         placeRepository.save(place);
                         logger.info("✅ Marked place as embed_status=COMPLETED: {} (ID: {})", place.getName(), place.getId());
@@ -2,17 +2,14 @@ package com.mohe.spring.batch.job;
 
 import com.mohe.spring.batch.location.LocationRegistry;
 import com.mohe.spring.batch.reader.PlaceQueryReader;
-import com.mohe.spring.entity.Place;
+import com.mohe.spring.batch.writer.PlaceCollectionWriter;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemReader;
-import org.springframework.batch.item.ItemWriter;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -21,13 +18,12 @@ import org.springframework.transaction.PlatformTransactionManager;
 /**
  * Place Collection Batch Job 설정
  *
- * <p>Naver API를 통해 장소 데이터를 수집하여 데이터베이스에 저장하는 배치 Job을 정의합니다.</p>
+ * <p>Kakao API를 통해 장소 데이터를 수집하여 데이터베이스에 저장하는 배치 Job을 정의합니다.</p>
  *
  * <h3>Job 구성</h3>
  * <ul>
  *   <li><b>Reader:</b> PlaceQueryReader - 지역 + 카테고리 조합 쿼리 생성</li>
- *   <li><b>Processor:</b> PlaceDataProcessor - Naver API 호출 및 필터링</li>
- *   <li><b>Writer:</b> PlaceDataWriter - DB 저장</li>
+ *   <li><b>Writer:</b> PlaceCollectionWriter - chunk의 쿼리를 동시에 검색, 필터링, 일괄 중복 제거 후 JDBC batch 저장</li>
  * </ul>
  *
  * <h3>Region 기반 처리</h3>
@@ -42,8 +38,7 @@ import org.springframework.transaction.PlatformTransactionManager;
  * @author Andrew Lim
  * @since 1.0
  * @see com.mohe.spring.batch.reader.PlaceQueryReader
- * @see com.mohe.spring.batch.processor.PlaceDataProcessor
- * @see com.mohe.spring.batch.writer.PlaceDataWriter
+ * @see com.mohe.spring.batch.writer.PlaceCollectionWriter
  */
 @Configuration
 public class PlaceCollectionJobConfig {
@@ -72,20 +67,20 @@ public class PlaceCollectionJobConfig {
      *
      * <p>Chunk-oriented processing 방식으로 동작합니다:
      * <ul>
-     *   <li>Chunk Size: 10 (한 번에 10개 아이템씩 처리)</li>
+     *   <li>Chunk Size: mohe.collection.chunk-size (기본 10개 쿼리)</li>
      *   <li>Input Type: String (검색 쿼리)</li>
-     *   <li>Output Type: Place (장소 엔티티)</li>
+     *   <li>Processor 없음: 쿼리 단위가 아니라 chunk 단위로 검색해야 동시 요청과 일괄 중복 제거가 가능</li>
      * </ul>
      * </p>
      *
      * <p><b>트랜잭션 관리</b>: Chunk 단위로 트랜잭션이 커밋됩니다.
-     * 즉, 10개 처리 후 커밋되며, 중간에 실패 시 해당 Chunk만 롤백됩니다.</p>
+     * 즉, 10개 쿼리의 장소를 저장한 후 커밋되며, 중간에 실패 시 해당 Chunk만 롤백됩니다.</p>
      *
      * @param jobRepository Spring Batch 메타데이터 저장소
      * @param transactionManager 트랜잭션 관리자
      * @param placeQueryReader 검색 쿼리를 읽어오는 Reader (region 파라미터 적용)
-     * @param placeProcessor 검색 쿼리를 Place로 변환하는 Processor
-     * @param placeWriter Place를 DB에 저장하는 Writer
+     * @param placeCollectionWriter 쿼리 chunk를 검색해 새 장소를 저장하는 Writer (수집 속도 지표 기록)
+     * @param chunkSize chunk당 쿼리 수
      * @return 실행 가능한 Step 인스턴스
      */
     @Bean
@@ -93,13 +88,12 @@ public class PlaceCollectionJobConfig {
             JobRepository jobRepository,
             PlatformTransactionManager transactionManager,
             ItemReader<String> placeQueryReader,
-            @Qualifier("placeDataProcessor") ItemProcessor<String, Place> placeProcessor,
-            ItemWriter<Place> placeWriter) {
+            PlaceCollectionWriter placeCollectionWriter,
+            @Value("${mohe.collection.chunk-size:10}") int chunkSize) {
         return new StepBuilder("placeCollectionStep", jobRepository)
-                .<String, Place>chunk(10, transactionManager) // 10개씩 chunk 처리
-                .reader(placeQueryReader)      // 검색 쿼리 생성
-                .processor(placeProcessor)     // API 호출 및 변환
-                .writer(placeWriter)           // DB 저장
+                .<String, String>chunk(Math.max(1, chunkSize), transactionManager)
+                .reader(placeQueryReader)          // 검색 쿼리 생성
+                .writer(placeCollectionWriter)     // 동시 검색, 필터링, 중복 제거, batch 저장 (StepExecutionListener로 자동 등록)
                 .build();
     }
 
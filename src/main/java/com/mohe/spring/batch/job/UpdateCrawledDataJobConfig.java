@@ -1,5 +1,6 @@
 package com.mohe.spring.batch.job;
 
+import com.mohe.spring.batch.partition.PlaceIdRangePartitioner;
 import com.mohe.spring.batch.reader.UpdateCrawledDataReader;
 import com.mohe.spring.dto.crawling.CrawledDataDto;
 import com.mohe.spring.entity.CrawlStatus;
@@ -17,6 +18,7 @@ import com.mohe.spring.service.image.ImageService;
 import com.mohe.spring.service.KeywordEmbeddingService;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
@@ -58,6 +60,9 @@ public class UpdateCrawledDataJobConfig {
     @Value("${batch.async.queue-capacity:100}")
     private int queueCapacity;
 
+    @Value("${batch.partitions:4}")
+    private int gridSize;
+
     @Value("${batch.chunk-size:20}")
     private int chunkSize;
 
@@ -98,9 +103,31 @@ public class UpdateCrawledDataJobConfig {
     }
 
     @Bean
-    public Job updateCrawledDataJob(JobRepository jobRepository, Step updateCrawledDataStep) {
+    public Job updateCrawledDataJob(JobRepository jobRepository, Step updateCrawledDataPartitionStep) {
         return new JobBuilder("updateCrawledDataJob", jobRepository)
-                .start(updateCrawledDataStep)
+                .start(updateCrawledDataPartitionStep)
+                .build();
+    }
+
+    /**
+     * 크롤링 대기 장소의 ID 범위를 gridSize개로 나눠 워커 Step을 병렬 실행
+     * - 각 워커는 자기 구간만 키셋으로 읽고, 처리는 공유 batchTaskExecutor에서 비동기로 수행
+     * - 재시작 시 실패한 파티션만 마지막으로 커밋된 ID 다음부터 재개
+     */
+    @Bean
+    public Step updateCrawledDataPartitionStep(
+            JobRepository jobRepository,
+            Step updateCrawledDataStep,
+            TaskExecutor partitionTaskExecutor
+    ) {
+        PlaceIdRangePartitioner partitioner = new PlaceIdRangePartitioner("updateCrawledData",
+                () -> PlaceIdRangePartitioner.IdRange.of(placeRepository.findIdBoundsForBatchProcessing()));
+
+        return new StepBuilder("updateCrawledDataPartitionStep", jobRepository)
+                .partitioner("updateCrawledDataStep", partitioner)
+                .step(updateCrawledDataStep)
+                .gridSize(Math.max(1, gridSize))
+                .taskExecutor(partitionTaskExecutor)
                 .build();
     }
 
@@ -147,10 +174,17 @@ public class UpdateCrawledDataJobConfig {
     }
 
     @Bean
-    public ItemReader<Place> placeReader() {
+    @StepScope
+    public UpdateCrawledDataReader placeReader(
+            @Value("#{stepExecutionContext['minId']}") Long minId,
+            @Value("#{stepExecutionContext['maxId']}") Long maxId
+    ) {
         // Use custom reader to avoid Hibernate HHH90003004 warning
-        // Two-step approach: 1) Load IDs with pagination, 2) Load entities with collections
-        return new UpdateCrawledDataReader(placeRepository, 10);
+        // Two-step approach: 1) Load ID pages by keyset (id > lastId), 2) Load each page with collections
+        // One instance per partition, limited to that partition's ID range
+        UpdateCrawledDataReader reader = new UpdateCrawledDataReader(placeRepository, 10);
+        reader.setIdRange(minId, maxId);
+        return reader;
     }
 
     @Bean
@@ -533,6 +567,7 @@ public class UpdateCrawledDataJobConfig {
                 target.getBusinessHours().add(hour);
             });
         }
+        target.compileOpenHours();
         if (source.getTempSns() != null) {
             source.getTempSns().forEach(s -> {
                 s.setPlace(target);
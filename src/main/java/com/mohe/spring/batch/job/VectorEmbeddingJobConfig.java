@@ -1,16 +1,11 @@
 package com.mohe.spring.batch.job;
 
+import com.mohe.spring.batch.partition.PlaceIdRangePartitioner;
 import com.mohe.spring.batch.reader.VectorEmbeddingReader;
 import com.mohe.spring.entity.EmbedStatus;
-import com.mohe.spring.entity.KeywordEmbeddingLookup;
 import com.mohe.spring.entity.Place;
-import com.mohe.spring.entity.PlaceDescriptionEmbedding;
-import com.mohe.spring.repository.KeywordEmbeddingLookupRepository;
-import com.mohe.spring.repository.PlaceDescriptionEmbeddingRepository;
 import com.mohe.spring.repository.PlaceRepository;
-import com.mohe.spring.service.EmbeddingClient;
-import com.mohe.spring.service.KeywordEmbeddingSaveService;
-import com.mohe.spring.dto.embedding.EmbeddingResponse;
+import com.mohe.spring.service.embedding.PlaceEmbeddingPipeline;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
@@ -18,43 +13,62 @@ import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Configuration
 public class VectorEmbeddingJobConfig {
 
-    private final EmbeddingClient embeddingClient;
+    private static final int MAX_KEYWORDS_PER_PLACE = 9;
+
     private final PlaceRepository placeRepository;
-    private final KeywordEmbeddingSaveService embeddingSaveService;
-    private final KeywordEmbeddingLookupRepository lookupRepository;
-    private final PlaceDescriptionEmbeddingRepository descEmbeddingRepository;
+    private final PlaceEmbeddingPipeline embeddingPipeline;
+    private final int chunkSize;
+    private final int gridSize;
 
     public VectorEmbeddingJobConfig(
-        EmbeddingClient embeddingClient,
         PlaceRepository placeRepository,
-        KeywordEmbeddingSaveService embeddingSaveService,
-        KeywordEmbeddingLookupRepository lookupRepository,
-        PlaceDescriptionEmbeddingRepository descEmbeddingRepository
+        PlaceEmbeddingPipeline embeddingPipeline,
+        @Value("${mohe.embedding.chunk-size:100}") int chunkSize,
+        @Value("${mohe.embedding.partitions:4}") int gridSize
     ) {
-        this.embeddingClient = embeddingClient;
         this.placeRepository = placeRepository;
-        this.embeddingSaveService = embeddingSaveService;
-        this.lookupRepository = lookupRepository;
-        this.descEmbeddingRepository = descEmbeddingRepository;
+        this.embeddingPipeline = embeddingPipeline;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.gridSize = Math.max(1, gridSize);
     }
 
     @Bean
-    public Job vectorEmbeddingJob(JobRepository jobRepository, Step vectorEmbeddingStep) {
+    public Job vectorEmbeddingJob(JobRepository jobRepository, Step vectorEmbeddingPartitionStep) {
         return new JobBuilder("vectorEmbeddingJob", jobRepository)
-                .start(vectorEmbeddingStep)
+                .start(vectorEmbeddingPartitionStep)
+                .build();
+    }
+
+    /**
+     * 임베딩 대상 ID 범위를 gridSize개로 나눠 워커 Step을 병렬 실행
+     * (임베딩 API 동시 요청 수는 mohe.embedding.max-concurrent-requests가 제한)
+     */
+    @Bean
+    public Step vectorEmbeddingPartitionStep(
+        JobRepository jobRepository,
+        Step vectorEmbeddingStep,
+        TaskExecutor partitionTaskExecutor
+    ) {
+        PlaceIdRangePartitioner partitioner = new PlaceIdRangePartitioner("vectorEmbedding",
+            () -> PlaceIdRangePartitioner.IdRange.of(placeRepository.findIdBoundsForVectorEmbedding()));
+
+        return new StepBuilder("vectorEmbeddingPartitionStep", jobRepository)
+                .partitioner("vectorEmbeddingStep", partitioner)
+                .step(vectorEmbeddingStep)
+                .gridSize(gridSize)
+                .taskExecutor(partitionTaskExecutor)
                 .build();
     }
 
@@ -67,7 +81,7 @@ public class VectorEmbeddingJobConfig {
         ItemWriter<Place> vectorEmbeddingWriter
     ) {
         return new StepBuilder("vectorEmbeddingStep", jobRepository)
-                .<Place, Place>chunk(5, transactionManager)
+                .<Place, Place>chunk(chunkSize, transactionManager)
                 .reader(vectorEmbeddingReader)
                 .processor(vectorEmbeddingProcessor)
                 .writer(vectorEmbeddingWriter)
@@ -77,163 +91,73 @@ public class VectorEmbeddingJobConfig {
                 .build();
     }
 
+    /**
+     * 검증만 수행 — 임베딩 요청과 저장은 writer가 chunk 단위로 처리
+     */
     @Bean
     public ItemProcessor<Place, Place> vectorEmbeddingProcessor() {
-        return place -> {
-            try {
-                // Validate mohe_description exists
-                if (place.getDescriptions().isEmpty()) {
-                    System.err.println("⚠️ No description for '" + place.getName() + "' - skip");
-                    return null;
-                }
-                String moheDescription = place.getDescriptions().get(0).getMoheDescription();
-                if (moheDescription == null || moheDescription.trim().isEmpty()) {
-                    System.err.println("⚠️ Empty mohe_description for '" + place.getName() + "' - skip");
-                    return null;
-                }
+        return place -> toInput(place) != null ? place : null;
+    }
 
-                // Validate keywords exist
-                List<String> existingKeywords = place.getKeyword();
-                if (existingKeywords == null || existingKeywords.isEmpty()) {
-                    System.err.println("⚠️ No keywords for '" + place.getName() + "' - skip");
-                    return null;
+    /**
+     * chunk 전체를 {@link PlaceEmbeddingPipeline}으로 처리
+     * (키워드 중복 제거 + 캐시 조회 1회 + 다건 임베딩 요청 + multi-row INSERT)
+     */
+    @Bean
+    public ItemWriter<Place> vectorEmbeddingWriter() {
+        return chunk -> {
+            List<PlaceEmbeddingPipeline.PlaceInput> inputs = new ArrayList<>();
+            for (Place place : chunk.getItems()) {
+                PlaceEmbeddingPipeline.PlaceInput input = toInput(place);
+                if (input != null) {
+                    inputs.add(input);
                 }
+            }
 
-                // Take first 9 keywords
-                List<String> keywordsToProcess = existingKeywords.size() > 9
-                    ? new ArrayList<>(existingKeywords.subList(0, 9))
-                    : new ArrayList<>(existingKeywords);
-
-                System.out.println("🧮 Vectorizing '" + place.getName() + "' — " + keywordsToProcess.size() + " keywords");
-
-                // Delete existing embeddings for this place (if re-processing)
-                embeddingSaveService.deleteEmbeddingsForPlace(place.getId());
-
-                // === LOOKUP CACHE: check which keywords already have embeddings ===
-                List<KeywordEmbeddingLookup> cached = lookupRepository.findByKeywordIn(keywordsToProcess);
-                Map<String, float[]> cachedMap = new HashMap<>();
-                for (KeywordEmbeddingLookup lookup : cached) {
-                    cachedMap.put(lookup.getKeyword(), lookup.getEmbeddingAsArray());
-                }
+            PlaceEmbeddingPipeline.Result result = embeddingPipeline.embed(inputs);
 
-                // Find keywords that need new embedding
-                List<String> uncachedKeywords = keywordsToProcess.stream()
-                    .filter(kw -> !cachedMap.containsKey(kw))
-                    .collect(Collectors.toList());
-
-                int cacheHits = cachedMap.size();
-                int cacheMisses = uncachedKeywords.size();
-
-                // === 문장 임베딩 필요 여부 체크 ===
-                boolean needDescEmbedding = !descEmbeddingRepository.existsByPlaceId(place.getId());
-                float[] descriptionEmbedding = null;
-
-                // API 호출: 캐시 미스 키워드 + 문장(필요시)을 한번에
-                if (!uncachedKeywords.isEmpty() || needDescEmbedding) {
-                    List<String> textsToEmbed = new ArrayList<>(uncachedKeywords);
-                    if (needDescEmbedding) {
-                        textsToEmbed.add(moheDescription); // 문장을 마지막에 추가
-                    }
-
-                    System.out.println("🚀 API call: " + uncachedKeywords.size() + " keywords + " +
-                        (needDescEmbedding ? "1 description" : "0 description") +
-                        " (cache hit: " + cacheHits + ")");
-
-                    EmbeddingResponse response = embeddingClient.getEmbeddings(textsToEmbed);
-
-                    if (!response.hasValidEmbeddings()) {
-                        System.err.println("⚠️ No valid embeddings returned for '" + place.getName() + "' - skip");
-                        return null;
-                    }
-
-                    List<float[]> allEmbeddings = response.getEmbeddingsAsFloatArrays();
-
-                    // 문장 임베딩 분리 (마지막 요소)
-                    if (needDescEmbedding && allEmbeddings.size() == textsToEmbed.size()) {
-                        descriptionEmbedding = allEmbeddings.get(allEmbeddings.size() - 1);
-                    }
-
-                    // 키워드 임베딩 처리 (문장 제외)
-                    int keywordEmbCount = Math.min(uncachedKeywords.size(), allEmbeddings.size());
-                    for (int i = 0; i < keywordEmbCount; i++) {
-                        String kw = uncachedKeywords.get(i);
-                        float[] emb = allEmbeddings.get(i);
-
-                        boolean isNonZero = false;
-                        for (float v : emb) {
-                            if (v != 0.0f) { isNonZero = true; break; }
-                        }
-                        if (!isNonZero) continue;
-
-                        if (lookupRepository.findByKeyword(kw).isEmpty()) {
-                            try {
-                                lookupRepository.saveAndFlush(new KeywordEmbeddingLookup(kw, emb));
-                            } catch (Exception e) {
-                                try { lookupRepository.flush(); } catch (Exception ignored) {}
-                            }
-                        }
-                        cachedMap.put(kw, emb);
-                    }
+            List<Place> completed = new ArrayList<>();
+            for (Place place : chunk.getItems()) {
+                if (result.keywordCounts().containsKey(place.getId())) {
+                    place.setEmbedStatus(EmbedStatus.COMPLETED);
+                    completed.add(place);
                 } else {
-                    System.out.println("✅ All " + cacheHits + " keywords from cache — no API call needed");
+                    System.err.println("⚠️ No valid embeddings for '" + place.getName() + "' - left pending");
                 }
-
-                // Build final keyword-embedding pairs and save to place_keyword_embeddings
-                List<String> finalKeywords = new ArrayList<>();
-                List<float[]> finalEmbeddings = new ArrayList<>();
-                for (String kw : keywordsToProcess) {
-                    float[] emb = cachedMap.get(kw);
-                    if (emb != null) {
-                        finalKeywords.add(kw);
-                        finalEmbeddings.add(emb);
-                    }
-                }
-
-                if (finalEmbeddings.isEmpty()) {
-                    System.err.println("⚠️ No valid embeddings for '" + place.getName() + "' after lookup");
-                    return null;
-                }
-
-                int savedCount = embeddingSaveService.saveEmbeddings(
-                    place.getId(), finalKeywords, finalEmbeddings
-                );
-
-                // === 문장 임베딩 저장 ===
-                if (descriptionEmbedding != null) {
-                    try {
-                        descEmbeddingRepository.deleteByPlaceId(place.getId());
-                        descEmbeddingRepository.saveAndFlush(
-                            new PlaceDescriptionEmbedding(place.getId(), moheDescription, descriptionEmbedding)
-                        );
-                    } catch (Exception e) {
-                        System.err.println("⚠️ Failed to save description embedding for '" + place.getName() + "': " + e.getMessage());
-                    }
-                } else if (!needDescEmbedding) {
-                    // 이미 문장 임베딩 있음 — skip
-                }
-
-                place.setEmbedStatus(EmbedStatus.COMPLETED);
-
-                System.out.println("✅ Vectorized '" + place.getName() + "' — " +
-                    savedCount + " kw + " + (descriptionEmbedding != null ? "1 desc" : "desc cached") +
-                    " (cache:" + cacheHits + " api:" + cacheMisses + ")");
-
-                return place;
-            } catch (Exception e) {
-                System.err.println("❌ Vectorization failed for '" + place.getName() + "': " + e.getMessage());
-                e.printStackTrace();
-                return null;
             }
+            placeRepository.saveAll(completed);
+
+            System.out.println("💾 Vectorized " + completed.size() + "/" + chunk.getItems().size() + " places — "
+                + result.totalKeywordEmbeddings() + " kw + " + result.descriptionPlaceIds().size() + " desc"
+                + " (cache:" + result.cacheHits() + " new:" + result.newKeywords()
+                + " requests:" + result.apiRequests() + ")");
         };
     }
 
-    @Bean
-    public ItemWriter<Place> vectorEmbeddingWriter() {
-        return chunk -> {
-            for (Place place : chunk.getItems()) {
-                placeRepository.saveAndFlush(place);
-            }
-            System.out.println("💾 Saved batch of " + chunk.getItems().size() + " vectorized places");
-        };
+    /**
+     * mohe_description과 키워드(앞 9개)가 있는 장소만 임베딩 대상
+     */
+    private static PlaceEmbeddingPipeline.PlaceInput toInput(Place place) {
+        if (place.getDescriptions().isEmpty()) {
+            System.err.println("⚠️ No description for '" + place.getName() + "' - skip");
+            return null;
+        }
+        String moheDescription = place.getDescriptions().get(0).getMoheDescription();
+        if (moheDescription == null || moheDescription.trim().isEmpty()) {
+            System.err.println("⚠️ Empty mohe_description for '" + place.getName() + "' - skip");
+            return null;
+        }
+
+        List<String> existingKeywords = place.getKeyword();
+        if (existingKeywords == null || existingKeywords.isEmpty()) {
+            System.err.println("⚠️ No keywords for '" + place.getName() + "' - skip");
+            return null;
+        }
+
+        List<String> keywordsToProcess = existingKeywords.size() > MAX_KEYWORDS_PER_PLACE
+            ? new ArrayList<>(existingKeywords.subList(0, MAX_KEYWORDS_PER_PLACE))
+            : new ArrayList<>(existingKeywords);
+
+        return new PlaceEmbeddingPipeline.PlaceInput(place.getId(), keywordsToProcess, moheDescription);
     }
 }
@@ -0,0 +1,91 @@
+package com.mohe.spring.batch.partition;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 대상 장소 ID 범위를 N개의 연속 구간으로 나누는 Partitioner
+ *
+ * <p>각 파티션의 {@link ExecutionContext}에 {@value #MIN_ID_KEY}/{@value #MAX_ID_KEY}(양 끝 포함)를 넣고,
+ * 워커 Step의 키셋 Reader가 {@code stepExecutionContext}에서 범위를 받아 그 구간만 읽습니다.
+ * Reader는 마지막으로 읽은 ID를 파티션별 컨텍스트에 저장하므로, 재시작 시 실패한 파티션만 각자의 위치부터 이어서 처리합니다
+ * (재시작 때는 이전 실행의 컨텍스트가 범위까지 덮어쓰므로 경계가 바뀌어도 안전).</p>
+ *
+ * <p>구간은 처리 대상의 최소~최대 ID를 균등 분할합니다. 대상이 특정 ID대에 몰려 있으면 파티션 간 작업량이 고르지 않을 수 있습니다.</p>
+ */
+public class PlaceIdRangePartitioner implements Partitioner {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlaceIdRangePartitioner.class);
+
+    public static final String MIN_ID_KEY = "minId";
+    public static final String MAX_ID_KEY = "maxId";
+    public static final String PARTITION_PREFIX = "partition";
+
+    /**
+     * 처리 대상 ID 범위 (양 끝 포함)
+     */
+    public record IdRange(long minId, long maxId) {
+
+        /**
+         * {@code SELECT MIN(id), MAX(id)} 결과 행 → 범위, 대상이 없으면 null
+         */
+        public static IdRange of(List<Object[]> rows) {
+            if (rows == null || rows.isEmpty()) {
+                return null;
+            }
+            Object[] row = rows.get(0);
+            if (row == null || row.length < 2 || row[0] == null || row[1] == null) {
+                return null;
+            }
+            return new IdRange(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+        }
+    }
+
+    private final String name;
+    private final Supplier<IdRange> rangeQuery;
+
+    public PlaceIdRangePartitioner(String name, Supplier<IdRange> rangeQuery) {
+        this.name = name;
+        this.rangeQuery = rangeQuery;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        IdRange range = rangeQuery.get();
+        if (range == null || range.maxId() < range.minId()) {
+            // 대상 없음 — 범위 없는 파티션 하나 (Reader가 빈 결과로 바로 종료)
+            partitions.put(PARTITION_PREFIX + 0, new ExecutionContext());
+            logger.info("🧩 [{}] No target places — single empty partition", name);
+            return partitions;
+        }
+
+        long span = range.maxId() - range.minId() + 1;
+        int count = (int) Math.min(Math.max(1, gridSize), span);
+        long size = (span + count - 1) / count;
+
+        for (int i = 0; i < count; i++) {
+            long from = range.minId() + i * size;
+            if (from > range.maxId()) {
+                break;
+            }
+            long to = Math.min(range.maxId(), from + size - 1);
+
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(MIN_ID_KEY, from);
+            context.putLong(MAX_ID_KEY, to);
+            partitions.put(PARTITION_PREFIX + i, context);
+        }
+
+        logger.info("🧩 [{}] Split ids {}..{} into {} partitions (~{} ids each)",
+            name, range.minId(), range.maxId(), partitions.size(), size);
+        return partitions;
+    }
+}
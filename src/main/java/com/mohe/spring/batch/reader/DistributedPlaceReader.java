@@ -5,13 +5,14 @@ import com.mohe.spring.repository.PlaceRepository;
 import com.mohe.spring.service.DistributedJobLockService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.item.ItemReader;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Distributed Place Reader with Lock Mechanism
@@ -21,32 +22,49 @@ import java.util.List;
  *
  * <h3>작동 방식</h3>
  * <ol>
- *   <li>DB에서 10개씩 Place 조회</li>
- *   <li>해당 청크에 대한 락 획득 시도</li>
- *   <li>락 획득 성공 시 처리, 실패 시 다음 청크로 이동</li>
- *   <li>다른 워커가 이미 처리 중이면 자동으로 건너뛰기</li>
+ *   <li>처리 대기 장소 N개를 lease로 한 번에 획득 (FOR UPDATE SKIP LOCKED)</li>
+ *   <li>획득한 장소를 {@link PlaceBatchLoader}로 컬렉션까지 일괄 로드</li>
+ *   <li>step chunk가 커밋된 뒤({@link #afterChunk}) 그 chunk에서 읽은 장소의 lease를 삭제(완료)
+ *       — 이후 다시 PENDING이 된 장소는 바로 재획득 가능</li>
+ *   <li>chunk가 롤백되면({@link #afterChunkError}) 그 chunk에서 읽은 장소의 lease를 FAILED로 기록</li>
+ *   <li>다른 워커가 claim한 장소는 대기 없이 건너뛰기</li>
  * </ol>
  *
+ * <p>lease 배치 크기(batch.chunk-size)와 step chunk 크기는 서로 달라도 됩니다. lease는 읽은 시점이 아니라
+ * chunk 커밋 시점에 정리하므로, 아직 쓰지 않은 장소를 "처리 후에도 PENDING"으로 실패 처리하지 않습니다.
+ * step에 reader로 등록하면 Spring Batch가 {@link ChunkListener}로도 자동 등록합니다.</p>
+ *
  * <h3>사용 예시</h3>
  * <pre>
- * // Mac Mini: chunk 1-10, 11-20 처리
- * // MacBook Pro: chunk 21-30, 31-40 처리
- * // 겹치지 않음!
+ * // Mac Mini: place 1-10, 21-30 획득
+ * // MacBook Pro: place 11-20, 31-40 획득
+ * // 겹치지 않고, 이미 잠긴 페이지를 훑지도 않음!
  * </pre>
  */
-public class DistributedPlaceReader implements ItemReader<Place> {
+public class DistributedPlaceReader implements ItemReader<Place>, ChunkListener {
 
     private static final Logger logger = LoggerFactory.getLogger(DistributedPlaceReader.class);
 
-    private final PlaceRepository placeRepository;
+    /**
+     * lease 타임아웃 (분)
+     */
+    private static final int LEASE_MINUTES = 10;
+
+    /**
+     * 레거시 청크 락 만료 정리 주기 (lease 만료는 claim 쿼리가 직접 회수)
+     */
+    private static final long EXPIRED_SWEEP_INTERVAL_MS = 60_000;
+
+    private final PlaceBatchLoader placeBatchLoader;
     private final DistributedJobLockService lockService;
     private final String jobName;
     private final int chunkSize;
 
-    private int currentPage = 0;
     private List<Place> currentChunk = new ArrayList<>();
     private int currentIndex = 0;
-    private String currentChunkId = null;
+    /** 현재 step chunk에서 읽었지만 아직 커밋/롤백되지 않은 장소 ID */
+    private List<Long> readLeaseIds = new ArrayList<>();
+    private long lastExpiredSweepAt = 0;
 
     /**
      * Constructor
@@ -54,7 +72,7 @@ public class DistributedPlaceReader implements ItemReader<Place> {
      * @param placeRepository Place repository
      * @param lockService     Lock service
      * @param jobName         Job name (e.g., "updateCrawledDataJob")
-     * @param chunkSize       Chunk size (e.g., 10)
+     * @param chunkSize       Lease batch size (e.g., 10)
      */
     public DistributedPlaceReader(
         PlaceRepository placeRepository,
@@ -62,7 +80,7 @@ public class DistributedPlaceReader implements ItemReader<Place> {
         String jobName,
         int chunkSize
     ) {
-        this.placeRepository = placeRepository;
+        this.placeBatchLoader = new PlaceBatchLoader(placeRepository);
         this.lockService = lockService;
         this.jobName = jobName;
         this.chunkSize = chunkSize;
@@ -76,93 +94,97 @@ public class DistributedPlaceReader implements ItemReader<Place> {
     /**
      * Read next Place
      *
-     * <p>현재 청크에서 Place를 순차적으로 반환하고,
-     * 청크가 끝나면 다음 청크를 로드합니다.</p>
+     * <p>현재 lease 배치에서 Place를 순차적으로 반환하고,
+     * 배치가 끝나면 다음 lease를 획득합니다. lease 정리는 chunk 커밋 후 {@link #afterChunk}에서 합니다.</p>
      *
      * @return 다음 Place, 없으면 null
      */
     @Override
     public Place read() throws Exception {
-        // 현재 청크에 아직 Place가 남아있으면 반환
-        if (currentIndex < currentChunk.size()) {
-            Place place = currentChunk.get(currentIndex);
-            currentIndex++;
-            logger.debug("📖 Reading place {}/{}: {} (id={})",
-                currentIndex, currentChunk.size(), place.getName(), place.getId());
-            return place;
+        if (currentIndex >= currentChunk.size() && !claimNextBatch()) {
+            logger.info("✅ No more places to process");
+            return null;
         }
 
-        // 현재 청크가 끝났으면 완료 처리
-        if (currentChunkId != null) {
-            lockService.markAsCompleted(jobName, currentChunkId);
-            currentChunkId = null;
+        Place place = currentChunk.get(currentIndex);
+        currentIndex++;
+        readLeaseIds.add(place.getId());
+        logger.debug("📖 Reading place {}/{}: {} (id={})",
+            currentIndex, currentChunk.size(), place.getName(), place.getId());
+        return place;
+    }
+
+    /**
+     * chunk 커밋 후 — 이 chunk에서 읽은 장소의 lease 완료 처리
+     */
+    @Override
+    public void afterChunk(ChunkContext context) {
+        if (!readLeaseIds.isEmpty()) {
+            lockService.completeLeases(jobName, readLeaseIds);
+            readLeaseIds = new ArrayList<>();
         }
+    }
 
-        // 다음 청크 로드 시도
-        while (true) {
-            // 만료된 락 정리 (매 청크마다 체크)
-            lockService.markExpiredLocksAsFailed(jobName);
+    /**
+     * chunk 롤백 후 — 이 chunk에서 읽은 장소의 lease를 FAILED로 기록 (재시도 횟수 소모)
+     */
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        if (!readLeaseIds.isEmpty()) {
+            Object error = context.getAttribute(ChunkListener.ROLLBACK_EXCEPTION_KEY);
+            lockService.failLeases(jobName, readLeaseIds,
+                error instanceof Throwable t ? String.valueOf(t.getMessage()) : "Chunk rolled back");
+            readLeaseIds = new ArrayList<>();
+        }
+    }
 
-            // 다음 페이지의 Place ID 조회
-            Page<Long> idsPage = placeRepository.findPlaceIdsForBatchProcessing(
-                PageRequest.of(currentPage, chunkSize, Sort.by("id").ascending())
-            );
+    /**
+     * 다음 lease 배치 획득 — claim 직후 삭제된 장소의 lease는 바로 정리
+     *
+     * @return 읽을 장소가 있으면 true
+     */
+    private boolean claimNextBatch() {
+        sweepExpiredLocksIfDue();
 
-            if (idsPage.isEmpty()) {
-                logger.info("✅ No more places to process");
-                return null;
+        while (true) {
+            List<Long> claimedIds = lockService.claimPendingPlaces(jobName, chunkSize, LEASE_MINUTES);
+            if (claimedIds.isEmpty()) {
+                currentChunk = new ArrayList<>();
+                currentIndex = 0;
+                return false;
             }
 
-            List<Long> placeIds = idsPage.getContent();
-            Long firstId = placeIds.get(0);
-            Long lastId = placeIds.get(placeIds.size() - 1);
-            String chunkId = String.format("place_%d-%d", firstId, lastId);
-
-            logger.info("🔍 Attempting to acquire lock for chunk: {} (page {}, {} place IDs)",
-                chunkId, currentPage, placeIds.size());
-
-            // 락 획득 시도
-            boolean lockAcquired = lockService.tryAcquireLock(jobName, chunkId);
-
-            if (lockAcquired) {
-                // 락 획득 성공 - Place 엔티티 로드 (컬렉션 포함)
-                List<Place> places = new ArrayList<>();
-                for (Long id : placeIds) {
-                    placeRepository.findByIdWithCollections(id).ifPresent(place -> {
-                        // Force-load other collections to avoid LazyInitializationException
-                        place.getImages().size();
-                        place.getBusinessHours().size();
-                        place.getSns().size();
-                        place.getReviews().size();
-                        places.add(place);
-                    });
-                }
-
-                currentChunk = places;
-                currentIndex = 0;
-                currentChunkId = chunkId;
-
-                lockService.markAsProcessing(jobName, chunkId);
-
-                logger.info("🔒 Lock acquired! Processing chunk: {} ({} places loaded)",
-                    chunkId, places.size());
-
-                // 첫 번째 Place 반환
-                Place first = currentChunk.get(currentIndex);
-                currentIndex++;
-                return first;
-            } else {
-                // 락 획득 실패 - 다른 워커가 처리 중
-                logger.info("⏭️  Skipping chunk: {} (already locked by another worker)",
-                    chunkId);
-                currentPage++;
-
-                // 무한 루프 방지: 최대 100페이지까지만 시도
-                if (currentPage > 100) {
-                    logger.warn("⚠️  Reached maximum page limit (100), stopping");
-                    return null;
+            List<Place> places = placeBatchLoader.load(claimedIds, PlaceBatchLoader.ALL);
+            Set<Long> loadedIds = new HashSet<>();
+            for (Place place : places) {
+                loadedIds.add(place.getId());
+            }
+            List<Long> deletedIds = new ArrayList<>();
+            for (Long id : claimedIds) {
+                if (!loadedIds.contains(id)) {
+                    deletedIds.add(id);
                 }
             }
+            if (!deletedIds.isEmpty()) {
+                lockService.completeLeases(jobName, deletedIds);
+            }
+            if (places.isEmpty()) {
+                continue;
+            }
+
+            currentChunk = places;
+            currentIndex = 0;
+            logger.info("🔒 Processing {} claimed places (ids {}..{})",
+                places.size(), places.get(0).getId(), places.get(places.size() - 1).getId());
+            return true;
+        }
+    }
+
+    private void sweepExpiredLocksIfDue() {
+        long now = System.currentTimeMillis();
+        if (now - lastExpiredSweepAt >= EXPIRED_SWEEP_INTERVAL_MS) {
+            lockService.markExpiredLocksAsFailed(jobName);
+            lastExpiredSweepAt = now;
         }
     }
 
@@ -172,18 +194,22 @@ public class DistributedPlaceReader implements ItemReader<Place> {
      * <p>장시간 실행되는 작업의 경우 주기적으로 호출해야 합니다.</p>
      */
     public void renewLocks() {
-        lockService.renewLocks(jobName, 10);
+        lockService.renewLocks(jobName, LEASE_MINUTES);
     }
 
     /**
-     * 에러 발생 시 현재 청크를 FAILED로 표시
+     * 에러 발생 시 아직 정리되지 않은 현재 배치의 lease(읽은 것 + 남은 것)를 FAILED로 표시
      *
      * @param error 에러 메시지
      */
     public void markCurrentChunkAsFailed(String error) {
-        if (currentChunkId != null) {
-            lockService.markAsFailed(jobName, currentChunkId, error);
-            currentChunkId = null;
+        List<Long> unsettled = new ArrayList<>(readLeaseIds);
+        for (int i = currentIndex; i < currentChunk.size(); i++) {
+            unsettled.add(currentChunk.get(i).getId());
+        }
+        if (!unsettled.isEmpty()) {
+            lockService.failLeases(jobName, unsettled, error);
         }
+        readLeaseIds = new ArrayList<>();
     }
 }
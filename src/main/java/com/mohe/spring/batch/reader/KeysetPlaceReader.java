@@ -0,0 +1,148 @@
+package com.mohe.spring.batch.reader;
+
+import com.mohe.spring.entity.Place;
+import com.mohe.spring.repository.PlaceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 키셋(id > :lastId) 페이지 기반 장소 스트리밍 Reader
+ *
+ * <p>처리할수록 조건에서 빠지는 결과 집합을 {@code PageRequest.of(page, size)}로 넘기면 행을 건너뛰고,
+ * 페이지가 뒤로 갈수록 OFFSET 비용과 페이지마다의 COUNT 쿼리 비용이 커집니다.
+ * 이 Reader는 마지막으로 가져온 ID 이후의 ID만 조회하므로 테이블 크기와 관계없이 페이지 비용이 일정하고,
+ * 처리되어 조건에서 빠진 행이 있어도 다음 페이지 위치가 밀리지 않습니다.</p>
+ *
+ * <h3>처리 방식</h3>
+ * <ol>
+ *   <li>{@link #fetchIdsAfter}로 다음 ID 페이지 조회 (하위 클래스가 조건 정의)</li>
+ *   <li>{@link PlaceBatchLoader}로 페이지 전체를 컬렉션까지 일괄 로드</li>
+ *   <li>청크 커밋 시 마지막으로 읽은 ID를 {@link ExecutionContext}에 저장 → 재시작 시 그 다음 ID부터 재개</li>
+ * </ol>
+ *
+ * <p>파티션 워커로 쓸 때는 {@link #setIdRange}로 ID 구간을 지정하면 그 구간 안에서만 읽습니다.</p>
+ *
+ * <p>{@link #open}에서 상태를 초기화하므로 싱글톤 빈으로 등록되어도 Job 실행마다 처음(또는 저장된 위치)부터 읽습니다.
+ * StepBuilder가 ItemStream으로 등록할 수 있도록 빈 반환 타입은 구체 클래스로 선언해야 합니다.</p>
+ */
+public abstract class KeysetPlaceReader implements ItemStreamReader<Place> {
+
+    private static final Logger logger = LoggerFactory.getLogger(KeysetPlaceReader.class);
+
+    private final String name;
+    private final PlaceBatchLoader loader;
+    private final int pageSize;
+    private final Set<PlaceBatchLoader.Fetch> fetches;
+
+    /** 읽기 시작 위치 (이 ID 초과) / 상한 (이 ID 이하, null이면 끝까지) */
+    private long lowerBoundExclusive = 0L;
+    private Long upperBoundInclusive;
+
+    private List<Place> buffer = List.of();
+    private int bufferIndex;
+    private long lastFetchedId;
+    private long lastReadId;
+    private boolean exhausted;
+    private boolean finished;
+    private long totalRead;
+    private int pagesLoaded;
+
+    protected KeysetPlaceReader(String name, PlaceRepository placeRepository, int pageSize,
+                                Set<PlaceBatchLoader.Fetch> fetches) {
+        this.name = name;
+        this.loader = new PlaceBatchLoader(placeRepository);
+        this.pageSize = Math.max(1, pageSize);
+        this.fetches = fetches;
+    }
+
+    /**
+     * afterId보다 큰 대상 장소 ID를 오름차순으로 최대 limit개 조회
+     */
+    protected abstract List<Long> fetchIdsAfter(long afterId, int limit);
+
+    /**
+     * 파티션 ID 구간 지정 (양 끝 포함, null이면 해당 방향 제한 없음) — {@link #open} 전에 호출
+     */
+    public void setIdRange(Long minId, Long maxId) {
+        this.lowerBoundExclusive = minId != null ? minId - 1 : 0L;
+        this.upperBoundInclusive = maxId;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        lastReadId = executionContext.getLong(lastIdKey(), lowerBoundExclusive);
+        lastFetchedId = lastReadId;
+        buffer = List.of();
+        bufferIndex = 0;
+        exhausted = false;
+        finished = false;
+        totalRead = 0;
+        pagesLoaded = 0;
+
+        if (lastReadId > lowerBoundExclusive) {
+            logger.info("🔁 [{}] Resuming after place id {}", name, lastReadId);
+        }
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        executionContext.putLong(lastIdKey(), lastReadId);
+    }
+
+    @Override
+    public void close() {
+        buffer = List.of();
+        bufferIndex = 0;
+    }
+
+    @Override
+    public Place read() throws Exception {
+        while (bufferIndex >= buffer.size()) {
+            if (exhausted) {
+                if (!finished) {
+                    finished = true;
+                    logger.info("✅ [{}] All places read ({} places, {} pages)", name, totalRead, pagesLoaded);
+                }
+                return null;
+            }
+            loadNextPage();
+        }
+
+        Place place = buffer.get(bufferIndex++);
+        lastReadId = place.getId();
+        totalRead++;
+        logger.debug("📖 [{}] Read place {} (id={})", name, place.getName(), place.getId());
+        return place;
+    }
+
+    private void loadNextPage() {
+        List<Long> ids = fetchIdsAfter(lastFetchedId, pageSize);
+        boolean lastPage = ids.size() < pageSize;
+        if (upperBoundInclusive != null && !ids.isEmpty() && ids.get(ids.size() - 1) > upperBoundInclusive) {
+            ids = ids.stream().filter(id -> id <= upperBoundInclusive).toList();
+            lastPage = true;
+        }
+        if (ids.isEmpty()) {
+            exhausted = true;
+            return;
+        }
+
+        lastFetchedId = ids.get(ids.size() - 1);
+        exhausted = lastPage;
+        buffer = loader.load(ids, fetches);
+        bufferIndex = 0;
+        pagesLoaded++;
+
+        logger.info("📄 [{}] Loaded page {}: {} places (ids {}..{})",
+            name, pagesLoaded, buffer.size(), ids.get(0), lastFetchedId);
+    }
+
+    private String lastIdKey() {
+        return name + ".lastId";
+    }
+}
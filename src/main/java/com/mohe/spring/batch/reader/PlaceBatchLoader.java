@@ -0,0 +1,65 @@
+package com.mohe.spring.batch.reader;
+
+import com.mohe.spring.entity.Place;
+import com.mohe.spring.repository.PlaceRepository;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 장소 N개를 컬렉션까지 한 번에 로드하는 배치 로더
+ *
+ * <p>List 컬렉션 여러 개를 한 쿼리로 fetch join하면 MultipleBagFetchException(및 카테시안 곱)이 발생하므로
+ * descriptions는 엔티티 조회 시 함께 가져오고, 나머지는 요청한 컬렉션마다 ID 목록 fetch join 쿼리를 한 번씩 실행합니다.
+ * 같은 영속성 컨텍스트의 엔티티에 채워지므로 장소 수와 무관하게 쿼리 수는 1 + 요청한 컬렉션 수입니다
+ * (기존: 장소당 findByIdWithCollections 1회 + 컬렉션별 lazy 로딩).</p>
+ */
+public class PlaceBatchLoader {
+
+    /**
+     * descriptions 외에 미리 채울 컬렉션
+     */
+    public enum Fetch {
+        IMAGES,
+        BUSINESS_HOURS,
+        SNS,
+        REVIEWS
+    }
+
+    public static final Set<Fetch> ALL = EnumSet.allOf(Fetch.class);
+    public static final Set<Fetch> NONE = EnumSet.noneOf(Fetch.class);
+
+    private final PlaceRepository placeRepository;
+
+    public PlaceBatchLoader(PlaceRepository placeRepository) {
+        this.placeRepository = placeRepository;
+    }
+
+    /**
+     * @return ID 오름차순 장소 목록 (그 사이 삭제된 장소는 빠짐)
+     */
+    public List<Place> load(Collection<Long> placeIds, Set<Fetch> fetches) {
+        if (placeIds.isEmpty()) {
+            return List.of();
+        }
+        List<Place> places = placeRepository.findAllByIdInWithDescriptions(placeIds);
+        if (places.isEmpty()) {
+            return places;
+        }
+        if (fetches.contains(Fetch.IMAGES)) {
+            placeRepository.fetchImagesByIdIn(placeIds);
+        }
+        if (fetches.contains(Fetch.BUSINESS_HOURS)) {
+            placeRepository.fetchBusinessHoursByIdIn(placeIds);
+        }
+        if (fetches.contains(Fetch.SNS)) {
+            placeRepository.fetchSnsByIdIn(placeIds);
+        }
+        if (fetches.contains(Fetch.REVIEWS)) {
+            placeRepository.fetchReviewsByIdIn(placeIds);
+        }
+        return places;
+    }
+}
@@ -4,6 +4,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mohe.spring.batch.service.KakaoPlaceApiService;
 import com.mohe.spring.dto.kakao.KakaoPlaceResponse;
 import com.mohe.spring.entity.Place;
+import com.mohe.spring.util.TokenBucket;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -17,12 +19,17 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Kakao Local API 장소 검색 서비스 구현체
  *
  * <p>Kakao Local API를 사용하여 키워드로 장소를 검색합니다.</p>
  * <p>페이지네이션을 통해 최대 300개(15개 × 20페이지)의 장소를 수집합니다.</p>
+ * <p>모든 요청은 하나의 {@link TokenBucket}을 거치므로 여러 쿼리를 동시에 검색해도 Kakao 쿼터를 넘지 않습니다.</p>
  *
  * @author Andrew Lim
  * @since 2.0
@@ -42,89 +49,131 @@ public class KakaoPlaceApiServiceImpl implements KakaoPlaceApiService {
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
 
-    public KakaoPlaceApiServiceImpl(RestTemplate restTemplate, ObjectMapper objectMapper) {
+    /** Kakao 쿼터에 맞춘 공유 레이트 리미터 (동시에 실행되는 모든 쿼리·페이지 요청이 함께 사용) */
+    private final TokenBucket rateLimiter;
+
+    /** 2페이지 이후 요청을 동시에 보내는 풀 */
+    private final ExecutorService pagePool;
+
+    public KakaoPlaceApiServiceImpl(RestTemplate restTemplate,
+                                    ObjectMapper objectMapper,
+                                    @Value("${kakao.rate-limit.requests-per-second:20}") double requestsPerSecond,
+                                    @Value("${kakao.rate-limit.burst:20}") int burst,
+                                    @Value("${kakao.search.page-concurrency:4}") int pageConcurrency) {
         this.restTemplate = restTemplate;
         this.objectMapper = objectMapper;
+        this.rateLimiter = new TokenBucket(requestsPerSecond, burst);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.pagePool = Executors.newFixedThreadPool(Math.max(1, pageConcurrency), runnable -> {
+            Thread thread = new Thread(runnable, "KakaoPage-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pagePool.shutdownNow();
     }
 
+    /**
+     * 1페이지로 pageable_count를 확인한 뒤 나머지 페이지를 동시에 요청합니다.
+     * 실패한 페이지는 건너뛰고, 결과는 페이지 순서대로 합칩니다.
+     */
     @Override
     public List<Place> searchPlaces(String query, int maxResults) {
-        List<Place> allPlaces = new ArrayList<>();
-        int currentPage = 1;
-        boolean hasMore = true;
-
         logger.info("🔍 Kakao API 검색 시작: query='{}', maxResults={}", query, maxResults);
 
-        while (hasMore && allPlaces.size() < maxResults && currentPage <= MAX_PAGE) {
-            try {
-                // API 요청 URI 생성 (이중 인코딩 방지를 위해 URI 객체 직접 사용)
-                URI uri = UriComponentsBuilder.fromHttpUrl(KAKAO_API_URL)
-                        .queryParam("query", query)
-                        .queryParam("size", SIZE_PER_PAGE)
-                        .queryParam("page", currentPage)
-                        .encode()  // UTF-8로 인코딩
-                        .build()
-                        .toUri();  // URI 객체로 변환 (RestTemplate이 다시 인코딩하지 않음)
-
-                // DEBUG: Log generated URI
-                if (currentPage == 1) {
-                    logger.info("🔗 Generated URI: {}", uri.toString());
-                }
+        KakaoPlaceResponse first;
+        try {
+            first = fetchPage(query, 1);
+        } catch (Exception e) {
+            logger.error("❌ Kakao API call failed for query: {} (page: 1)", query, e);
+            return new ArrayList<>();
+        }
+        if (first == null) {
+            return new ArrayList<>();
+        }
 
-                // HTTP 헤더 설정 (Authorization: KakaoAK {REST_API_KEY})
-                HttpHeaders headers = new HttpHeaders();
-                headers.set("Authorization", "KakaoAK " + kakaoApiKey);
-                headers.setContentType(MediaType.APPLICATION_JSON);
-
-                HttpEntity<String> entity = new HttpEntity<>(headers);
-
-                // API 호출 (URI 객체 사용)
-                ResponseEntity<String> response = restTemplate.exchange(
-                        uri,  // String 대신 URI 객체 전달
-                        HttpMethod.GET,
-                        entity,
-                        String.class
-                );
-
-                if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                    // DEBUG: Log response body
-                    if (currentPage == 1) {
-                        logger.info("🔍 Kakao API Response (첫 페이지): {}", response.getBody().substring(0, Math.min(500, response.getBody().length())));
-                    }
-
-                    KakaoPlaceResponse kakaoResponse = objectMapper.readValue(
-                            response.getBody(),
-                            KakaoPlaceResponse.class
-                    );
-
-                    // 응답 데이터를 Place 엔티티로 변환
-                    List<Place> places = convertToPlaces(kakaoResponse.getDocuments());
-                    allPlaces.addAll(places);
-
-                    logger.debug("📄 Page {}: {} places found (total_count: {}, pageable_count: {})",
-                            currentPage, places.size(),
-                            kakaoResponse.getMeta().getTotalCount(),
-                            kakaoResponse.getMeta().getPageableCount());
-
-                    // 다음 페이지 확인
-                    hasMore = !kakaoResponse.getMeta().isEnd();
-                    currentPage++;
+        List<Place> allPlaces = new ArrayList<>(convertToPlaces(first.getDocuments()));
 
-                } else {
-                    logger.warn("⚠️ Kakao API returned status: {}", response.getStatusCode());
-                    break;
+        int lastPage = 1;
+        if (!first.getMeta().isEnd()) {
+            lastPage = Math.min(MAX_PAGE, Math.min(
+                    ceilDiv(first.getMeta().getPageableCount(), SIZE_PER_PAGE),
+                    ceilDiv(maxResults, SIZE_PER_PAGE)));
+        }
+
+        List<CompletableFuture<List<Place>>> pages = new ArrayList<>();
+        for (int page = 2; page <= lastPage; page++) {
+            int currentPage = page;
+            pages.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    KakaoPlaceResponse response = fetchPage(query, currentPage);
+                    return response != null ? convertToPlaces(response.getDocuments()) : List.<Place>of();
+                } catch (Exception e) {
+                    logger.error("❌ Kakao API call failed for query: {} (page: {})", query, currentPage, e);
+                    return List.<Place>of();
                 }
+            }, pagePool));
+        }
+        for (CompletableFuture<List<Place>> page : pages) {
+            allPlaces.addAll(page.join());
+        }
 
-            } catch (Exception e) {
-                logger.error("❌ Kakao API call failed for query: {} (page: {})", query, currentPage, e);
-                break;
-            }
+        if (allPlaces.size() > maxResults) {
+            allPlaces = new ArrayList<>(allPlaces.subList(0, maxResults));
         }
 
-        logger.info("✅ Kakao API 검색 완료: query='{}', total={} places", query, allPlaces.size());
+        logger.info("✅ Kakao API 검색 완료: query='{}', pages={}, total={} places", query, lastPage, allPlaces.size());
         return allPlaces;
     }
 
+    /**
+     * 한 페이지 요청 (레이트 리미터 토큰을 얻은 뒤 호출)
+     *
+     * @return 응답, 200이 아니면 null
+     */
+    private KakaoPlaceResponse fetchPage(String query, int page) throws Exception {
+        // API 요청 URI 생성 (이중 인코딩 방지를 위해 URI 객체 직접 사용)
+        URI uri = UriComponentsBuilder.fromHttpUrl(KAKAO_API_URL)
+                .queryParam("query", query)
+                .queryParam("size", SIZE_PER_PAGE)
+                .queryParam("page", page)
+                .encode()  // UTF-8로 인코딩
+                .build()
+                .toUri();  // URI 객체로 변환 (RestTemplate이 다시 인코딩하지 않음)
+
+        // HTTP 헤더 설정 (Authorization: KakaoAK {REST_API_KEY})
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Authorization", "KakaoAK " + kakaoApiKey);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        rateLimiter.acquire();
+        ResponseEntity<String> response = restTemplate.exchange(
+                uri,
+                HttpMethod.GET,
+                new HttpEntity<>(headers),
+                String.class
+        );
+
+        if (response.getStatusCode() != HttpStatus.OK || response.getBody() == null) {
+            logger.warn("⚠️ Kakao API returned status: {} (query: {}, page: {})", response.getStatusCode(), query, page);
+            return null;
+        }
+
+        KakaoPlaceResponse kakaoResponse = objectMapper.readValue(response.getBody(), KakaoPlaceResponse.class);
+        logger.debug("📄 Page {}: {} places found (total_count: {}, pageable_count: {})",
+                page, kakaoResponse.getDocuments().size(),
+                kakaoResponse.getMeta().getTotalCount(),
+                kakaoResponse.getMeta().getPageableCount());
+        return kakaoResponse;
+    }
+
+    private static int ceilDiv(int value, int divisor) {
+        return (value + divisor - 1) / divisor;
+    }
+
     /**
      * Kakao API 응답을 Place 엔티티 리스트로 변환
      */
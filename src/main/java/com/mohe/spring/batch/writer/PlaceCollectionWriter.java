@@ -0,0 +1,277 @@
+package com.mohe.spring.batch.writer;
+
+import com.mohe.spring.batch.category.ExcludedCategory;
+import com.mohe.spring.batch.service.KakaoPlaceApiService;
+import com.mohe.spring.entity.Place;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 검색 쿼리 chunk 단위 장소 수집 ItemWriter
+ *
+ * <p>쿼리마다 Kakao 검색 → 장소마다 existsByRoadAddress + save 하던 방식을 chunk 단위로 바꿨습니다.</p>
+ *
+ * <h3>처리 흐름</h3>
+ * <ol>
+ *   <li><b>Kakao API 호출</b>: chunk의 쿼리를 queryConcurrency개까지 동시에 검색
+ *       (요청 속도는 KakaoPlaceApiService의 공유 토큰 버킷이 제한)</li>
+ *   <li><b>필터링</b>: ExcludedCategory로 학원, 병원, 종교시설 등 제외</li>
+ *   <li><b>중복 제거</b>: chunk 안에서 roadAddress 기준 1차 제거 후
+ *       {@code road_address = ANY(?)} 쿼리 한 번으로 DB에 있는 주소 제외</li>
+ *   <li><b>저장</b>: places / place_descriptions를 JDBC batch insert (chunk 트랜잭션 안에서 실행).
+ *       중복 확인 이후 다른 chunk나 인스턴스가 같은 주소를 먼저 저장했으면 그 행은 건너뜁니다
+ *       (road_address에는 유니크 제약이 없어 ON CONFLICT 대신 NOT EXISTS 조건으로 처리)</li>
+ * </ol>
+ *
+ * <p>Step이 끝나면 수집 건수와 초당 수집 장소 수(placesPerSecond)를 StepExecution의
+ * ExecutionContext에 기록합니다.</p>
+ *
+ * @see com.mohe.spring.batch.service.KakaoPlaceApiService
+ * @see com.mohe.spring.batch.category.ExcludedCategory
+ */
+@Component
+public class PlaceCollectionWriter implements ItemWriter<String>, StepExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlaceCollectionWriter.class);
+
+    /** 쿼리당 최대 수집 개수 (15개 × 20페이지) */
+    private static final int MAX_RESULTS_PER_QUERY = 300;
+
+    /** 마지막 파라미터: 중복 확인용 주소 (주소가 없으면 null → 항상 저장) */
+    private static final String INSERT_PLACE_SQL = """
+            INSERT INTO places (id, name, latitude, longitude, road_address, website_url, category,
+                                crawl_status, embed_status, created_at, updated_at)
+            SELECT ?, ?, ?, ?, ?, ?, ?, 'PENDING', 'PENDING', ?, ?
+            WHERE NOT EXISTS (SELECT 1 FROM places WHERE road_address = ?)
+            """;
+
+    private static final String INSERT_DESCRIPTION_SQL = """
+            INSERT INTO place_descriptions (place_id, search_query, updated_at)
+            SELECT ?, ?, ?
+            WHERE EXISTS (SELECT 1 FROM places WHERE id = ?)
+            """;
+
+    private final KakaoPlaceApiService kakaoPlaceApiService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ExecutorService queryPool;
+
+    private final AtomicLong queriesProcessed = new AtomicLong();
+    private final AtomicLong placesFound = new AtomicLong();
+    private final AtomicLong placesFiltered = new AtomicLong();
+    private final AtomicLong placesDuplicated = new AtomicLong();
+    private final AtomicLong placesSaved = new AtomicLong();
+    private volatile long stepStartedAt;
+
+    public PlaceCollectionWriter(KakaoPlaceApiService kakaoPlaceApiService,
+                                 JdbcTemplate jdbcTemplate,
+                                 @Value("${mohe.collection.query-concurrency:4}") int queryConcurrency) {
+        this.kakaoPlaceApiService = kakaoPlaceApiService;
+        this.jdbcTemplate = jdbcTemplate;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.queryPool = Executors.newFixedThreadPool(Math.max(1, queryConcurrency), runnable -> {
+            Thread thread = new Thread(runnable, "KakaoQuery-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        queryPool.shutdownNow();
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        queriesProcessed.set(0);
+        placesFound.set(0);
+        placesFiltered.set(0);
+        placesDuplicated.set(0);
+        placesSaved.set(0);
+        stepStartedAt = System.currentTimeMillis();
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        long elapsedMillis = Math.max(1, System.currentTimeMillis() - stepStartedAt);
+        double placesPerSecond = placesSaved.get() * 1000.0 / elapsedMillis;
+
+        stepExecution.getExecutionContext().putLong("queriesProcessed", queriesProcessed.get());
+        stepExecution.getExecutionContext().putLong("placesFound", placesFound.get());
+        stepExecution.getExecutionContext().putLong("placesFiltered", placesFiltered.get());
+        stepExecution.getExecutionContext().putLong("placesDuplicated", placesDuplicated.get());
+        stepExecution.getExecutionContext().putLong("placesCollected", placesSaved.get());
+        stepExecution.getExecutionContext().putDouble("placesPerSecond", placesPerSecond);
+
+        logger.info("📊 Place collection finished - Queries: {}, Found: {}, Saved: {}, Duplicated: {}, Filtered: {}, {} places/sec",
+                queriesProcessed.get(), placesFound.get(), placesSaved.get(), placesDuplicated.get(),
+                placesFiltered.get(), String.format("%.2f", placesPerSecond));
+        return stepExecution.getExitStatus();
+    }
+
+    @Override
+    public void write(Chunk<? extends String> chunk) throws Exception {
+        List<String> queries = new ArrayList<>(chunk.getItems());
+
+        // 1. 쿼리 동시 검색 (요청 속도는 공유 토큰 버킷이 제한)
+        List<CompletableFuture<List<Place>>> searches = new ArrayList<>();
+        for (String query : queries) {
+            searches.add(CompletableFuture.supplyAsync(() -> search(query), queryPool));
+        }
+
+        // 2. 필터링 + chunk 내부 중복 제거 (먼저 나온 쿼리 우선)
+        Map<String, Candidate> byAddress = new LinkedHashMap<>();
+        List<Candidate> withoutAddress = new ArrayList<>();
+        int found = 0;
+        int filtered = 0;
+        int duplicated = 0;
+        for (int i = 0; i < queries.size(); i++) {
+            String query = queries.get(i);
+            for (Place place : searches.get(i).join()) {
+                found++;
+                if (ExcludedCategory.shouldExclude(place.getCategory())) {
+                    logger.debug("🚫 Filtered out place: {} (category: {})", place.getName(), place.getCategory());
+                    filtered++;
+                    continue;
+                }
+                Candidate candidate = new Candidate(place, query);
+                String address = place.getRoadAddress();
+                if (address == null || address.isEmpty()) {
+                    withoutAddress.add(candidate);
+                } else if (byAddress.putIfAbsent(address, candidate) != null) {
+                    duplicated++;
+                }
+            }
+        }
+
+        // 3. DB에 이미 있는 주소 제외 (쿼리 1회)
+        Set<String> existing = findExistingRoadAddresses(byAddress.keySet());
+        duplicated += existing.size();
+        byAddress.keySet().removeAll(existing);
+
+        List<Candidate> toInsert = new ArrayList<>(byAddress.values());
+        toInsert.addAll(withoutAddress);
+
+        // 4. JDBC batch insert
+        int saved = insertPlaces(toInsert);
+        duplicated += toInsert.size() - saved;
+
+        queriesProcessed.addAndGet(queries.size());
+        placesFound.addAndGet(found);
+        placesFiltered.addAndGet(filtered);
+        placesDuplicated.addAndGet(duplicated);
+        placesSaved.addAndGet(saved);
+
+        logger.info("📊 Chunk of {} queries - Found: {}, Saved: {}, Skipped: {}, Filtered: {}",
+                queries.size(), found, saved, duplicated, filtered);
+    }
+
+    private List<Place> search(String query) {
+        try {
+            List<Place> places = kakaoPlaceApiService.searchPlaces(query, MAX_RESULTS_PER_QUERY);
+            if (places.isEmpty()) {
+                logger.warn("⚠️ No places found for query: {}", query);
+            }
+            return places;
+        } catch (Exception e) {
+            // 한 쿼리 실패로 chunk 전체가 실패하지 않도록 빈 결과로 처리
+            logger.error("❌ Failed to process query: {}", query, e);
+            return List.of();
+        }
+    }
+
+    private Set<String> findExistingRoadAddresses(Set<String> addresses) {
+        if (addresses.isEmpty()) {
+            return Set.of();
+        }
+        List<String> existing = jdbcTemplate.query(
+                "SELECT DISTINCT road_address FROM places WHERE road_address = ANY(?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("text", addresses.toArray())),
+                (rs, rowNum) -> rs.getString(1));
+        return new HashSet<>(existing);
+    }
+
+    /**
+     * ID를 시퀀스에서 한 번에 받아 places와 place_descriptions를 batch insert
+     * (RETURNING 순서에 의존하지 않고 장소-설명을 연결)
+     *
+     * @return 실제로 저장한 장소 수 (그 사이 다른 쪽이 저장한 주소는 제외)
+     */
+    private int insertPlaces(List<Candidate> candidates) {
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT nextval('places_id_seq') FROM generate_series(1, ?)", Long.class, candidates.size());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        int[] inserted = jdbcTemplate.batchUpdate(INSERT_PLACE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Place place = candidates.get(i).place();
+                Array category = ps.getConnection().createArrayOf("varchar",
+                        place.getCategory() != null ? place.getCategory().toArray() : new Object[0]);
+                ps.setLong(1, ids.get(i));
+                ps.setString(2, place.getName());
+                ps.setBigDecimal(3, place.getLatitude());
+                ps.setBigDecimal(4, place.getLongitude());
+                ps.setString(5, place.getRoadAddress());
+                ps.setString(6, place.getWebsiteUrl());
+                ps.setArray(7, category);
+                ps.setTimestamp(8, now);
+                ps.setTimestamp(9, now);
+                String address = place.getRoadAddress();
+                ps.setString(10, address != null && !address.isEmpty() ? address : null);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return candidates.size();
+            }
+        });
+
+        // 드라이버가 행 수를 알려주지 않으면(SUCCESS_NO_INFO) 저장된 것으로 보고, 설명 insert의 EXISTS가 걸러냄
+        int saved = 0;
+        List<Object[]> descriptions = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            if (inserted[i] == 0) {
+                continue;
+            }
+            saved++;
+            descriptions.add(new Object[]{ids.get(i), candidates.get(i).query(), now, ids.get(i)});
+        }
+        if (!descriptions.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_DESCRIPTION_SQL, descriptions);
+        }
+        return saved;
+    }
+
+    private record Candidate(Place place, String query) {
+    }
+}
@@ -2,6 +2,7 @@ package com.mohe.spring.config;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
@@ -82,6 +83,62 @@ public class AsyncConfiguration implements AsyncConfigurer {
         return executor;
     }
 
+    /**
+     * Dedicated executor for search fan-out (keyword / vector stages run concurrently)
+     * Short-lived I/O-bound tasks; saturation falls back to the caller thread
+     */
+    @Bean("searchExecutor")
+    public Executor searchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(64);
+        executor.setThreadNamePrefix("Search-");
+        executor.setKeepAliveSeconds(60);
+
+        executor.setRejectedExecutionHandler(new CustomRejectedExecutionHandler());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+
+        executor.initialize();
+
+        logger.info("Initialized search executor with core pool size: {}, max pool size: {}",
+                   executor.getCorePoolSize(), executor.getMaxPoolSize());
+
+        return executor;
+    }
+
+    /**
+     * Dedicated executor for home feed fan-out (MBTI category queries, stale feed refresh)
+     * Blocking JDBC work must not run on the common ForkJoinPool; sized to half of the
+     * Hikari pool so the home screen cannot hold every connection at once
+     */
+    @Bean("homeFeedExecutor")
+    public Executor homeFeedExecutor(
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int hikariMaxPoolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        int poolSize = Math.max(2, hikariMaxPoolSize / 2);
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(128);
+        executor.setThreadNamePrefix("HomeFeed-");
+        executor.setKeepAliveSeconds(60);
+        executor.setAllowCoreThreadTimeOut(true);
+
+        executor.setRejectedExecutionHandler(new CustomRejectedExecutionHandler());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+
+        executor.initialize();
+
+        logger.info("Initialized home feed executor with pool size: {} (hikari max: {})",
+                   poolSize, hikariMaxPoolSize);
+
+        return executor;
+    }
+
     /**
      * Custom rejection handler that logs rejected tasks
      * instead of throwing exceptions
@@ -1,13 +1,18 @@
 package com.mohe.spring.config;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
 import org.springframework.batch.core.configuration.support.DefaultBatchConfiguration;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 /**
  * Spring Batch 기본 설정
@@ -39,7 +44,13 @@ import org.springframework.core.task.SimpleAsyncTaskExecutor;
  *
  * <h3>비동기 JobLauncher</h3>
  * <p>배치 작업을 비동기로 실행하여 API 응답 시간을 최소화합니다.
- * {@link SimpleAsyncTaskExecutor}를 사용하여 별도 스레드에서 배치를 실행합니다.</p>
+ * 동시에 실행되는 Job 수는 고정 크기 스레드 풀로 제한합니다 (대기 큐가 가득 차면 실행 요청이 거절됨).</p>
+ *
+ * <h3>파티션 워커 실행기</h3>
+ * <p>파티션 Step의 워커는 {@code partitionTaskExecutor}에서 실행됩니다. 워커마다 청크 트랜잭션 동안
+ * DB 커넥션을 하나씩 점유하므로, 동시 실행 수는 Hikari 풀 크기에서 예약분을 뺀 값을 넘지 않게 제한합니다.
+ * 외부 API(크롤러, 임베딩) 동시 요청은 각 클라이언트의 동시성 설정이 따로 제한합니다.
+ * {@code mohe.batch.partition.virtual-threads=true}이면 같은 한도의 가상 스레드 실행기를 씁니다.</p>
  *
  * <h3>커스터마이징</h3>
  * <p>필요 시 다음 메서드를 오버라이드하여 설정을 변경할 수 있습니다:</p>
@@ -57,22 +68,76 @@ import org.springframework.core.task.SimpleAsyncTaskExecutor;
 @Configuration
 public class BatchConfiguration {
 
+    private static final Logger logger = LoggerFactory.getLogger(BatchConfiguration.class);
+
     /**
      * 비동기 JobLauncher를 생성합니다.
      *
      * <p>배치 작업이 별도 스레드에서 실행되어 API 요청이 즉시 응답을 반환합니다.
      * 이를 통해 긴 배치 작업이 HTTP 요청을 블로킹하지 않습니다.</p>
      *
-     * @param jobRepository Spring Batch JobRepository
+     * @param jobRepository            Spring Batch JobRepository
+     * @param jobLauncherTaskExecutor  Job 실행 스레드 풀
      * @return 비동기 작업을 수행하는 JobLauncher
      * @throws Exception JobLauncher 초기화 실패 시
      */
     @Bean
-    public JobLauncher asyncJobLauncher(JobRepository jobRepository) throws Exception {
+    public JobLauncher asyncJobLauncher(JobRepository jobRepository, TaskExecutor jobLauncherTaskExecutor) throws Exception {
         TaskExecutorJobLauncher jobLauncher = new TaskExecutorJobLauncher();
         jobLauncher.setJobRepository(jobRepository);
-        jobLauncher.setTaskExecutor(new SimpleAsyncTaskExecutor());
+        jobLauncher.setTaskExecutor(jobLauncherTaskExecutor);
         jobLauncher.afterPropertiesSet();
         return jobLauncher;
     }
+
+    /**
+     * Job 실행 스레드 풀 (기존 SimpleAsyncTaskExecutor는 요청마다 스레드를 무제한 생성)
+     */
+    @Bean(name = "jobLauncherTaskExecutor")
+    public TaskExecutor jobLauncherTaskExecutor(
+            @Value("${mohe.batch.launcher.max-concurrent-jobs:4}") int maxConcurrentJobs,
+            @Value("${mohe.batch.launcher.queue-capacity:16}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(1, maxConcurrentJobs));
+        executor.setMaxPoolSize(Math.max(1, maxConcurrentJobs));
+        executor.setQueueCapacity(Math.max(0, queueCapacity));
+        executor.setThreadNamePrefix("batch-job-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 파티션 워커 Step 실행기
+     *
+     * @param concurrency         원하는 동시 워커 수
+     * @param hikariPoolSize      DB 커넥션 풀 크기
+     * @param reservedConnections API 요청/스케줄러용으로 남겨 둘 커넥션 수
+     * @param virtualThreads      가상 스레드 사용 여부
+     */
+    @Bean(name = "partitionTaskExecutor")
+    public TaskExecutor partitionTaskExecutor(
+            @Value("${mohe.batch.partition.concurrency:4}") int concurrency,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int hikariPoolSize,
+            @Value("${mohe.batch.partition.reserved-connections:4}") int reservedConnections,
+            @Value("${mohe.batch.partition.virtual-threads:false}") boolean virtualThreads) {
+        int limit = Math.max(1, Math.min(concurrency, hikariPoolSize - reservedConnections));
+        logger.info("🧩 Partition executor: {} concurrent workers (requested={}, hikari={}, reserved={}, virtual={})",
+                limit, concurrency, hikariPoolSize, reservedConnections, virtualThreads);
+
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("batch-partition-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(limit);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(limit);
+        executor.setMaxPoolSize(limit);
+        executor.setQueueCapacity(256);
+        executor.setThreadNamePrefix("batch-partition-");
+        executor.initialize();
+        return executor;
+    }
 }
+
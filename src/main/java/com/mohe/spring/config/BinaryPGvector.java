@@ -0,0 +1,98 @@
+package com.mohe.spring.config;
+
+import com.pgvector.PGvector;
+import org.postgresql.util.PGBinaryObject;
+import org.postgresql.util.PGobject;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * 바이너리 프로토콜을 지원하는 pgvector JDBC 객체
+ *
+ * <p>{@link PgVectorConfiguration}이 커넥션마다 {@code vector} 타입으로 등록하면 PgJDBC가
+ * 파라미터 전송과 결과 수신을 {@link PgVectorCodec} 바이너리 포맷으로 처리합니다.
+ * 등록되지 않은 커넥션에서는 {@link #getValue()}가 필요할 때만 텍스트로 포맷합니다.</p>
+ */
+public class BinaryPGvector extends PGobject implements PGBinaryObject, Cloneable {
+
+    private float[] vector;
+
+    public BinaryPGvector() {
+        this.type = "vector";
+    }
+
+    public BinaryPGvector(float[] vector) {
+        this();
+        this.vector = vector;
+    }
+
+    public static BinaryPGvector of(PGvector value) {
+        return value == null ? null : new BinaryPGvector(value.toArray());
+    }
+
+    public float[] toArray() {
+        return vector;
+    }
+
+    public PGvector toPGvector() {
+        return vector == null ? null : new PGvector(vector);
+    }
+
+    @Override
+    public void setValue(String value) throws SQLException {
+        try {
+            this.vector = PgVectorCodec.parse(value);
+        } catch (RuntimeException e) {
+            throw new SQLException("Failed to parse vector value", e);
+        }
+    }
+
+    @Override
+    public String getValue() {
+        return vector == null ? null : PgVectorCodec.format(vector);
+    }
+
+    @Override
+    public void setByteValue(byte[] value, int offset) throws SQLException {
+        try {
+            this.vector = PgVectorCodec.decode(value, offset);
+        } catch (RuntimeException e) {
+            throw new SQLException("Failed to decode binary vector value", e);
+        }
+    }
+
+    @Override
+    public int lengthInBytes() {
+        return vector == null ? 0 : PgVectorCodec.binaryLength(vector);
+    }
+
+    @Override
+    public void toBytes(byte[] bytes, int offset) {
+        PgVectorCodec.encode(vector, bytes, offset);
+    }
+
+    @Override
+    public boolean isNull() {
+        return vector == null;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof BinaryPGvector other)) return false;
+        return Arrays.equals(vector, other.vector);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(vector);
+    }
+
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        BinaryPGvector copy = (BinaryPGvector) super.clone();
+        copy.vector = vector == null ? null : vector.clone();
+        return copy;
+    }
+}
@@ -1,7 +1,6 @@
 package com.mohe.spring.config;
 
 import com.pgvector.PGvector;
-import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.usertype.UserType;
 
@@ -10,10 +9,15 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.Arrays;
 
 /**
  * Custom Hibernate UserType for PGvector
  * Allows Hibernate to properly map PGvector objects to PostgreSQL vector columns
+ *
+ * <p>비교/복사/캐시 직렬화는 모두 float[] 기준으로 처리해서 flush 시점의 dirty checking이
+ * 1536차원 벡터를 문자열로 포맷하지 않도록 합니다. 바인딩은 {@link BinaryPGvector}를 사용하므로
+ * 바이너리 전송이 등록된 커넥션에서는 텍스트 변환 없이 전송됩니다.</p>
  */
 public class PGvectorType implements UserType<PGvector> {
 
@@ -31,12 +35,12 @@ public class PGvectorType implements UserType<PGvector> {
     public boolean equals(PGvector x, PGvector y) {
         if (x == y) return true;
         if (x == null || y == null) return false;
-        return x.toString().equals(y.toString());
+        return Arrays.equals(x.toArray(), y.toArray());
     }
 
     @Override
     public int hashCode(PGvector x) {
-        return x == null ? 0 : x.hashCode();
+        return x == null ? 0 : Arrays.hashCode(x.toArray());
     }
 
     @Override
@@ -47,19 +51,23 @@ public class PGvectorType implements UserType<PGvector> {
             return null;
         }
 
+        if (value instanceof BinaryPGvector binary) {
+            return binary.toPGvector();
+        }
+
+        if (value instanceof PGvector) {
+            return (PGvector) value;
+        }
+
         if (value instanceof org.postgresql.util.PGobject) {
             org.postgresql.util.PGobject pgObject = (org.postgresql.util.PGobject) value;
             try {
-                return new PGvector(pgObject.getValue());
+                return new PGvector(PgVectorCodec.parse(pgObject.getValue()));
             } catch (Exception e) {
-                throw new SQLException("Failed to parse PGvector from: " + pgObject.getValue(), e);
+                throw new SQLException("Failed to parse PGvector from column " + position, e);
             }
         }
 
-        if (value instanceof PGvector) {
-            return (PGvector) value;
-        }
-
         throw new SQLException("Unexpected type for PGvector: " + value.getClass().getName());
     }
 
@@ -69,21 +77,17 @@ public class PGvectorType implements UserType<PGvector> {
         if (value == null) {
             st.setNull(index, Types.OTHER);
         } else {
-            org.postgresql.util.PGobject pgObject = new org.postgresql.util.PGobject();
-            pgObject.setType("vector");
-            pgObject.setValue(value.toString());
-            st.setObject(index, pgObject);
+            st.setObject(index, BinaryPGvector.of(value));
         }
     }
 
+    /**
+     * PGvector는 내부 float[]를 그대로 노출하므로 배열만 복제합니다 (문자열 왕복 없음).
+     */
     @Override
     public PGvector deepCopy(PGvector value) {
         if (value == null) return null;
-        try {
-            return new PGvector(value.toString());
-        } catch (Exception e) {
-            throw new HibernateException("Failed to deep copy PGvector", e);
-        }
+        return new PGvector(value.toArray().clone());
     }
 
     @Override
@@ -93,17 +97,13 @@ public class PGvectorType implements UserType<PGvector> {
 
     @Override
     public Serializable disassemble(PGvector value) {
-        return value == null ? null : value.toString();
+        return value == null ? null : value.toArray().clone();
     }
 
     @Override
     public PGvector assemble(Serializable cached, Object owner) {
         if (cached == null) return null;
-        try {
-            return new PGvector((String) cached);
-        } catch (Exception e) {
-            throw new HibernateException("Failed to assemble PGvector from: " + cached, e);
-        }
+        return new PGvector(((float[]) cached).clone());
     }
 
     @Override
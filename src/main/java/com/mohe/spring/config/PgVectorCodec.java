@@ -0,0 +1,124 @@
+package com.mohe.spring.config;
+
+/**
+ * pgvector {@code vector} 타입 인코더/디코더
+ *
+ * <p>바이너리 포맷은 pgvector의 {@code vector_send}/{@code vector_recv}와 동일합니다:
+ * int16 차원 수, int16 unused(0), 이어서 float4 값들 (모두 big-endian).
+ * 1536차원 임베딩 기준 6,148 bytes로, 텍스트 표현(약 17KB)의 1/3 수준이며
+ * 십진수 포맷/파싱 비용이 없습니다.</p>
+ *
+ * <p>텍스트 포맷({@code [0.1,0.2,...]})은 바이너리 전송이 비활성화된 연결의 fallback 용도입니다.</p>
+ */
+public final class PgVectorCodec {
+
+    private static final int HEADER_BYTES = 4;
+
+    private PgVectorCodec() {
+    }
+
+    public static int binaryLength(float[] vector) {
+        return HEADER_BYTES + vector.length * Float.BYTES;
+    }
+
+    public static void encode(float[] vector, byte[] target, int offset) {
+        if (vector.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("vector has too many dimensions: " + vector.length);
+        }
+        int pos = offset;
+        target[pos++] = (byte) (vector.length >>> 8);
+        target[pos++] = (byte) vector.length;
+        target[pos++] = 0;
+        target[pos++] = 0;
+        for (float value : vector) {
+            int bits = Float.floatToRawIntBits(value);
+            target[pos++] = (byte) (bits >>> 24);
+            target[pos++] = (byte) (bits >>> 16);
+            target[pos++] = (byte) (bits >>> 8);
+            target[pos++] = (byte) bits;
+        }
+    }
+
+    public static byte[] encode(float[] vector) {
+        byte[] bytes = new byte[binaryLength(vector)];
+        encode(vector, bytes, 0);
+        return bytes;
+    }
+
+    public static float[] decode(byte[] source, int offset) {
+        if (source.length - offset < HEADER_BYTES) {
+            throw new IllegalArgumentException("vector payload is too short: " + (source.length - offset) + " bytes");
+        }
+        int dimensions = ((source[offset] & 0xFF) << 8) | (source[offset + 1] & 0xFF);
+        if (source.length - offset < HEADER_BYTES + dimensions * Float.BYTES) {
+            throw new IllegalArgumentException("vector payload is truncated for " + dimensions + " dimensions");
+        }
+        float[] vector = new float[dimensions];
+        int pos = offset + HEADER_BYTES;
+        for (int i = 0; i < dimensions; i++) {
+            int bits = ((source[pos] & 0xFF) << 24)
+                | ((source[pos + 1] & 0xFF) << 16)
+                | ((source[pos + 2] & 0xFF) << 8)
+                | (source[pos + 3] & 0xFF);
+            vector[i] = Float.intBitsToFloat(bits);
+            pos += 4;
+        }
+        return vector;
+    }
+
+    /**
+     * float[] → pgvector 텍스트 리터럴 ({@code [0.1,0.2,...]})
+     */
+    public static String format(float[] vector) {
+        StringBuilder sb = new StringBuilder(vector.length * 12 + 2);
+        sb.append('[');
+        for (int i = 0; i < vector.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(vector[i]);
+        }
+        sb.append(']');
+        return sb.toString();
+    }
+
+    /**
+     * pgvector 텍스트 리터럴 → float[]
+     * 정규식 split 없이 한 번 스캔으로 파싱합니다.
+     */
+    public static float[] parse(String text) {
+        if (text == null) {
+            return null;
+        }
+        int start = text.indexOf('[');
+        int end = text.lastIndexOf(']');
+        if (start < 0 || end < start) {
+            throw new IllegalArgumentException("Invalid vector literal");
+        }
+
+        int count = 0;
+        boolean empty = true;
+        for (int i = start + 1; i < end; i++) {
+            char c = text.charAt(i);
+            if (c == ',') {
+                count++;
+            } else if (!Character.isWhitespace(c)) {
+                empty = false;
+            }
+        }
+        if (empty) {
+            return new float[0];
+        }
+
+        float[] vector = new float[count + 1];
+        int index = 0;
+        int tokenStart = start + 1;
+        for (int i = start + 1; i <= end; i++) {
+            if (i == end || text.charAt(i) == ',') {
+                vector[index++] = Float.parseFloat(text.substring(tokenStart, i).trim());
+                tokenStart = i + 1;
+            }
+        }
+        return vector;
+    }
+}
@@ -0,0 +1,80 @@
+package com.mohe.spring.config;
+
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * pgvector 바이너리 전송 설정 (mohe.pgvector.binary-transfer, 기본 true)
+ *
+ * <p>PgJDBC는 {@code PGBinaryObject}를 구현한 클래스가 {@code addDataType}으로 등록된 타입에 대해서만
+ * 바이너리 송수신을 사용합니다. 등록은 물리 커넥션 단위이므로 DataSource를 감싸서
+ * 풀에서 처음 꺼낸 커넥션마다 {@link BinaryPGvector}를 {@code vector} 타입으로 한 번 등록합니다.</p>
+ */
+@Configuration
+public class PgVectorConfiguration {
+
+    private static final Logger logger = LoggerFactory.getLogger(PgVectorConfiguration.class);
+
+    @Bean
+    public static BeanPostProcessor pgVectorDataSourcePostProcessor(Environment environment) {
+        boolean enabled = environment.getProperty("mohe.pgvector.binary-transfer", Boolean.class, true);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (enabled && bean instanceof DataSource dataSource && !(bean instanceof VectorTypeRegisteringDataSource)) {
+                    logger.info("pgvector binary transfer enabled for DataSource '{}'", beanName);
+                    return new VectorTypeRegisteringDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    static class VectorTypeRegisteringDataSource extends DelegatingDataSource {
+
+        private final Map<PGConnection, Boolean> registered = Collections.synchronizedMap(new WeakHashMap<>());
+
+        VectorTypeRegisteringDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return register(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return register(super.getConnection(username, password));
+        }
+
+        private Connection register(Connection connection) throws SQLException {
+            if (!connection.isWrapperFor(PGConnection.class)) {
+                return connection;
+            }
+            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+            if (registered.putIfAbsent(pgConnection, Boolean.TRUE) == null) {
+                try {
+                    pgConnection.addDataType("vector", BinaryPGvector.class);
+                } catch (SQLException e) {
+                    // vector 확장이 없는 DB에서도 커넥션은 정상 사용 가능해야 함
+                    logger.warn("Failed to register pgvector binary type: {}", e.getMessage());
+                }
+            }
+            return connection;
+        }
+    }
+}
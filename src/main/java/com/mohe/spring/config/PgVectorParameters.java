@@ -0,0 +1,33 @@
+package com.mohe.spring.config;
+
+import com.pgvector.PGvector;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.BindableType;
+import org.hibernate.query.TypedParameterValue;
+import org.hibernate.type.CustomType;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿼리 벡터 바인딩 헬퍼
+ *
+ * <p>유사도 검색 쿼리의 {@code :queryEmbedding} 파라미터를 문자열 리터럴 + {@code CAST(... AS vector)} 대신
+ * {@link PGvectorType}으로 바인딩합니다. 드라이버가 {@code vector} 타입 파라미터로 전송하므로
+ * (바이너리 전송 등록 시 float4 그대로) 서비스 코드에서 텍스트를 만들 필요가 없습니다.</p>
+ */
+@Component
+public class PgVectorParameters {
+
+    private final BindableType<PGvector> vectorType;
+
+    public PgVectorParameters(EntityManagerFactory entityManagerFactory) {
+        this.vectorType = new CustomType<>(
+            new PGvectorType(),
+            entityManagerFactory.unwrap(SessionFactoryImplementor.class).getTypeConfiguration()
+        );
+    }
+
+    public TypedParameterValue<PGvector> bind(float[] vector) {
+        return new TypedParameterValue<>(vectorType, new PGvector(vector));
+    }
+}
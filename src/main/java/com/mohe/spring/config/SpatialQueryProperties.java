@@ -0,0 +1,36 @@
+package com.mohe.spring.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 위치 기반 쿼리 모드 설정 (mohe.spatial.mode)
+ *
+ * <ul>
+ *   <li>HAVERSINE: 기존 acos Haversine 계산 (인덱스 미사용, 기본값)</li>
+ *   <li>EARTH_DISTANCE: places.location(earth) GiST 인덱스 + earth_box / KNN(&lt;-&gt;) 사용 (V17 마이그레이션 필요)</li>
+ * </ul>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "mohe.spatial")
+public class SpatialQueryProperties {
+
+    public enum Mode {
+        HAVERSINE,
+        EARTH_DISTANCE
+    }
+
+    private Mode mode = Mode.HAVERSINE;
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public boolean isEarthDistance() {
+        return mode == Mode.EARTH_DISTANCE;
+    }
+}
@@ -3,6 +3,7 @@ package com.mohe.spring.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -15,6 +16,9 @@ public class WebConfig implements WebMvcConfigurer {
     @Value("${IMAGE_STORAGE_DIR:/host/images}")
     private String imageStorageDir;
 
+    @Value("${mohe.image.cache-max-age-seconds:86400}")
+    private long imageCacheMaxAgeSeconds;
+
     @Bean
     public WebClient webClient() {
         return WebClient.builder()
@@ -24,17 +28,18 @@ public class WebConfig implements WebMvcConfigurer {
 
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        // /images/** (including /images/places/**) is served by ImageServeController (cache headers, resized variants)
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofSeconds(imageCacheMaxAgeSeconds)).cachePublic();
+
         // Serve images from /image directory at localhost:8080/image/
         String resourceLocation = "file:" + imageStorageDir + "/";
         registry.addResourceHandler("/image/**")
-                .addResourceLocations(resourceLocation);
-
-        // Serve images from /images/places directory
-        registry.addResourceHandler("/images/places/**")
-                .addResourceLocations(resourceLocation);
+                .addResourceLocations(resourceLocation)
+                .setCacheControl(cacheControl);
 
         // Serve profile images from /uploads/profile-images directory
         registry.addResourceHandler("/uploads/profile-images/**")
-                .addResourceLocations("file:uploads/profile-images/");
+                .addResourceLocations("file:uploads/profile-images/")
+                .setCacheControl(cacheControl);
     }
 }
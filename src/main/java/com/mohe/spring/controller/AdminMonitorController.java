@@ -3,7 +3,16 @@ package com.mohe.spring.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mohe.spring.dto.ApiResponse;
 import com.mohe.spring.dto.admin.*;
+import com.mohe.spring.security.UserPrincipalCache;
 import com.mohe.spring.service.AdminMonitorService;
+import com.mohe.spring.service.CategoryRecommendationService;
+import com.mohe.spring.service.PlaceEmbeddingNeighborService;
+import com.mohe.spring.service.QueryEmbeddingCache;
+import com.mohe.spring.service.WeatherService;
+import com.mohe.spring.service.hours.PlaceOpenHoursIndex;
+import com.mohe.spring.service.image.ImageVariantService;
+import com.mohe.spring.service.search.SearchLatencyRecorder;
+import com.mohe.spring.service.similarity.PlaceVectorStore;
 import org.springframework.beans.factory.annotation.Value;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -31,6 +40,15 @@ import java.util.Map;
 public class AdminMonitorController {
 
     private final AdminMonitorService adminMonitorService;
+    private final QueryEmbeddingCache queryEmbeddingCache;
+    private final SearchLatencyRecorder searchLatencyRecorder;
+    private final WeatherService weatherService;
+    private final PlaceEmbeddingNeighborService placeEmbeddingNeighborService;
+    private final CategoryRecommendationService categoryRecommendationService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final PlaceOpenHoursIndex placeOpenHoursIndex;
+    private final PlaceVectorStore placeVectorStore;
+    private final ImageVariantService imageVariantService;
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final HttpClient httpClient = HttpClient.newBuilder()
             .connectTimeout(Duration.ofSeconds(5))
@@ -380,4 +398,68 @@ public class AdminMonitorController {
         Map<String, Object> progress = adminMonitorService.getPipelineProgress();
         return ResponseEntity.ok(ApiResponse.success(progress));
     }
+
+    // ===== Cache Stats API =====
+
+    @GetMapping("/cache/query-embedding")
+    @Operation(summary = "Get query embedding cache stats", description = "Returns hit/miss/coalesced counts, hit rate and load latency of the search query embedding cache")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getQueryEmbeddingCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success(queryEmbeddingCache.getStats()));
+    }
+
+    @GetMapping("/cache/weather")
+    @Operation(summary = "Get weather grid cache stats", description = "Returns hit/miss/coalesced/refresh counts and cached KMA grid cells of the weather cache")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getWeatherCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success(weatherService.getCacheStats()));
+    }
+
+    @GetMapping("/cache/home-feed")
+    @Operation(summary = "Get home feed cache stats", description = "Returns hit/miss/stale-served/refresh counts of the home feed cache keyed by grid cell, time slot, weather and MBTI")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getHomeFeedCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success(categoryRecommendationService.getHomeFeedCacheStats()));
+    }
+
+    @GetMapping("/cache/user-principal")
+    @Operation(summary = "Get user principal cache stats", description = "Returns hit/miss/eviction counts of the authenticated user principal cache used by the JWT filter")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getUserPrincipalCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success(userPrincipalCache.getStats()));
+    }
+
+    // ===== Embedding Neighbor API =====
+
+    @GetMapping("/similarity/embedding-neighbors")
+    @Operation(summary = "Get embedding neighbor job stats", description = "Returns the last run of the precomputed description-embedding neighbor job")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getEmbeddingNeighborStats() {
+        return ResponseEntity.ok(ApiResponse.success(placeEmbeddingNeighborService.getStats()));
+    }
+
+    @GetMapping("/similarity/place-vector-store")
+    @Operation(summary = "Get place vector store stats", description = "Returns size, skipped rows and last sync time of the pre-decoded place description vector store")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getPlaceVectorStoreStats() {
+        return ResponseEntity.ok(ApiResponse.success(placeVectorStore.getStats()));
+    }
+
+    // ===== Image Variant API =====
+
+    @GetMapping("/images/variants")
+    @Operation(summary = "Get image variant stats", description = "Returns width buckets and generated/cached/passthrough counts of resized image variants")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getImageVariantStats() {
+        return ResponseEntity.ok(ApiResponse.success(imageVariantService.getStats()));
+    }
+
+    // ===== Open Hours Index API =====
+
+    @GetMapping("/places/open-hours-index")
+    @Operation(summary = "Get open-hours index stats", description = "Returns size, distinct weekly schedules and backfill count of the in-memory open-hours bitmap mirror")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getOpenHoursIndexStats() {
+        return ResponseEntity.ok(ApiResponse.success(placeOpenHoursIndex.getStats()));
+    }
+
+    // ===== Search Latency API =====
+
+    @GetMapping("/search/latency")
+    @Operation(summary = "Get search stage latency", description = "Returns p50/p95/p99 latency of hybrid search stages (keyword, embedding, vector, fusion, hydrate, total)")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getSearchLatency() {
+        return ResponseEntity.ok(ApiResponse.success(searchLatencyRecorder.getStats()));
+    }
 }
@@ -91,6 +91,12 @@ public class AnalyticsController {
         return ResponseEntity.ok(ApiResponse.success(analyticsService.getRecentVisitors(page, size)));
     }
 
+    @GetMapping("/api/admin/analytics/pipeline")
+    @Operation(summary = "Get analytics pipeline stats", description = "Returns pageview buffer and rollup job stats (queued, dropped, last rolled-up log id)")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getPipelineStats() {
+        return ResponseEntity.ok(ApiResponse.success(analyticsService.getPipelineStats()));
+    }
+
     /**
      * Extract client IP considering X-Forwarded-For header (for reverse proxy like Caddy)
      */
@@ -1,5 +1,6 @@
 package com.mohe.spring.controller;
 
+import com.mohe.spring.config.SpatialQueryProperties;
 import com.mohe.spring.dto.ApiResponse;
 import com.mohe.spring.dto.PlaceDto;
 import com.mohe.spring.dto.SuggestedCategoriesResponse;
@@ -7,7 +8,8 @@ import com.mohe.spring.entity.Place;
 import com.mohe.spring.enums.PlaceCategory;
 import com.mohe.spring.repository.PlaceRepository;
 import com.mohe.spring.service.CategoryRecommendationService;
-import com.mohe.spring.service.PlaceService;
+import com.mohe.spring.service.card.PlaceCardAssembler;
+import com.mohe.spring.util.WeeklyOpenHours;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -34,16 +36,19 @@ public class CategoryController {
     private static final Logger logger = LoggerFactory.getLogger(CategoryController.class);
 
     private final CategoryRecommendationService categoryRecommendationService;
-    private final PlaceService placeService;
+    private final PlaceCardAssembler placeCardAssembler;
     private final PlaceRepository placeRepository;
+    private final SpatialQueryProperties spatialQueryProperties;
 
     public CategoryController(
             CategoryRecommendationService categoryRecommendationService,
-            PlaceService placeService,
-            PlaceRepository placeRepository) {
+            PlaceCardAssembler placeCardAssembler,
+            PlaceRepository placeRepository,
+            SpatialQueryProperties spatialQueryProperties) {
         this.categoryRecommendationService = categoryRecommendationService;
-        this.placeService = placeService;
+        this.placeCardAssembler = placeCardAssembler;
         this.placeRepository = placeRepository;
+        this.spatialQueryProperties = spatialQueryProperties;
     }
 
     /**
@@ -184,22 +189,22 @@ public class CategoryController {
                     .map(String::toLowerCase)
                     .collect(Collectors.joining(","));
 
-            // 현재 요일/시간 (영업 중 필터)
-            String[] koDays = {"일", "월", "화", "수", "목", "금", "토"};
-            String day = koDays[java.util.Calendar.getInstance().get(java.util.Calendar.DAY_OF_WEEK) - 1];
-            String time = java.time.LocalTime.now().format(java.time.format.DateTimeFormatter.ofPattern("HH:mm:ss"));
+            // 현재 주간 영업시간 슬롯 (영업 중 필터)
+            int openSlot = WeeklyOpenHours.currentSlot();
 
             List<Place> limitedPlaces = new ArrayList<>();
             for (double distance : new double[]{10.0, 20.0, 50.0}) {
                 limitedPlaces = placeRepository.findNearbyPlacesByCategory(
-                        lat, lon, distance, keywords, limit, day, time
+                        spatialQueryProperties.getMode(), lat, lon, distance, keywords, limit, openSlot
                 );
                 if (limitedPlaces.size() >= Math.min(limit, 5)) break;
             }
 
             // 3. DTO 변환
+            Map<Long, List<String>> imagesByPlace = placeCardAssembler.imageUrls(
+                    limitedPlaces.stream().map(Place::getId).collect(Collectors.toList()));
             List<PlaceDto.PlaceResponse> placeResponses = limitedPlaces.stream()
-                    .map(place -> convertToPlaceResponse(place, lat, lon))
+                    .map(place -> convertToPlaceResponse(place, imagesByPlace.getOrDefault(place.getId(), List.of()), lat, lon))
                     .collect(Collectors.toList());
 
             logger.info("Found {} places for category {}", placeResponses.size(), category);
@@ -254,13 +259,12 @@ public class CategoryController {
      * Place를 PlaceResponse DTO로 변환
      *
      * @param place 장소
+     * @param imageUrls 장소 이미지 URL (일괄 조회 결과)
      * @param userLat 사용자 위도
      * @param userLon 사용자 경도
      * @return PlaceResponse DTO
      */
-    private PlaceDto.PlaceResponse convertToPlaceResponse(Place place, Double userLat, Double userLon) {
-        // 이미지 URL 목록 가져오기
-        List<String> imageUrls = placeService.getImageUrls(place.getId());
+    private PlaceDto.PlaceResponse convertToPlaceResponse(Place place, List<String> imageUrls, Double userLat, Double userLon) {
         String primaryImageUrl = imageUrls.isEmpty() ? null : imageUrls.get(0);
 
         // 카테고리 문자열 — "음식점" 같은 상위 카테고리 대신 구체적인 카테고리 우선
@@ -0,0 +1,153 @@
+package com.mohe.spring.controller;
+
+import com.mohe.spring.service.image.ImageStorage;
+import com.mohe.spring.service.image.ImageVariantService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 이미지 서빙 컨트롤러 ({@code /images/**})
+ *
+ * <h3>캐시 정책</h3>
+ * <ul>
+ *   <li>{@code /images/store/**}: 파일명이 내용 해시 → {@code Cache-Control: public, max-age=31536000, immutable}, ETag = 해시
+ *       (단, {@code ?w=} 요청에 원본으로 응답한 경우는 재검증)</li>
+ *   <li>그 외(레거시 파일명, 생성 이미지): 설정된 max-age + ETag(크기-수정 시각) + Last-Modified로 재검증</li>
+ * </ul>
+ *
+ * <h3>리사이즈 변형</h3>
+ * <p>{@code ?w=320}처럼 너비를 주면 {@link ImageVariantService}의 버킷 변형을 서빙합니다 (카드 목록용 썸네일).</p>
+ *
+ * <h3>전송</h3>
+ * <p>Tomcat이 sendfile을 지원하면 파일 경로만 넘겨 커널이 직접 전송하고(zero-copy),
+ * 그렇지 않으면 {@link FileChannel#transferTo}로 힙 버퍼 복사 없이 응답 스트림에 씁니다.</p>
+ */
+@Controller
+@Tag(name = "Image Serving", description = "이미지 파일 서빙 (캐시 헤더, 리사이즈 변형)")
+public class ImageServeController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageServeController.class);
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+    private final ImageStorage imageStorage;
+    private final ImageVariantService imageVariantService;
+    private final CacheControl revalidatedCacheControl;
+
+    public ImageServeController(
+            ImageStorage imageStorage,
+            ImageVariantService imageVariantService,
+            @Value("${mohe.image.cache-max-age-seconds:86400}") long cacheMaxAgeSeconds) {
+        this.imageStorage = imageStorage;
+        this.imageVariantService = imageVariantService;
+        this.revalidatedCacheControl = CacheControl.maxAge(Duration.ofSeconds(cacheMaxAgeSeconds)).cachePublic();
+    }
+
+    @GetMapping("/images/**")
+    @Operation(summary = "이미지 조회", description = "저장된 이미지를 서빙합니다. w 파라미터로 리사이즈된 변형을 요청할 수 있습니다")
+    public void serve(
+            @RequestParam(value = "w", required = false) Integer width,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        String uri = request.getRequestURI().substring(request.getContextPath().length());
+        // "/images/**"는 "/images" 자체와도 매칭됨
+        if (uri.length() <= ImageStorage.PUBLIC_PREFIX.length()) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        String relativePath = UriUtils.decode(uri.substring(ImageStorage.PUBLIC_PREFIX.length()), StandardCharsets.UTF_8);
+
+        Optional<Path> original = imageStorage.resolvePublicPath(relativePath);
+        if (original.isEmpty()) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+
+        ImageVariantService.Variant variant = width != null && width > 0
+            ? imageVariantService.resolve(original.get(), width)
+            : new ImageVariantService.Variant(original.get(), 0);
+        Path file = variant.file();
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+
+        boolean contentHashed = ImageStorage.isImmutablePath(relativePath);
+        String etag = contentHashed
+            ? contentHashOf(original.get()) + (variant.isOriginal() ? "" : "-w" + variant.bucket())
+            : Long.toHexString(attributes.size()) + "-" + Long.toHexString(attributes.lastModifiedTime().toMillis());
+        // ?w= 요청에 원본을 준 경우는 리사이즈 슬롯이 밀려 잠시 원본으로 대신했을 수 있음 → 재검증 캐시
+        boolean immutable = contentHashed && !(width != null && width > 0 && variant.isOriginal());
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, (immutable ? IMMUTABLE : revalidatedCacheControl).getHeaderValue());
+        if (new ServletWebRequest(request, response).checkNotModified("\"" + etag + "\"", attributes.lastModifiedTime().toMillis())) {
+            return;
+        }
+
+        MediaType contentType = MediaTypeFactory.getMediaType(file.getFileName().toString())
+            .orElse(MediaType.APPLICATION_OCTET_STREAM);
+        response.setContentType(contentType.toString());
+        response.setContentLengthLong(attributes.size());
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, attributes.size());
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            long size = channel.size();
+            while (position < size) {
+                position += channel.transferTo(position, size - position, out);
+            }
+        } catch (IOException e) {
+            // 클라이언트가 전송 중 연결을 끊은 경우
+            logger.debug("Image transfer aborted: {} ({})", relativePath, e.getMessage());
+        }
+    }
+
+    /**
+     * store/ 아래 파일명(확장자 제외)이 곧 내용 해시
+     */
+    private static String contentHashOf(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot > 0 ? name.substring(0, dot) : name;
+    }
+}
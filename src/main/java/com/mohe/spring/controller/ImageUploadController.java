@@ -1,11 +1,11 @@
 package com.mohe.spring.controller;
 
 import com.mohe.spring.dto.ApiResponse;
+import com.mohe.spring.service.image.ImageStorage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -14,11 +14,7 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
-import java.net.URL;
 import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -42,32 +38,17 @@ public class ImageUploadController {
 
     private static final Logger logger = LoggerFactory.getLogger(ImageUploadController.class);
 
-    private final Path imageStorageLocation;
+    private final ImageStorage imageStorage;
 
-    public ImageUploadController(@Value("${mohe.image.storage-path:/images}") String storagePath) {
-        // Determine path type - absolute or relative
-        if (storagePath.startsWith("/")) {
-            // Absolute path (production)
-            this.imageStorageLocation = Paths.get(storagePath);
-        } else {
-            // Relative path (test environment) - use current working directory
-            this.imageStorageLocation = Paths.get(System.getProperty("user.dir"), storagePath);
-        }
-
-        try {
-            Files.createDirectories(this.imageStorageLocation);
-            logger.info("📁 Image storage initialized: {}", imageStorageLocation.toAbsolutePath());
-            logger.info("   Writable: {}", Files.isWritable(imageStorageLocation));
-        } catch (Exception ex) {
-            logger.error("❌ Could not create image storage directory: {}", storagePath, ex);
-            throw new RuntimeException("Could not create image storage directory: " + storagePath, ex);
-        }
+    public ImageUploadController(ImageStorage imageStorage) {
+        this.imageStorage = imageStorage;
     }
 
     /**
      * 파일 직접 업로드
      *
-     * <p>MultipartFile로 이미지를 직접 업로드합니다.</p>
+     * <p>MultipartFile로 이미지를 직접 업로드합니다.
+     * 내용 해시 파일명으로 저장되므로 같은 이미지를 다시 올려도 파일이 늘지 않습니다.</p>
      *
      * @param placeId   Place ID
      * @param placeName Place 이름
@@ -86,18 +67,15 @@ public class ImageUploadController {
 
         List<String> savedPaths = new ArrayList<>();
 
-        for (int i = 0; i < files.size(); i++) {
-            MultipartFile file = files.get(i);
-            String fileName = generateFileName(placeId, placeName, i + 1);
+        for (MultipartFile file : files) {
+            String extension = ImageStorage.extensionOf(file.getOriginalFilename(), file.getContentType());
 
-            try {
-                Path targetPath = imageStorageLocation.resolve(fileName);
-                Files.copy(file.getInputStream(), targetPath, StandardCopyOption.REPLACE_EXISTING);
-                String savedPath = "/images/" + fileName;
+            try (InputStream in = file.getInputStream()) {
+                String savedPath = imageStorage.storePlaceImage(placeId, in, extension);
                 savedPaths.add(savedPath);
                 logger.debug("✅ Saved: {}", savedPath);
             } catch (IOException e) {
-                logger.error("❌ Failed to save image: {}", fileName, e);
+                logger.error("❌ Failed to save image: {}", file.getOriginalFilename(), e);
             }
         }
 
@@ -124,14 +102,11 @@ public class ImageUploadController {
 
         List<String> savedPaths = new ArrayList<>();
 
-        for (int i = 0; i < request.getImageUrls().size(); i++) {
-            String imageUrl = request.getImageUrls().get(i);
-            String fileName = generateFileName(request.getPlaceId(), request.getPlaceName(), i + 1);
+        for (String imageUrl : request.getImageUrls()) {
+            String extension = ImageStorage.extensionOf(imageUrl, null);
 
             try (InputStream in = URI.create(imageUrl).toURL().openStream()) {
-                Path targetPath = imageStorageLocation.resolve(fileName);
-                Files.copy(in, targetPath, StandardCopyOption.REPLACE_EXISTING);
-                String savedPath = "/images/" + fileName;
+                String savedPath = imageStorage.storePlaceImage(request.getPlaceId(), in, extension);
                 savedPaths.add(savedPath);
                 logger.debug("✅ Downloaded and saved: {} from {}", savedPath, imageUrl);
             } catch (IOException e) {
@@ -156,25 +131,13 @@ public class ImageUploadController {
         logger.info("🗑️ Image delete request: placeId={}", placeId);
 
         try {
-            int deletedCount = 0;
-            String prefix = placeId + "_";
-
-            // 해당 Place의 모든 이미지 찾아서 삭제
-            Files.list(imageStorageLocation)
-                    .filter(path -> path.getFileName().toString().startsWith(prefix))
-                    .forEach(path -> {
-                        try {
-                            Files.delete(path);
-                            logger.debug("🗑️ Deleted: {}", path.getFileName());
-                        } catch (IOException e) {
-                            logger.error("❌ Failed to delete: {}", path.getFileName(), e);
-                        }
-                    });
+            // 장소 디렉터리만 삭제 (저장소 전체를 스캔하지 않음)
+            int deletedCount = imageStorage.deletePlaceImages(placeId);
 
             logger.info("✅ Deleted {} images for placeId={}", deletedCount, placeId);
             return ResponseEntity.ok(ApiResponse.success(deletedCount));
         } catch (IOException e) {
-            logger.error("❌ Failed to list images for deletion", e);
+            logger.error("❌ Failed to delete images for placeId={}", placeId, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("IMAGE_DELETE_FAILED",
                             "Failed to delete images", "/api/images/" + placeId));
@@ -189,20 +152,11 @@ public class ImageUploadController {
     public ResponseEntity<ApiResponse<Map<String, Object>>> health() {
         return ResponseEntity.ok(ApiResponse.success(Map.of(
                 "status", "UP",
-                "storageLocation", imageStorageLocation.toAbsolutePath().toString(),
-                "writable", Files.isWritable(imageStorageLocation)
+                "storageLocation", imageStorage.getRoot().toString(),
+                "writable", Files.isWritable(imageStorage.getRoot())
         )));
     }
 
-    /**
-     * 파일명 생성
-     */
-    private String generateFileName(Long placeId, String placeName, int index) {
-        // 파일명에서 특수문자 제거
-        String sanitizedName = placeName.replaceAll("[^a-zA-Z0-9가-힣]", "_");
-        return placeId + "_" + sanitizedName + "_" + index + ".jpeg";
-    }
-
     /**
      * 이미지 업로드 요청 DTO
      */
@@ -3,6 +3,7 @@ package com.mohe.spring.controller;
 import com.mohe.spring.dto.ApiResponse;
 import com.mohe.spring.dto.refresh.BatchRefreshResponseDto;
 import com.mohe.spring.dto.refresh.PlaceRefreshResponseDto;
+import com.mohe.spring.service.refresh.PlaceBulkRefreshService;
 import com.mohe.spring.service.refresh.PlaceRefreshService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -35,9 +36,12 @@ public class PlaceRefreshController {
     private static final Logger logger = LoggerFactory.getLogger(PlaceRefreshController.class);
 
     private final PlaceRefreshService placeRefreshService;
+    private final PlaceBulkRefreshService placeBulkRefreshService;
 
-    public PlaceRefreshController(PlaceRefreshService placeRefreshService) {
+    public PlaceRefreshController(PlaceRefreshService placeRefreshService,
+                                  PlaceBulkRefreshService placeBulkRefreshService) {
         this.placeRefreshService = placeRefreshService;
+        this.placeBulkRefreshService = placeBulkRefreshService;
     }
 
     /**
@@ -319,7 +323,9 @@ public class PlaceRefreshController {
 
             - 이미지, 리뷰, 메뉴, 영업시간 전체 업데이트
             - **비동기 실행**: 즉시 응답 반환 후 백그라운드에서 처리
-            - 진행 상황은 서버 로그에서 확인 가능
+            - 장소 ID 순으로 스트리밍하며 제한된 워커 수로 병렬 처리
+            - 진행 상황: GET /api/places/refresh/all/progress
+            - resume=true: 중단/실패한 이전 실행의 체크포인트 다음 장소부터 재개
             """
     )
     @ApiResponses(value = {
@@ -331,18 +337,28 @@ public class PlaceRefreshController {
                 schema = @Schema(implementation = ApiResponse.class)
             )
         ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "409",
+            description = "이미 전체 새로고침이 실행 중"
+        ),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
             responseCode = "500",
             description = "배치 새로고침 시작 실패"
         )
     })
     public ResponseEntity<ApiResponse<Object>> refreshAllPlaces(
+            @Parameter(description = "마지막 체크포인트부터 재개", example = "false")
+            @RequestParam(defaultValue = "false") boolean resume,
             HttpServletRequest request) {
         try {
-            logger.info("🚀 Batch refresh request received - starting async execution");
+            if (placeBulkRefreshService.isRunning()) {
+                return ResponseEntity.status(409)
+                        .body(ApiResponse.error("BATCH_REFRESH_RUNNING", "전체 장소 새로고침이 이미 실행 중입니다.", request.getRequestURI()));
+            }
+            logger.info("🚀 Batch refresh request received - starting async execution (resume={})", resume);
 
             // 비동기로 실행 (즉시 응답)
-            placeRefreshService.refreshAllPlacesAsync();
+            placeRefreshService.refreshAllPlacesAsync(resume);
 
             return ResponseEntity.accepted()
                     .body(ApiResponse.success(java.util.Map.of(
@@ -357,6 +373,33 @@ public class PlaceRefreshController {
         }
     }
 
+    /**
+     * 전체 장소 새로고침 진행 상황
+     */
+    @GetMapping("/refresh/all/progress")
+    @Operation(
+        summary = "전체 장소 새로고침 진행 상황",
+        description = "처리/성공/실패 수, 초당 처리량, 체크포인트 장소 ID, 최근 실패 목록을 반환합니다."
+    )
+    public ResponseEntity<ApiResponse<Object>> getRefreshAllProgress() {
+        return ResponseEntity.ok(ApiResponse.success(placeBulkRefreshService.getProgress()));
+    }
+
+    /**
+     * 전체 장소 새로고침 중단 (진행 중인 장소까지 처리 후 체크포인트 저장)
+     */
+    @PostMapping("/refresh/all/stop")
+    @Operation(
+        summary = "전체 장소 새로고침 중단",
+        description = "새 장소 제출을 멈추고, 진행 중인 장소를 마친 뒤 체크포인트를 저장합니다. resume=true로 이어서 실행할 수 있습니다."
+    )
+    public ResponseEntity<ApiResponse<Object>> stopRefreshAll() {
+        boolean stopping = placeBulkRefreshService.requestStop();
+        return ResponseEntity.ok(ApiResponse.success(java.util.Map.of(
+            "status", stopping ? "STOPPING" : "NOT_RUNNING"
+        )));
+    }
+
     /**
      * 페이지네이션된 Places 배치 새로고침
      *
@@ -7,6 +7,7 @@ import com.mohe.spring.dto.CurrentTimeRecommendationsResponse;
 import com.mohe.spring.dto.PlaceDto;
 import com.mohe.spring.dto.SimplePlaceDto;
 import com.mohe.spring.service.*;
+import com.mohe.spring.service.card.PlaceCardAssembler;
 import com.mohe.spring.security.UserPrincipal;
 import com.mohe.spring.repository.UserRepository;
 import com.mohe.spring.repository.PlaceRepository;
@@ -48,6 +49,7 @@ public class RecommendationController {
     private final PlaceRepository placeRepository;
     private final BookmarkRepository bookmarkRepository;
     private final com.mohe.spring.config.LocationProperties locationProperties;
+    private final PlaceCardAssembler placeCardAssembler;
 
     public RecommendationController(
             EnhancedRecommendationService enhancedRecommendationService,
@@ -57,7 +59,8 @@ public class RecommendationController {
             UserRepository userRepository,
             PlaceRepository placeRepository,
             BookmarkRepository bookmarkRepository,
-            com.mohe.spring.config.LocationProperties locationProperties) {
+            com.mohe.spring.config.LocationProperties locationProperties,
+            PlaceCardAssembler placeCardAssembler) {
         this.enhancedRecommendationService = enhancedRecommendationService;
         this.contextualRecommendationService = contextualRecommendationService;
         this.weatherService = weatherService;
@@ -66,6 +69,7 @@ public class RecommendationController {
         this.placeRepository = placeRepository;
         this.bookmarkRepository = bookmarkRepository;
         this.locationProperties = locationProperties;
+        this.placeCardAssembler = placeCardAssembler;
     }
 
     @Operation(
@@ -537,10 +541,15 @@ public class RecommendationController {
                 places = bookmarkRepository.findMostBookmarkedPlaces(pageRequest);
             }
 
-            List<SimplePlaceDto> placeDtos = places.stream()
+            List<Place> readyPlaces = places.stream()
+                .filter(place -> place != null && place.getId() != null)
                 .filter(place -> EmbedStatus.COMPLETED.equals(place.getEmbedStatus()))
-                .map(this::convertToSimplePlaceDto)
-                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+            Map<Long, List<String>> imagesByPlace = placeCardAssembler.imageUrls(
+                readyPlaces.stream().map(Place::getId).collect(Collectors.toList()));
+
+            List<SimplePlaceDto> placeDtos = readyPlaces.stream()
+                .map(place -> convertToSimplePlaceDto(place, imagesByPlace.getOrDefault(place.getId(), List.of())))
                 .collect(Collectors.toList());
 
             return ResponseEntity.ok(ApiResponse.success(placeDtos));
@@ -556,11 +565,7 @@ public class RecommendationController {
         }
     }
 
-    private SimplePlaceDto convertToSimplePlaceDto(Place place) {
-        if (place == null || place.getId() == null || !EmbedStatus.COMPLETED.equals(place.getEmbedStatus())) {
-            return null;
-        }
-
+    private SimplePlaceDto convertToSimplePlaceDto(Place place, List<String> imageUrls) {
         SimplePlaceDto dto = new SimplePlaceDto();
         dto.setId(place.getId().toString());
         dto.setName(place.getName());
@@ -574,7 +579,6 @@ public class RecommendationController {
         dto.setDistance(0.0);
         dto.setIsBookmarked(false);
 
-        List<String> imageUrls = placeService.getImageUrls(place.getId());
         if (!imageUrls.isEmpty()) {
             dto.setImageUrl(imageUrls.get(0));
             dto.setImages(imageUrls);
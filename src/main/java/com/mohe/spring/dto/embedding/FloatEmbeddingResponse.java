@@ -0,0 +1,42 @@
+package com.mohe.spring.dto.embedding;
+
+import java.util.List;
+
+/**
+ * Primitive-array variant of {@link EmbeddingResponse}
+ * Vectors are decoded straight into float[] (no List&lt;List&lt;Double&gt;&gt; boxing),
+ * so a 1536-dim vector costs one array instead of 1536 Double objects.
+ */
+public class FloatEmbeddingResponse {
+
+    private final List<float[]> embeddings;
+
+    public FloatEmbeddingResponse(List<float[]> embeddings) {
+        this.embeddings = embeddings;
+    }
+
+    public List<float[]> getEmbeddings() {
+        return embeddings;
+    }
+
+    /**
+     * Same accessor name as {@link EmbeddingResponse#getEmbeddingsAsFloatArrays()} — no conversion needed
+     */
+    public List<float[]> getEmbeddingsAsFloatArrays() {
+        return embeddings != null ? embeddings : List.of();
+    }
+
+    /**
+     * Check if response has valid embeddings
+     */
+    public boolean hasValidEmbeddings() {
+        return embeddings != null && !embeddings.isEmpty();
+    }
+
+    /**
+     * Get the number of embeddings in the response
+     */
+    public int getEmbeddingCount() {
+        return embeddings != null ? embeddings.size() : 0;
+    }
+}
@@ -36,6 +36,12 @@ public class DistributedJobLock {
     @Column(name = "chunk_id", nullable = false)
     private String chunkId;
 
+    /**
+     * 장소 단위 lease 대상 ID (chunk_id = place:{id}, 청크 락은 null)
+     */
+    @Column(name = "item_id")
+    private Long itemId;
+
     /**
      * 워커 식별자 (hostname + UUID)
      */
@@ -151,6 +157,14 @@ public class DistributedJobLock {
         this.chunkId = chunkId;
     }
 
+    public Long getItemId() {
+        return itemId;
+    }
+
+    public void setItemId(Long itemId) {
+        this.itemId = itemId;
+    }
+
     public String getWorkerId() {
         return workerId;
     }
@@ -1,5 +1,6 @@
 package com.mohe.spring.entity;
 
+import com.mohe.spring.util.WeeklyOpenHours;
 import com.vladmihalcea.hibernate.type.array.ListArrayType;
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -60,6 +61,13 @@ public class Place {
     @Column(name = "embed_status")
     private EmbedStatus embedStatus = EmbedStatus.PENDING;
 
+    /**
+     * 주간 영업시간 비트맵 ({@link WeeklyOpenHours}) — 영업시간 저장 시 {@link #compileOpenHours()}로 갱신
+     * null이면 영업시간 정보 없음 (영업 중으로 간주)
+     */
+    @Column(name = "open_hours")
+    private byte[] openHours;
+
     private LocalDateTime createdAt;
 
     private LocalDateTime updatedAt;
@@ -104,6 +112,16 @@ public class Place {
     @Transient
     private List<PlaceSns> tempSns;
 
+    /**
+     * businessHours로 openHours 비트맵을 다시 계산 (영업시간을 바꾼 뒤 호출)
+     */
+    public void compileOpenHours() {
+        openHours = WeeklyOpenHours.compile(businessHours.stream()
+                .map(hour -> new WeeklyOpenHours.DayHours(
+                        hour.getDayOfWeek(), hour.getOpen(), hour.getClose(), hour.getIsOperating()))
+                .toList());
+    }
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
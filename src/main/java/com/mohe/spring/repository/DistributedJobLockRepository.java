@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -130,4 +131,105 @@ public interface DistributedJobLockRepository extends JpaRepository<DistributedJ
         @Param("newExpiresAt") LocalDateTime newExpiresAt,
         @Param("now") LocalDateTime now
     );
+
+    /**
+     * 처리 대기(PENDING) 장소를 최대 limit개 lease로 획득 (atomic claim)
+     *
+     * <p>후보 장소 행을 {@code FOR UPDATE SKIP LOCKED}로 잠가 동시에 claim 중인 워커끼리 서로 기다리지 않고,
+     * {@code ON CONFLICT ... DO UPDATE WHERE}로 FAILED(재시도 가능) 또는 만료된 lease만 재획득합니다.
+     * 만료로 회수된 lease는 재시도 1회로 계산합니다.</p>
+     *
+     * @return 이번 호출에서 획득한 장소 ID
+     */
+    @Query(value = "WITH candidates AS (" +
+           "  SELECT p.id FROM places p " +
+           "  WHERE p.crawl_status = 'PENDING' " +
+           "  AND NOT EXISTS (" +
+           "    SELECT 1 FROM distributed_job_lock l " +
+           "    WHERE l.job_name = :jobName " +
+           "    AND l.chunk_id = 'place:' || p.id " +
+           "    AND NOT (l.retry_count < l.max_retries " +
+           "      AND (l.status = 'FAILED' " +
+           "        OR (l.status IN ('LOCKED', 'PROCESSING') AND l.expires_at < :now)))" +
+           "  ) " +
+           "  ORDER BY p.id " +
+           "  LIMIT :limit " +
+           "  FOR UPDATE OF p SKIP LOCKED" +
+           ") " +
+           "INSERT INTO distributed_job_lock " +
+           "(job_name, chunk_id, item_id, worker_id, worker_hostname, status, " +
+           "locked_at, started_at, expires_at, retry_count, max_retries, created_at, updated_at) " +
+           "SELECT :jobName, 'place:' || c.id, c.id, :workerId, :workerHostname, 'PROCESSING', " +
+           ":now, :now, :expiresAt, 0, 3, :now, :now " +
+           "FROM candidates c " +
+           "ON CONFLICT (job_name, chunk_id) DO UPDATE SET " +
+           "worker_id = EXCLUDED.worker_id, " +
+           "worker_hostname = EXCLUDED.worker_hostname, " +
+           "item_id = EXCLUDED.item_id, " +
+           "status = 'PROCESSING', " +
+           "locked_at = EXCLUDED.locked_at, " +
+           "started_at = EXCLUDED.started_at, " +
+           "completed_at = NULL, " +
+           "expires_at = EXCLUDED.expires_at, " +
+           "retry_count = distributed_job_lock.retry_count " +
+           "  + CASE WHEN distributed_job_lock.status = 'FAILED' THEN 0 ELSE 1 END, " +
+           "updated_at = EXCLUDED.updated_at " +
+           "WHERE distributed_job_lock.retry_count < distributed_job_lock.max_retries " +
+           "AND (distributed_job_lock.status = 'FAILED' " +
+           "  OR (distributed_job_lock.status IN ('LOCKED', 'PROCESSING') " +
+           "    AND distributed_job_lock.expires_at < :now)) " +
+           "RETURNING item_id",
+           nativeQuery = true)
+    List<Long> claimPendingPlaces(
+        @Param("jobName") String jobName,
+        @Param("workerId") String workerId,
+        @Param("workerHostname") String workerHostname,
+        @Param("limit") int limit,
+        @Param("now") LocalDateTime now,
+        @Param("expiresAt") LocalDateTime expiresAt
+    );
+
+    /**
+     * 워커가 보유한 장소 lease 중 처리가 끝난(더 이상 PENDING이 아니거나 삭제된) 장소의 lease 삭제
+     *
+     * <p>COMPLETED로 남겨 두면 cleanup 전까지 claim 쿼리의 NOT EXISTS에 걸려,
+     * 그 사이 다시 PENDING으로 돌아간 장소를 아무도 획득하지 못합니다. 완료 즉시 행을 지워 재큐잉된 장소가 바로 다시 claim되게 합니다.
+     * 처리 후에도 PENDING인 장소의 lease는 남겨 두며, 호출 측이 실패로 기록합니다 (같은 장소를 곧바로 다시 claim하는 루프 방지).</p>
+     *
+     * @return 삭제된 lease 개수
+     */
+    @Modifying
+    @Query(value = "DELETE FROM distributed_job_lock l " +
+           "WHERE l.job_name = :jobName " +
+           "AND l.worker_id = :workerId " +
+           "AND l.item_id IN (:itemIds) " +
+           "AND l.status IN ('LOCKED', 'PROCESSING') " +
+           "AND NOT EXISTS (" +
+           "  SELECT 1 FROM places p WHERE p.id = l.item_id AND p.crawl_status = 'PENDING'" +
+           ")",
+           nativeQuery = true)
+    int releaseSettledLeases(
+        @Param("jobName") String jobName,
+        @Param("workerId") String workerId,
+        @Param("itemIds") Collection<Long> itemIds
+    );
+
+    /**
+     * 워커가 보유한 장소 lease 일괄 실패 처리 (재시도 횟수 증가)
+     */
+    @Modifying
+    @Query(value = "UPDATE distributed_job_lock SET status = 'FAILED', " +
+           "last_error = :error, retry_count = retry_count + 1, updated_at = :now " +
+           "WHERE job_name = :jobName " +
+           "AND worker_id = :workerId " +
+           "AND item_id IN (:itemIds) " +
+           "AND status IN ('LOCKED', 'PROCESSING')",
+           nativeQuery = true)
+    int failLeases(
+        @Param("jobName") String jobName,
+        @Param("workerId") String workerId,
+        @Param("itemIds") Collection<Long> itemIds,
+        @Param("error") String error,
+        @Param("now") LocalDateTime now
+    );
 }
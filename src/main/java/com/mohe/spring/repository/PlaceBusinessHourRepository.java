@@ -2,6 +2,23 @@ package com.mohe.spring.repository;
 
 import com.mohe.spring.entity.PlaceBusinessHour;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface PlaceBusinessHourRepository extends JpaRepository<PlaceBusinessHour, Long> {
+
+    /**
+     * 여러 장소의 영업시간 (place_id 포함, 엔티티/프록시 로딩 없음) — 카드 일괄 조립용
+     * [placeId, dayOfWeek, open, close, description, isOperating, lastOrderMinutes]
+     */
+    @Query("""
+        SELECT bh.place.id, bh.dayOfWeek, bh.open, bh.close, bh.description, bh.isOperating, bh.lastOrderMinutes
+        FROM PlaceBusinessHour bh
+        WHERE bh.place.id IN :placeIds
+        ORDER BY bh.place.id, bh.id
+    """)
+    List<Object[]> findCardRowsByPlaceIds(@Param("placeIds") Collection<Long> placeIds);
 }
@@ -1,12 +1,16 @@
 package com.mohe.spring.repository;
 
+import com.mohe.spring.config.SpatialQueryProperties;
 import com.mohe.spring.entity.PlaceDescriptionEmbedding;
+import com.pgvector.PGvector;
+import org.hibernate.query.TypedParameterValue;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +21,12 @@ public interface PlaceDescriptionEmbeddingRepository extends JpaRepository<Place
 
     boolean existsByPlaceId(Long placeId);
 
+    /**
+     * 주어진 장소 중 문장 임베딩이 이미 있는 장소 ID
+     */
+    @Query("SELECT e.placeId FROM PlaceDescriptionEmbedding e WHERE e.placeId IN :placeIds")
+    List<Long> findPlaceIdsByPlaceIdIn(@Param("placeIds") Collection<Long> placeIds);
+
     @Modifying
     @Query("DELETE FROM PlaceDescriptionEmbedding e WHERE e.placeId = :placeId")
     void deleteByPlaceId(@Param("placeId") Long placeId);
@@ -24,10 +34,11 @@ public interface PlaceDescriptionEmbeddingRepository extends JpaRepository<Place
     /**
      * 벡터 유사도 검색 (cosine distance) + 거리 필터
      * 사용자 프롬프트 임베딩과 가장 유사한 장소 반환
+     * queryEmbedding은 {@link com.mohe.spring.config.PgVectorParameters#bind}로 vector 타입 바인딩
      */
     @Query(value = """
         SELECT p.id, p.name, p.latitude, p.longitude, p.road_address, p.rating,
-               1 - (pde.embedding <=> CAST(:queryEmbedding AS vector)) as similarity
+               1 - (pde.embedding <=> :queryEmbedding) as similarity
         FROM places p
         JOIN place_description_embeddings pde ON pde.place_id = p.id
         WHERE p.latitude IS NOT NULL AND p.longitude IS NOT NULL
@@ -40,27 +51,56 @@ public interface PlaceDescriptionEmbeddingRepository extends JpaRepository<Place
                 ))
             )
         ) <= :distance
-        ORDER BY pde.embedding <=> CAST(:queryEmbedding AS vector)
+        ORDER BY pde.embedding <=> :queryEmbedding
         LIMIT :lim
     """, nativeQuery = true)
     List<Object[]> findSimilarPlacesByPrompt(
-        @Param("queryEmbedding") String queryEmbedding,
+        @Param("queryEmbedding") TypedParameterValue<PGvector> queryEmbedding,
+        @Param("latitude") Double latitude,
+        @Param("longitude") Double longitude,
+        @Param("distance") Double distance,
+        @Param("lim") int limit
+    );
+
+    /**
+     * findSimilarPlacesByPrompt의 EARTH_DISTANCE 버전 — places.location GiST 인덱스로 반경 필터
+     */
+    @Query(value = """
+        SELECT p.id, p.name, p.latitude, p.longitude, p.road_address, p.rating,
+               1 - (pde.embedding <=> :queryEmbedding) as similarity
+        FROM places p
+        JOIN place_description_embeddings pde ON pde.place_id = p.id
+        WHERE p.location IS NOT NULL
+        AND earth_box(ll_to_earth(:latitude, :longitude), :distance * 1000) @> p.location
+        AND earth_distance(ll_to_earth(:latitude, :longitude), p.location) <= :distance * 1000
+        ORDER BY pde.embedding <=> :queryEmbedding
+        LIMIT :lim
+    """, nativeQuery = true)
+    List<Object[]> findSimilarPlacesByPromptEarth(
+        @Param("queryEmbedding") TypedParameterValue<PGvector> queryEmbedding,
         @Param("latitude") Double latitude,
         @Param("longitude") Double longitude,
         @Param("distance") Double distance,
         @Param("lim") int limit
     );
 
+    default List<Object[]> findSimilarPlacesByPrompt(SpatialQueryProperties.Mode mode, TypedParameterValue<PGvector> queryEmbedding,
+                                                     Double latitude, Double longitude, Double distance, int limit) {
+        return mode == SpatialQueryProperties.Mode.EARTH_DISTANCE
+            ? findSimilarPlacesByPromptEarth(queryEmbedding, latitude, longitude, distance, limit)
+            : findSimilarPlacesByPrompt(queryEmbedding, latitude, longitude, distance, limit);
+    }
+
     @Query(value = """
         SELECT p.id, p.name, p.latitude, p.longitude, p.road_address, p.rating,
-               1 - (pde.embedding <=> CAST(:queryEmbedding AS vector)) as similarity
+               1 - (pde.embedding <=> :queryEmbedding) as similarity
         FROM places p
         JOIN place_description_embeddings pde ON pde.place_id = p.id
-        ORDER BY pde.embedding <=> CAST(:queryEmbedding AS vector)
+        ORDER BY pde.embedding <=> :queryEmbedding
         LIMIT :lim
     """, nativeQuery = true)
     List<Object[]> findSimilarPlaces(
-        @Param("queryEmbedding") String queryEmbedding,
+        @Param("queryEmbedding") TypedParameterValue<PGvector> queryEmbedding,
         @Param("lim") int limit
     );
 }
@@ -2,6 +2,23 @@ package com.mohe.spring.repository;
 
 import com.mohe.spring.entity.PlaceDescription;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface PlaceDescriptionRepository extends JpaRepository<PlaceDescription, Long> {
+
+    /**
+     * 여러 장소의 첫 번째 mohe_description (place_id, mohe_description) — 카드 일괄 조립용
+     */
+    @Query(value = """
+        SELECT DISTINCT ON (pd.place_id) pd.place_id, pd.mohe_description
+        FROM place_descriptions pd
+        WHERE pd.place_id IN :placeIds
+        AND pd.mohe_description IS NOT NULL AND pd.mohe_description <> ''
+        ORDER BY pd.place_id, pd.id
+    """, nativeQuery = true)
+    List<Object[]> findFirstMoheDescriptionsByPlaceIds(@Param("placeIds") Collection<Long> placeIds);
 }
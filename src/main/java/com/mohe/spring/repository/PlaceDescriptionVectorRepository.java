@@ -3,8 +3,10 @@ package com.mohe.spring.repository;
 import com.mohe.spring.entity.PlaceDescriptionVector;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,4 +21,16 @@ public interface PlaceDescriptionVectorRepository extends JpaRepository<PlaceDes
 
     @Query("SELECT pdv FROM PlaceDescriptionVector pdv")
     List<PlaceDescriptionVector> findAllActive();
-}
\ No newline at end of file
+
+    /**
+     * 인메모리 벡터 저장소 로드용 프로젝션: [placeId, description_vector, selected_keywords]
+     */
+    @Query("SELECT pdv.place.id, pdv.descriptionVector, pdv.selectedKeywords FROM PlaceDescriptionVector pdv")
+    List<Object[]> findVectorRows();
+
+    @Query("""
+        SELECT pdv.place.id, pdv.descriptionVector, pdv.selectedKeywords FROM PlaceDescriptionVector pdv
+        WHERE pdv.updatedAt > :since
+        """)
+    List<Object[]> findVectorRowsUpdatedSince(@Param("since") OffsetDateTime since);
+}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,4 +23,16 @@ public interface PlaceImageRepository extends JpaRepository<PlaceImage, Long> {
         ORDER BY pi.place_id, pi.order_index ASC
     """, nativeQuery = true)
     List<Object[]> findFirstImagesByPlaceIds(@Param("placeIds") List<Long> placeIds);
+
+    /**
+     * 여러 장소의 이미지 URL (장소별 order_index 순) — 카드 일괄 조립용
+     */
+    @Query(value = """
+        SELECT pi.place_id, pi.url
+        FROM place_images pi
+        WHERE pi.place_id IN :placeIds
+        AND pi.url IS NOT NULL AND pi.url <> ''
+        ORDER BY pi.place_id, pi.order_index ASC NULLS LAST, pi.id
+    """, nativeQuery = true)
+    List<Object[]> findUrlsByPlaceIds(@Param("placeIds") Collection<Long> placeIds);
 }
@@ -1,12 +1,15 @@
 package com.mohe.spring.repository;
 
 import com.mohe.spring.entity.PlaceKeywordEmbedding;
+import com.pgvector.PGvector;
+import org.hibernate.query.TypedParameterValue;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -50,14 +53,27 @@ public interface PlaceKeywordEmbeddingRepository extends JpaRepository<PlaceKeyw
         SELECT *
         FROM place_keyword_embeddings
         WHERE embedding IS NOT NULL
-        ORDER BY embedding <=> CAST(:queryEmbedding AS vector)
+        ORDER BY embedding <=> :queryEmbedding
         LIMIT :limit
         """, nativeQuery = true)
     List<PlaceKeywordEmbedding> findSimilarByEmbedding(
-        @Param("queryEmbedding") String queryEmbedding,
+        @Param("queryEmbedding") TypedParameterValue<PGvector> queryEmbedding,
         @Param("limit") int limit
     );
 
+    /**
+     * Keyword embeddings of the given places only, without entity state
+     * (exact re-ranking inside a candidate pool instead of a global ANN search)
+     * Row: [placeId, embedding (PGvector)]
+     */
+    @Query("""
+        SELECT pke.placeId, pke.embedding
+        FROM PlaceKeywordEmbedding pke
+        WHERE pke.placeId IN :placeIds
+        AND pke.embedding IS NOT NULL
+        """)
+    List<Object[]> findEmbeddingRowsByPlaceIds(@Param("placeIds") Collection<Long> placeIds);
+
     /**
      * Find all place IDs that have embeddings
      */
@@ -1,5 +1,6 @@
 package com.mohe.spring.repository;
 
+import com.mohe.spring.config.SpatialQueryProperties;
 import com.mohe.spring.entity.CrawlStatus;
 import com.mohe.spring.entity.EmbedStatus;
 import com.mohe.spring.entity.Place;
@@ -14,7 +15,9 @@ import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -42,19 +45,47 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
     @Query("SELECT p FROM Place p WHERE (p.rating >= 0.0 OR p.rating IS NULL) AND p.embedStatus = 'COMPLETED' ORDER BY p.rating DESC, p.name ASC")
     Slice<Place> findRecommendablePlacesSlice(Pageable pageable);
 
+    /**
+     * 키워드 검색 (places.search_text + pg_trgm GIN, V18)
+     * search_text = lower(name, road_address, category, keyword, mohe_description)
+     */
     @Query(value = """
-        SELECT DISTINCT p.* FROM places p
-        LEFT JOIN place_descriptions pd ON pd.place_id = p.id
-        WHERE p.embed_status = 'COMPLETED' AND (
-            LOWER(p.name) LIKE LOWER(CONCAT('%', :query, '%'))
-            OR LOWER(p.road_address) LIKE LOWER(CONCAT('%', :query, '%'))
-            OR LOWER(pd.mohe_description) LIKE LOWER(CONCAT('%', :query, '%'))
-            OR EXISTS (SELECT 1 FROM unnest(p.category) AS cat WHERE LOWER(cat) LIKE LOWER(CONCAT('%', :query, '%')))
-            OR EXISTS (SELECT 1 FROM unnest(p.keyword) AS kw WHERE LOWER(kw) LIKE LOWER(CONCAT('%', :query, '%')))
-        )
-    """, countQuery = "SELECT COUNT(DISTINCT p.id) FROM places p LEFT JOIN place_descriptions pd ON pd.place_id = p.id WHERE p.embed_status = 'COMPLETED' AND (LOWER(p.name) LIKE LOWER(CONCAT('%', :query, '%')) OR LOWER(pd.mohe_description) LIKE LOWER(CONCAT('%', :query, '%')))", nativeQuery = true)
+        SELECT p.* FROM places p
+        WHERE p.embed_status = 'COMPLETED'
+        AND p.search_text LIKE CONCAT('%', LOWER(:query), '%')
+        ORDER BY word_similarity(LOWER(:query), p.search_text) DESC, p.review_count DESC NULLS LAST, p.id
+    """, countQuery = """
+        SELECT COUNT(*) FROM places p
+        WHERE p.embed_status = 'COMPLETED'
+        AND p.search_text LIKE CONCAT('%', LOWER(:query), '%')
+    """, nativeQuery = true)
     Page<Place> searchPlaces(@Param("query") String query, Pageable pageable);
 
+    /**
+     * 다중 단어 키워드 검색 - count 쿼리 없음
+     * 모든 단어 패턴을 LIKE ANY로 한 번에 인덱스 스캔하고 관련도 순으로 정렬
+     * (이름 매칭 단어 수 × 2 + 문서 매칭 단어 수 + word_similarity)
+     *
+     * @param patterns 공백으로 구분된 '%term%' 패턴 (PlaceSearchTerms.likePatterns)
+     * @param query    정규화된 전체 검색어 (word_similarity 점수용)
+     */
+    @Query(value = """
+        SELECT p.* FROM places p
+        WHERE p.embed_status = 'COMPLETED'
+        AND p.search_text LIKE ANY (string_to_array(:patterns, ' '))
+        ORDER BY (
+            (SELECT COUNT(*) FROM unnest(string_to_array(:patterns, ' ')) AS pat WHERE LOWER(p.name) LIKE pat) * 2
+            + (SELECT COUNT(*) FROM unnest(string_to_array(:patterns, ' ')) AS pat WHERE p.search_text LIKE pat)
+            + word_similarity(:query, p.search_text)
+        ) DESC, p.review_count DESC NULLS LAST, p.id
+        LIMIT :lim
+    """, nativeQuery = true)
+    List<Place> searchPlacesByPatterns(
+        @Param("patterns") String patterns,
+        @Param("query") String query,
+        @Param("lim") int limit
+    );
+
     @Query("SELECT p FROM Place p WHERE p.latitude IS NOT NULL AND p.longitude IS NOT NULL")
     List<Place> findPlacesWithLocation();
 
@@ -188,17 +219,7 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
                 sin(radians(:latitude)) * sin(radians(CAST(p.latitude AS DOUBLE PRECISION)))
             )
         ) <= :distance
-        AND (
-            NOT EXISTS (SELECT 1 FROM place_business_hours pbh WHERE pbh.place_id = p.id)
-            OR EXISTS (
-                SELECT 1 FROM place_business_hours pbh
-                WHERE pbh.place_id = p.id
-                AND pbh.day_of_week = :dayOfWeek
-                AND pbh.open IS NOT NULL AND pbh.close IS NOT NULL
-                AND pbh.open <= CAST(:currentTime AS TIME)
-                AND pbh.close >= CAST(:currentTime AS TIME)
-            )
-        )
+        AND (p.open_hours IS NULL OR get_bit(p.open_hours, :openSlot) = 1)
         ORDER BY (
             6371 * acos(
                 cos(radians(:latitude)) * cos(radians(CAST(p.latitude AS DOUBLE PRECISION))) *
@@ -213,8 +234,7 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
         @Param("longitude") Double longitude,
         @Param("distance") Double distance,
         @Param("limit") int limit,
-        @Param("dayOfWeek") String dayOfWeek,
-        @Param("currentTime") String currentTime
+        @Param("openSlot") int openSlot
     );
 
     /**
@@ -256,16 +276,17 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
     Page<Long> findPlaceIdsForBatchProcessing(Pageable pageable);
 
     /**
-     * Find place IDs for batch processing with filters
+     * Find place IDs for batch processing with filters (keyset page: id > afterId)
      * Filters out places with:
      * - Review count less than 5
      * - Categories containing '헤어', '미용실', '마트'
      * Returns only IDs to avoid pagination issues with collection fetching
-     * Step 1: Get IDs with pagination (efficient)
+     * Step 1: Get IDs page by page without OFFSET/COUNT
      */
     @Query(value = """
         SELECT p.id FROM places p
         WHERE p.crawl_status = 'PENDING'
+        AND p.id > :afterId
         AND (p.review_count IS NULL OR p.review_count >= 5)
         AND NOT EXISTS (
             SELECT 1 FROM unnest(p.category) AS cat
@@ -274,24 +295,51 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
             OR cat ILIKE '%마트%'
         )
         ORDER BY p.id ASC
+        LIMIT :limit
     """, nativeQuery = true)
-    Page<Long> findPlaceIdsForBatchProcessingWithFilters(Pageable pageable);
+    List<Long> findPlaceIdsForBatchProcessingWithFilters(@Param("afterId") long afterId, @Param("limit") int limit);
 
     /**
-     * Find place IDs where crawlStatus = COMPLETED (for embedding)
+     * Find place IDs where crawlStatus = COMPLETED (for embedding), keyset page: id > afterId
      * Returns only IDs to avoid pagination issues with collection fetching
-     * Step 1: Get IDs with pagination (efficient)
      */
     @Query(value = """
         SELECT p.id FROM places p
         WHERE p.crawl_status = 'COMPLETED'
+        AND p.id > :afterId
         AND (
             p.embed_status = 'PENDING'
             OR NOT EXISTS (SELECT 1 FROM place_images pi WHERE pi.place_id = p.id)
         )
         ORDER BY p.id ASC
+        LIMIT :limit
     """, nativeQuery = true)
-    Page<Long> findPlaceIdsForImageUpdate(Pageable pageable);
+    List<Long> findPlaceIdsForImageUpdate(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    /**
+     * ID bounds of places pending crawl update, for range partitioning: [min, max]
+     */
+    @Query(value = "SELECT MIN(p.id), MAX(p.id) FROM places p WHERE p.crawl_status = 'PENDING'", nativeQuery = true)
+    List<Object[]> findIdBoundsForBatchProcessing();
+
+    /**
+     * ID bounds of places pending vector embedding, for range partitioning: [min, max]
+     */
+    @Query(value = "SELECT MIN(p.id), MAX(p.id) FROM places p WHERE p.crawl_status = 'COMPLETED' AND p.embed_status = 'PENDING'", nativeQuery = true)
+    List<Object[]> findIdBoundsForVectorEmbedding();
+
+    /**
+     * Keyset page of all place IDs (id > afterId), for bulk jobs that walk the whole catalog
+     * Only IDs are held in memory, one page at a time
+     */
+    @Query("SELECT p.id FROM Place p WHERE p.id > :afterId ORDER BY p.id ASC")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Offset page of place IDs in ID order (small admin batches only)
+     */
+    @Query(value = "SELECT p.id FROM places p ORDER BY p.id ASC LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<Long> findIdsOrderById(@Param("offset") int offset, @Param("limit") int limit);
 
     /**
      * Find a single Place by ID with all collections eagerly loaded
@@ -302,6 +350,27 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
     @Query("SELECT p FROM Place p WHERE p.id = :id")
     Optional<Place> findByIdWithCollections(@Param("id") Long id);
 
+    /**
+     * Batch variant of findByIdWithCollections (claimed lease IDs)
+     * The remaining bags are initialized by the fetchXxxByIdIn queries below,
+     * one fetch join per bag, within the same persistence context
+     */
+    @EntityGraph(attributePaths = {"descriptions"})
+    @Query("SELECT p FROM Place p WHERE p.id IN :ids ORDER BY p.id ASC")
+    List<Place> findAllByIdInWithDescriptions(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p FROM Place p LEFT JOIN FETCH p.images WHERE p.id IN :ids")
+    List<Place> fetchImagesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p FROM Place p LEFT JOIN FETCH p.businessHours WHERE p.id IN :ids")
+    List<Place> fetchBusinessHoursByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p FROM Place p LEFT JOIN FETCH p.sns WHERE p.id IN :ids")
+    List<Place> fetchSnsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p FROM Place p LEFT JOIN FETCH p.reviews WHERE p.id IN :ids")
+    List<Place> fetchReviewsByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * Find top 5 places that are not ready for testing
      */
@@ -317,19 +386,23 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
     }
 
     /**
-     * Find places for vector embedding batch processing
+     * Find place IDs for vector embedding batch processing (keyset page: id > afterId)
      * Conditions: crawl_status = COMPLETED, embed_status = PENDING, mohe_description IS NOT NULL
      */
     @Query("""
-        SELECT p FROM Place p
-        JOIN p.descriptions d
+        SELECT p.id FROM Place p
         WHERE p.crawlStatus = 'COMPLETED'
         AND p.embedStatus = 'PENDING'
-        AND d.moheDescription IS NOT NULL
-        AND d.moheDescription != ''
+        AND p.id > :afterId
+        AND EXISTS (
+            SELECT 1 FROM PlaceDescription d
+            WHERE d.place = p
+            AND d.moheDescription IS NOT NULL
+            AND d.moheDescription != ''
+        )
         ORDER BY p.id ASC
     """)
-    Page<Place> findPlacesForVectorEmbedding(Pageable pageable);
+    List<Long> findPlaceIdsForVectorEmbedding(@Param("afterId") long afterId, Pageable pageable);
 
     /**
      * Find place IDs for keyword embedding batch processing
@@ -352,37 +425,28 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
     Optional<Place> findByIdForKeywordEmbedding(@Param("id") Long id);
 
     /**
-     * Find all place IDs for image refresh batch processing
-     * Returns all place IDs ordered by ID for sequential processing
+     * Find place IDs that have no images for refresh (keyset page: id > afterId)
      */
     @Query("""
         SELECT p.id FROM Place p
-        ORDER BY p.id ASC
-    """)
-    Page<Long> findAllPlaceIdsForImageRefresh(Pageable pageable);
-
-    /**
-     * Find place IDs that have no images or broken images for refresh
-     * Returns IDs of places without images
-     */
-    @Query("""
-        SELECT p.id FROM Place p
-        WHERE p.id NOT IN (
-            SELECT DISTINCT pi.place.id FROM PlaceImage pi
+        WHERE p.id > :afterId
+        AND NOT EXISTS (
+            SELECT 1 FROM PlaceImage pi WHERE pi.place = p
         )
         ORDER BY p.id ASC
     """)
-    Page<Long> findPlaceIdsWithoutImages(Pageable pageable);
+    List<Long> findPlaceIdsWithoutImages(@Param("afterId") long afterId, Pageable pageable);
 
     /**
-     * Find place IDs by embed status for selective image refresh
+     * Find place IDs by embed status for selective image refresh (keyset page: id > afterId)
      */
     @Query("""
         SELECT p.id FROM Place p
         WHERE p.embedStatus = :status
+        AND p.id > :afterId
         ORDER BY p.id ASC
     """)
-    Page<Long> findPlaceIdsByEmbedStatus(@Param("status") EmbedStatus status, Pageable pageable);
+    List<Long> findPlaceIdsByEmbedStatus(@Param("status") EmbedStatus status, @Param("afterId") long afterId, Pageable pageable);
 
     // ===== Admin Monitor Stats =====
 
@@ -443,17 +507,7 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
                 ))
             )
         ) <= :distance
-        AND (
-            NOT EXISTS (SELECT 1 FROM place_business_hours pbh WHERE pbh.place_id = p.id)
-            OR EXISTS (
-                SELECT 1 FROM place_business_hours pbh
-                WHERE pbh.place_id = p.id
-                AND pbh.day_of_week = :dayOfWeek
-                AND pbh.open IS NOT NULL AND pbh.close IS NOT NULL
-                AND pbh.open <= CAST(:currentTime AS TIME)
-                AND pbh.close >= CAST(:currentTime AS TIME)
-            )
-        )
+        AND (p.open_hours IS NULL OR get_bit(p.open_hours, :openSlot) = 1)
         ORDER BY (
             6371 * acos(
                 LEAST(1.0, GREATEST(-1.0,
@@ -474,8 +528,7 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
         @Param("minLon") Double minLon,
         @Param("maxLon") Double maxLon,
         @Param("limit") int limit,
-        @Param("dayOfWeek") String dayOfWeek,
-        @Param("currentTime") String currentTime
+        @Param("openSlot") int openSlot
     );
 
     /**
@@ -501,17 +554,7 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
                 ))
             )
         ) <= :distance
-        AND (
-            NOT EXISTS (SELECT 1 FROM place_business_hours pbh WHERE pbh.place_id = p.id)
-            OR EXISTS (
-                SELECT 1 FROM place_business_hours pbh
-                WHERE pbh.place_id = p.id
-                AND pbh.day_of_week = :dayOfWeek
-                AND pbh.open IS NOT NULL AND pbh.close IS NOT NULL
-                AND pbh.open <= CAST(:currentTime AS TIME)
-                AND pbh.close >= CAST(:currentTime AS TIME)
-            )
-        )
+        AND (p.open_hours IS NULL OR get_bit(p.open_hours, :openSlot) = 1)
         ORDER BY (
             6371 * acos(
                 LEAST(1.0, GREATEST(-1.0,
@@ -529,7 +572,213 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
         @Param("distance") Double distance,
         @Param("keywords") String keywords,
         @Param("limit") int limit,
-        @Param("dayOfWeek") String dayOfWeek,
-        @Param("currentTime") String currentTime
+        @Param("openSlot") int openSlot
+    );
+
+    // ===== EARTH_DISTANCE spatial mode (places.location GiST, V17) =====
+    // 기존 Haversine 쿼리와 동일한 조건/정렬을 earth_box 인덱스 필터 + KNN(<->)으로 수행.
+    // 거리 파라미터 단위는 각 Haversine 쿼리와 동일 (km, TimePreference만 m)
+
+    @Query(value = """
+        SELECT p.* FROM places p
+        WHERE p.location IS NOT NULL
+        AND p.embed_status = 'COMPLETED'
+        AND earth_box(ll_to_earth(:latitude, :longitude), :distance * 1000) @> p.location
+        AND earth_distance(ll_to_earth(:latitude, :longitude), p.location) <= :distance * 1000
+        ORDER BY p.review_count DESC, p.rating DESC
+        LIMIT 20
+    """, nativeQuery = true)
+    List<Place> findPopularPlacesEarth(
+        @Param("latitude") Double latitude,
+        @Param("longitude") Double longitude,
+        @Param("distance") Double distance
+    );
+
+    @Query(value = """
+        SELECT p.* FROM places p
+        WHERE p.location IS NOT NULL
+        AND p.embed_status = 'COMPLETED'
+        AND earth_box(ll_to_earth(CAST(:latitude AS DOUBLE PRECISION), CAST(:longitude AS DOUBLE PRECISION)), :distance) @> p.location
+        AND earth_distance(ll_to_earth(CAST(:latitude AS DOUBLE PRECISION), CAST(:longitude AS DOUBLE PRECISION)), p.location) <= :distance
+        AND (
+            :categories IS NULL OR
+            EXISTS (
+                SELECT 1 FROM unnest(ARRAY[:categories]) AS cat(category)
+                WHERE LOWER(p.category) LIKE LOWER('%' || cat.category || '%')
+            )
+        )
+        AND (p.rating >= 3.0 OR p.rating IS NULL)
+        ORDER BY p.rating DESC NULLS LAST, p.review_count DESC NULLS LAST
+        LIMIT :#{#pageable.pageSize}
+    """, nativeQuery = true)
+    List<Place> findNearbyPlacesByTimePreferenceEarth(
+        @Param("latitude") BigDecimal latitude,
+        @Param("longitude") BigDecimal longitude,
+        @Param("categories") String[] categories,
+        @Param("distance") Double distance,
+        Pageable pageable
+    );
+
+    @Query(value = """
+        SELECT p.* FROM places p
+        WHERE p.location IS NOT NULL
+        AND p.embed_status = 'COMPLETED'
+        AND (p.rating >= 3.0 OR p.rating IS NULL)
+        AND earth_box(ll_to_earth(:latitude, :longitude), :distance * 1000) @> p.location
+        AND earth_distance(ll_to_earth(:latitude, :longitude), p.location) <= :distance * 1000
+        AND (p.open_hours IS NULL OR get_bit(p.open_hours, :openSlot) = 1)
+        ORDER BY p.location <-> ll_to_earth(:latitude, :longitude)
+        LIMIT :limit
+    """, nativeQuery = true)
+    List<Place> findNearbyPlacesForLLMEarth(
+        @Param("latitude") Double latitude,
+        @Param("longitude") Double longitude,
+        @Param("distance") Double distance,
+        @Param("limit") int limit,
+        @Param("openSlot") int openSlot
+    );
+
+    @Query(value = """
+        SELECT p.* FROM places p
+        WHERE p.location IS NOT NULL
+        AND p.embed_status = 'COMPLETED'
+        AND (p.rating >= 3.0 OR p.rating IS NULL)
+        AND EXISTS (
+            SELECT 1 FROM unnest(p.category) AS cat
+            WHERE LOWER(cat) = ANY(STRING_TO_ARRAY(:keywords, ','))
+               OR EXISTS (SELECT 1 FROM unnest(STRING_TO_ARRAY(:keywords, ',')) AS kw WHERE LOWER(cat) LIKE '%' || kw || '%')
+        )
+        AND earth_box(ll_to_earth(:latitude, :longitude), :distance * 1000) @> p.location
+        AND earth_distance(ll_to_earth(:latitude, :longitude), p.location) <= :distance * 1000
+        AND (p.open_hours IS NULL OR get_bit(p.open_hours, :openSlot) = 1)
+        ORDER BY p.location <-> ll_to_earth(:latitude, :longitude)
+        LIMIT :limit
+    """, nativeQuery = true)
+    List<Place> findNearbyPlacesByCategoryEarth(
+        @Param("latitude") Double latitude,
+        @Param("longitude") Double longitude,
+        @Param("distance") Double distance,
+        @Param("keywords") String keywords,
+        @Param("limit") int limit,
+        @Param("openSlot") int openSlot
+    );
+
+    default List<Place> findPopularPlaces(SpatialQueryProperties.Mode mode,
+                                          Double latitude, Double longitude, Double distance) {
+        return mode == SpatialQueryProperties.Mode.EARTH_DISTANCE
+            ? findPopularPlacesEarth(latitude, longitude, distance)
+            : findPopularPlaces(latitude, longitude, distance);
+    }
+
+    default List<Place> findNearbyPlacesByTimePreference(SpatialQueryProperties.Mode mode,
+                                                         BigDecimal latitude, BigDecimal longitude,
+                                                         String[] categories, Double distance, Pageable pageable) {
+        return mode == SpatialQueryProperties.Mode.EARTH_DISTANCE
+            ? findNearbyPlacesByTimePreferenceEarth(latitude, longitude, categories, distance, pageable)
+            : findNearbyPlacesByTimePreference(latitude, longitude, categories, distance, pageable);
+    }
+
+    default List<Place> findNearbyPlacesForLLM(SpatialQueryProperties.Mode mode,
+                                               Double latitude, Double longitude, Double distance,
+                                               int limit, int openSlot) {
+        return mode == SpatialQueryProperties.Mode.EARTH_DISTANCE
+            ? findNearbyPlacesForLLMEarth(latitude, longitude, distance, limit, openSlot)
+            : findNearbyPlacesForLLM(latitude, longitude, distance, limit, openSlot);
+    }
+
+    /**
+     * findNearbyPlacesOptimized의 모드 분기 버전 (EARTH_DISTANCE에서는 bbox 파라미터 대신 earth_box 사용)
+     */
+    default List<Place> findNearbyPlacesOptimized(SpatialQueryProperties.Mode mode,
+                                                  Double latitude, Double longitude, Double distance,
+                                                  Double minLat, Double maxLat, Double minLon, Double maxLon,
+                                                  int limit, int openSlot) {
+        return mode == SpatialQueryProperties.Mode.EARTH_DISTANCE
+            ? findNearbyPlacesForLLMEarth(latitude, longitude, distance, limit, openSlot)
+            : findNearbyPlacesOptimized(latitude, longitude, distance, minLat, maxLat, minLon, maxLon,
+                                        limit, openSlot);
+    }
+
+    default List<Place> findNearbyPlacesByCategory(SpatialQueryProperties.Mode mode,
+                                                   Double latitude, Double longitude, Double distance,
+                                                   String keywords, int limit, int openSlot) {
+        return mode == SpatialQueryProperties.Mode.EARTH_DISTANCE
+            ? findNearbyPlacesByCategoryEarth(latitude, longitude, distance, keywords, limit, openSlot)
+            : findNearbyPlacesByCategory(latitude, longitude, distance, keywords, limit, openSlot);
+    }
+
+    // ===== In-memory geo index (PlaceGeoIndex) =====
+
+    /**
+     * Load all COMPLETED places with coordinates for the in-memory geo index.
+     * Row: [id, latitude, longitude, rating]
+     */
+    @Query(value = """
+        SELECT p.id,
+               CAST(p.latitude AS DOUBLE PRECISION),
+               CAST(p.longitude AS DOUBLE PRECISION),
+               CAST(p.rating AS DOUBLE PRECISION)
+        FROM places p
+        WHERE p.embed_status = 'COMPLETED'
+        AND p.latitude IS NOT NULL AND p.longitude IS NOT NULL
+    """, nativeQuery = true)
+    List<Object[]> findGeoIndexEntries();
+
+    /**
+     * Places modified since the given time (any embed status), for incremental geo index refresh.
+     * Row: [id, latitude, longitude, rating, embed_status]
+     */
+    @Query(value = """
+        SELECT p.id,
+               CAST(p.latitude AS DOUBLE PRECISION),
+               CAST(p.longitude AS DOUBLE PRECISION),
+               CAST(p.rating AS DOUBLE PRECISION),
+               p.embed_status
+        FROM places p
+        WHERE p.updated_at > :since
+    """, nativeQuery = true)
+    List<Object[]> findGeoIndexChangesSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Hydrate a page of place IDs (from the geo index), keeping only places open at the given time.
+     * Result order is not guaranteed — callers re-order by their ID list.
+     */
+    @Query(value = """
+        SELECT p.* FROM places p
+        WHERE p.id IN (:ids)
+        AND (p.open_hours IS NULL OR get_bit(p.open_hours, :openSlot) = 1)
+    """, nativeQuery = true)
+    List<Place> findOpenPlacesByIds(
+        @Param("ids") Collection<Long> ids,
+        @Param("openSlot") int openSlot
     );
+
+    // ===== Weekly open-hours bitmap (PlaceOpenHoursIndex, V24) =====
+
+    /**
+     * Load all compiled open-hours bitmaps for the in-memory mirror.
+     * Row: [id, open_hours]
+     */
+    @Query(value = "SELECT p.id, p.open_hours FROM places p WHERE p.open_hours IS NOT NULL", nativeQuery = true)
+    List<Object[]> findOpenHoursEntries();
+
+    /**
+     * Places modified since the given time, for incremental open-hours mirror refresh.
+     * Row: [id, open_hours] (open_hours may be null)
+     */
+    @Query(value = "SELECT p.id, p.open_hours FROM places p WHERE p.updated_at > :since", nativeQuery = true)
+    List<Object[]> findOpenHoursChangesSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Places that have business hours but no compiled bitmap yet (rows written before V24), in ID order
+     */
+    @Query(value = """
+        SELECT p.id FROM places p
+        WHERE p.id > :afterId
+        AND p.open_hours IS NULL
+        AND EXISTS (SELECT 1 FROM place_business_hours pbh WHERE pbh.place_id = p.id)
+        ORDER BY p.id ASC
+        LIMIT :limit
+    """, nativeQuery = true)
+    List<Long> findIdsMissingOpenHours(@Param("afterId") long afterId, @Param("limit") int limit);
 }
@@ -24,7 +24,7 @@ public class CustomUserDetailsService implements UserDetailsService {
         return UserPrincipal.create(user);
     }
     
-    public UserDetails loadUserById(Long id) throws UsernameNotFoundException {
+    public UserPrincipal loadUserById(Long id) throws UsernameNotFoundException {
         User user = userRepository.findById(id)
             .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + id));
         
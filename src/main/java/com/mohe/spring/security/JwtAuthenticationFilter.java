@@ -8,7 +8,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -23,11 +22,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtTokenProvider jwtTokenProvider;
     private final CustomUserDetailsService customUserDetailsService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final WebAuthenticationDetailsSource authenticationDetailsSource = new WebAuthenticationDetailsSource();
     
     public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, 
-                                  CustomUserDetailsService customUserDetailsService) {
+                                  CustomUserDetailsService customUserDetailsService,
+                                  UserPrincipalCache userPrincipalCache) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.customUserDetailsService = customUserDetailsService;
+        this.userPrincipalCache = userPrincipalCache;
     }
     
     @Override
@@ -37,16 +40,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
             
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-                Long userId = jwtTokenProvider.getUserIdFromToken(jwt);
-                UserDetails userDetails = customUserDetailsService.loadUserById(userId);
+            // 토큰 파싱(서명 검증)은 요청당 한 번, 사용자 조회는 캐시 miss일 때만
+            Long userId = StringUtils.hasText(jwt) ? jwtTokenProvider.validateAndGetUserId(jwt) : null;
+            
+            if (userId != null) {
+                UserPrincipal userPrincipal = userPrincipalCache.get(userId, customUserDetailsService::loadUserById);
                 
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                    userDetails,
+                    userPrincipal,
                     null,
-                    userDetails.getAuthorities()
+                    userPrincipal.getAuthorities()
                 );
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                authentication.setDetails(authenticationDetailsSource.buildDetails(request));
                 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
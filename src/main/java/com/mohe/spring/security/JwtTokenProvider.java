@@ -1,6 +1,7 @@
 package com.mohe.spring.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -24,8 +25,28 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-token-expiration:2592000000}") // 30 days
     private long refreshTokenExpiration = 2592000000L;
     
+    // 서명 키와 파서는 불변이고 thread-safe — 요청마다 새로 만들지 않음
+    private volatile SecretKey signingKey;
+    private volatile JwtParser parser;
+    
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        SecretKey key = signingKey;
+        if (key == null) {
+            key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+            signingKey = key;
+        }
+        return key;
+    }
+    
+    private JwtParser getParser() {
+        JwtParser jwtParser = parser;
+        if (jwtParser == null) {
+            jwtParser = Jwts.parser()
+                .verifyWith(getSigningKey())
+                .build();
+            parser = jwtParser;
+        }
+        return jwtParser;
     }
     
     public String generateAccessToken(Authentication authentication) {
@@ -60,21 +81,27 @@ public class JwtTokenProvider {
     }
     
     public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-            .verifyWith(getSigningKey())
-            .build()
-            .parseSignedClaims(token)
-            .getPayload();
+        Claims claims = getClaimsFromToken(token);
 
         return Long.parseLong(claims.getSubject());
     }
     
+    /**
+     * 서명 검증과 사용자 ID 추출을 한 번의 파싱으로 처리
+     *
+     * @return 유효한 토큰이면 사용자 ID, 아니면 null
+     */
+    public Long validateAndGetUserId(String token) {
+        try {
+            return getUserIdFromToken(token);
+        } catch (Exception ex) {
+            return null;
+        }
+    }
+    
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token);
+            getParser().parseSignedClaims(token);
             return true;
         } catch (Exception ex) {
             return false;
@@ -82,9 +109,7 @@ public class JwtTokenProvider {
     }
     
     public Claims getClaimsFromToken(String token) {
-        return Jwts.parser()
-            .verifyWith(getSigningKey())
-            .build()
+        return getParser()
             .parseSignedClaims(token)
             .getPayload();
     }
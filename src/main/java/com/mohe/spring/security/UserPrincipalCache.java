@@ -0,0 +1,87 @@
+package com.mohe.spring.security;
+
+import com.mohe.spring.util.LoadingLruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 인증된 요청용 UserPrincipal 캐시 (userId 기준)
+ *
+ * <p>JwtAuthenticationFilter가 요청마다 userRepository.findById를 호출하지 않도록
+ * 짧은 TTL 동안 UserPrincipal을 보관합니다.</p>
+ *
+ * <ul>
+ *   <li>크기 제한 LRU + TTL, 같은 사용자의 동시 miss는 조회 한 번 공유 ({@link LoadingLruCache})</li>
+ *   <li>로그아웃, 비밀번호 변경, 프로필(닉네임) 변경 시 {@link #evict(Long)}로 즉시 제거.
+ *       트랜잭션 안에서 호출되면 커밋 후에 한 번 더 제거해 커밋 전 값이 다시 캐시되지 않게 함</li>
+ *   <li>로드 중에 eviction이 있었다면 로드한 값은 캐시하지 않고, eviction 이후 요청은 그 로드를 공유하지 않고
+ *       새로 조회 (오래된 값 재적재·전달 방지)</li>
+ * </ul>
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final LoadingLruCache<Long, UserPrincipal> cache;
+
+    private final AtomicLong explicitEvictions = new AtomicLong();
+
+    public UserPrincipalCache(
+            @Value("${mohe.security.principal-cache.max-entries:10000}") int maxEntries,
+            @Value("${mohe.security.principal-cache.ttl-seconds:60}") long ttlSeconds
+    ) {
+        this(maxEntries, ttlSeconds * 1000, System::currentTimeMillis);
+    }
+
+    UserPrincipalCache(int maxEntries, long ttlMillis, LongSupplier clock) {
+        this.cache = LoadingLruCache.<Long, UserPrincipal>builder("User principal cache")
+                .maxEntries(maxEntries)
+                .ttlMillis(ttlMillis)
+                .clock(clock)
+                .build();
+    }
+
+    public UserPrincipal get(Long userId, Function<Long, UserPrincipal> loader) {
+        return cache.get(userId, () -> loader.apply(userId));
+    }
+
+    /**
+     * 사용자 정보가 바뀌었을 때 호출 (로그아웃, 비밀번호/프로필 변경 등)
+     */
+    public void evict(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        remove(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(userId);
+                }
+            });
+        }
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = cache.getStats();
+        stats.put("explicitEvictions", explicitEvictions.get());
+        return stats;
+    }
+
+    private void remove(Long userId) {
+        if (cache.invalidate(userId)) {
+            explicitEvictions.incrementAndGet();
+        }
+    }
+}
@@ -13,6 +13,7 @@ import com.mohe.spring.repository.PlaceRepository;
 import com.mohe.spring.repository.RecentViewRepository;
 import com.mohe.spring.repository.UserRepository;
 import com.mohe.spring.security.UserPrincipal;
+import com.mohe.spring.service.card.PlaceCardAssembler;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -23,6 +24,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -33,15 +35,18 @@ public class ActivityService {
     private final UserRepository userRepository;
     private final PlaceRepository placeRepository;
     private final BookmarkRepository bookmarkRepository;
+    private final PlaceCardAssembler placeCardAssembler;
     
     public ActivityService(RecentViewRepository recentViewRepository,
                            UserRepository userRepository,
                            PlaceRepository placeRepository,
-                           BookmarkRepository bookmarkRepository) {
+                           BookmarkRepository bookmarkRepository,
+                           PlaceCardAssembler placeCardAssembler) {
         this.recentViewRepository = recentViewRepository;
         this.userRepository = userRepository;
         this.placeRepository = placeRepository;
         this.bookmarkRepository = bookmarkRepository;
+        this.placeCardAssembler = placeCardAssembler;
     }
     
     public RecentPlacesResponse getRecentPlaces() {
@@ -49,6 +54,11 @@ public class ActivityService {
         Pageable pageable = PageRequest.of(0, 50, Sort.by(Sort.Direction.DESC, "viewedAt"));
         Page<RecentView> recentViews = recentViewRepository.findByUserOrderByViewedAtDesc(currentUser, pageable);
 
+        // 대표 이미지 일괄 조회 (장소별 images 지연 로딩 대신 쿼리 1회)
+        Map<Long, String> primaryImages = placeCardAssembler.primaryImageUrls(recentViews.getContent().stream()
+                .map(recentView -> recentView.getPlace().getId())
+                .collect(Collectors.toList()));
+
         List<RecentPlaceData> recentPlaces = recentViews.getContent().stream()
                 .map(recentView -> {
                     Place place = recentView.getPlace();
@@ -57,20 +67,7 @@ public class ActivityService {
                     data.setTitle(place.getName());
                     data.setLocation(place.getRoadAddress());
 
-                    // Get first image from PlaceImage collection
-                    String imageUrl = null;
-                    if (place.getImages() != null && !place.getImages().isEmpty()) {
-                        imageUrl = place.getImages().stream()
-                                .sorted((img1, img2) -> {
-                                    Integer order1 = img1.getOrderIndex() != null ? img1.getOrderIndex() : Integer.MAX_VALUE;
-                                    Integer order2 = img2.getOrderIndex() != null ? img2.getOrderIndex() : Integer.MAX_VALUE;
-                                    return order1.compareTo(order2);
-                                })
-                                .findFirst()
-                                .map(img -> img.getUrl())
-                                .orElse(null);
-                    }
-                    data.setImage(imageUrl);
+                    data.setImage(primaryImages.get(place.getId()));
 
                     data.setRating(place.getRating());
                     data.setViewedAt(recentView.getViewedAt());
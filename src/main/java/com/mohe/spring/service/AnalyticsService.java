@@ -2,6 +2,7 @@ package com.mohe.spring.service;
 
 import com.mohe.spring.entity.VisitorLog;
 import com.mohe.spring.repository.VisitorLogRepository;
+import com.mohe.spring.util.HyperLogLog;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -18,72 +19,72 @@ import java.util.*;
 public class AnalyticsService {
 
     private final VisitorLogRepository visitorLogRepository;
+    private final PageviewBuffer pageviewBuffer;
+    private final VisitorRollupService visitorRollupService;
 
     /**
-     * Record a pageview with parsed User-Agent info
+     * Record a pageview.
+     * The request thread only enqueues; User-Agent parsing and the insert happen in {@link PageviewBuffer}'s batch flush.
      */
     public void recordPageview(String sessionId, String ipAddress, String userAgent,
                                 String pagePath, String referrer, Long userId) {
-        VisitorLog visitorLog = new VisitorLog();
-        visitorLog.setSessionId(sessionId);
-        visitorLog.setIpAddress(ipAddress);
-        visitorLog.setUserAgent(userAgent);
-        visitorLog.setPagePath(pagePath);
-        visitorLog.setReferrer(referrer);
-        visitorLog.setUserId(userId);
-
-        // Parse User-Agent
-        Map<String, String> parsed = parseUserAgent(userAgent);
-        visitorLog.setDeviceType(parsed.get("deviceType"));
-        visitorLog.setOs(parsed.get("os"));
-        visitorLog.setBrowser(parsed.get("browser"));
-
-        visitorLogRepository.save(visitorLog);
+        boolean accepted = pageviewBuffer.offer(new PageviewBuffer.Pageview(
+                sessionId, ipAddress, userAgent, pagePath, referrer, userId, OffsetDateTime.now()));
+        if (!accepted) {
+            log.debug("Pageview buffer full, dropping pageview for {}", pagePath);
+        }
     }
 
     /**
      * Get summary stats: today, this week, this month (pageviews + unique visitors)
+     * Read from the daily rollups; unique visitors are merged HyperLogLog estimates.
      */
     public Map<String, Object> getSummary() {
         OffsetDateTime now = OffsetDateTime.now();
-        OffsetDateTime startOfDay = now.truncatedTo(ChronoUnit.DAYS);
-        OffsetDateTime startOfWeek = startOfDay.minusDays(now.getDayOfWeek().getValue() - 1);
+        OffsetDateTime startOfDay = visitorRollupService.startOf(now, ChronoUnit.DAYS);
+        OffsetDateTime startOfWeek = startOfDay.minusDays(startOfDay.getDayOfWeek().getValue() - 1);
         OffsetDateTime startOfMonth = startOfDay.withDayOfMonth(1);
+        OffsetDateTime earliest = startOfWeek.isBefore(startOfMonth) ? startOfWeek : startOfMonth;
 
-        Map<String, Object> summary = new LinkedHashMap<>();
-
-        Map<String, Object> today = new LinkedHashMap<>();
-        today.put("pageviews", visitorLogRepository.countByCreatedAtAfter(startOfDay));
-        today.put("uniqueVisitors", visitorLogRepository.countDistinctSessionIdByCreatedAtAfter(startOfDay));
-        summary.put("today", today);
-
-        Map<String, Object> thisWeek = new LinkedHashMap<>();
-        thisWeek.put("pageviews", visitorLogRepository.countByCreatedAtAfter(startOfWeek));
-        thisWeek.put("uniqueVisitors", visitorLogRepository.countDistinctSessionIdByCreatedAtAfter(startOfWeek));
-        summary.put("thisWeek", thisWeek);
-
-        Map<String, Object> thisMonth = new LinkedHashMap<>();
-        thisMonth.put("pageviews", visitorLogRepository.countByCreatedAtAfter(startOfMonth));
-        thisMonth.put("uniqueVisitors", visitorLogRepository.countDistinctSessionIdByCreatedAtAfter(startOfMonth));
-        summary.put("thisMonth", thisMonth);
+        List<VisitorRollupService.Bucket> days = visitorRollupService.findBuckets(VisitorRollupService.DAY, earliest);
 
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("today", totalsSince(days, startOfDay));
+        summary.put("thisWeek", totalsSince(days, startOfWeek));
+        summary.put("thisMonth", totalsSince(days, startOfMonth));
         return summary;
     }
 
+    private Map<String, Object> totalsSince(List<VisitorRollupService.Bucket> days, OffsetDateTime from) {
+        long pageviews = 0;
+        HyperLogLog visitors = new HyperLogLog();
+        for (VisitorRollupService.Bucket day : days) {
+            if (!day.bucketStart().isBefore(from)) {
+                pageviews += day.pageviews();
+                visitors.merge(day.visitors());
+            }
+        }
+        Map<String, Object> totals = new LinkedHashMap<>();
+        totals.put("pageviews", pageviews);
+        totals.put("uniqueVisitors", visitors.estimate());
+        return totals;
+    }
+
     /**
      * Get hourly stats for the last 24 hours
      */
     public List<Map<String, Object>> getHourlyStats() {
-        OffsetDateTime since = OffsetDateTime.now().minusHours(24);
-        List<Object[]> rows = visitorLogRepository.findHourlyStats(since);
+        OffsetDateTime since = visitorRollupService.startOf(OffsetDateTime.now().minusHours(23), ChronoUnit.HOURS);
+        List<VisitorRollupService.Bucket> hours = visitorRollupService.findBuckets(VisitorRollupService.HOUR, since);
 
         List<Map<String, Object>> result = new ArrayList<>();
-        for (Object[] row : rows) {
+        for (VisitorRollupService.Bucket hour : hours) {
             Map<String, Object> entry = new LinkedHashMap<>();
-            entry.put("hour", ((Number) row[0]).intValue());
-            entry.put("count", ((Number) row[1]).longValue());
+            entry.put("hour", hour.bucketStart().getHour());
+            entry.put("count", hour.pageviews());
             result.add(entry);
         }
+        result.sort(Comparator.comparingInt(entry -> (Integer) entry.get("hour")));
         return result;
     }
 
@@ -91,34 +92,14 @@ public class AnalyticsService {
      * Get device type breakdown
      */
     public List<Map<String, Object>> getDeviceStats() {
-        OffsetDateTime since = OffsetDateTime.now().minusDays(30);
-        List<Object[]> rows = visitorLogRepository.findDeviceStats(since);
-
-        List<Map<String, Object>> result = new ArrayList<>();
-        for (Object[] row : rows) {
-            Map<String, Object> entry = new LinkedHashMap<>();
-            entry.put("deviceType", row[0] != null ? row[0].toString() : "unknown");
-            entry.put("count", ((Number) row[1]).longValue());
-            result.add(entry);
-        }
-        return result;
+        return dimensionStats("device", "deviceType", Integer.MAX_VALUE);
     }
 
     /**
      * Get top visited pages
      */
     public List<Map<String, Object>> getTopPages(int limit) {
-        OffsetDateTime since = OffsetDateTime.now().minusDays(30);
-        List<Object[]> rows = visitorLogRepository.findTopPages(since, PageRequest.of(0, limit));
-
-        List<Map<String, Object>> result = new ArrayList<>();
-        for (Object[] row : rows) {
-            Map<String, Object> entry = new LinkedHashMap<>();
-            entry.put("pagePath", row[0] != null ? row[0].toString() : "unknown");
-            entry.put("count", ((Number) row[1]).longValue());
-            result.add(entry);
-        }
-        return result;
+        return dimensionStats("page", "pagePath", limit);
     }
 
     /**
@@ -140,41 +121,48 @@ public class AnalyticsService {
      * Get browser breakdown
      */
     public List<Map<String, Object>> getBrowserStats() {
-        OffsetDateTime since = OffsetDateTime.now().minusDays(30);
-        List<Object[]> rows = visitorLogRepository.findBrowserStats(since);
-
-        List<Map<String, Object>> result = new ArrayList<>();
-        for (Object[] row : rows) {
-            Map<String, Object> entry = new LinkedHashMap<>();
-            entry.put("browser", row[0] != null ? row[0].toString() : "unknown");
-            entry.put("count", ((Number) row[1]).longValue());
-            result.add(entry);
-        }
-        return result;
+        return dimensionStats("browser", "browser", Integer.MAX_VALUE);
     }
 
     /**
      * Get OS breakdown
      */
     public List<Map<String, Object>> getOsStats() {
-        OffsetDateTime since = OffsetDateTime.now().minusDays(30);
-        List<Object[]> rows = visitorLogRepository.findOsStats(since);
+        return dimensionStats("os", "os", Integer.MAX_VALUE);
+    }
+
+    /**
+     * Last 30 days (including today) from the daily dimension rollups
+     */
+    private List<Map<String, Object>> dimensionStats(String dimension, String field, int limit) {
+        OffsetDateTime since = visitorRollupService.startOf(OffsetDateTime.now(), ChronoUnit.DAYS).minusDays(29);
+        List<Object[]> rows = visitorRollupService.findDimensionTotals(dimension, since, limit);
 
         List<Map<String, Object>> result = new ArrayList<>();
         for (Object[] row : rows) {
             Map<String, Object> entry = new LinkedHashMap<>();
-            entry.put("os", row[0] != null ? row[0].toString() : "unknown");
+            entry.put(field, row[0] != null ? row[0].toString() : "unknown");
             entry.put("count", ((Number) row[1]).longValue());
             result.add(entry);
         }
         return result;
     }
 
+    /**
+     * Pageview buffer and rollup job stats
+     */
+    public Map<String, Object> getPipelineStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("buffer", pageviewBuffer.getStats());
+        stats.put("rollup", visitorRollupService.getStats());
+        return stats;
+    }
+
     /**
      * Simple User-Agent parser - extracts device type, OS, and browser.
      * No external library needed.
      */
-    Map<String, String> parseUserAgent(String ua) {
+    static Map<String, String> parseUserAgent(String ua) {
         Map<String, String> result = new HashMap<>();
 
         if (ua == null || ua.isBlank()) {
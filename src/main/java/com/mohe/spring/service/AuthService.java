@@ -5,6 +5,7 @@ import com.mohe.spring.entity.*;
 import com.mohe.spring.repository.*;
 import com.mohe.spring.security.JwtTokenProvider;
 import com.mohe.spring.security.UserPrincipal;
+import com.mohe.spring.security.UserPrincipalCache;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -31,6 +32,7 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final Optional<EmailService> emailService;
+    private final UserPrincipalCache userPrincipalCache;
     private final Random random = new Random();
 
     public AuthService(
@@ -41,7 +43,8 @@ public class AuthService {
             AuthenticationManager authenticationManager,
             PasswordEncoder passwordEncoder,
             JwtTokenProvider jwtTokenProvider,
-            Optional<EmailService> emailService
+            Optional<EmailService> emailService,
+            UserPrincipalCache userPrincipalCache
     ) {
         this.userRepository = userRepository;
         this.tempUserRepository = tempUserRepository;
@@ -51,6 +54,7 @@ public class AuthService {
         this.passwordEncoder = passwordEncoder;
         this.jwtTokenProvider = jwtTokenProvider;
         this.emailService = emailService;
+        this.userPrincipalCache = userPrincipalCache;
     }
     
     public LoginResponse login(LoginRequest request) {
@@ -266,6 +270,10 @@ public class AuthService {
     
     public void logout(LogoutRequest request) {
         refreshTokenRepository.revokeByToken(request.getRefreshToken());
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal userPrincipal) {
+            userPrincipalCache.evict(userPrincipal.getId());
+        }
         SecurityContextHolder.clearContext();
     }
     
@@ -300,6 +308,7 @@ public class AuthService {
         User user = resetToken.getUser();
         user.setPasswordHash(passwordEncoder.encode(request.getNewPassword()));
         userRepository.save(user);
+        userPrincipalCache.evict(user.getId());
         
         // Mark token as used
         passwordResetTokenRepository.markTokenAsUsed(request.getToken());
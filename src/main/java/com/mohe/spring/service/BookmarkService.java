@@ -8,6 +8,7 @@ import com.mohe.spring.repository.BookmarkRepository;
 import com.mohe.spring.repository.PlaceRepository;
 import com.mohe.spring.repository.UserRepository;
 import com.mohe.spring.security.UserPrincipal;
+import com.mohe.spring.service.card.PlaceCardAssembler;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -17,6 +18,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -28,17 +30,20 @@ public class BookmarkService {
     private final PlaceRepository placeRepository;
     private final UserRepository userRepository;
     private final SimilarityCalculationService similarityCalculationService;
+    private final PlaceCardAssembler placeCardAssembler;
     
     public BookmarkService(
             BookmarkRepository bookmarkRepository,
             PlaceRepository placeRepository,
             UserRepository userRepository,
-            SimilarityCalculationService similarityCalculationService
+            SimilarityCalculationService similarityCalculationService,
+            PlaceCardAssembler placeCardAssembler
     ) {
         this.bookmarkRepository = bookmarkRepository;
         this.placeRepository = placeRepository;
         this.userRepository = userRepository;
         this.similarityCalculationService = similarityCalculationService;
+        this.placeCardAssembler = placeCardAssembler;
     }
     
     public BookmarkToggleResponse toggleBookmark(BookmarkToggleRequest request) {
@@ -90,6 +95,11 @@ public class BookmarkService {
         int safeSize = Math.min(Math.max(size, 1), 100);
         Pageable pageable = PageRequest.of(safePage, safeSize, Sort.by(Sort.Direction.DESC, "createdAt"));
         Page<Bookmark> bookmarks = bookmarkRepository.findByUserOrderByCreatedAtDesc(currentUser, pageable);
+
+        // 대표 이미지 일괄 조회 (장소별 images 지연 로딩 대신 쿼리 1회)
+        Map<Long, String> primaryImages = placeCardAssembler.primaryImageUrls(bookmarks.getContent().stream()
+                .map(bookmark -> bookmark.getPlace().getId())
+                .collect(Collectors.toList()));
         
         List<BookmarkData> bookmarkData = bookmarks.getContent().stream()
                 .map(bookmark -> {
@@ -98,11 +108,7 @@ public class BookmarkService {
                     placeData.setId(place.getId().toString());
                     placeData.setName(place.getName());
                     placeData.setLocation(place.getRoadAddress());
-                    // Get first image from place's images list
-                    String imageUrl = (place.getImages() != null && !place.getImages().isEmpty())
-                            ? place.getImages().get(0).getUrl()
-                            : null;
-                    placeData.setImage(imageUrl);
+                    placeData.setImage(primaryImages.get(place.getId()));
                     placeData.setRating(place.getRating());
                     
                     BookmarkData data = new BookmarkData();
@@ -1,5 +1,6 @@
 package com.mohe.spring.service;
 
+import com.mohe.spring.config.SpatialQueryProperties;
 import com.mohe.spring.dto.CategoryDto;
 import com.mohe.spring.dto.PlaceDto;
 import com.mohe.spring.dto.SuggestedCategoriesResponse;
@@ -9,14 +10,21 @@ import com.mohe.spring.enums.PlaceCategory;
 import com.mohe.spring.enums.TimeSlot;
 import com.mohe.spring.enums.WeatherCondition;
 import com.mohe.spring.repository.BookmarkRepository;
-import com.mohe.spring.repository.PlaceImageRepository;
 import com.mohe.spring.repository.PlaceRepository;
+import com.mohe.spring.service.card.PlaceCardAssembler;
+import com.mohe.spring.util.LoadingLruCache;
+import com.mohe.spring.util.WeeklyOpenHours;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
@@ -33,7 +41,10 @@ public class CategoryRecommendationService {
     private final BookmarkRepository bookmarkRepository;
     private final PlaceRepository placeRepository;
     private final PlaceService placeService;
-    private final PlaceImageRepository placeImageRepository;
+    private final PlaceCardAssembler placeCardAssembler;
+    private final SpatialQueryProperties spatialQueryProperties;
+    private final Executor homeFeedExecutor;
+    private final LoadingLruCache<String, HomeFeed> homeFeedCache;
 
     // MBTI별 선호 카테고리 (fallback용)
     private static final Map<String, List<PlaceCategory>> MBTI_PREFERENCES = Map.ofEntries(
@@ -255,12 +266,28 @@ public class CategoryRecommendationService {
             BookmarkRepository bookmarkRepository,
             PlaceRepository placeRepository,
             PlaceService placeService,
-            PlaceImageRepository placeImageRepository) {
+            PlaceCardAssembler placeCardAssembler,
+            SpatialQueryProperties spatialQueryProperties,
+            @Qualifier("homeFeedExecutor") Executor homeFeedExecutor,
+            @Qualifier("taskExecutor") Executor refreshExecutor,
+            @Value("${mohe.home-feed.cache.max-entries:2000}") int maxEntries,
+            @Value("${mohe.home-feed.cache.ttl-seconds:600}") long ttlSeconds,
+            @Value("${mohe.home-feed.cache.stale-grace-seconds:300}") long staleGraceSeconds) {
         this.weatherService = weatherService;
         this.bookmarkRepository = bookmarkRepository;
         this.placeRepository = placeRepository;
         this.placeService = placeService;
-        this.placeImageRepository = placeImageRepository;
+        this.placeCardAssembler = placeCardAssembler;
+        this.spatialQueryProperties = spatialQueryProperties;
+        this.homeFeedExecutor = homeFeedExecutor;
+        // 갱신 작업이 homeFeedExecutor로 fan-out 후 join하므로 갱신 자체는 별도 executor에서 실행 (풀 자기 교착 방지)
+        // 만료 시각은 현재 시간대 종료 시각을 넘지 않고, 만료 후 유예 구간에는 이전 피드를 반환하며 갱신
+        this.homeFeedCache = LoadingLruCache.<String, HomeFeed>builder("Home feed cache")
+                .maxEntries(maxEntries)
+                .ttlMillis(ttlSeconds * 1000)
+                .staleWhileRevalidate(staleGraceSeconds * 1000)
+                .refreshExecutor(refreshExecutor)
+                .build();
     }
 
     /**
@@ -322,7 +349,11 @@ public class CategoryRecommendationService {
      */
     public Map<String, Object> getMbtiRowOnly(Double lat, Double lon, String mbti, int limit) {
         if (mbti == null || mbti.isBlank()) return null;
-        return buildMbtiRow(mbti.toUpperCase().trim(), lat, lon, limit);
+
+        TimeSlot currentTimeSlot = TimeSlot.fromCurrentTime();
+        WeatherCondition weatherCondition = getWeatherCondition(lat, lon);
+        HomeFeed feed = loadHomeFeed(lat, lon, currentTimeSlot, weatherCondition, mbti.toUpperCase().trim(), limit);
+        return feed.mbtiRow() != null ? renderMbtiRow(feed.mbtiRow(), lat, lon) : null;
     }
 
     /**
@@ -332,37 +363,90 @@ public class CategoryRecommendationService {
         Map<String, Object> result = new LinkedHashMap<>();
 
         TimeSlot currentTimeSlot = TimeSlot.fromCurrentTime();
+        // 날씨는 격자 캐시에서 조회되므로 피드 키 계산 전에 동기 조회
+        WeatherCondition weatherCondition = getWeatherCondition(lat, lon);
+        String normalizedMbti = (mbti != null && !mbti.isBlank()) ? mbti.toUpperCase().trim() : null;
 
-        // 날씨 + MBTI 병렬 실행
-        CompletableFuture<WeatherCondition> weatherFuture = CompletableFuture.supplyAsync(() -> getWeatherCondition(lat, lon));
-        CompletableFuture<Map<String, Object>> mbtiFuture = (mbti != null && !mbti.isBlank())
-                ? CompletableFuture.supplyAsync(() -> buildMbtiRow(mbti.toUpperCase().trim(), lat, lon, placesPerCategory))
-                : CompletableFuture.completedFuture(null);
-
-        WeatherCondition weatherCondition;
+        HomeFeed feed;
         try {
-            weatherCondition = weatherFuture.join();
+            feed = loadHomeFeed(lat, lon, currentTimeSlot, weatherCondition, normalizedMbti, placesPerCategory);
         } catch (Exception e) {
-            logger.warn("Weather fetch failed: {}", e.getMessage());
-            weatherCondition = WeatherCondition.SUNNY;
+            logger.warn("Home feed build failed: {}", e.getMessage());
+            CategoryRecommendationRule rule = CategoryRecommendationRule.findRule(currentTimeSlot, weatherCondition);
+            feed = new HomeFeed(rule.getReasonText(), buildCategoryRows(rule, currentTimeSlot), null);
         }
 
-        CategoryRecommendationRule rule = CategoryRecommendationRule.findRule(currentTimeSlot, weatherCondition);
         result.put("timeSlot", currentTimeSlot.getDisplayName());
         result.put("weather", weatherCondition.getDisplayName());
-        result.put("reason", rule.getReasonText());
+        result.put("reason", feed.reason());
+        if (feed.mbtiRow() != null) {
+            result.put("mbtiRow", renderMbtiRow(feed.mbtiRow(), lat, lon));
+        }
+        result.put("categoryRows", feed.categoryRows());
+        return result;
+    }
 
-        try {
-            Map<String, Object> mbtiRow = mbtiFuture.join();
-            if (mbtiRow != null) {
-                result.put("mbtiRow", mbtiRow);
+    /**
+     * 홈 피드 캐시 통계 (관리자 모니터링용)
+     */
+    public Map<String, Object> getHomeFeedCacheStats() {
+        return homeFeedCache.getStats();
+    }
+
+    /**
+     * (위치 격자, 시간대, 날씨, MBTI) 단위 홈 피드 조회
+     *
+     * <p>위치는 날씨 캐시와 같은 기상청 격자(약 5km)로 묶습니다. 요청자별로 달라지는 거리와 MBTI 타이틀은
+     * 캐시하지 않고 응답 시점에 채웁니다.</p>
+     */
+    private HomeFeed loadHomeFeed(Double lat, Double lon, TimeSlot timeSlot, WeatherCondition weatherCondition,
+                                  String mbti, int limit) {
+        String cell = (lat != null && lon != null) ? WeatherGridCache.keyOf(lat, lon) : "none";
+        String key = cell + "|" + timeSlot.name() + "|" + weatherCondition.name() + "|"
+                + (mbti != null ? mbti : "-") + "|" + limit;
+
+        return homeFeedCache.get(key, slotEndMillis(timeSlot), () -> {
+            CategoryRecommendationRule rule = CategoryRecommendationRule.findRule(timeSlot, weatherCondition);
+            MbtiRow mbtiRow = mbti != null ? buildMbtiRow(mbti, lat, lon, limit) : null;
+            return new HomeFeed(rule.getReasonText(), buildCategoryRows(rule, timeSlot), mbtiRow);
+        });
+    }
+
+    /**
+     * 현재 시간대가 끝나는 시각 (epoch ms)
+     */
+    private static long slotEndMillis(TimeSlot timeSlot) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime end = timeSlot.getEndHour() >= 23
+                ? now.toLocalDate().plusDays(1).atStartOfDay()
+                : now.toLocalDate().atTime(timeSlot.getEndHour() + 1, 0);
+        return end.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private Map<String, Object> renderMbtiRow(MbtiRow mbtiRow, Double lat, Double lon) {
+        Map<String, Object> row = new LinkedHashMap<>();
+
+        // 타이틀
+        List<String> titles = MBTI_TITLES.getOrDefault(mbtiRow.mbti(), List.of("오늘은 이런 곳 어때요?"));
+        row.put("title", titles.get(new Random().nextInt(titles.size())));
+        row.put("mbti", mbtiRow.mbti());
+        row.put("source", mbtiRow.source());
+
+        List<Map<String, Object>> places = new ArrayList<>(mbtiRow.places().size());
+        for (PlaceCard card : mbtiRow.places()) {
+            Map<String, Object> dto = new LinkedHashMap<>(card.fields());
+            if (card.latitude() != null && card.longitude() != null && lat != null && lon != null) {
+                double dist = 6371 * Math.acos(Math.min(1.0, Math.max(-1.0,
+                        Math.cos(Math.toRadians(lat)) * Math.cos(Math.toRadians(card.latitude())) *
+                        Math.cos(Math.toRadians(card.longitude()) - Math.toRadians(lon)) +
+                        Math.sin(Math.toRadians(lat)) * Math.sin(Math.toRadians(card.latitude()))
+                )));
+                dto.put("distance", Math.round(dist * 10) / 10.0);
             }
-        } catch (Exception e) {
-            logger.warn("MBTI row failed: {}", e.getMessage());
+            places.add(dto);
         }
-
-        result.put("categoryRows", buildCategoryRows(rule, currentTimeSlot));
-        return result;
+        row.put("places", places);
+        return row;
     }
 
     private List<Map<String, Object>> buildCategoryRows(CategoryRecommendationRule rule, TimeSlot timeSlot) {
@@ -397,16 +481,9 @@ public class CategoryRecommendationService {
     }
 
     /**
-     * MBTI 기반 첫 줄 데이터 구성
+     * MBTI 기반 첫 줄 데이터 구성 (타이틀/거리는 응답 시점에 채움)
      */
-    private Map<String, Object> buildMbtiRow(String mbti, Double lat, Double lon, int limit) {
-        Map<String, Object> row = new LinkedHashMap<>();
-
-        // 타이틀
-        List<String> titles = MBTI_TITLES.getOrDefault(mbti, List.of("오늘은 이런 곳 어때요?"));
-        row.put("title", titles.get(new Random().nextInt(titles.size())));
-        row.put("mbti", mbti);
-
+    private MbtiRow buildMbtiRow(String mbti, Double lat, Double lon, int limit) {
         // 1차: 동일 MBTI 사용자 좋아요 순
         List<Place> mbtiPlaces;
         try {
@@ -417,29 +494,25 @@ public class CategoryRecommendationService {
         }
 
         if (mbtiPlaces.size() >= 3) {
-            row.put("source", "bookmark");
-            row.put("places", placesToSimpleDtos(mbtiPlaces, lat, lon));
-            return row;
+            return new MbtiRow(mbti, "bookmark", placesToCards(mbtiPlaces));
         }
 
         // 2차 fallback: MBTI 선호 카테고리 키워드로 병렬 검색
         List<PlaceCategory> preferredCategories = MBTI_PREFERENCES.get(mbti);
         if (preferredCategories == null) return null;
 
-        String[] koDays = {"일", "월", "화", "수", "목", "금", "토"};
-        String day = koDays[java.util.Calendar.getInstance().get(java.util.Calendar.DAY_OF_WEEK) - 1];
-        String time = java.time.LocalTime.now().format(java.time.format.DateTimeFormatter.ofPattern("HH:mm:ss"));
+        int openSlot = WeeklyOpenHours.currentSlot();
 
         // 모든 카테고리 쿼리를 병렬 실행
         List<CompletableFuture<List<Place>>> futures = preferredCategories.stream()
                 .map(cat -> CompletableFuture.supplyAsync(() -> {
                     try {
                         String kws = cat.getKeywords().stream().map(String::toLowerCase).collect(Collectors.joining(","));
-                        return placeRepository.findNearbyPlacesByCategory(lat, lon, 30.0, kws, 5, day, time);
+                        return placeRepository.findNearbyPlacesByCategory(spatialQueryProperties.getMode(), lat, lon, 30.0, kws, 5, openSlot);
                     } catch (Exception e) {
                         return List.<Place>of();
                     }
-                }))
+                }, homeFeedExecutor))
                 .toList();
 
         Set<Long> seenIds = new HashSet<>();
@@ -457,10 +530,7 @@ public class CategoryRecommendationService {
         }
 
         if (!fallbackPlaces.isEmpty()) {
-            row.put("source", "keyword");
-            row.put("places", placesToSimpleDtos(
-                    fallbackPlaces.stream().limit(limit).toList(), lat, lon));
-            return row;
+            return new MbtiRow(mbti, "keyword", placesToCards(fallbackPlaces.stream().limit(limit).toList()));
         }
 
         return null;
@@ -500,19 +570,16 @@ public class CategoryRecommendationService {
     }
 
     /**
-     * 장소 리스트 → DTO 리스트 (이미지 배치 로드, N+1 방지)
+     * 장소 리스트 → 카드 리스트 (이미지 배치 로드, N+1 방지)
      */
-    private List<Map<String, Object>> placesToSimpleDtos(List<Place> places, Double userLat, Double userLon) {
+    private List<PlaceCard> placesToCards(List<Place> places) {
         if (places.isEmpty()) return List.of();
 
         // 이미지 배치 조회 (1 쿼리)
         List<Long> placeIds = places.stream().map(Place::getId).toList();
         Map<Long, String> imageMap = new HashMap<>();
         try {
-            List<Object[]> rows = placeImageRepository.findFirstImagesByPlaceIds(placeIds);
-            for (Object[] row : rows) {
-                imageMap.put(((Number) row[0]).longValue(), (String) row[1]);
-            }
+            imageMap.putAll(placeCardAssembler.primaryImageUrls(placeIds));
         } catch (Exception e) {
             logger.warn("Batch image load failed: {}", e.getMessage());
         }
@@ -533,16 +600,10 @@ public class CategoryRecommendationService {
 
             dto.put("imageUrl", imageMap.get(place.getId()));
 
-            if (place.getLatitude() != null && place.getLongitude() != null && userLat != null && userLon != null) {
-                double dist = 6371 * Math.acos(Math.min(1.0, Math.max(-1.0,
-                        Math.cos(Math.toRadians(userLat)) * Math.cos(Math.toRadians(place.getLatitude().doubleValue())) *
-                        Math.cos(Math.toRadians(place.getLongitude().doubleValue()) - Math.toRadians(userLon)) +
-                        Math.sin(Math.toRadians(userLat)) * Math.sin(Math.toRadians(place.getLatitude().doubleValue()))
-                )));
-                dto.put("distance", Math.round(dist * 10) / 10.0);
-            }
-
-            return dto;
+            return new PlaceCard(
+                    Collections.unmodifiableMap(dto),
+                    place.getLatitude() != null ? place.getLatitude().doubleValue() : null,
+                    place.getLongitude() != null ? place.getLongitude().doubleValue() : null);
         }).toList();
     }
 
@@ -581,4 +642,19 @@ public class CategoryRecommendationService {
                 category.getEmoji()
         );
     }
+
+    /**
+     * 캐시되는 홈 피드 (요청자 위치와 무관한 부분)
+     */
+    private record HomeFeed(String reason, List<Map<String, Object>> categoryRows, MbtiRow mbtiRow) {
+    }
+
+    private record MbtiRow(String mbti, String source, List<PlaceCard> places) {
+    }
+
+    /**
+     * 장소 카드 필드 + 거리 계산용 좌표
+     */
+    private record PlaceCard(Map<String, Object> fields, Double latitude, Double longitude) {
+    }
 }
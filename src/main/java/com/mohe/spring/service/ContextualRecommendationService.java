@@ -1,12 +1,18 @@
 package com.mohe.spring.service;
 
+import com.mohe.spring.config.PgVectorParameters;
 import com.mohe.spring.dto.ContextualRecommendationResponse;
 import com.mohe.spring.dto.PlaceDto;
 import com.mohe.spring.entity.Place;
 import com.mohe.spring.entity.PlaceKeywordEmbedding;
 import com.mohe.spring.repository.PlaceKeywordEmbeddingRepository;
+import com.mohe.spring.service.card.PlaceCardAssembler;
+import com.mohe.spring.service.similarity.CandidateEmbeddingScorer;
+import com.pgvector.PGvector;
+import org.hibernate.query.TypedParameterValue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.ZoneId;
@@ -33,6 +39,11 @@ public class ContextualRecommendationService {
     private final KeywordEmbeddingService keywordEmbeddingService;
     private final PlaceKeywordEmbeddingRepository placeKeywordEmbeddingRepository;
     private final DynamicMessageService dynamicMessageService;
+    private final PgVectorParameters pgVectorParameters;
+    private final PlaceCardAssembler placeCardAssembler;
+    private final CandidateEmbeddingScorer candidateEmbeddingScorer;
+    /** exact: 후보 풀의 임베딩만 읽어 정확한 코사인 순위 / ann: 전체 HNSW 검색 후 후보로 필터 (이전 방식) */
+    private final boolean exactScoring;
 
     public ContextualRecommendationService(
             WeatherService weatherService,
@@ -40,13 +51,21 @@ public class ContextualRecommendationService {
             VectorSearchService vectorSearchService,
             KeywordEmbeddingService keywordEmbeddingService,
             PlaceKeywordEmbeddingRepository placeKeywordEmbeddingRepository,
-            DynamicMessageService dynamicMessageService) {
+            DynamicMessageService dynamicMessageService,
+            PgVectorParameters pgVectorParameters,
+            PlaceCardAssembler placeCardAssembler,
+            CandidateEmbeddingScorer candidateEmbeddingScorer,
+            @Value("${mohe.contextual.scoring-mode:exact}") String scoringMode) {
         this.weatherService = weatherService;
         this.placeService = placeService;
         this.vectorSearchService = vectorSearchService;
         this.keywordEmbeddingService = keywordEmbeddingService;
         this.placeKeywordEmbeddingRepository = placeKeywordEmbeddingRepository;
         this.dynamicMessageService = dynamicMessageService;
+        this.pgVectorParameters = pgVectorParameters;
+        this.placeCardAssembler = placeCardAssembler;
+        this.candidateEmbeddingScorer = candidateEmbeddingScorer;
+        this.exactScoring = !"ann".equalsIgnoreCase(scoringMode);
     }
 
     public ContextualRecommendationResponse getContextualRecommendations(
@@ -147,8 +166,10 @@ public class ContextualRecommendationService {
 
         final double userLat = safeLat;
         final double userLon = safeLon;
+        Map<Long, List<String>> imagesByPlace = placeCardAssembler.imageUrls(
+            finalPlaces.stream().map(Place::getId).collect(Collectors.toList()));
         List<PlaceDto.PlaceResponse> placeResponses = finalPlaces.stream()
-            .map(p -> convertToPlaceResponse(p, userLat, userLon))
+            .map(p -> convertToPlaceResponse(p, imagesByPlace.getOrDefault(p.getId(), List.of()), userLat, userLon))
             .collect(Collectors.toList());
 
         return new ContextualRecommendationResponse(
@@ -175,11 +196,15 @@ public class ContextualRecommendationService {
             return List.of();
         }
 
+        if (exactScoring) {
+            return rankCandidatesExactly(embedding, allowedPlaceIds, limit);
+        }
+
         logger.info("Generated embedding vector of size {}, performing pgvector similarity search", embedding.length);
-        String pgVectorLiteral = toPgVectorLiteral(embedding);
+        TypedParameterValue<PGvector> vectorParam = pgVectorParameters.bind(embedding);
         List<PlaceKeywordEmbedding> similarEmbeddings;
         try {
-            similarEmbeddings = placeKeywordEmbeddingRepository.findSimilarByEmbedding(pgVectorLiteral, Math.max(limit * 2, 80));
+            similarEmbeddings = placeKeywordEmbeddingRepository.findSimilarByEmbedding(vectorParam, Math.max(limit * 2, 80));
             logger.info("Vector search found {} similar embeddings from database", similarEmbeddings.size());
         } catch (Exception e) {
             logger.warn("Failed to run contextual embedding search: {}", e.getMessage());
@@ -204,6 +229,20 @@ public class ContextualRecommendationService {
         return new ArrayList<>(ordered);
     }
 
+    /**
+     * 후보 장소의 키워드 임베딩만 한 번에 읽어 정확한 코사인 유사도로 순위 (후보 밖 결과를 버리는 낭비 없음)
+     */
+    private List<Long> rankCandidatesExactly(float[] embedding, Collection<Long> candidateIds, int limit) {
+        try {
+            List<CandidateEmbeddingScorer.ScoredPlace> ranked = candidateEmbeddingScorer.rank(embedding, candidateIds, limit);
+            logger.info("Exact vector re-rank scored {} of {} geo candidates", ranked.size(), candidateIds.size());
+            return ranked.stream().map(CandidateEmbeddingScorer.ScoredPlace::placeId).collect(Collectors.toList());
+        } catch (Exception e) {
+            logger.warn("Failed to run contextual candidate scoring: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
     private List<String> buildContextKeywords(String query, String weatherCondition, String timeOfDay) {
         List<String> tokens = new ArrayList<>();
         if (query != null && !query.isBlank()) {
@@ -267,18 +306,6 @@ public class ContextualRecommendationService {
         }
     }
 
-    private String toPgVectorLiteral(float[] embedding) {
-        StringBuilder builder = new StringBuilder("[");
-        for (int i = 0; i < embedding.length; i++) {
-            if (i > 0) {
-                builder.append(',');
-            }
-            builder.append(String.format(Locale.US, "%.6f", embedding[i]));
-        }
-        builder.append(']');
-        return builder.toString();
-    }
-
     private boolean isZeroVector(float[] embedding) {
         if (embedding == null || embedding.length == 0) {
             return true;
@@ -290,16 +317,15 @@ public class ContextualRecommendationService {
         return sum < 1e-3;
     }
 
-    private PlaceDto.PlaceResponse convertToPlaceResponse(Place place, double userLat, double userLon) {
+    private PlaceDto.PlaceResponse convertToPlaceResponse(Place place, List<String> imageUrls, double userLat, double userLon) {
         String category = (place.getCategory() != null && !place.getCategory().isEmpty())
             ? place.getCategory().get(0)
             : "기타";
         double rating = place.getRating() != null ? place.getRating().doubleValue() : 0.0;
-        List<String> imageUrls = placeService.getImageUrls(place.getId());
         String imageUrl = imageUrls.isEmpty() ? null : imageUrls.get(0);
 
         String fullAddress = place.getRoadAddress();
-        String shortAddress = extractShortAddress(fullAddress);
+        String shortAddress = PlaceCardAssembler.extractShortAddress(fullAddress);
 
         PlaceDto.PlaceResponse response = new PlaceDto.PlaceResponse(
             place.getId(),
@@ -320,9 +346,8 @@ public class ContextualRecommendationService {
             response.setDistance(Math.round(dist * 10.0) / 10.0);
         }
 
-        // 실제 리뷰 수
-        int actualReviews = place.getReviews() != null ? place.getReviews().size() : 0;
-        response.setReviewCount(actualReviews);
+        // reviewCount 필드 직접 사용 (N+1 방지 — getReviews().size() 대신)
+        response.setReviewCount(place.getReviewCount() != null ? place.getReviewCount() : 0);
 
         response.setShortAddress(shortAddress);
         response.setFullAddress(fullAddress);
@@ -331,42 +356,6 @@ public class ContextualRecommendationService {
         return response;
     }
 
-    /**
-     * Extract short address (구+동) from full road address
-     */
-    private String extractShortAddress(String fullAddress) {
-        if (fullAddress == null || fullAddress.isBlank()) {
-            return "";
-        }
-
-        try {
-            // Remove province/city prefix (서울특별시, 경기도, etc.)
-            String address = fullAddress.replaceFirst("^(서울특별시|부산광역시|대구광역시|인천광역시|광주광역시|대전광역시|울산광역시|세종특별자치시|경기도|강원도|충청북도|충청남도|전라북도|전라남도|경상북도|경상남도|제주특별자치도)\\s*", "");
-
-            // Split by spaces
-            String[] parts = address.split("\\s+");
-
-            if (parts.length >= 2) {
-                // Extract district (구/군/시) and neighborhood (동/읍/면/리)
-                String district = parts[0]; // 시/구/군
-                String neighborhood = parts[1]; // 동/읍/면/리
-
-                // Handle city names that include "시" (e.g., "성남시" should become "성남시 분당구")
-                if (parts.length >= 3 && district.endsWith("시") && (parts[1].endsWith("구") || parts[1].endsWith("군"))) {
-                    return parts[1] + " " + parts[2];
-                }
-
-                return district + " " + neighborhood;
-            }
-
-            // If we can't parse, return first part or empty
-            return parts.length > 0 ? parts[0] : "";
-
-        } catch (Exception e) {
-            return "";
-        }
-    }
-
     private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
 
     private String getCurrentTimeOfDay() {
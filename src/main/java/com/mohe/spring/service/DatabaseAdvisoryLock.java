@@ -0,0 +1,71 @@
+package com.mohe.spring.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * PostgreSQL 세션 advisory lock으로 여러 인스턴스 중 한 곳에서만 작업 실행
+ *
+ * <p>락은 세션(커넥션) 단위이므로 작업이 끝날 때까지 풀에서 커넥션 하나를 따로 잡아 두고,
+ * 같은 커넥션에서 해제합니다. 작업 자체는 평소처럼 다른 커넥션/트랜잭션을 사용합니다.
+ * 인스턴스가 죽으면 커넥션이 끊기면서 락도 풀립니다.</p>
+ *
+ * <p>PostgreSQL이 아닌 DB(로컬 H2 등)에서는 락 없이 바로 실행합니다.</p>
+ */
+@Component
+public class DatabaseAdvisoryLock {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseAdvisoryLock.class);
+
+    private final DataSource dataSource;
+
+    public DatabaseAdvisoryLock(JdbcTemplate jdbcTemplate) {
+        this.dataSource = jdbcTemplate.getDataSource();
+    }
+
+    /**
+     * 락을 얻으면 task를 실행하고 true, 다른 세션이 잡고 있으면 실행하지 않고 false
+     *
+     * @param lockName 락 이름 (hashtext()로 int 키 변환)
+     */
+    public boolean runExclusively(String lockName, Runnable task) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+                task.run();
+                return true;
+            }
+            if (!call(connection, "SELECT pg_try_advisory_lock(hashtext(?))", lockName)) {
+                logger.debug("Advisory lock '{}' is held by another session", lockName);
+                return false;
+            }
+            try {
+                task.run();
+            } finally {
+                if (!call(connection, "SELECT pg_advisory_unlock(hashtext(?))", lockName)) {
+                    logger.warn("Advisory lock '{}' was not held at unlock", lockName);
+                }
+            }
+            return true;
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Advisory lock '" + lockName + "' failed", e);
+        }
+    }
+
+    private static boolean call(Connection connection, String sql, String lockName) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, lockName);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+}
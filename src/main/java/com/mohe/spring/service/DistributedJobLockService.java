@@ -5,10 +5,12 @@ import com.mohe.spring.repository.DistributedJobLockRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.net.InetAddress;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,6 +24,7 @@ import java.util.UUID;
  * <h3>주요 기능</h3>
  * <ul>
  *   <li>청크 단위 락 획득 (atomic operation)</li>
+ *   <li>장소 단위 lease 일괄 획득 (FOR UPDATE SKIP LOCKED)</li>
  *   <li>만료된 락 자동 감지 및 복구</li>
  *   <li>워커 heartbeat를 통한 락 갱신</li>
  *   <li>완료된 락 정리 (cleanup)</li>
@@ -123,6 +126,81 @@ public class DistributedJobLockService {
         }
     }
 
+    /**
+     * 처리 대기 장소 lease 획득
+     *
+     * <p>아직 아무도 처리하지 않았거나, 실패/만료되어 재시도 가능한 장소를 최대 limit개 원자적으로 획득합니다.
+     * 다른 워커가 claim 중인 행은 건너뛰므로 워커 수를 늘려도 서로 대기하지 않습니다.
+     * 획득한 lease는 PROCESSING 상태로 시작하며, {@link #renewLocks(String, int)}로 연장됩니다.
+     * 배치 step의 chunk 트랜잭션과 분리(REQUIRES_NEW)해 lease가 즉시 커밋되고 행 잠금도 바로 풀립니다.</p>
+     *
+     * @param jobName      작업 이름
+     * @param limit        최대 획득 개수
+     * @param leaseMinutes lease 타임아웃 (분)
+     * @return 획득한 장소 ID (없으면 빈 목록)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<Long> claimPendingPlaces(String jobName, int limit, int leaseMinutes) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> claimed = lockRepository.claimPendingPlaces(
+            jobName,
+            workerId,
+            workerHostname,
+            limit,
+            now,
+            now.plusMinutes(leaseMinutes)
+        );
+        if (!claimed.isEmpty()) {
+            logger.info("🔒 Claimed {} place leases: job={}, worker={}", claimed.size(), jobName, workerId);
+        }
+        return claimed;
+    }
+
+    /**
+     * 장소 lease 일괄 완료 처리
+     *
+     * <p>처리가 끝난 장소의 lease는 바로 삭제해서, 이후 다시 PENDING으로 돌아간 장소를 다른 워커가 즉시 claim할 수 있게 합니다.
+     * 처리 후에도 PENDING으로 남은 장소(저장 실패 등)는 재시도 1회를 소모한 FAILED lease로 남깁니다.</p>
+     *
+     * @param jobName 작업 이름
+     * @param itemIds 장소 ID
+     * @return 삭제된(완료된) lease 개수
+     */
+    @Transactional
+    public int completeLeases(String jobName, Collection<Long> itemIds) {
+        if (itemIds.isEmpty()) {
+            return 0;
+        }
+        int released = lockRepository.releaseSettledLeases(jobName, workerId, itemIds);
+        if (released < itemIds.size()) {
+            int stillPending = lockRepository.failLeases(
+                jobName, workerId, itemIds, "Still PENDING after processing", LocalDateTime.now());
+            if (stillPending > 0) {
+                logger.warn("⚠️ {} leased places are still PENDING after processing: job={}", stillPending, jobName);
+            }
+        }
+        logger.info("✅ Leases completed: job={}, count={}", jobName, released);
+        return released;
+    }
+
+    /**
+     * 장소 lease 일괄 실패 처리
+     *
+     * @param jobName 작업 이름
+     * @param itemIds 장소 ID
+     * @param error   에러 메시지
+     * @return 실패 처리된 lease 개수
+     */
+    @Transactional
+    public int failLeases(String jobName, Collection<Long> itemIds, String error) {
+        if (itemIds.isEmpty()) {
+            return 0;
+        }
+        int failed = lockRepository.failLeases(jobName, workerId, itemIds, error, LocalDateTime.now());
+        logger.error("❌ Leases failed: job={}, count={}, error={}", jobName, failed, error);
+        return failed;
+    }
+
     /**
      * 락 상태 업데이트 (LOCKED → PROCESSING)
      *
@@ -1,27 +1,24 @@
 package com.mohe.spring.service;
 
 import com.mohe.spring.dto.embedding.BatchEmbeddingResult;
-import com.mohe.spring.dto.embedding.EmbeddingResponse;
 import com.mohe.spring.entity.Place;
-import com.mohe.spring.entity.PlaceKeywordEmbedding;
 import com.mohe.spring.repository.PlaceKeywordEmbeddingRepository;
 import com.mohe.spring.repository.PlaceRepository;
+import com.mohe.spring.service.embedding.PlaceEmbeddingPipeline;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 /**
  * Service for batch processing keyword embeddings for places
- * Processes places where crawler_found = true and generates vector embeddings for their keywords
+ * Processes crawled places and generates vector embeddings for their keywords via {@link PlaceEmbeddingPipeline}
  */
 @Slf4j
 @Service
@@ -31,13 +28,14 @@ public class EmbeddingBatchService {
     private final PlaceRepository placeRepository;
     private final PlaceKeywordEmbeddingRepository embeddingRepository;
     private final EmbeddingClient embeddingClient;
+    private final PlaceEmbeddingPipeline embeddingPipeline;
 
-    private static final int BATCH_SIZE = 9; // Process 9 places at a time
+    private static final int BATCH_SIZE = 100; // Places per pipeline call (keywords coalesced across the batch)
     private static final int MAX_KEYWORDS_PER_PLACE = 9; // Maximum 9 keywords per place
 
     /**
      * Run the batch embedding process for all eligible places
-     * Eligible: crawler_found = true
+     * Eligible: crawl_status = COMPLETED
      *
      * @return BatchEmbeddingResult containing processing statistics
      */
@@ -48,63 +46,58 @@ public class EmbeddingBatchService {
         BatchEmbeddingResult.BatchEmbeddingResultBuilder resultBuilder = BatchEmbeddingResult.builder();
 
         try {
-            // Fetch places where crawler_found = true
-            log.info("[INFO] Fetching places where crawler_found = true");
-            List<Place> eligiblePlaces = fetchEligiblePlaces();
+            log.info("[INFO] Fetching eligible place IDs");
+            List<Long> eligibleIds = fetchEligiblePlaceIds();
 
-            log.info("[INFO] Found {} eligible places for embedding", eligiblePlaces.size());
+            log.info("[INFO] Found {} eligible places for embedding", eligibleIds.size());
 
             int totalPlaces = 0;
             int successfulPlaces = 0;
             int failedPlaces = 0;
             int skippedPlaces = 0;
             int totalEmbeddings = 0;
+            int apiRequests = 0;
 
-            // Process places in batches of BATCH_SIZE
-            for (int i = 0; i < eligiblePlaces.size(); i += BATCH_SIZE) {
-                int endIndex = Math.min(i + BATCH_SIZE, eligiblePlaces.size());
-                List<Place> batch = eligiblePlaces.subList(i, endIndex);
-
-                log.info("[INFO] Processing batch {}-{} of {} places",
-                    i + 1, endIndex, eligiblePlaces.size());
+            // Process places in batches of BATCH_SIZE: one cache lookup, coalesced API requests, bulk insert
+            for (int i = 0; i < eligibleIds.size(); i += BATCH_SIZE) {
+                int endIndex = Math.min(i + BATCH_SIZE, eligibleIds.size());
+                List<Place> batch = placeRepository.findAllById(eligibleIds.subList(i, endIndex));
+                totalPlaces += endIndex - i;
 
+                List<PlaceEmbeddingPipeline.PlaceInput> inputs = new ArrayList<>();
                 for (Place place : batch) {
-                    totalPlaces++;
-
-                    try {
-                        int embeddingsCreated = processPlace(place);
-
-                        if (embeddingsCreated > 0) {
-                            successfulPlaces++;
-                            totalEmbeddings += embeddingsCreated;
-                            log.info("[INFO] Successfully processed place_id={} ({} keywords embedded)",
-                                place.getId(), embeddingsCreated);
-                        } else {
-                            skippedPlaces++;
-                            log.info("[INFO] Skipped place_id={} (no keywords)", place.getId());
-                        }
-
-                    } catch (Exception e) {
-                        failedPlaces++;
-                        log.error("[ERROR] Failed to process place_id={}: {}",
-                            place.getId(), e.getMessage(), e);
+                    PlaceEmbeddingPipeline.PlaceInput input = toInput(place);
+                    if (input != null) {
+                        inputs.add(input);
+                    } else {
+                        skippedPlaces++;
                     }
                 }
+                skippedPlaces += (endIndex - i) - batch.size();
+
+                try {
+                    PlaceEmbeddingPipeline.Result result = embeddingPipeline.embed(inputs);
+                    successfulPlaces += result.keywordCounts().size();
+                    failedPlaces += inputs.size() - result.keywordCounts().size();
+                    totalEmbeddings += result.totalKeywordEmbeddings();
+                    apiRequests += result.apiRequests();
+                } catch (Exception e) {
+                    failedPlaces += inputs.size();
+                    log.error("[ERROR] Failed to process places {}-{}: {}", i + 1, endIndex, e.getMessage(), e);
+                }
 
-                // Log progress
-                double progress = (double) totalPlaces / eligiblePlaces.size() * 100;
-                log.info("[INFO] Progress: {}/{} places ({:.1f}%) - Success: {}, Failed: {}, Skipped: {}",
-                    totalPlaces, eligiblePlaces.size(), progress,
-                    successfulPlaces, failedPlaces, skippedPlaces);
+                log.info("[INFO] Progress: {}/{} places ({}%) - Success: {}, Failed: {}, Skipped: {}, API requests: {}",
+                    totalPlaces, eligibleIds.size(), String.format("%.1f", (double) totalPlaces / eligibleIds.size() * 100),
+                    successfulPlaces, failedPlaces, skippedPlaces, apiRequests);
             }
 
             long endTime = System.currentTimeMillis();
             long processingTime = endTime - startTime;
 
             log.info("✅ Embedding batch process completed successfully");
-            log.info("[INFO] Total: {} | Success: {} | Failed: {} | Skipped: {} | Embeddings: {} | Time: {}ms",
+            log.info("[INFO] Total: {} | Success: {} | Failed: {} | Skipped: {} | Embeddings: {} | API requests: {} | Time: {}ms",
                 totalPlaces, successfulPlaces, failedPlaces, skippedPlaces,
-                totalEmbeddings, processingTime);
+                totalEmbeddings, apiRequests, processingTime);
 
             return resultBuilder
                 .totalPlaces(totalPlaces)
@@ -134,21 +127,13 @@ public class EmbeddingBatchService {
     }
 
     /**
-     * Fetch all places where crawler_found = true
-     * Uses two-step query pattern to avoid LazyInitializationException:
-     * Step 1: Fetch IDs with pagination
-     * Step 2: Fetch individual Place entities by ID
-     *
-     * @Transactional ensures session remains open during fetch
+     * Fetch all eligible place IDs (crawl_status = COMPLETED) page by page
+     * Entities are loaded per batch with findAllById — keyword is a plain array column, no lazy collection
      */
-    @Transactional(readOnly = true)
-    protected List<Place> fetchEligiblePlaces() {
-        log.debug("[DEBUG] Fetching eligible place IDs where crawler_found = true");
-
-        // Step 1: Fetch all place IDs in pages
+    protected List<Long> fetchEligiblePlaceIds() {
         List<Long> allPlaceIds = new ArrayList<>();
         int pageNumber = 0;
-        int pageSize = 100;
+        int pageSize = 1000;
 
         Page<Long> idsPage;
         do {
@@ -161,129 +146,33 @@ public class EmbeddingBatchService {
         } while (idsPage.hasNext());
 
         log.debug("[DEBUG] Total {} eligible place IDs found", allPlaceIds.size());
-
-        // Step 2: Fetch individual Place entities by ID
-        // This ensures each Place is loaded in a fresh session
-        List<Place> allPlaces = new ArrayList<>();
-        for (Long placeId : allPlaceIds) {
-            Optional<Place> placeOpt = placeRepository.findByIdForKeywordEmbedding(placeId);
-            if (placeOpt.isPresent()) {
-                Place place = placeOpt.get();
-
-                // Force initialization of keyword field within transaction
-                // This prevents LazyInitializationException later
-                if (place.getKeyword() != null) {
-                    place.getKeyword().size(); // Touch the collection to initialize it
-                }
-
-                allPlaces.add(place);
-            }
-        }
-
-        log.debug("[DEBUG] Loaded {} Place entities", allPlaces.size());
-        return allPlaces;
+        return allPlaceIds;
     }
 
     /**
-     * Process a single place: generate embeddings for its keywords and save to database
-     * Each place is processed in its own transaction to avoid rollback of entire batch
+     * Process a single place: generate embeddings for its keywords and replace its stored embeddings
      *
      * @param place The place to process
      * @return Number of embeddings created
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public int processPlace(Place place) {
-        log.debug("[DEBUG] Processing place_id={} (keywords: {})", place.getId(),
-            place.getKeyword() != null ? place.getKeyword().size() : 0);
-
-        // Skip if no keywords
-        List<String> keywords = place.getKeyword();
-        if (keywords == null || keywords.isEmpty()) {
+        PlaceEmbeddingPipeline.PlaceInput input = toInput(place);
+        if (input == null) {
             log.debug("[DEBUG] Skipping place_id={} - no keywords", place.getId());
             return 0;
         }
+        return embeddingPipeline.embed(List.of(input)).keywordCounts().getOrDefault(place.getId(), 0);
+    }
 
-        // Take only first MAX_KEYWORDS_PER_PLACE keywords
-        List<String> keywordsToProcess = keywords.size() > MAX_KEYWORDS_PER_PLACE
-            ? keywords.subList(0, MAX_KEYWORDS_PER_PLACE)
-            : keywords;
-
-        log.debug("[DEBUG] Processing {} keywords for place_id={}", keywordsToProcess.size(), place.getId());
-        log.info("[INFO] 🔑 Keywords to embed: {}", keywordsToProcess);
-
-        try {
-            // Call embedding service
-            log.info("[INFO] 🚀 Calling embedding service for place_id={} with {} keywords",
-                place.getId(), keywordsToProcess.size());
-
-            EmbeddingResponse response = embeddingClient.getEmbeddings(keywordsToProcess);
-
-            // Log raw response for debugging
-            log.info("[INFO] 📦 Embedding Response for place_id={}: hasValidEmbeddings={}, embeddingCount={}",
-                place.getId(), response.hasValidEmbeddings(), response.getEmbeddingCount());
-
-            if (response.getEmbeddings() != null) {
-                log.info("[INFO] 📊 Raw embeddings size: {}", response.getEmbeddings().size());
-                for (int i = 0; i < Math.min(3, response.getEmbeddings().size()); i++) {
-                    List<Double> emb = response.getEmbeddings().get(i);
-                    log.info("[INFO]   - Embedding[{}] dimension: {}, first 5 values: {}",
-                        i, emb != null ? emb.size() : "null",
-                        emb != null && emb.size() >= 5 ? emb.subList(0, 5) : "N/A");
-                }
-            } else {
-                log.error("[ERROR] ❌ Embeddings field is NULL in response for place_id={}", place.getId());
-            }
-
-            // Validate response
-            if (!response.hasValidEmbeddings()) {
-                log.warn("[WARN] No embeddings returned for place_id={}", place.getId());
-                return 0;
-            }
-
-            List<float[]> embeddings = response.getEmbeddingsAsFloatArrays();
-            log.info("[INFO] 🔄 Converted to float arrays: {} embeddings", embeddings.size());
-
-            if (embeddings.size() != keywordsToProcess.size()) {
-                log.warn("[WARN] Embedding count mismatch for place_id={}: expected {}, got {}",
-                    place.getId(), keywordsToProcess.size(), embeddings.size());
-                // Continue with available embeddings
-            }
-
-            // Save embeddings to database
-            int embeddingsSaved = 0;
-            for (int i = 0; i < Math.min(keywordsToProcess.size(), embeddings.size()); i++) {
-                String keyword = keywordsToProcess.get(i);
-                float[] embedding = embeddings.get(i);
-
-                log.info("[INFO] 💾 Saving embedding for place_id={}, keyword='{}', dimension={}",
-                    place.getId(), keyword, embedding.length);
-
-                PlaceKeywordEmbedding embeddingEntity = new PlaceKeywordEmbedding(
-                    place.getId(),
-                    keyword,
-                    embedding
-                );
-
-                PlaceKeywordEmbedding savedEntity = embeddingRepository.save(embeddingEntity);
-                log.info("[INFO] ✅ Saved embedding with id={} for place_id={}, keyword='{}'",
-                    savedEntity.getId(), place.getId(), keyword);
-
-                embeddingsSaved++;
-            }
-
-            log.debug("[DEBUG] Successfully embedded {} keywords for place_id={}", embeddingsSaved, place.getId());
-            log.info("[INFO] 🎉 Total saved {} embeddings to DB for place_id={}", embeddingsSaved, place.getId());
-
-            return embeddingsSaved;
-
-        } catch (EmbeddingClient.EmbeddingServiceException e) {
-            log.error("[ERROR] Embedding service error for place_id={}: {}", place.getId(), e.getMessage());
-            throw e;
-
-        } catch (Exception e) {
-            log.error("[ERROR] Unexpected error processing place_id={}: {}", place.getId(), e.getMessage(), e);
-            throw e;
+    private static PlaceEmbeddingPipeline.PlaceInput toInput(Place place) {
+        List<String> keywords = place.getKeyword();
+        if (keywords == null || keywords.isEmpty()) {
+            return null;
         }
+        List<String> keywordsToProcess = keywords.size() > MAX_KEYWORDS_PER_PLACE
+            ? new ArrayList<>(keywords.subList(0, MAX_KEYWORDS_PER_PLACE))
+            : new ArrayList<>(keywords);
+        return new PlaceEmbeddingPipeline.PlaceInput(place.getId(), keywordsToProcess, null);
     }
 
     /**
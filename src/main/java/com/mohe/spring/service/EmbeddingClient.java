@@ -1,12 +1,15 @@
 package com.mohe.spring.service;
 
 import com.mohe.spring.dto.embedding.EmbeddingResponse;
+import com.mohe.spring.dto.embedding.FloatEmbeddingResponse;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.ArrayList;
@@ -25,8 +28,10 @@ public class EmbeddingClient {
     private final ObjectMapper objectMapper;
     private final String apiKey;
     private final String model;
+    private final EmbeddingResponseDecoder responseDecoder;
 
     private static final String OPENAI_EMBEDDINGS_URL = "https://api.openai.com/v1/embeddings";
+    private static final int EMBEDDING_DIMENSIONS = 1536;
 
     public EmbeddingClient(
         RestTemplate restTemplate,
@@ -38,11 +43,16 @@ public class EmbeddingClient {
         this.objectMapper = objectMapper;
         this.apiKey = apiKey;
         this.model = model;
+        this.responseDecoder = new EmbeddingResponseDecoder(objectMapper.getFactory(), EMBEDDING_DIMENSIONS);
     }
 
-    public EmbeddingResponse getEmbeddings(List<String> texts) {
+    /**
+     * 임베딩 요청 (primitive float[] 경로)
+     * 응답 본문을 String/JsonNode로 만들지 않고 스트림에서 바로 float[]로 디코딩합니다.
+     */
+    public FloatEmbeddingResponse getFloatEmbeddings(List<String> texts) {
         if (texts == null || texts.isEmpty()) {
-            return new EmbeddingResponse(List.of());
+            return new FloatEmbeddingResponse(List.of());
         }
 
         if (apiKey == null || apiKey.isBlank()) {
@@ -53,16 +63,67 @@ public class EmbeddingClient {
         log.info("[EmbeddingClient] 📤 Requesting {} embeddings via OpenAI {}", texts.size(), model);
 
         try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setBearerAuth(apiKey);
+            RequestCallback requestCallback = restTemplate.httpEntityCallback(buildRequest(texts));
+            ResponseExtractor<List<float[]>> extractor = response -> {
+                if (!response.getStatusCode().is2xxSuccessful()) {
+                    throw new EmbeddingServiceException("OpenAI returned: " + response.getStatusCode());
+                }
+                return responseDecoder.decode(response.getBody(), texts.size());
+            };
 
-            Map<String, Object> body = Map.of(
-                "model", model,
-                "input", texts
+            List<float[]> embeddings = restTemplate.execute(
+                OPENAI_EMBEDDINGS_URL,
+                HttpMethod.POST,
+                requestCallback,
+                extractor
             );
 
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(body, headers);
+            if (embeddings == null) {
+                throw new EmbeddingServiceException("OpenAI returned empty body");
+            }
+
+            log.info("[EmbeddingClient] ✅ Received {} embeddings ({}D)", embeddings.size(),
+                    embeddings.isEmpty() ? 0 : embeddings.get(0).length);
+            return new FloatEmbeddingResponse(embeddings);
+
+        } catch (EmbeddingServiceException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("[EmbeddingClient] ❌ OpenAI embedding failed: {}", e.getMessage());
+            throw new EmbeddingServiceException("OpenAI embedding failed: " + e.getMessage(), e);
+        }
+    }
+
+    private HttpEntity<Map<String, Object>> buildRequest(List<String> texts) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(apiKey);
+
+        Map<String, Object> body = Map.of(
+            "model", model,
+            "input", texts
+        );
+        return new HttpEntity<>(body, headers);
+    }
+
+    /**
+     * 임베딩 요청 (JsonNode + List&lt;List&lt;Double&gt;&gt; 경로)
+     * 신규 코드는 {@link #getFloatEmbeddings(List)} 사용
+     */
+    public EmbeddingResponse getEmbeddings(List<String> texts) {
+        if (texts == null || texts.isEmpty()) {
+            return new EmbeddingResponse(List.of());
+        }
+
+        if (apiKey == null || apiKey.isBlank()) {
+            log.warn("[EmbeddingClient] OpenAI API key not configured");
+            throw new EmbeddingServiceException("OpenAI API key not configured");
+        }
+
+        log.info("[EmbeddingClient] 📤 Requesting {} embeddings via OpenAI {}", texts.size(), model);
+
+        try {
+            HttpEntity<Map<String, Object>> request = buildRequest(texts);
 
             ResponseEntity<String> responseEntity = restTemplate.exchange(
                 OPENAI_EMBEDDINGS_URL,
@@ -101,7 +162,7 @@ public class EmbeddingClient {
     }
 
     public float[] getEmbedding(String text) {
-        EmbeddingResponse response = getEmbeddings(List.of(text));
+        FloatEmbeddingResponse response = getFloatEmbeddings(List.of(text));
         if (!response.hasValidEmbeddings()) {
             throw new EmbeddingServiceException("No embeddings returned for text: " + text);
         }
@@ -0,0 +1,117 @@
+package com.mohe.spring.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * OpenAI /v1/embeddings 응답 스트리밍 디코더
+ *
+ * <p>응답 전체를 JsonNode 트리로 만들고 Double을 박싱하는 대신, JsonParser 토큰을 순회하며
+ * {@code data[].embedding} 값을 미리 할당한 float[]에 바로 기록합니다.
+ * {@code data[].index}가 있으면 그 순서대로 결과를 배치합니다.</p>
+ */
+public class EmbeddingResponseDecoder {
+
+    private final JsonFactory jsonFactory;
+    private final int expectedDimensions;
+
+    public EmbeddingResponseDecoder(JsonFactory jsonFactory, int expectedDimensions) {
+        this.jsonFactory = jsonFactory;
+        this.expectedDimensions = expectedDimensions;
+    }
+
+    /**
+     * @param body          응답 본문 스트림 (호출자가 닫음)
+     * @param expectedCount 요청한 입력 수 (결과 리스트 사전 할당용)
+     */
+    public List<float[]> decode(InputStream body, int expectedCount) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            return decode(parser, expectedCount);
+        }
+    }
+
+    public List<float[]> decode(byte[] body, int expectedCount) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            return decode(parser, expectedCount);
+        }
+    }
+
+    private List<float[]> decode(JsonParser parser, int expectedCount) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Embedding response is not a JSON object");
+        }
+
+        float[][] byIndex = new float[Math.max(expectedCount, 1)][];
+        int decoded = 0;
+        boolean sawData = false;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("data".equals(field) && value == JsonToken.START_ARRAY) {
+                sawData = true;
+                int position = 0;
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    int index = position;
+                    float[] vector = null;
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String itemField = parser.currentName();
+                        JsonToken itemValue = parser.nextToken();
+                        if ("embedding".equals(itemField) && itemValue == JsonToken.START_ARRAY) {
+                            vector = readVector(parser);
+                        } else if ("index".equals(itemField) && itemValue == JsonToken.VALUE_NUMBER_INT) {
+                            index = parser.getIntValue();
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    if (vector != null) {
+                        if (index >= byIndex.length) {
+                            byIndex = Arrays.copyOf(byIndex, Math.max(index + 1, byIndex.length * 2));
+                        }
+                        byIndex[index] = vector;
+                        decoded++;
+                    }
+                    position++;
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (!sawData) {
+            throw new IOException("Embedding response has no 'data' array");
+        }
+
+        List<float[]> embeddings = new ArrayList<>(decoded);
+        for (float[] vector : byIndex) {
+            if (vector != null) {
+                embeddings.add(vector);
+            }
+        }
+        return embeddings;
+    }
+
+    private float[] readVector(JsonParser parser) throws IOException {
+        float[] vector = new float[expectedDimensions];
+        int size = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw new IOException("Unexpected end of embedding array");
+            }
+            if (size == vector.length) {
+                vector = Arrays.copyOf(vector, Math.max(16, vector.length * 2));
+            }
+            vector[size++] = parser.getFloatValue();
+        }
+        return size == vector.length ? vector : Arrays.copyOf(vector, size);
+    }
+}
@@ -1,6 +1,6 @@
 package com.mohe.spring.service;
 
-import com.mohe.spring.dto.embedding.EmbeddingResponse;
+import com.mohe.spring.dto.embedding.FloatEmbeddingResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -34,7 +34,7 @@ public class KeywordEmbeddingService {
         }
 
         try {
-            EmbeddingResponse response = embeddingClient.getEmbeddings(List.of(combinedKeywords));
+            FloatEmbeddingResponse response = embeddingClient.getFloatEmbeddings(List.of(combinedKeywords));
             if (response.hasValidEmbeddings()) {
                 List<float[]> vectors = response.getEmbeddingsAsFloatArrays();
                 if (!vectors.isEmpty()) {
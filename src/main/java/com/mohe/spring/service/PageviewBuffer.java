@@ -0,0 +1,156 @@
+package com.mohe.spring.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 페이지뷰 메모리 버퍼
+ *
+ * <p>요청 스레드는 {@link #offer}로 큐에 넣고 바로 반환하고, 스케줄 작업이 User-Agent 파싱과
+ * visitor_logs JDBC batch insert를 처리합니다.</p>
+ *
+ * <ul>
+ *   <li>큐가 가득 차면 요청을 막지 않고 버림 (dropped 카운트)</li>
+ *   <li>flush는 한 스레드씩만 실행 — visitor_logs id가 커밋 순서대로 증가하므로
+ *       {@link VisitorRollupService}가 id 워터마크로 증분 집계할 수 있음</li>
+ *   <li>insert 실패 시 해당 batch는 재시도하지 않고 버림 (분석 데이터)</li>
+ * </ul>
+ */
+@Component
+public class PageviewBuffer {
+
+    private static final Logger logger = LoggerFactory.getLogger(PageviewBuffer.class);
+
+    private static final String INSERT_SQL = """
+        INSERT INTO visitor_logs (session_id, ip_address, user_agent, device_type, os, browser,
+                                  page_path, referrer, user_id, created_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<Pageview> queue;
+    private final int capacity;
+    private final int batchSize;
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong inserted = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+
+    public PageviewBuffer(
+        JdbcTemplate jdbcTemplate,
+        @Value("${mohe.analytics.buffer-capacity:10000}") int capacity,
+        @Value("${mohe.analytics.flush-batch-size:500}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.capacity = Math.max(1, capacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.queue = new ArrayBlockingQueue<>(this.capacity);
+    }
+
+    public boolean offer(Pageview pageview) {
+        if (queue.offer(pageview)) {
+            enqueued.incrementAndGet();
+            return true;
+        }
+        dropped.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * 큐에 쌓인 페이지뷰를 batchSize개씩 insert
+     *
+     * @return insert한 행 수
+     */
+    @Scheduled(fixedDelayString = "${mohe.analytics.flush-interval-ms:1000}")
+    public synchronized int flush() {
+        int total = 0;
+        List<Pageview> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            try {
+                insert(batch);
+                inserted.addAndGet(batch.size());
+                total += batch.size();
+            } catch (RuntimeException e) {
+                failed.addAndGet(batch.size());
+                logger.error("Failed to insert {} pageviews: {}", batch.size(), e.getMessage());
+            }
+            batches.incrementAndGet();
+            batch.clear();
+        }
+        return total;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        int flushed = flush();
+        if (flushed > 0) {
+            logger.info("Flushed {} buffered pageviews on shutdown", flushed);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("queued", queue.size());
+        stats.put("capacity", capacity);
+        stats.put("batchSize", batchSize);
+        stats.put("enqueued", enqueued.get());
+        stats.put("inserted", inserted.get());
+        stats.put("dropped", dropped.get());
+        stats.put("failed", failed.get());
+        stats.put("batches", batches.get());
+        return stats;
+    }
+
+    private void insert(List<Pageview> pageviews) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Pageview pageview = pageviews.get(i);
+                Map<String, String> parsed = AnalyticsService.parseUserAgent(pageview.userAgent());
+                ps.setString(1, pageview.sessionId());
+                ps.setString(2, pageview.ipAddress());
+                ps.setString(3, pageview.userAgent());
+                ps.setString(4, parsed.get("deviceType"));
+                ps.setString(5, parsed.get("os"));
+                ps.setString(6, parsed.get("browser"));
+                ps.setString(7, pageview.pagePath());
+                ps.setString(8, pageview.referrer());
+                if (pageview.userId() != null) {
+                    ps.setLong(9, pageview.userId());
+                } else {
+                    ps.setNull(9, Types.BIGINT);
+                }
+                ps.setObject(10, pageview.createdAt());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return pageviews.size();
+            }
+        });
+    }
+
+    public record Pageview(String sessionId, String ipAddress, String userAgent, String pagePath,
+                           String referrer, Long userId, OffsetDateTime createdAt) {
+    }
+}
@@ -0,0 +1,421 @@
+package com.mohe.spring.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 문장 임베딩 기반 "비슷한 장소" 사전 계산 서비스
+ *
+ * <p>COMPLETED 장소마다 place_description_embeddings의 코사인 거리 top-K 이웃을 HNSW 인덱스로 찾아
+ * place_embedding_neighbors에 기록합니다. 상세 API는 (place_id, rank) PK 조회 한 번으로 이웃을 읽습니다.</p>
+ *
+ * <ul>
+ *   <li>장소 ID를 slice로 나눠 고정 크기 풀에서 병렬 실행, slice당 LATERAL 쿼리 1회 + JDBC batch 쓰기</li>
+ *   <li>증분 계산: 마지막 실행 이후 임베딩이 새로 저장된 장소(삭제 후 재삽입이므로 created_at 기준)와
+ *       이웃 행이 없는 장소만 재계산하고, 그 장소를 다른 장소의 목록에도 역방향으로 병합</li>
+ *   <li>전체 계산: 역방향 병합으로 누적된 오차와 사라진 장소 정리를 위해 주기적으로 실행</li>
+ *   <li>여러 인스턴스에서 스케줄이 돌아도 DB advisory lock으로 한 곳에서만 계산</li>
+ * </ul>
+ *
+ * <p>HNSW 인덱스 스캔은 ef_search개 후보를 먼저 고른 뒤 WHERE를 적용하므로, embed_status 필터를
+ * ANN LIMIT 안에 두면 가까운 장소 중 COMPLETED가 아닌 것만큼 이웃이 모자랍니다. 그래서 필터 없이
+ * topK × overfetch개 후보를 뽑은 뒤 COMPLETED만 남겨 topK로 자릅니다. 후보 중 COMPLETED가 topK보다
+ * 적으면(가까운 장소 대부분이 미완료) 그 장소의 목록은 topK보다 짧을 수 있습니다.</p>
+ */
+@Service
+public class PlaceEmbeddingNeighborService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlaceEmbeddingNeighborService.class);
+
+    private static final String NEIGHBOR_SQL = """
+        SELECT q.place_id, n.place_id, 1 - n.distance
+        FROM place_description_embeddings q
+        CROSS JOIN LATERAL (
+            SELECT c.place_id, c.distance
+            FROM (
+                SELECT e.place_id, e.embedding <=> q.embedding AS distance
+                FROM place_description_embeddings e
+                ORDER BY e.embedding <=> q.embedding
+                LIMIT ?
+            ) c
+            JOIN places p ON p.id = c.place_id
+            WHERE c.place_id <> q.place_id
+            AND p.embed_status = 'COMPLETED'
+            ORDER BY c.distance
+            LIMIT ?
+        ) n
+        WHERE q.place_id = ANY(?)
+        ORDER BY q.place_id, n.distance
+        """;
+
+    static final String LOCK_NAME = "place-embedding-neighbors";
+
+    /** pgvector hnsw.ef_search 기본값 / 상한 */
+    private static final int DEFAULT_EF_SEARCH = 40;
+    private static final int MAX_EF_SEARCH = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DatabaseAdvisoryLock advisoryLock;
+    private final int topK;
+    private final int candidates;
+    private final int sliceSize;
+    private final int parallelism;
+    private final boolean enabled;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile LocalDateTime lastRunStartedAt;
+    private volatile LocalDateTime lastRunFinishedAt;
+    private volatile String lastRunMode;
+    private volatile long lastRunMillis;
+    private volatile int lastRunPlaces;
+    private volatile int lastRunRows;
+
+    public PlaceEmbeddingNeighborService(
+        JdbcTemplate jdbcTemplate,
+        TransactionTemplate transactionTemplate,
+        DatabaseAdvisoryLock advisoryLock,
+        @Value("${mohe.embedding-neighbors.top-k:12}") int topK,
+        @Value("${mohe.embedding-neighbors.overfetch:4}") int overfetch,
+        @Value("${mohe.embedding-neighbors.slice-size:64}") int sliceSize,
+        @Value("${mohe.embedding-neighbors.parallelism:4}") int parallelism,
+        @Value("${mohe.embedding-neighbors.enabled:true}") boolean enabled
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.advisoryLock = advisoryLock;
+        this.topK = topK;
+        // 자기 자신도 후보에 포함되므로 +1
+        this.candidates = Math.min(MAX_EF_SEARCH, topK * Math.max(1, overfetch) + 1);
+        this.sliceSize = Math.max(1, sliceSize);
+        this.parallelism = Math.max(1, parallelism);
+        this.enabled = enabled;
+    }
+
+    /**
+     * 상세 페이지용 이웃 장소 ID (rank 순, 현재 COMPLETED 장소만)
+     */
+    public List<Long> findNeighborIds(Long placeId, int limit) {
+        return jdbcTemplate.queryForList("""
+            SELECT n.neighbor_place_id
+            FROM place_embedding_neighbors n
+            JOIN places p ON p.id = n.neighbor_place_id
+            WHERE n.place_id = ?
+            AND p.embed_status = 'COMPLETED'
+            ORDER BY n.rank
+            LIMIT ?
+            """, Long.class, placeId, limit);
+    }
+
+    /**
+     * 주기적 증분 계산: 임베딩이 바뀐 장소와 아직 이웃이 없는 장소
+     */
+    @Scheduled(
+        initialDelayString = "${mohe.embedding-neighbors.incremental-initial-delay-ms:180000}",
+        fixedDelayString = "${mohe.embedding-neighbors.incremental-interval-ms:600000}"
+    )
+    public void scheduledIncrementalRefresh() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            runExclusively(this::runIncremental);
+        } catch (Exception e) {
+            logger.error("Embedding neighbor incremental refresh failed", e);
+        }
+    }
+
+    /**
+     * 주기적 전체 재계산
+     */
+    @Scheduled(
+        initialDelayString = "${mohe.embedding-neighbors.full-initial-delay-ms:86400000}",
+        fixedDelayString = "${mohe.embedding-neighbors.full-interval-ms:86400000}"
+    )
+    public void scheduledFullRefresh() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            runExclusively(this::runFull);
+        } catch (Exception e) {
+            logger.error("Embedding neighbor full refresh failed", e);
+        }
+    }
+
+    /**
+     * 전체 재계산 (동기 실행)
+     *
+     * @throws IllegalStateException 이 인스턴스나 다른 인스턴스에서 이미 계산 중인 경우
+     */
+    public void calculateAll() {
+        if (!runExclusively(this::runFull)) {
+            throw new IllegalStateException("Embedding neighbor calculation already in progress");
+        }
+    }
+
+    /**
+     * JVM 안에서는 running 플래그, 인스턴스 간에는 advisory lock으로 중복 실행 방지
+     *
+     * @return 실행했으면 true, 이미 실행 중이라 건너뛰었으면 false
+     */
+    private boolean runExclusively(Runnable task) {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            return advisoryLock.runExclusively(LOCK_NAME, task);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("running", running.get());
+        stats.put("topK", topK);
+        stats.put("candidates", candidates);
+        stats.put("lastRunMode", lastRunMode);
+        stats.put("lastRunFinishedAt", lastRunFinishedAt);
+        stats.put("lastRunMillis", lastRunMillis);
+        stats.put("lastRunPlaces", lastRunPlaces);
+        stats.put("lastRunRows", lastRunRows);
+        return stats;
+    }
+
+    private void runFull() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.currentTimeMillis();
+
+        List<Long> targets = jdbcTemplate.queryForList("""
+            SELECT pde.place_id
+            FROM place_description_embeddings pde
+            JOIN places p ON p.id = pde.place_id
+            WHERE p.embed_status = 'COMPLETED'
+            ORDER BY pde.place_id
+            """, Long.class);
+        int rows = computeAndWrite(targets, startedAt, null);
+
+        // 임베딩이 사라졌거나 COMPLETED가 아닌 장소의 오래된 이웃 제거
+        Integer stale = transactionTemplate.execute(status ->
+            jdbcTemplate.update("DELETE FROM place_embedding_neighbors WHERE updated_at < ?", Timestamp.valueOf(startedAt)));
+
+        finishRun("full", startedAt, start, targets.size(), rows);
+        logger.info("Embedding neighbor full refresh: {} places, {} rows, {} stale rows removed in {}ms",
+            targets.size(), rows, stale, lastRunMillis);
+    }
+
+    private void runIncremental() {
+        LocalDateTime since = lastRunStartedAt != null ? lastRunStartedAt : findLastUpdate();
+        if (since == null) {
+            // 아직 한 번도 계산하지 않음
+            runFull();
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.currentTimeMillis();
+
+        List<Long> targets = jdbcTemplate.queryForList("""
+            SELECT pde.place_id
+            FROM place_description_embeddings pde
+            JOIN places p ON p.id = pde.place_id
+            WHERE p.embed_status = 'COMPLETED'
+            AND (pde.created_at > ?
+                 OR NOT EXISTS (SELECT 1 FROM place_embedding_neighbors n WHERE n.place_id = pde.place_id))
+            ORDER BY pde.place_id
+            """, Long.class, Timestamp.valueOf(since));
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Map<Long, Float>> reverse = new HashMap<>();
+        int rows = computeAndWrite(targets, startedAt, reverse);
+        rows += mergeReverse(reverse, new HashSet<>(targets), startedAt);
+
+        finishRun("incremental", startedAt, start, targets.size(), rows);
+        logger.info("Embedding neighbor incremental refresh: {} changed places, {} rows in {}ms",
+            targets.size(), rows, lastRunMillis);
+    }
+
+    private void finishRun(String mode, LocalDateTime startedAt, long startMillis, int places, int rows) {
+        lastRunMode = mode;
+        lastRunStartedAt = startedAt;
+        lastRunFinishedAt = LocalDateTime.now();
+        lastRunMillis = System.currentTimeMillis() - startMillis;
+        lastRunPlaces = places;
+        lastRunRows = rows;
+    }
+
+    private LocalDateTime findLastUpdate() {
+        Timestamp last = jdbcTemplate.queryForObject("SELECT MAX(updated_at) FROM place_embedding_neighbors", Timestamp.class);
+        return last != null ? last.toLocalDateTime() : null;
+    }
+
+    /**
+     * slice 단위 병렬 계산 + 쓰기
+     *
+     * @param reverse null이 아니면 (이웃 → {계산한 장소 → 유사도}) 역방향 후보를 수집
+     */
+    private int computeAndWrite(List<Long> targets, LocalDateTime updatedAt, Map<Long, Map<Long, Float>> reverse) {
+        if (targets.isEmpty()) {
+            return 0;
+        }
+        AtomicInteger rows = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int from = 0; from < targets.size(); from += sliceSize) {
+                List<Long> slice = targets.subList(from, Math.min(from + sliceSize, targets.size()));
+                futures.add(CompletableFuture.runAsync(() -> {
+                    Map<Long, List<NeighborRow>> neighbors = queryNeighbors(slice);
+                    rows.addAndGet(writeLists(slice, neighbors, updatedAt));
+                    if (reverse != null) {
+                        synchronized (reverse) {
+                            neighbors.values().forEach(list -> list.forEach(row ->
+                                reverse.computeIfAbsent(row.neighborPlaceId(), k -> new HashMap<>())
+                                    .put(row.placeId(), row.similarity())));
+                        }
+                    }
+                }, pool));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } finally {
+            pool.shutdown();
+        }
+        return rows.get();
+    }
+
+    /**
+     * 후보 수가 기본 ef_search보다 크면 인덱스 스캔이 그만큼 후보를 돌려주도록 트랜잭션 안에서만 올림
+     */
+    private Map<Long, List<NeighborRow>> queryNeighbors(List<Long> placeIds) {
+        Map<Long, List<NeighborRow>> result = new HashMap<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (candidates > DEFAULT_EF_SEARCH) {
+                jdbcTemplate.execute("SET LOCAL hnsw.ef_search = " + candidates);
+            }
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(NEIGHBOR_SQL);
+                statement.setInt(1, candidates);
+                statement.setInt(2, topK);
+                statement.setArray(3, connection.createArrayOf("bigint", placeIds.toArray()));
+                return statement;
+            }, (RowCallbackHandler) rs -> {
+                long placeId = rs.getLong(1);
+                result.computeIfAbsent(placeId, k -> new ArrayList<>())
+                    .add(new NeighborRow(placeId, rs.getLong(2), rs.getFloat(3)));
+            });
+        });
+        return result;
+    }
+
+    /**
+     * 장소 단위 교체: 기존 행 삭제 후 새 목록 JDBC batch insert (한 트랜잭션)
+     */
+    private int writeLists(List<Long> placeIds, Map<Long, List<NeighborRow>> neighbors, LocalDateTime updatedAt) {
+        Timestamp timestamp = Timestamp.valueOf(updatedAt);
+        List<Object[]> rows = new ArrayList<>();
+        for (Long placeId : placeIds) {
+            short rank = 0;
+            for (NeighborRow row : neighbors.getOrDefault(placeId, List.of())) {
+                rows.add(new Object[]{placeId, ++rank, row.neighborPlaceId(), row.similarity(), timestamp});
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate("DELETE FROM place_embedding_neighbors WHERE place_id = ?",
+                placeIds.stream().map(id -> new Object[]{id}).toList());
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate("""
+                    INSERT INTO place_embedding_neighbors (place_id, rank, neighbor_place_id, similarity, updated_at)
+                    VALUES (?, ?, ?, ?, ?)
+                    """, rows);
+            }
+        });
+        return rows.size();
+    }
+
+    /**
+     * 증분 계산한 장소를 다른 장소의 top-K에 병합
+     * (q의 이웃 목록에 p가 들어갈 만큼 가까우면 갱신, 코사인 유사도는 대칭)
+     */
+    private int mergeReverse(Map<Long, Map<Long, Float>> reverse, Set<Long> recomputed, LocalDateTime updatedAt) {
+        List<Long> owners = reverse.keySet().stream().filter(id -> !recomputed.contains(id)).sorted().toList();
+        int rows = 0;
+        for (int from = 0; from < owners.size(); from += sliceSize) {
+            List<Long> slice = owners.subList(from, Math.min(from + sliceSize, owners.size()));
+            Map<Long, List<NeighborRow>> current = loadLists(slice);
+
+            List<Long> changedOwners = new ArrayList<>();
+            Map<Long, List<NeighborRow>> merged = new HashMap<>();
+            for (Long owner : slice) {
+                Map<Long, Float> bySimilarity = new HashMap<>();
+                current.getOrDefault(owner, List.of()).forEach(row -> bySimilarity.put(row.neighborPlaceId(), row.similarity()));
+                bySimilarity.putAll(reverse.get(owner));
+
+                List<NeighborRow> list = bySimilarity.entrySet().stream()
+                    .map(entry -> new NeighborRow(owner, entry.getKey(), entry.getValue()))
+                    .sorted(Comparator.comparing(NeighborRow::similarity).reversed()
+                        .thenComparing(NeighborRow::neighborPlaceId))
+                    .limit(topK)
+                    .toList();
+                if (!list.equals(current.getOrDefault(owner, List.of()))) {
+                    changedOwners.add(owner);
+                    merged.put(owner, list);
+                }
+            }
+            if (!changedOwners.isEmpty()) {
+                rows += writeLists(changedOwners, merged, updatedAt);
+            }
+        }
+        return rows;
+    }
+
+    private Map<Long, List<NeighborRow>> loadLists(List<Long> placeIds) {
+        Map<Long, List<NeighborRow>> result = new HashMap<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement("""
+                SELECT place_id, neighbor_place_id, similarity
+                FROM place_embedding_neighbors
+                WHERE place_id = ANY(?)
+                ORDER BY place_id, rank
+                """);
+            statement.setArray(1, connection.createArrayOf("bigint", placeIds.toArray()));
+            return statement;
+        }, (RowCallbackHandler) rs -> {
+            long placeId = rs.getLong(1);
+            result.computeIfAbsent(placeId, k -> new ArrayList<>())
+                .add(new NeighborRow(placeId, rs.getLong(2), rs.getFloat(3)));
+        });
+        return result;
+    }
+
+    private record NeighborRow(long placeId, long neighborPlaceId, float similarity) {
+    }
+}
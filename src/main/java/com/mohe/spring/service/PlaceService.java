@@ -1,5 +1,6 @@
 package com.mohe.spring.service;
 
+import com.mohe.spring.config.SpatialQueryProperties;
 import com.mohe.spring.dto.*;
 import com.mohe.spring.dto.ReviewDto;
 import com.mohe.spring.entity.EmbedStatus;
@@ -9,6 +10,11 @@ import com.mohe.spring.repository.PlaceImageRepository;
 import com.mohe.spring.repository.PlaceRepository;
 import com.mohe.spring.repository.BookmarkRepository;
 import com.mohe.spring.service.LlmService;
+import com.mohe.spring.service.card.PlaceCardAssembler;
+import com.mohe.spring.service.geo.PlaceGeoIndex;
+import com.mohe.spring.service.hours.PlaceOpenHoursIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Page;
@@ -16,6 +22,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import com.mohe.spring.util.NicknameGenerator;
+import com.mohe.spring.util.WeeklyOpenHours;
 import com.mohe.spring.event.RegionDiscoveryEvent;
 import org.springframework.context.ApplicationEventPublisher;
 
@@ -23,37 +30,56 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Calendar;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class PlaceService {
 
+    private static final Logger logger = LoggerFactory.getLogger(PlaceService.class);
+
     private final PlaceRepository placeRepository;
     private final VectorSearchService vectorSearchService;
     private final BookmarkRepository bookmarkRepository;
     private final LlmService llmService;
     private final PlaceImageRepository placeImageRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final PlaceGeoIndex placeGeoIndex;
+    private final SpatialQueryProperties spatialQueryProperties;
+    private final PlaceEmbeddingNeighborService placeEmbeddingNeighborService;
+    private final PlaceCardAssembler placeCardAssembler;
+    private final PlaceOpenHoursIndex placeOpenHoursIndex;
+
+    private static final int SIMILAR_PLACES_LIMIT = 10;
 
     public PlaceService(PlaceRepository placeRepository, VectorSearchService vectorSearchService,
                         BookmarkRepository bookmarkRepository, LlmService llmService,
                         PlaceImageRepository placeImageRepository,
-                        ApplicationEventPublisher eventPublisher) {
+                        ApplicationEventPublisher eventPublisher,
+                        PlaceGeoIndex placeGeoIndex,
+                        SpatialQueryProperties spatialQueryProperties,
+                        PlaceEmbeddingNeighborService placeEmbeddingNeighborService,
+                        PlaceCardAssembler placeCardAssembler,
+                        PlaceOpenHoursIndex placeOpenHoursIndex) {
         this.placeRepository = placeRepository;
         this.vectorSearchService = vectorSearchService;
         this.bookmarkRepository = bookmarkRepository;
         this.llmService = llmService;
         this.placeImageRepository = placeImageRepository;
         this.eventPublisher = eventPublisher;
+        this.placeGeoIndex = placeGeoIndex;
+        this.spatialQueryProperties = spatialQueryProperties;
+        this.placeEmbeddingNeighborService = placeEmbeddingNeighborService;
+        this.placeCardAssembler = placeCardAssembler;
+        this.placeOpenHoursIndex = placeOpenHoursIndex;
     }
     
     public PlaceRecommendationsResponse getRecommendations(Double latitude, Double longitude) {
@@ -96,9 +122,7 @@ public class PlaceService {
             // Filter by business hours - only show currently open places
             places = filterOpenPlaces(places);
 
-            List<SimplePlaceDto> placeDtos = places.stream()
-                .map(place -> hasLocation ? convertToSimplePlaceDto(place, latitude, longitude) : convertToSimplePlaceDto(place))
-                .collect(Collectors.toList());
+            List<SimplePlaceDto> placeDtos = placeCardAssembler.toSimplePlaceDtos(places, latitude, longitude);
 
             return new PlaceRecommendationsResponse(placeDtos, placeDtos.size(), recommendationType);
         } catch (Exception e) {
@@ -108,9 +132,7 @@ public class PlaceService {
             // Filter by business hours - only show currently open places
             places = filterOpenPlaces(places);
 
-            List<SimplePlaceDto> placeDtos = places.stream()
-                .map(place -> hasLocation ? convertToSimplePlaceDto(place, latitude, longitude) : convertToSimplePlaceDto(place))
-                .collect(Collectors.toList());
+            List<SimplePlaceDto> placeDtos = placeCardAssembler.toSimplePlaceDtos(places, latitude, longitude);
 
             return new PlaceRecommendationsResponse(placeDtos, placeDtos.size(), "rating-based-fallback");
         }
@@ -127,10 +149,10 @@ public class PlaceService {
             placePage = placeRepository.findRecommendablePlaces(pageRequest);
         }
         
-        List<SimplePlaceDto> placeDtos = placePage.getContent().stream()
+        List<Place> readyPlaces = placePage.getContent().stream()
             .filter(this::isReady)
-            .map(this::convertToSimplePlaceDto)
             .collect(Collectors.toList());
+        List<SimplePlaceDto> placeDtos = placeCardAssembler.toSimplePlaceDtos(readyPlaces, null, null);
         
         return new PlaceListResponse(placeDtos, (int) placePage.getTotalElements(), 
                                    placePage.getTotalPages(), page, limit);
@@ -146,10 +168,10 @@ public class PlaceService {
         if (!EmbedStatus.COMPLETED.equals(place.getEmbedStatus())) {
             throw new RuntimeException("준비되지 않은 장소입니다: " + id);
         }
-        SimplePlaceDto placeDto = convertToSimplePlaceDto(place);
+        SimplePlaceDto placeDto = placeCardAssembler.toSimplePlaceDto(place, null, null);
 
-        // Get similar places (simple implementation - same category)
-        List<SimplePlaceDto> similarPlaces = List.of(); // TODO: Implement similarity logic
+        // 사전 계산된 문장 임베딩 이웃 (place_embedding_neighbors)
+        List<SimplePlaceDto> similarPlaces = getSimilarPlaces(place.getId());
 
         // Convert reviews with random nicknames for crawled reviews
         List<ReviewDto> reviewDtos = place.getReviews().stream()
@@ -164,6 +186,31 @@ public class PlaceService {
         return new PlaceDetailResponse(placeDto, List.of(), false, similarPlaces, reviewDtos);
     }
     
+    /**
+     * 비슷한 장소: 이웃 ID PK 조회 1회 + 장소 조회 1회 + 카드 일괄 조립 (쿼리 3회)
+     */
+    private List<SimplePlaceDto> getSimilarPlaces(Long placeId) {
+        try {
+            List<Long> neighborIds = placeEmbeddingNeighborService.findNeighborIds(placeId, SIMILAR_PLACES_LIMIT);
+            if (neighborIds.isEmpty()) {
+                return List.of();
+            }
+
+            Map<Long, Place> placesById = placeRepository.findAllById(neighborIds).stream()
+                .collect(Collectors.toMap(Place::getId, p -> p));
+
+            List<Place> neighbors = neighborIds.stream()
+                .map(placesById::get)
+                .filter(p -> p != null)
+                .collect(Collectors.toList());
+            return placeCardAssembler.toSimplePlaceDtos(neighbors, null, null);
+        } catch (Exception e) {
+            // 이웃 조회 실패 시 상세 페이지는 비슷한 장소 없이 응답
+            logger.warn("Failed to load similar places for place {}", placeId, e);
+            return List.of();
+        }
+    }
+
     public PlaceSearchResponse searchPlaces(String q, String location, String weather, String time) {
         try {
             Authentication auth = SecurityContextHolder.getContext().getAuthentication();
@@ -214,9 +261,7 @@ public class PlaceService {
                 totalResults = (int) searchPage.getTotalElements();
             }
             
-            List<SimplePlaceDto> placeDtos = searchResults.stream()
-                .map(this::convertToSimplePlaceDto)
-                .collect(Collectors.toList());
+            List<SimplePlaceDto> placeDtos = placeCardAssembler.toSimplePlaceDtos(searchResults, null, null);
             
             // Create enhanced search context
             String contextRecommendation = isAuthenticated ? 
@@ -243,9 +288,7 @@ public class PlaceService {
             PageRequest pageRequest = PageRequest.of(0, 20);
             Page<Place> searchResults = placeRepository.searchPlaces(q, pageRequest);
             
-            List<SimplePlaceDto> placeDtos = searchResults.getContent().stream()
-                .map(this::convertToSimplePlaceDto)
-                .collect(Collectors.toList());
+            List<SimplePlaceDto> placeDtos = placeCardAssembler.toSimplePlaceDtos(searchResults.getContent(), null, null);
             
             Map<String, Object> searchContext = Map.of(
                 "weather", weather != null ? weather : "알 수 없음",
@@ -324,9 +367,7 @@ public class PlaceService {
                 }
             }
 
-            List<SimplePlaceDto> placeDtos = popularPlaces.stream()
-                .map(place -> convertToSimplePlaceDto(place, latitude, longitude))
-                .collect(Collectors.toList());
+            List<SimplePlaceDto> placeDtos = placeCardAssembler.toSimplePlaceDtos(popularPlaces, latitude, longitude);
 
             return new PlaceListResponse(placeDtos, placeDtos.size(), 1, 1, safeLimit);
         } catch (Exception e) {
@@ -351,11 +392,7 @@ public class PlaceService {
             // Generate LLM-based recommendations
             List<Place> places = generateLLMRecommendations(candidatePlaces, latitude, longitude, limit);
 
-            List<SimplePlaceDto> placeDtos = places.stream()
-                .map(place -> latitude != null && longitude != null
-                    ? convertToSimplePlaceDto(place, latitude, longitude)
-                    : convertToSimplePlaceDto(place))
-                .collect(Collectors.toList());
+            List<SimplePlaceDto> placeDtos = placeCardAssembler.toSimplePlaceDtos(places, latitude, longitude);
 
             // Create time context with better logic
             java.time.LocalTime now = java.time.LocalTime.now();
@@ -378,11 +415,7 @@ public class PlaceService {
             // Filter by business hours - only show currently open places
             places = filterOpenPlaces(places);
 
-            List<SimplePlaceDto> placeDtos = places.stream()
-                .map(place -> latitude != null && longitude != null
-                    ? convertToSimplePlaceDto(place, latitude, longitude)
-                    : convertToSimplePlaceDto(place))
-                .collect(Collectors.toList());
+            List<SimplePlaceDto> placeDtos = placeCardAssembler.toSimplePlaceDtos(places, latitude, longitude);
 
             java.time.LocalTime now = java.time.LocalTime.now();
             String timeOfDay = getTimeOfDay(now);
@@ -414,9 +447,7 @@ public class PlaceService {
                 break;
         }
 
-        List<SimplePlaceDto> placeDtos = slice.getContent().stream()
-            .map(this::convertToSimplePlaceDto)
-            .collect(Collectors.toList());
+        List<SimplePlaceDto> placeDtos = placeCardAssembler.toSimplePlaceDtos(slice.getContent(), null, null);
 
         // hasNext 기반 추정 (정확한 count 불필요 — 프론트는 무한스크롤)
         int estimatedTotal = slice.hasNext() ? (page + 2) * limit : page * limit + placeDtos.size();
@@ -430,19 +461,12 @@ public class PlaceService {
         double radiusKilometers = safeRadiusMeters / 1000.0;
         int safeLimit = Math.max(1, Math.min(limit, 50));
 
-        double[] bbox = computeBoundingBox(latitude, longitude, radiusKilometers);
-        List<Place> places = placeRepository.findNearbyPlacesOptimized(
-                latitude, longitude, radiusKilometers,
-                bbox[0], bbox[1], bbox[2], bbox[3],
-                safeLimit, getCurrentDayOfWeek(), getCurrentTime()
-            )
+        List<Place> places = findNearbyOpenPlaces(latitude, longitude, radiusKilometers, safeLimit)
             .stream()
             .filter(this::isReady)
             .collect(Collectors.toList());
 
-        List<SimplePlaceDto> placeDtos = places.stream()
-            .map(place -> convertToSimplePlaceDto(place, latitude, longitude))
-            .collect(Collectors.toList());
+        List<SimplePlaceDto> placeDtos = placeCardAssembler.toSimplePlaceDtos(places, latitude, longitude);
 
         return new PlaceListResponse(placeDtos, placeDtos.size(), 1, 0, placeDtos.size());
     }
@@ -454,10 +478,12 @@ public class PlaceService {
         // Get top rated places
         Pageable pageable = PageRequest.of(0, limit);
         List<Place> places = placeRepository.findTopRatedPlaces(3.0, pageable).getContent();
+        Map<Long, List<String>> imagesByPlace = placeCardAssembler.imageUrls(
+            places.stream().map(Place::getId).collect(Collectors.toList()));
 
         return places.stream()
             .map(place -> {
-                List<String> imageUrls = resolvePlaceImages(place);
+                List<String> imageUrls = imagesByPlace.getOrDefault(place.getId(), List.of());
                 String imageUrl = imageUrls.isEmpty() ? null : imageUrls.get(0);
 
                 return new PlaceDto.PlaceResponse(
@@ -490,16 +516,6 @@ public class PlaceService {
     /**
      * Build a geo-weighted candidate list: 70% within 15km, 30% within 30km.
      */
-    private static final String[] KO_DAYS = {"일", "월", "화", "수", "목", "금", "토"};
-
-    private String getCurrentDayOfWeek() {
-        return KO_DAYS[Calendar.getInstance().get(Calendar.DAY_OF_WEEK) - 1];
-    }
-
-    private String getCurrentTime() {
-        return LocalTime.now().format(DateTimeFormatter.ofPattern("HH:mm:ss"));
-    }
-
     /**
      * Bounding box 계산: 위도/경도 기준 km → degree 변환
      */
@@ -514,24 +530,78 @@ public class PlaceService {
         };
     }
 
+    /**
+     * 반경 내 현재 영업 중인 장소를 거리순으로 조회
+     * geo index가 준비되어 있으면 인메모리 k-최근접으로 ID를 구하고 해당 페이지만 DB에서 로드,
+     * 아니면 기존 bounding box + Haversine 쿼리로 fallback
+     * 영업 중 판단은 주간 영업시간 비트맵 (인메모리 사본이 준비되어 있으면 geo index 수집 단계에서 걸러냄)
+     */
+    private List<Place> findNearbyOpenPlaces(double latitude, double longitude, double radiusKm, int limit) {
+        int openSlot = WeeklyOpenHours.currentSlot();
+
+        if (!placeGeoIndex.isReady()) {
+            double[] bbox = computeBoundingBox(latitude, longitude, radiusKm);
+            return placeRepository.findNearbyPlacesOptimized(spatialQueryProperties.getMode(),
+                latitude, longitude, radiusKm,
+                bbox[0], bbox[1], bbox[2], bbox[3],
+                limit, openSlot
+            );
+        }
+
+        if (placeOpenHoursIndex.isReady()) {
+            // 영업 중인 장소만 k-최근접으로 수집 → 가까운 장소가 모두 닫혀 있어도 반경을 넓혀 limit개를 채움
+            List<Long> ids = placeGeoIndex.findNearest(latitude, longitude, limit, radiusKm, 3.0,
+                    placeId -> placeOpenHoursIndex.isOpen(placeId, openSlot))
+                .stream().map(PlaceGeoIndex.Hit::placeId).collect(Collectors.toList());
+            return ids.isEmpty() ? List.of() : orderByIds(ids, placeRepository.findAllById(ids), limit);
+        }
+
+        // 사본이 없으면 SQL로 영업 여부 확인 — limit개가 모이거나 반경 내 후보가 바닥날 때까지 k를 두 배씩 확장
+        int k = limit * 2;
+        Set<Long> checkedIds = new HashSet<>();
+        List<Place> openPlaces = new ArrayList<>();
+        while (true) {
+            List<Long> ids = placeGeoIndex.findNearest(latitude, longitude, k, radiusKm, 3.0)
+                .stream().map(PlaceGeoIndex.Hit::placeId).collect(Collectors.toList());
+            List<Long> uncheckedIds = ids.stream().filter(checkedIds::add).collect(Collectors.toList());
+            if (!uncheckedIds.isEmpty()) {
+                openPlaces.addAll(placeRepository.findOpenPlacesByIds(uncheckedIds, openSlot));
+            }
+            if (openPlaces.size() >= limit || ids.size() < k) {
+                return orderByIds(ids, openPlaces, limit);
+            }
+            k *= 2;
+        }
+    }
+
+    /**
+     * 로드한 장소를 ID 목록 순서(거리순)대로 최대 limit개 정렬
+     */
+    private static List<Place> orderByIds(List<Long> ids, List<Place> places, int limit) {
+        Map<Long, Place> byId = places.stream()
+            .collect(Collectors.toMap(Place::getId, place -> place, (a, b) -> a));
+
+        List<Place> result = new ArrayList<>(Math.min(limit, byId.size()));
+        for (Long id : ids) {
+            Place place = byId.get(id);
+            if (place != null) {
+                result.add(place);
+                if (result.size() >= limit) break;
+            }
+        }
+        return result;
+    }
+
     public List<Place> getLocationWeightedPlaces(Double latitude, Double longitude, int limit) {
         if (latitude == null || longitude == null) {
             return placeRepository.findRecommendablePlaces(PageRequest.of(0, limit)).getContent();
         }
 
-        String day = getCurrentDayOfWeek();
-        String time = getCurrentTime();
-
         int safeLimit = Math.max(1, limit);
         int fetchSize = safeLimit * 4; // 충분한 후보를 한 번에 가져옴
 
-        // 단일 쿼리: 100km 반경 내 모든 후보를 거리순으로 가져옴
-        double[] bbox = computeBoundingBox(latitude, longitude, 100.0);
-        List<Place> allCandidates = placeRepository.findNearbyPlacesOptimized(
-            latitude, longitude, 100.0,
-            bbox[0], bbox[1], bbox[2], bbox[3],
-            fetchSize, day, time
-        );
+        // 100km 반경 내 후보를 거리순으로 가져옴 (인메모리 geo index 우선)
+        List<Place> allCandidates = findNearbyOpenPlaces(latitude, longitude, 100.0, fetchSize);
 
         if (allCandidates.isEmpty()) {
             // 위치 기반 결과 없으면 fallback
@@ -717,68 +787,6 @@ public class PlaceService {
         return earthRadius * c;
     }
     
-    private SimplePlaceDto convertToSimplePlaceDto(Place place) {
-        List<String> imageUrls = resolvePlaceImages(place);
-        String primaryImage = imageUrls.isEmpty() ? null : imageUrls.get(0);
-
-        String fullAddress = place.getRoadAddress();
-        String shortAddress = extractShortAddress(fullAddress);
-
-        SimplePlaceDto dto = new SimplePlaceDto(
-            place.getId().toString(),
-            place.getName(),
-            place.getCategory() != null && !place.getCategory().isEmpty() ? place.getCategory().get(0) : "기타",
-            place.getRating() != null ? place.getRating().doubleValue() : 4.0,
-            shortAddress, // location = shortAddress (구+동)
-            primaryImage
-        );
-
-        // Set additional fields
-        // reviewCount 필드 직접 사용 (N+1 방지 — getReviews().size() 대신)
-        dto.setReviewCount(place.getReviewCount() != null ? place.getReviewCount() : 0);
-        dto.setAddress(fullAddress); // Keep for backward compatibility
-        dto.setShortAddress(shortAddress); // 구 + 동
-        dto.setFullAddress(fullAddress); // 전체 주소
-        // distance는 위치 있는 버전에서만 세팅 (위치 없으면 null)
-        dto.setIsBookmarked(false); // TODO: Check if bookmarked by current user
-        dto.setIsDemo(false);
-        dto.setImages(imageUrls);
-
-        // Set mohe_description only
-        String moheDescription = place.getDescriptions().stream()
-            .filter(desc -> desc.getMoheDescription() != null && !desc.getMoheDescription().isEmpty())
-            .map(desc -> desc.getMoheDescription())
-            .findFirst()
-            .orElse(null);
-        dto.setDescription(moheDescription);
-
-        // Business hours
-        if (place.getBusinessHours() != null && !place.getBusinessHours().isEmpty()) {
-            List<SimplePlaceDto.BusinessHourDto> hours = place.getBusinessHours().stream()
-                .map(bh -> new SimplePlaceDto.BusinessHourDto(
-                    bh.getDayOfWeek(),
-                    bh.getOpen() != null ? bh.getOpen().toString().substring(0, 5) : null,
-                    bh.getClose() != null ? bh.getClose().toString().substring(0, 5) : null,
-                    bh.getDescription(),
-                    bh.getIsOperating(),
-                    bh.getLastOrderMinutes()
-                ))
-                .collect(Collectors.toList());
-            dto.setBusinessHours(hours);
-        }
-
-        return dto;
-    }
-
-    private SimplePlaceDto convertToSimplePlaceDto(Place place, Double latitude, Double longitude) {
-        SimplePlaceDto dto = convertToSimplePlaceDto(place);
-        double distance = calculateDistanceKm(latitude, longitude, place);
-        if (distance != Double.MAX_VALUE) {
-            dto.setDistance(Math.round(distance * 10.0) / 10.0);
-        }
-        return dto;
-    }
-
     private List<String> resolvePlaceImages(Place place) {
         if (place == null) {
             return List.of();
@@ -921,97 +929,11 @@ public class PlaceService {
     }
 
     /**
-     * Extract short address (구+동) from full road address
-     * Examples:
-     * - "서울특별시 강남구 역삼동 123-45" → "강남구 역삼동"
-     * - "경기도 성남시 분당구 정자동 123" → "분당구 정자동"
-     * - "제주특별자치도 제주시 애월읍 123" → "제주시 애월읍"
-     */
-    private String extractShortAddress(String fullAddress) {
-        if (fullAddress == null || fullAddress.isBlank()) {
-            return "";
-        }
-
-        try {
-            // Remove province/city prefix (서울특별시, 경기도, etc.)
-            String address = fullAddress.replaceFirst("^(서울특별시|부산광역시|대구광역시|인천광역시|광주광역시|대전광역시|울산광역시|세종특별자치시|경기도|강원도|충청북도|충청남도|전라북도|전라남도|경상북도|경상남도|제주특별자치도)\\s*", "");
-
-            // Split by spaces
-            String[] parts = address.split("\\s+");
-
-            if (parts.length >= 2) {
-                // Extract district (구/군/시) and neighborhood (동/읍/면/리)
-                String district = parts[0]; // 시/구/군
-                String neighborhood = parts[1]; // 동/읍/면/리
-
-                // Handle city names that include "시" (e.g., "성남시" should become "성남시 분당구")
-                if (parts.length >= 3 && district.endsWith("시") && (parts[1].endsWith("구") || parts[1].endsWith("군"))) {
-                    return parts[1] + " " + parts[2];
-                }
-
-                return district + " " + neighborhood;
-            }
-
-            // If we can't parse, return first part or empty
-            return parts.length > 0 ? parts[0] : "";
-
-        } catch (Exception e) {
-            return "";
-        }
-    }
-
-    /**
-     * Check if a place is currently open based on business hours
-     * @param place The place to check
-     * @return true if the place is currently open, false otherwise
+     * Check if a place is open at the given weekly slot, using the compiled open-hours bitmap
+     * (no business hours info → treated as open)
      */
-    private boolean isCurrentlyOpen(Place place) {
-        if (place == null || place.getBusinessHours() == null || place.getBusinessHours().isEmpty()) {
-            // If no business hours info, assume it's open (don't filter out)
-            return true;
-        }
-
-        try {
-            java.time.LocalDateTime now = java.time.LocalDateTime.now();
-            java.time.DayOfWeek currentDay = now.getDayOfWeek();
-            java.time.LocalTime currentTime = now.toLocalTime();
-
-            // Map DayOfWeek to Korean day string
-            String dayOfWeek = switch (currentDay) {
-                case MONDAY -> "월";
-                case TUESDAY -> "화";
-                case WEDNESDAY -> "수";
-                case THURSDAY -> "목";
-                case FRIDAY -> "금";
-                case SATURDAY -> "토";
-                case SUNDAY -> "일";
-            };
-
-            // Find business hours for current day
-            return place.getBusinessHours().stream()
-                .filter(bh -> dayOfWeek.equals(bh.getDayOfWeek()))
-                .filter(bh -> Boolean.TRUE.equals(bh.getIsOperating()))
-                .anyMatch(bh -> {
-                    if (bh.getOpen() == null || bh.getClose() == null) {
-                        return true; // If times not set, assume open
-                    }
-
-                    // Check if current time is within business hours
-                    java.time.LocalTime openTime = bh.getOpen();
-                    java.time.LocalTime closeTime = bh.getClose();
-
-                    // Handle overnight hours (e.g., 22:00 - 02:00)
-                    if (closeTime.isBefore(openTime)) {
-                        return currentTime.isAfter(openTime) || currentTime.isBefore(closeTime);
-                    } else {
-                        return !currentTime.isBefore(openTime) && !currentTime.isAfter(closeTime);
-                    }
-                });
-
-        } catch (Exception e) {
-            // On error, assume it's open (don't filter out)
-            return true;
-        }
+    private boolean isOpenAt(Place place, int openSlot) {
+        return place == null || placeOpenHoursIndex.isOpen(place, openSlot);
     }
 
     /**
@@ -1024,8 +946,9 @@ public class PlaceService {
             return places;
         }
 
+        int openSlot = WeeklyOpenHours.currentSlot();
         return places.stream()
-            .filter(this::isCurrentlyOpen)
+            .filter(place -> isOpenAt(place, openSlot))
             .collect(Collectors.toList());
     }
 
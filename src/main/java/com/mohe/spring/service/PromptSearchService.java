@@ -1,10 +1,15 @@
 package com.mohe.spring.service;
 
+import com.mohe.spring.config.PgVectorParameters;
+import com.mohe.spring.config.SpatialQueryProperties;
 import com.mohe.spring.entity.Place;
 import com.mohe.spring.repository.PlaceDescriptionEmbeddingRepository;
 import com.mohe.spring.repository.PlaceRepository;
+import com.mohe.spring.service.card.PlaceCardAssembler;
+import com.pgvector.PGvector;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.query.TypedParameterValue;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
@@ -20,9 +25,11 @@ import java.util.*;
 @RequiredArgsConstructor
 public class PromptSearchService {
 
-    private final EmbeddingClient embeddingClient;
+    private final QueryEmbeddingCache queryEmbeddingCache;
     private final PlaceDescriptionEmbeddingRepository descEmbeddingRepository;
-    private final PlaceService placeService;
+    private final PlaceCardAssembler placeCardAssembler;
+    private final SpatialQueryProperties spatialQueryProperties;
+    private final PgVectorParameters pgVectorParameters;
 
     /**
      * 프롬프트 기반 장소 검색
@@ -40,25 +47,31 @@ public class PromptSearchService {
         // 1. 사용자 프롬프트 임베딩
         float[] queryEmbedding;
         try {
-            queryEmbedding = embeddingClient.getEmbedding(query);
+            queryEmbedding = queryEmbeddingCache.getEmbedding(query);
         } catch (Exception e) {
             log.error("Failed to embed prompt: {}", e.getMessage());
             return List.of();
         }
 
-        // 2. pgvector 포맷으로 변환
-        String vectorString = toVectorString(queryEmbedding);
+        // 2. vector 타입 파라미터로 바인딩
+        TypedParameterValue<PGvector> vectorParam = pgVectorParameters.bind(queryEmbedding);
 
         // 3. 벡터 유사도 검색 (거리 필터 포함)
         List<Object[]> rows;
         if (latitude != null && longitude != null) {
-            rows = descEmbeddingRepository.findSimilarPlacesByPrompt(
-                    vectorString, latitude, longitude, distance, limit);
+            rows = descEmbeddingRepository.findSimilarPlacesByPrompt(spatialQueryProperties.getMode(),
+                    vectorParam, latitude, longitude, distance, limit);
         } else {
-            rows = descEmbeddingRepository.findSimilarPlaces(vectorString, limit);
+            rows = descEmbeddingRepository.findSimilarPlaces(vectorParam, limit);
         }
 
-        // 4. 결과 변환
+        // 4. 결과 변환 (대표 이미지는 한 번에 조회)
+        List<Long> placeIds = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            placeIds.add(((Number) row[0]).longValue());
+        }
+        Map<Long, String> primaryImages = placeCardAssembler.primaryImageUrls(placeIds);
+
         List<Map<String, Object>> results = new ArrayList<>();
         for (Object[] row : rows) {
             Map<String, Object> place = new LinkedHashMap<>();
@@ -75,9 +88,7 @@ public class PromptSearchService {
             place.put("similarity", Math.round(similarity * 1000) / 1000.0);
 
             // 이미지
-            Long placeId = ((Number) row[0]).longValue();
-            List<String> imageUrls = placeService.getImageUrls(placeId);
-            place.put("imageUrl", imageUrls.isEmpty() ? null : imageUrls.get(0));
+            place.put("imageUrl", primaryImages.get(((Number) row[0]).longValue()));
 
             results.add(place);
         }
@@ -86,13 +97,4 @@ public class PromptSearchService {
         return results;
     }
 
-    private String toVectorString(float[] embedding) {
-        StringBuilder sb = new StringBuilder("[");
-        for (int i = 0; i < embedding.length; i++) {
-            if (i > 0) sb.append(",");
-            sb.append(embedding[i]);
-        }
-        sb.append("]");
-        return sb.toString();
-    }
 }
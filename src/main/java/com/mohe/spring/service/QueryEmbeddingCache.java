@@ -0,0 +1,119 @@
+package com.mohe.spring.service;
+
+import com.mohe.spring.entity.KeywordEmbeddingLookup;
+import com.mohe.spring.repository.KeywordEmbeddingLookupRepository;
+import com.mohe.spring.util.LoadingLruCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 검색 쿼리 임베딩 캐시
+ *
+ * <p>검색 API는 매 요청마다 쿼리 텍스트를 임베딩하므로, 인기 쿼리("성수동 카페", "데이트")가
+ * 반복해서 OpenAI 왕복 비용을 냅니다. 이 캐시는 정규화된 쿼리 → float[]를 보관합니다.</p>
+ *
+ * <ul>
+ *   <li>L1: 크기 제한 LRU + TTL ({@link LoadingLruCache})</li>
+ *   <li>L2 (선택): keyword_embeddings 테이블 조회 — 동일 모델로 생성된 임베딩이므로 그대로 재사용</li>
+ *   <li>single-flight: 동일 쿼리의 동시 miss는 하나의 OpenAI 호출 결과를 공유</li>
+ *   <li>L2 조회 실패는 OpenAI 호출로 대신하고, OpenAI 실패는 캐시하지 않음 (다음 요청에서 재시도)</li>
+ *   <li>hit/miss/latency 통계는 {@link #getStats()}로 노출 (관리자 모니터 API)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class QueryEmbeddingCache {
+
+    private final EmbeddingClient embeddingClient;
+    private final KeywordEmbeddingLookupRepository keywordEmbeddingLookupRepository;
+    private final long ttlMillis;
+    private final boolean l2Enabled;
+
+    private final LoadingLruCache<String, float[]> cache;
+
+    private final AtomicLong l2Hits = new AtomicLong();
+
+    public QueryEmbeddingCache(
+        EmbeddingClient embeddingClient,
+        KeywordEmbeddingLookupRepository keywordEmbeddingLookupRepository,
+        @Value("${embedding.query-cache.max-entries:5000}") int maxEntries,
+        @Value("${embedding.query-cache.ttl-minutes:720}") long ttlMinutes,
+        @Value("${embedding.query-cache.l2-enabled:true}") boolean l2Enabled
+    ) {
+        this.embeddingClient = embeddingClient;
+        this.keywordEmbeddingLookupRepository = keywordEmbeddingLookupRepository;
+        this.ttlMillis = ttlMinutes * 60_000L;
+        this.l2Enabled = l2Enabled;
+        this.cache = LoadingLruCache.<String, float[]>builder("Query embedding cache")
+            .maxEntries(maxEntries)
+            .ttlMillis(ttlMillis)
+            .build();
+    }
+
+    /**
+     * 쿼리 임베딩 조회 (캐시 우선)
+     * 반환 배열은 캐시와 공유되므로 호출자는 수정하지 않아야 합니다.
+     *
+     * @throws EmbeddingClient.EmbeddingServiceException OpenAI 호출 실패 시
+     */
+    public float[] getEmbedding(String query) {
+        String key = normalize(query);
+        if (key.isEmpty()) {
+            return embeddingClient.getEmbedding(query);
+        }
+        return cache.get(key, () -> load(key, query));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * misses는 OpenAI 호출 수 (L2 hit 제외)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = cache.getStats();
+        long l2HitCount = l2Hits.get();
+        stats.put("ttlMinutes", ttlMillis / 60_000L);
+        stats.put("l2Hits", l2HitCount);
+        stats.put("misses", (long) stats.get("misses") - l2HitCount);
+        return stats;
+    }
+
+    /**
+     * 캐시 키 정규화: 앞뒤 공백 제거, 연속 공백 축약, 소문자화
+     */
+    static String normalize(String query) {
+        if (query == null) {
+            return "";
+        }
+        return query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private float[] load(String key, String query) {
+        if (l2Enabled) {
+            float[] fromL2 = findInL2(key);
+            if (fromL2 != null) {
+                l2Hits.incrementAndGet();
+                return fromL2;
+            }
+        }
+        return embeddingClient.getEmbedding(query);
+    }
+
+    private float[] findInL2(String key) {
+        try {
+            Optional<KeywordEmbeddingLookup> lookup = keywordEmbeddingLookupRepository.findByKeyword(key);
+            return lookup.map(KeywordEmbeddingLookup::getEmbeddingAsArray).orElse(null);
+        } catch (Exception e) {
+            log.warn("[QueryEmbeddingCache] L2 lookup failed for '{}': {}", key, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -1,37 +1,467 @@
 package com.mohe.spring.service;
 
+import com.mohe.spring.repository.PlaceSimilarityRepository;
+import com.mohe.spring.repository.PlaceSimilarityTopKRepository;
+import com.mohe.spring.service.similarity.BookmarkCooccurrenceEngine;
+import com.mohe.spring.service.similarity.BookmarkCooccurrenceEngine.Neighbor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * 북마크 공동 출현 기반 장소 유사도 계산 서비스
+ *
+ * <p>bookmarks를 한 번 스트리밍으로 읽어 {@link BookmarkCooccurrenceEngine}에 적재하고,
+ * 장소별 top-K 이웃(Jaccard/binary cosine)을 병렬 계산한 뒤 place_similarity_topk에 배치로 기록합니다.</p>
+ *
+ * <ul>
+ *   <li>전체 계산: {@link #calculateSimilarities()} (관리자 트리거)</li>
+ *   <li>증분 계산: 북마크가 바뀐 장소(dirty), 그 장소와 사용자를 공유하는 장소,
+ *       기존 top-K에 그 장소를 이웃으로 둔 장소(북마크 삭제로 공유 사용자가 사라진 경우)만 재계산,
+ *       {@code mohe.similarity.incremental-interval-ms} 주기로 실행</li>
+ *   <li>dirty 표시는 재계산 결과가 기록된 뒤에만 지우므로, 실패한 실행의 장소는 다음 실행에서 다시 처리됩니다.</li>
+ *   <li>{@link #refreshTopKSimilarities(Long)}는 dirty 표시만 하므로 북마크 API 응답을 막지 않습니다.</li>
+ * </ul>
+ */
 @Service
 public class SimilarityCalculationService {
-    
+
+    private static final Logger logger = LoggerFactory.getLogger(SimilarityCalculationService.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PlaceSimilarityRepository placeSimilarityRepository;
+    private final PlaceSimilarityTopKRepository placeSimilarityTopKRepository;
+    private final Executor similarityExecutor;
+
+    private final BookmarkCooccurrenceEngine.Config config;
+    private final int writeBatchSize;
+    private final int parallelism;
+
+    /** 갱신 요청된 장소 → 요청 순번 (실행 중 다시 요청된 장소는 순번이 바뀌어 실행 후에도 남음) */
+    private final Map<Long, Long> dirtyPlaceIds = new ConcurrentHashMap<>();
+    private final AtomicLong dirtySequence = new AtomicLong();
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile LocalDateTime lastRunStartedAt;
+    private volatile LocalDateTime lastRunFinishedAt;
+    private volatile String lastRunMode;
+    private volatile long lastRunMillis;
+    private volatile int lastRunPlaces;
+    private volatile int lastRunRows;
+    private volatile int lastBookmarkCount;
+
+    public SimilarityCalculationService(
+        JdbcTemplate jdbcTemplate,
+        TransactionTemplate transactionTemplate,
+        PlaceSimilarityRepository placeSimilarityRepository,
+        PlaceSimilarityTopKRepository placeSimilarityTopKRepository,
+        @Qualifier("similarityExecutor") Executor similarityExecutor,
+        @Value("${mohe.similarity.top-k:20}") int topK,
+        @Value("${mohe.similarity.jaccard-weight:0.6}") double jaccardWeight,
+        @Value("${mohe.similarity.cosine-weight:0.4}") double cosineWeight,
+        @Value("${mohe.similarity.min-co-users:2}") int minCoUsers,
+        @Value("${mohe.similarity.max-user-bookmarks:1000}") int maxUserBookmarks,
+        @Value("${mohe.similarity.write-batch-size:500}") int writeBatchSize,
+        @Value("${mohe.similarity.parallelism:0}") int parallelism
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.placeSimilarityRepository = placeSimilarityRepository;
+        this.placeSimilarityTopKRepository = placeSimilarityTopKRepository;
+        this.similarityExecutor = similarityExecutor;
+        this.config = new BookmarkCooccurrenceEngine.Config(topK, jaccardWeight, cosineWeight, minCoUsers, maxUserBookmarks);
+        this.writeBatchSize = Math.max(1, writeBatchSize);
+        this.parallelism = parallelism > 0 ? parallelism : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    }
+
+    /**
+     * 전체 장소 top-K 재계산 (동기 실행)
+     *
+     * @throws IllegalStateException 이미 계산 중인 경우
+     */
     public void calculateSimilarities() {
-        // TODO: Implement similarity calculation logic
-        throw new UnsupportedOperationException("Similarity calculations not yet implemented");
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("Similarity calculation already in progress");
+        }
+        try {
+            runFull();
+        } finally {
+            running.set(false);
+        }
     }
-    
+
+    /**
+     * 전체 재계산을 similarityExecutor에서 비동기로 시작
+     *
+     * @return 시작했으면 true, 이미 실행 중이면 false
+     */
+    public boolean triggerFullCalculationAsync() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            similarityExecutor.execute(() -> {
+                try {
+                    runFull();
+                } catch (Exception e) {
+                    logger.error("Full similarity calculation failed", e);
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+        return true;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
     public String getStatus() {
-        // TODO: Return similarity calculation status
-        return "Service not implemented";
+        if (running.get()) {
+            return "running";
+        }
+        if (lastRunFinishedAt == null) {
+            return "idle (never run, " + dirtyPlaceIds.size() + " places pending)";
+        }
+        return String.format("idle (last %s run at %s: %d places, %d rows in %dms, %d places pending)",
+            lastRunMode, lastRunFinishedAt, lastRunPlaces, lastRunRows, lastRunMillis, dirtyPlaceIds.size());
     }
-    
+
+    /**
+     * 장소의 top-K 갱신 요청 — 다음 증분 계산에서 처리
+     */
     public void refreshTopKSimilarities(Long placeId) {
-        // TODO: Implement top-k similarity refresh logic
-        throw new UnsupportedOperationException("Top-K similarity refresh not yet implemented");
+        if (placeId != null) {
+            dirtyPlaceIds.put(placeId, dirtySequence.incrementAndGet());
+        }
     }
-    
-    public void refreshTopKSimilarities(java.util.List<Long> placeIds) {
-        // TODO: Implement top-k similarity refresh logic for multiple places
-        throw new UnsupportedOperationException("Top-K similarity refresh for multiple places not yet implemented");
+
+    /**
+     * 여러 장소의 top-K 갱신 — dirty 표시 후 증분 계산을 비동기로 즉시 시작
+     */
+    public void refreshTopKSimilarities(List<Long> placeIds) {
+        placeIds.forEach(this::refreshTopKSimilarities);
+        if (running.compareAndSet(false, true)) {
+            try {
+                similarityExecutor.execute(() -> {
+                    try {
+                        runIncremental();
+                    } catch (Exception e) {
+                        logger.error("Incremental similarity refresh failed", e);
+                    } finally {
+                        running.set(false);
+                    }
+                });
+            } catch (RuntimeException e) {
+                running.set(false);
+                throw e;
+            }
+        }
     }
-    
+
+    /**
+     * 주기적 증분 계산: dirty 장소 + 마지막 실행 이후 북마크가 추가된 장소
+     */
+    @Scheduled(
+        initialDelayString = "${mohe.similarity.incremental-initial-delay-ms:120000}",
+        fixedDelayString = "${mohe.similarity.incremental-interval-ms:300000}"
+    )
+    public void scheduledIncrementalRefresh() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            runIncremental();
+        } catch (Exception e) {
+            logger.error("Scheduled similarity refresh failed", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 두 장소 쌍의 유사도를 계산해 place_similarity에 기록
+     */
+    @Transactional
     public void calculatePlacePairSimilarity(Long placeId1, Long placeId2) {
-        // TODO: Implement place pair similarity calculation
-        throw new UnsupportedOperationException("Place pair similarity calculation not yet implemented");
+        Map<String, Object> counts = jdbcTemplate.queryForMap("""
+            SELECT
+                (SELECT COUNT(*) FROM bookmarks WHERE place_id = ?) AS d1,
+                (SELECT COUNT(*) FROM bookmarks WHERE place_id = ?) AS d2,
+                (SELECT COUNT(*) FROM bookmarks b1
+                 JOIN bookmarks b2 ON b1.user_id = b2.user_id
+                 WHERE b1.place_id = ? AND b2.place_id = ?) AS co
+            """, placeId1, placeId2, placeId1, placeId2);
+
+        long d1 = ((Number) counts.get("d1")).longValue();
+        long d2 = ((Number) counts.get("d2")).longValue();
+        long co = ((Number) counts.get("co")).longValue();
+        double jaccard = co == 0 ? 0.0 : (double) co / (d1 + d2 - co);
+        double cosine = co == 0 ? 0.0 : co / Math.sqrt((double) d1 * d2);
+
+        placeSimilarityRepository.upsertSimilarity(placeId1, placeId2,
+            toScore(jaccard), toScore(cosine), (int) co, LocalDateTime.now());
     }
-    
+
     public SimilarityStatistics getSimilarityStatistics() {
-        // TODO: Return actual similarity statistics
-        return new SimilarityStatistics();
+        Map<String, Object> additional = new LinkedHashMap<>();
+        additional.put("status", getStatus());
+        additional.put("lastRunMode", lastRunMode);
+        additional.put("lastRunMillis", lastRunMillis);
+        additional.put("lastRunPlaces", lastRunPlaces);
+        additional.put("lastRunRows", lastRunRows);
+        additional.put("lastBookmarkCount", lastBookmarkCount);
+        additional.put("pendingPlaces", dirtyPlaceIds.size());
+        additional.put("topK", config.topK());
+
+        long topKEntries = placeSimilarityTopKRepository.count();
+        Long places = jdbcTemplate.queryForObject(
+            "SELECT COUNT(DISTINCT place_id) FROM place_similarity_topk", Long.class);
+        SimilarityStatistics statistics = new SimilarityStatistics(
+            places != null ? places : 0L, placeSimilarityRepository.count(), topKEntries, lastRunFinishedAt, additional);
+
+        Map<String, Object> averages = jdbcTemplate.queryForMap(
+            "SELECT AVG(jaccard) AS avg_jaccard, AVG(cosine_bin) AS avg_cosine, COUNT(*) AS sample FROM place_similarity_topk");
+        statistics.setAverageJaccard(averages.get("avg_jaccard") != null ? ((Number) averages.get("avg_jaccard")).doubleValue() : 0.0);
+        statistics.setAverageCosine(averages.get("avg_cosine") != null ? ((Number) averages.get("avg_cosine")).doubleValue() : 0.0);
+        statistics.setSampleSize(((Number) averages.get("sample")).longValue());
+        return statistics;
+    }
+
+    private void runFull() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.currentTimeMillis();
+        // 전체 계산이 시작 전 dirty 표시를 모두 반영 — 기록이 끝난 뒤에 비움
+        Map<Long, Long> dirty = new HashMap<>(dirtyPlaceIds);
+
+        BookmarkCooccurrenceEngine engine = loadEngine();
+        int[] targets = engine.allPlaceIndexes();
+        int rows = computeAndWrite(engine, targets, startedAt);
+
+        // 북마크가 모두 사라진 장소의 오래된 이웃 제거
+        int stale = transactionTemplate.execute(status ->
+            jdbcTemplate.update("DELETE FROM place_similarity_topk WHERE updated_at < ?", Timestamp.valueOf(startedAt)));
+        clearDirty(dirty);
+
+        finishRun("full", startedAt, start, targets.length, rows);
+        logger.info("Full similarity calculation: {} places, {} rows, {} stale rows removed in {}ms",
+            targets.length, rows, stale, lastRunMillis);
+    }
+
+    private void runIncremental() {
+        LocalDateTime since = lastRunStartedAt != null ? lastRunStartedAt : findLastTopKUpdate();
+        Map<Long, Long> dirty = new HashMap<>(dirtyPlaceIds);
+        Set<Long> changed = new HashSet<>(dirty.keySet());
+        if (since != null) {
+            changed.addAll(jdbcTemplate.queryForList(
+                "SELECT DISTINCT place_id FROM bookmarks WHERE created_at > ?", Long.class, Timestamp.valueOf(since)));
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.currentTimeMillis();
+
+        // 북마크 삭제로 공유 사용자가 모두 사라지면 엔진으로는 찾을 수 없으므로 기존 top-K에서 역으로 찾음
+        Set<Long> referencingOwners = findTopKOwnersReferencing(changed);
+        referencingOwners.removeAll(changed);
+
+        BookmarkCooccurrenceEngine engine = loadEngine();
+        List<Long> orphaned = new ArrayList<>();
+        int[] changedIndexes = toIndexes(engine, changed, orphaned);
+        int[] ownerIndexes = toIndexes(engine, referencingOwners, orphaned);
+
+        // 북마크가 하나도 남지 않은 장소는 자신의 이웃 목록만 삭제
+        if (!orphaned.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> deleteTopK(orphaned));
+        }
+
+        int[] targets = IntStream.concat(
+                Arrays.stream(engine.affectedPlaces(changedIndexes, config.maxUserBookmarks())),
+                Arrays.stream(ownerIndexes))
+            .distinct()
+            .sorted()
+            .toArray();
+        int rows = computeAndWrite(engine, targets, startedAt);
+        clearDirty(dirty);
+
+        finishRun("incremental", startedAt, start, targets.length, rows);
+        logger.info("Incremental similarity refresh: {} changed (+{} referencing) → {} affected places, {} rows in {}ms",
+            changed.size(), referencingOwners.size(), targets.length, rows, lastRunMillis);
+    }
+
+    /**
+     * 엔진 인덱스로 변환 — 북마크가 없어 엔진에 없는 장소는 orphaned에 모음
+     */
+    private static int[] toIndexes(BookmarkCooccurrenceEngine engine, Collection<Long> placeIds, List<Long> orphaned) {
+        return placeIds.stream()
+            .mapToInt(id -> {
+                int index = engine.indexOf(id);
+                if (index < 0) orphaned.add(id);
+                return index;
+            })
+            .filter(index -> index >= 0)
+            .toArray();
+    }
+
+    /**
+     * 지정한 장소를 top-K 이웃으로 가진 장소 ID (idx_place_similarity_topk_neighbor 사용)
+     */
+    private Set<Long> findTopKOwnersReferencing(Collection<Long> placeIds) {
+        List<Long> ids = new ArrayList<>(placeIds);
+        Set<Long> owners = new HashSet<>();
+        for (int from = 0; from < ids.size(); from += writeBatchSize) {
+            List<Long> batch = ids.subList(from, Math.min(from + writeBatchSize, ids.size()));
+            String placeholders = String.join(",", Collections.nCopies(batch.size(), "?"));
+            owners.addAll(jdbcTemplate.queryForList(
+                "SELECT DISTINCT place_id FROM place_similarity_topk WHERE neighbor_place_id IN (" + placeholders + ")",
+                Long.class, batch.toArray()));
+        }
+        return owners;
+    }
+
+    /**
+     * 반영한 dirty 표시만 제거 — 실행 중 다시 요청된 장소(순번이 바뀐 경우)는 남겨 둠
+     */
+    private void clearDirty(Map<Long, Long> processed) {
+        processed.forEach((placeId, sequence) -> dirtyPlaceIds.remove(placeId, sequence));
+    }
+
+    private void finishRun(String mode, LocalDateTime startedAt, long startMillis, int places, int rows) {
+        lastRunMode = mode;
+        lastRunStartedAt = startedAt;
+        lastRunFinishedAt = LocalDateTime.now();
+        lastRunMillis = System.currentTimeMillis() - startMillis;
+        lastRunPlaces = places;
+        lastRunRows = rows;
+    }
+
+    private LocalDateTime findLastTopKUpdate() {
+        Timestamp last = jdbcTemplate.queryForObject("SELECT MAX(updated_at) FROM place_similarity_topk", Timestamp.class);
+        return last != null ? last.toLocalDateTime() : null;
+    }
+
+    /**
+     * bookmarks 전체를 한 번 스트리밍으로 읽어 엔진 구성
+     */
+    private BookmarkCooccurrenceEngine loadEngine() {
+        long[][] buffers = {new long[1024], new long[1024]};
+        int[] size = {0};
+        // PgJDBC는 트랜잭션 안에서만 fetchSize 커서를 사용하므로 읽기 전용 트랜잭션으로 감쌈
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement("SELECT user_id, place_id FROM bookmarks");
+            statement.setFetchSize(10_000);
+            return statement;
+        }, (RowCallbackHandler) rs -> {
+            int n = size[0];
+            if (n == buffers[0].length) {
+                buffers[0] = Arrays.copyOf(buffers[0], n * 2);
+                buffers[1] = Arrays.copyOf(buffers[1], n * 2);
+            }
+            buffers[0][n] = rs.getLong(1);
+            buffers[1][n] = rs.getLong(2);
+            size[0] = n + 1;
+        }));
+        lastBookmarkCount = size[0];
+        return BookmarkCooccurrenceEngine.build(buffers[0], buffers[1], size[0]);
+    }
+
+    private int computeAndWrite(BookmarkCooccurrenceEngine engine, int[] targets, LocalDateTime updatedAt) {
+        if (targets.length == 0) {
+            return 0;
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        List<Neighbor>[] results;
+        try {
+            results = engine.computeTopK(targets, config, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        int rows = 0;
+        for (int from = 0; from < targets.length; from += writeBatchSize) {
+            int to = Math.min(from + writeBatchSize, targets.length);
+            rows += writeBatch(engine, targets, results, from, to, updatedAt);
+        }
+        return rows;
+    }
+
+    /**
+     * 장소 단위 교체: 배치 내 장소의 기존 행 삭제 후 새 top-K를 JDBC batch insert
+     * (place_id, rank) UNIQUE 제약 때문에 ON CONFLICT upsert 대신 삭제 후 삽입을 한 트랜잭션으로 처리
+     */
+    private int writeBatch(BookmarkCooccurrenceEngine engine, int[] targets, List<Neighbor>[] results,
+                           int from, int to, LocalDateTime updatedAt) {
+        List<Long> placeIds = new ArrayList<>(to - from);
+        List<Object[]> rows = new ArrayList<>();
+        Timestamp timestamp = Timestamp.valueOf(updatedAt);
+        for (int i = from; i < to; i++) {
+            long placeId = engine.placeIdAt(targets[i]);
+            placeIds.add(placeId);
+            short rank = 0;
+            for (Neighbor neighbor : results[i]) {
+                rows.add(new Object[]{
+                    placeId, neighbor.placeId(), ++rank,
+                    toScore(neighbor.jaccard()), toScore(neighbor.cosine()), neighbor.coUsers(), timestamp
+                });
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            deleteTopK(placeIds);
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate("""
+                    INSERT INTO place_similarity_topk
+                        (place_id, neighbor_place_id, rank, jaccard, cosine_bin, co_users, updated_at)
+                    VALUES (?, ?, ?, ?, ?, ?, ?)
+                    """, rows);
+            }
+        });
+        return rows.size();
+    }
+
+    private void deleteTopK(List<Long> placeIds) {
+        jdbcTemplate.batchUpdate("DELETE FROM place_similarity_topk WHERE place_id = ?",
+            placeIds.stream().map(id -> new Object[]{id}).toList());
+    }
+
+    private static BigDecimal toScore(double value) {
+        return BigDecimal.valueOf(Math.min(1.0, value)).setScale(4, RoundingMode.HALF_UP);
     }
-}
\ No newline at end of file
+}
@@ -4,10 +4,17 @@ import org.springframework.stereotype.Service;
 
 @Service
 public class SimilaritySchedulerService {
+
+    private final SimilarityCalculationService similarityCalculationService;
+
+    public SimilaritySchedulerService(SimilarityCalculationService similarityCalculationService) {
+        this.similarityCalculationService = similarityCalculationService;
+    }
     
     public void triggerCalculationNow() {
-        // TODO: Implement immediate similarity calculation trigger
-        throw new UnsupportedOperationException("Immediate similarity calculation trigger not yet implemented");
+        if (!similarityCalculationService.triggerFullCalculationAsync()) {
+            throw new IllegalStateException("Similarity calculation already in progress");
+        }
     }
     
     public void scheduleCalculation() {
@@ -26,13 +33,10 @@ public class SimilaritySchedulerService {
     }
     
     public boolean triggerSimilarityCalculation() {
-        // TODO: Implement similarity calculation trigger
-        // Return true if successfully triggered, false otherwise
-        return false;
+        return similarityCalculationService.triggerFullCalculationAsync();
     }
     
     public boolean isCalculationRunning() {
-        // TODO: Check if similarity calculation is currently running
-        return false;
+        return similarityCalculationService.isRunning();
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.mohe.spring.service;
 
+import com.mohe.spring.config.PgVectorParameters;
+import com.mohe.spring.config.SpatialQueryProperties;
 import com.mohe.spring.dto.SimplePlaceDto;
 import com.mohe.spring.dto.UnifiedSearchResponse;
 import com.mohe.spring.entity.EmbedStatus;
@@ -8,14 +10,26 @@ import com.mohe.spring.entity.PlaceKeywordEmbedding;
 import com.mohe.spring.repository.PlaceDescriptionEmbeddingRepository;
 import com.mohe.spring.repository.PlaceKeywordEmbeddingRepository;
 import com.mohe.spring.repository.PlaceRepository;
+import com.mohe.spring.service.card.PlaceCardAssembler;
+import com.mohe.spring.service.geo.PlaceGeoIndex;
+import com.mohe.spring.service.search.HybridRankFusion;
+import com.mohe.spring.service.search.PlaceSearchTerms;
+import com.mohe.spring.service.search.SearchLatencyRecorder;
+import com.pgvector.PGvector;
+import org.hibernate.query.TypedParameterValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -31,29 +45,43 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class UnifiedSearchService {
 
+    private static final Logger logger = LoggerFactory.getLogger(UnifiedSearchService.class);
+
     private final PlaceRepository placeRepository;
     private final PlaceKeywordEmbeddingRepository placeKeywordEmbeddingRepository;
     private final PlaceDescriptionEmbeddingRepository descEmbeddingRepository;
-    private final EmbeddingClient embeddingClient;
+    private final QueryEmbeddingCache queryEmbeddingCache;
     private final KeywordEmbeddingService keywordEmbeddingService;
-    private final PlaceService placeService;
+    private final PlaceCardAssembler placeCardAssembler;
     private final OpenAiService openAiService;
+    private final SpatialQueryProperties spatialQueryProperties;
+    private final PgVectorParameters pgVectorParameters;
+    private final Executor searchExecutor;
+    private final SearchLatencyRecorder searchLatencyRecorder;
 
     @Autowired
     public UnifiedSearchService(PlaceRepository placeRepository,
                                 PlaceKeywordEmbeddingRepository placeKeywordEmbeddingRepository,
                                 PlaceDescriptionEmbeddingRepository descEmbeddingRepository,
-                                EmbeddingClient embeddingClient,
+                                QueryEmbeddingCache queryEmbeddingCache,
                                 KeywordEmbeddingService keywordEmbeddingService,
-                                PlaceService placeService,
-                                @Autowired(required = false) OpenAiService openAiService) {
+                                PlaceCardAssembler placeCardAssembler,
+                                @Autowired(required = false) OpenAiService openAiService,
+                                SpatialQueryProperties spatialQueryProperties,
+                                PgVectorParameters pgVectorParameters,
+                                @Qualifier("searchExecutor") Executor searchExecutor,
+                                SearchLatencyRecorder searchLatencyRecorder) {
         this.placeRepository = placeRepository;
         this.placeKeywordEmbeddingRepository = placeKeywordEmbeddingRepository;
         this.descEmbeddingRepository = descEmbeddingRepository;
-        this.embeddingClient = embeddingClient;
+        this.queryEmbeddingCache = queryEmbeddingCache;
         this.keywordEmbeddingService = keywordEmbeddingService;
-        this.placeService = placeService;
+        this.placeCardAssembler = placeCardAssembler;
         this.openAiService = openAiService;
+        this.spatialQueryProperties = spatialQueryProperties;
+        this.pgVectorParameters = pgVectorParameters;
+        this.searchExecutor = searchExecutor;
+        this.searchLatencyRecorder = searchLatencyRecorder;
     }
 
     /**
@@ -91,9 +119,7 @@ public class UnifiedSearchService {
 
         // 5. DTO 변환 + 프랜차이즈 중복 제거
         List<SimplePlaceDto> placeDtos = deduplicateFranchise(
-            places.stream()
-                .map(place -> convertToSimplePlaceDto(place, latitude, longitude))
-                .collect(Collectors.toList()),
+            placeCardAssembler.toSimplePlaceDtos(places, latitude, longitude),
             safeLimit
         );
 
@@ -132,7 +158,7 @@ public class UnifiedSearchService {
         }
 
         List<SimplePlaceDto> placeDtos = deduplicateFranchise(
-            places.stream().map(p -> convertToSimplePlaceDto(p, latitude, longitude)).collect(Collectors.toList()),
+            placeCardAssembler.toSimplePlaceDtos(places, latitude, longitude),
             safeLimit
         );
 
@@ -147,111 +173,133 @@ public class UnifiedSearchService {
      * 임베딩 우선 → 키워드 보충 (AI 검색용)
      */
     private List<Place> searchNearbyBySemantic(String rawQuery, Double lat, Double lon, int limit) {
-        LinkedHashSet<Long> mergedIds = new LinkedHashSet<>();
+        return searchNearbyHybrid(rawQuery, lat, lon, limit, SEMANTIC_WEIGHTS, "semantic");
+    }
 
-        // 1순위: 임베딩
-        float[] queryVector = null;
-        String vectorString = null;
-        try {
-            queryVector = embeddingClient.getEmbedding(rawQuery);
-            if (!isZeroVector(queryVector)) vectorString = vectorToString(queryVector);
-        } catch (Exception e) {
-            System.err.println("Query embedding failed: " + e.getMessage());
-        }
+    private static final double MIN_SIMILARITY = 0.20; // 유사도 임계값
+    private static final double HYBRID_MAX_RADIUS_KM = 50.0;
 
-        if (vectorString != null) {
-            for (double radius : new double[]{5.0, 10.0, 20.0, 30.0, 50.0}) {
-                try {
-                    List<Object[]> simResults = descEmbeddingRepository.findSimilarPlacesByPrompt(
-                        vectorString, lat, lon, radius, limit * 3);
-                    for (Object[] row : simResults) {
-                        double sim = row[row.length - 1] != null ? ((Number) row[row.length - 1]).doubleValue() : 0;
-                        if (sim >= MIN_SIMILARITY) mergedIds.add(((Number) row[0]).longValue());
-                    }
-                    if (mergedIds.size() >= limit) break;
-                } catch (Exception e) {
-                    System.err.println("Vector search failed: " + e.getMessage());
-                }
-            }
-        }
+    /** 키워드 우선 (일반 검색): 고유명사 직접 매칭에 가장 큰 가중치 */
+    private static final HybridRankFusion.Weights RELEVANCE_WEIGHTS = new HybridRankFusion.Weights(1.0, 0.7, 0.5);
+    /** 임베딩 우선 (AI 검색): 의미 유사도에 가장 큰 가중치 */
+    private static final HybridRankFusion.Weights SEMANTIC_WEIGHTS = new HybridRankFusion.Weights(0.6, 1.0, 0.5);
 
-        // 2순위: 키워드 보충
-        if (mergedIds.size() < limit) {
-            List<Long> kwIds = searchByKeyword(rawQuery, limit * 3);
-            List<Long> nearbyKwIds = filterIdsByLocation(kwIds, lat, lon, 50.0);
-            mergedIds.addAll(nearbyKwIds);
-        }
+    /**
+     * 키워드 우선 검색 (일반 검색용)
+     */
+    private List<Place> searchNearbyByRelevance(String query, String rawQuery, Double lat, Double lon, int limit) {
+        return searchNearbyHybrid(rawQuery, lat, lon, limit, RELEVANCE_WEIGHTS, "relevance");
+    }
+
+    /**
+     * 하이브리드 검색
+     * 1. 키워드 LIKE 후보와 벡터 후보를 searchExecutor에서 동시에 조회
+     * 2. 벡터 검색은 최대 반경(50km) 한 번만 실행 — 반경별 반복 스캔 없음
+     * 3. 키워드 순위 + 유사도 순위 + 거리 순위를 RRF로 병합 (거리는 필터가 아닌 재정렬 신호)
+     * 단계별 지연시간은 SearchLatencyRecorder에 기록
+     */
+    private List<Place> searchNearbyHybrid(String rawQuery, double lat, double lon, int limit,
+                                           HybridRankFusion.Weights weights, String label) {
+        long totalStart = System.nanoTime();
+        int candidateLimit = limit * 3;
+        Map<Long, Double> distancesKm = new ConcurrentHashMap<>();
+
+        CompletableFuture<List<Long>> keywordFuture = CompletableFuture
+            .supplyAsync(() -> timed("keyword", () -> keywordCandidates(rawQuery, lat, lon, candidateLimit, distancesKm)), searchExecutor)
+            .exceptionally(e -> {
+                logger.warn("Keyword search failed: {}", e.getMessage(), e);
+                return List.of();
+            });
+        CompletableFuture<List<Long>> vectorFuture = CompletableFuture
+            .supplyAsync(() -> vectorCandidates(rawQuery, lat, lon, candidateLimit, distancesKm), searchExecutor)
+            .exceptionally(e -> {
+                logger.warn("Vector search failed: {}", e.getMessage(), e);
+                return List.of();
+            });
+
+        List<Long> keywordIds = keywordFuture.join();
+        List<Long> vectorIds = vectorFuture.join();
 
-        return fetchPlaces(mergedIds.stream().limit(limit).collect(Collectors.toList()), limit);
+        List<Long> fusedIds = timed("fusion", () -> HybridRankFusion.fuse(
+            keywordIds, vectorIds, distancesKm, weights, HybridRankFusion.DEFAULT_K, limit));
+        List<Place> places = timed("hydrate", () -> fetchPlaces(fusedIds, limit));
+
+        long totalNanos = System.nanoTime() - totalStart;
+        searchLatencyRecorder.record("total." + label, totalNanos);
+        logger.debug("🔍 Hybrid({}): keyword={}, vector={}, fused={} in {}ms",
+            label, keywordIds.size(), vectorIds.size(), places.size(), totalNanos / 1_000_000);
+        return places;
     }
 
     /**
-     * 위치 기반 + 벡터 유사도 검색
-     * 1. 사용자 질의 임베딩
-     * 2. 5km부터 장소 풀 확보 (5km씩 확장)
-     * 3. 그 풀 안에서 벡터 유사도 순 정렬
+     * 키워드 후보: LIKE 관련도 순서 유지, 최대 반경 밖/임베딩 미완료 장소 제외
      */
-    private static final double MIN_SIMILARITY = 0.20; // 유사도 임계값
+    private List<Long> keywordCandidates(String rawQuery, double lat, double lon, int limit, Map<Long, Double> distancesKm) {
+        List<Long> kwIds = searchByKeyword(rawQuery, limit);
+        if (kwIds.isEmpty()) return List.of();
 
-    private List<Place> searchNearbyByRelevance(String query, String rawQuery, Double lat, Double lon, int limit) {
-        LinkedHashSet<Long> mergedIds = new LinkedHashSet<>();
-
-        // 1순위: 키워드 LIKE (이름/카테고리/설명 직접 매칭 — 고유명사에 정확)
-        List<Long> kwIds = searchByKeyword(rawQuery, limit * 3);
-        List<Long> nearbyKwIds = filterIdsByLocation(kwIds, lat, lon, 50.0);
-        mergedIds.addAll(nearbyKwIds);
-        System.out.println("🔍 Keyword match: " + nearbyKwIds.size() + " places");
-
-        // 2순위: 문장 임베딩 (키워드 부족 시 의미적 검색으로 보충)
-        if (mergedIds.size() < limit) {
-            float[] queryVector = null;
-            String vectorString = null;
-            try {
-                queryVector = embeddingClient.getEmbedding(rawQuery);
-                if (!isZeroVector(queryVector)) vectorString = vectorToString(queryVector);
-            } catch (Exception e) {
-                System.err.println("Query embedding failed: " + e.getMessage());
-            }
+        Map<Long, Place> placeMap = placeRepository.findAllById(kwIds).stream()
+            .filter(p -> EmbedStatus.COMPLETED.equals(p.getEmbedStatus()))
+            .collect(Collectors.toMap(Place::getId, p -> p));
 
-            if (vectorString != null) {
-                for (double radius : new double[]{5.0, 10.0, 20.0, 30.0, 50.0}) {
-                    try {
-                        List<Object[]> simResults = descEmbeddingRepository.findSimilarPlacesByPrompt(
-                            vectorString, lat, lon, radius, limit * 3);
-
-                        for (Object[] row : simResults) {
-                            double sim = row[row.length - 1] != null ? ((Number) row[row.length - 1]).doubleValue() : 0;
-                            if (sim >= MIN_SIMILARITY) {
-                                mergedIds.add(((Number) row[0]).longValue());
-                            }
-                        }
-                        if (mergedIds.size() >= limit) break;
-                    } catch (Exception e) {
-                        System.err.println("Vector search at " + radius + "km failed: " + e.getMessage());
-                    }
-                }
+        List<Long> nearby = new ArrayList<>(kwIds.size());
+        for (Long id : kwIds) {
+            Place place = placeMap.get(id);
+            if (place == null) continue;
+            double distance = calculateDistance(lat, lon, place);
+            if (distance <= HYBRID_MAX_RADIUS_KM) {
+                distancesKm.put(id, distance);
+                nearby.add(id);
             }
-            System.out.println("🔍 + Embedding supplement: " + (mergedIds.size() - nearbyKwIds.size()) + " places");
         }
+        return nearby;
+    }
 
-        System.out.println("🔍 Total: " + mergedIds.size() + " places");
+    /**
+     * 벡터 후보: 질의 임베딩 후 최대 반경으로 한 번만 유사도 검색
+     */
+    private List<Long> vectorCandidates(String rawQuery, double lat, double lon, int limit, Map<Long, Double> distancesKm) {
+        float[] queryVector = timed("embedding", () -> queryEmbeddingCache.getEmbedding(rawQuery));
+        if (isZeroVector(queryVector)) return List.of();
+
+        TypedParameterValue<PGvector> vectorParam = pgVectorParameters.bind(queryVector);
+        List<Object[]> rows = timed("vector", () -> descEmbeddingRepository.findSimilarPlacesByPrompt(
+            spatialQueryProperties.getMode(), vectorParam, lat, lon, HYBRID_MAX_RADIUS_KM, limit));
+
+        LinkedHashSet<Long> ids = new LinkedHashSet<>();
+        for (Object[] row : rows) {
+            double sim = row[row.length - 1] != null ? ((Number) row[row.length - 1]).doubleValue() : 0;
+            if (sim < MIN_SIMILARITY) continue;
+            Long id = ((Number) row[0]).longValue();
+            if (ids.add(id) && row[2] != null && row[3] != null) {
+                distancesKm.putIfAbsent(id, PlaceGeoIndex.haversine(
+                    lat, lon, ((Number) row[2]).doubleValue(), ((Number) row[3]).doubleValue()));
+            }
+        }
+        return new ArrayList<>(ids);
+    }
 
-        List<Long> finalIds = mergedIds.stream().limit(limit).collect(Collectors.toList());
-        return fetchPlaces(finalIds, limit);
+    private <T> T timed(String stage, Supplier<T> supplier) {
+        long start = System.nanoTime();
+        try {
+            return supplier.get();
+        } finally {
+            searchLatencyRecorder.record(stage, System.nanoTime() - start);
+        }
     }
 
     private List<Long> searchByDescriptionEmbedding(String query, Double latitude, Double longitude, int limit) {
         try {
-            float[] queryVector = embeddingClient.getEmbedding(query);
+            float[] queryVector = queryEmbeddingCache.getEmbedding(query);
             if (isZeroVector(queryVector)) return List.of();
 
-            String vectorString = vectorToString(queryVector);
+            TypedParameterValue<PGvector> vectorParam = pgVectorParameters.bind(queryVector);
 
             if (latitude != null && longitude != null) {
                 // 점진적 확장: 5km → 10km → 15km → 20km → 30km → 50km
                 for (double radius : new double[]{5.0, 10.0, 15.0, 20.0, 30.0, 50.0}) {
-                    List<Object[]> results = descEmbeddingRepository.findSimilarPlacesByPrompt(
-                        vectorString, latitude, longitude, radius, limit);
+                    List<Object[]> results = descEmbeddingRepository.findSimilarPlacesByPrompt(spatialQueryProperties.getMode(),
+                        vectorParam, latitude, longitude, radius, limit);
                     if (results.size() >= Math.min(limit, 3)) {
                         return results.stream()
                             .map(row -> ((Number) row[0]).longValue())
@@ -261,12 +309,12 @@ public class UnifiedSearchService {
             }
 
             // 위치 없거나 결과 부족 시 전체 검색
-            List<Object[]> results = descEmbeddingRepository.findSimilarPlaces(vectorString, limit);
+            List<Object[]> results = descEmbeddingRepository.findSimilarPlaces(vectorParam, limit);
             return results.stream()
                 .map(row -> ((Number) row[0]).longValue())
                 .distinct().collect(Collectors.toList());
         } catch (Exception e) {
-            System.err.println("Description embedding search failed: " + e.getMessage());
+            logger.warn("Description embedding search failed: {}", e.getMessage(), e);
             return List.of();
         }
     }
@@ -281,14 +329,14 @@ public class UnifiedSearchService {
 
             // 영벡터 체크 (임베딩 서비스 실패 시)
             if (isZeroVector(queryVector)) {
-                System.out.println("Embedding search skipped: zero vector returned for query '" + query + "'");
+                logger.debug("Embedding search skipped: zero vector returned for query '{}'", query);
                 return List.of();
             }
 
             // pgvector 유사도 검색
-            String vectorString = vectorToString(queryVector);
+            TypedParameterValue<PGvector> vectorParam = pgVectorParameters.bind(queryVector);
             List<PlaceKeywordEmbedding> similarEmbeddings =
-                placeKeywordEmbeddingRepository.findSimilarByEmbedding(vectorString, limit * 2);
+                placeKeywordEmbeddingRepository.findSimilarByEmbedding(vectorParam, limit * 2);
 
             // place_id 추출 (중복 제거, 순서 유지)
             return similarEmbeddings.stream()
@@ -298,37 +346,26 @@ public class UnifiedSearchService {
                 .collect(Collectors.toList());
 
         } catch (Exception e) {
-            System.err.println("Embedding search failed: " + e.getMessage());
+            logger.warn("Embedding search failed: {}", e.getMessage(), e);
             return List.of();
         }
     }
 
     /**
-     * 키워드 검색 - 장소명, 주소 LIKE 검색
+     * 키워드 검색 - 이름/주소/카테고리/키워드/설명 (search_text trigram 인덱스)
+     * 모든 단어를 한 번의 쿼리로 검색하고 관련도 순으로 반환 (count 쿼리 없음)
      */
     private List<Long> searchByKeyword(String query, int limit) {
-        LinkedHashSet<Long> results = new LinkedHashSet<>();
         try {
-            // 전체 쿼리로 먼저 검색
-            Page<Place> fullMatch = placeRepository.searchPlaces(query, PageRequest.of(0, limit));
-            fullMatch.getContent().forEach(p -> results.add(p.getId()));
-
-            // 단어별 분리 검색 (2글자 이상)
-            if (results.size() < limit) {
-                String[] words = query.split("\\s+");
-                for (String word : words) {
-                    if (word.length() < 2) continue;
-                    try {
-                        Page<Place> wordMatch = placeRepository.searchPlaces(word, PageRequest.of(0, limit));
-                        wordMatch.getContent().forEach(p -> results.add(p.getId()));
-                    } catch (Exception ignored) {}
-                    if (results.size() >= limit) break;
-                }
-            }
+            String patterns = PlaceSearchTerms.likePatterns(query);
+            if (patterns.isEmpty()) return List.of();
+            return placeRepository.searchPlacesByPatterns(patterns, PlaceSearchTerms.normalize(query), limit).stream()
+                .map(Place::getId)
+                .collect(Collectors.toList());
         } catch (Exception e) {
-            System.err.println("Keyword search failed: " + e.getMessage());
+            logger.warn("Keyword search failed: {}", e.getMessage(), e);
+            return List.of();
         }
-        return new ArrayList<>(results);
     }
 
     /**
@@ -348,19 +385,6 @@ public class UnifiedSearchService {
             .collect(Collectors.toList());
     }
 
-    /**
-     * ID 리스트를 위치 기반으로 필터 (거리 내 ID만 반환)
-     */
-    private List<Long> filterIdsByLocation(List<Long> placeIds, Double lat, Double lon, double maxDistKm) {
-        if (placeIds.isEmpty()) return List.of();
-        List<Place> places = placeRepository.findAllById(placeIds).stream()
-            .filter(p -> EmbedStatus.COMPLETED.equals(p.getEmbedStatus()))
-            .filter(p -> calculateDistance(lat, lon, p) <= maxDistKm)
-            .sorted((a, b) -> Double.compare(calculateDistance(lat, lon, a), calculateDistance(lat, lon, b)))
-            .collect(Collectors.toList());
-        return places.stream().map(Place::getId).collect(Collectors.toList());
-    }
-
     /**
      * 위치 기반 필터링 및 정렬
      */
@@ -468,99 +492,6 @@ public class UnifiedSearchService {
         return earthRadius * c;
     }
 
-    /**
-     * SimplePlaceDto 변환
-     */
-    private SimplePlaceDto convertToSimplePlaceDto(Place place, Double latitude, Double longitude) {
-        List<String> imageUrls = placeService.getImageUrls(place.getId());
-        String primaryImage = imageUrls.isEmpty() ? null : imageUrls.get(0);
-
-        String fullAddress = place.getRoadAddress();
-        String shortAddress = extractShortAddress(fullAddress);
-
-        SimplePlaceDto dto = new SimplePlaceDto(
-            place.getId().toString(),
-            place.getName(),
-            place.getCategory() != null && !place.getCategory().isEmpty() ? place.getCategory().get(0) : "기타",
-            place.getRating() != null ? place.getRating().doubleValue() : 4.0,
-            shortAddress,
-            primaryImage
-        );
-
-        dto.setReviewCount(place.getReviewCount() != null ? place.getReviewCount() : 0);
-        dto.setAddress(fullAddress);
-        dto.setShortAddress(shortAddress);
-        dto.setFullAddress(fullAddress);
-        dto.setImages(imageUrls);
-        dto.setIsBookmarked(false);
-        dto.setIsDemo(false);
-
-        // 거리 계산
-        if (latitude != null && longitude != null) {
-            double distance = calculateDistance(latitude, longitude, place);
-            if (distance != Double.MAX_VALUE) {
-                dto.setDistance(Math.round(distance * 10.0) / 10.0);
-            }
-        }
-
-        // mohe_description
-        String moheDescription = place.getDescriptions().stream()
-            .filter(desc -> desc.getMoheDescription() != null && !desc.getMoheDescription().isEmpty())
-            .map(desc -> desc.getMoheDescription())
-            .findFirst()
-            .orElse(null);
-        dto.setDescription(moheDescription);
-
-        return dto;
-    }
-
-    /**
-     * 주소 축약 (구+동)
-     */
-    private String extractShortAddress(String fullAddress) {
-        if (fullAddress == null || fullAddress.isBlank()) {
-            return "";
-        }
-
-        try {
-            String address = fullAddress.replaceFirst(
-                "^(서울특별시|부산광역시|대구광역시|인천광역시|광주광역시|대전광역시|울산광역시|세종특별자치시|경기도|강원도|충청북도|충청남도|전라북도|전라남도|경상북도|경상남도|제주특별자치도)\\s*",
-                ""
-            );
-
-            String[] parts = address.split("\\s+");
-
-            if (parts.length >= 2) {
-                String district = parts[0];
-                String neighborhood = parts[1];
-
-                if (parts.length >= 3 && district.endsWith("시") && (parts[1].endsWith("구") || parts[1].endsWith("군"))) {
-                    return parts[1] + " " + parts[2];
-                }
-
-                return district + " " + neighborhood;
-            }
-
-            return parts.length > 0 ? parts[0] : "";
-
-        } catch (Exception e) {
-            return "";
-        }
-    }
-
-    /**
-     * float[] → pgvector 문자열 변환
-     */
-    private String vectorToString(float[] vector) {
-        StringBuilder sb = new StringBuilder("[");
-        for (int i = 0; i < vector.length; i++) {
-            if (i > 0) sb.append(",");
-            sb.append(vector[i]);
-        }
-        sb.append("]");
-        return sb.toString();
-    }
-
     /**
      * 영벡터 체크
      */
@@ -5,6 +5,7 @@ import com.mohe.spring.entity.TermsAgreement;
 import com.mohe.spring.entity.User;
 import com.mohe.spring.repository.UserRepository;
 import com.mohe.spring.security.UserPrincipal;
+import com.mohe.spring.security.UserPrincipalCache;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,9 +18,11 @@ import java.util.Collections;
 public class UserService {
     
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
     
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, UserPrincipalCache userPrincipalCache) {
         this.userRepository = userRepository;
+        this.userPrincipalCache = userPrincipalCache;
     }
     
     public UserPreferencesResponse updatePreferences(UserPreferencesRequest request) {
@@ -89,6 +92,8 @@ public class UserService {
         currentUser.setProfileImageUrl(request.getProfileImage() != null ? request.getProfileImage() : currentUser.getProfileImageUrl());
         
         User savedUser = userRepository.save(currentUser);
+        // 인증 캐시의 UserPrincipal은 닉네임을 들고 있으므로 제거
+        userPrincipalCache.evict(savedUser.getId());
         
         ProfileEditData editData = new ProfileEditData();
         editData.setId(savedUser.getId().toString());
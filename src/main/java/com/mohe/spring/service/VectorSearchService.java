@@ -4,8 +4,9 @@ import com.mohe.spring.dto.VectorSimilarityResponse;
 import com.mohe.spring.dto.PlaceDto;
 import com.mohe.spring.entity.*;
 import com.mohe.spring.repository.*;
+import com.mohe.spring.service.search.PlaceSearchTerms;
+import com.mohe.spring.service.similarity.PlaceVectorStore;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -30,17 +31,20 @@ public class VectorSearchService {
     private final VectorSimilarityRepository vectorSimilarityRepository;
     private final PlaceRepository placeRepository;
     private final UserRepository userRepository;
+    private final PlaceVectorStore placeVectorStore;
     
     public VectorSearchService(PlaceDescriptionVectorRepository placeDescriptionVectorRepository,
                               UserPreferenceVectorRepository userPreferenceVectorRepository,
                               VectorSimilarityRepository vectorSimilarityRepository,
                               PlaceRepository placeRepository,
-                              UserRepository userRepository) {
+                              UserRepository userRepository,
+                              PlaceVectorStore placeVectorStore) {
         this.placeDescriptionVectorRepository = placeDescriptionVectorRepository;
         this.userPreferenceVectorRepository = userPreferenceVectorRepository;
         this.vectorSimilarityRepository = vectorSimilarityRepository;
         this.placeRepository = placeRepository;
         this.userRepository = userRepository;
+        this.placeVectorStore = placeVectorStore;
     }
     
     /**
@@ -133,13 +137,12 @@ public class VectorSearchService {
             
             // Get vector similarities for these places
             List<VectorSimilarityResponse.SimilarPlace> similarPlaces = new ArrayList<>();
+            Map<Long, VectorSimilarityResult> results = calculateCandidateSimilarities(userVector,
+                candidatePlaces.stream().map(Place::getId).collect(Collectors.toList()));
             
             for (Place place : candidatePlaces) {
-                Optional<PlaceDescriptionVector> placeVectorOpt = placeDescriptionVectorRepository.findByPlaceId(place.getId());
-                if (placeVectorOpt.isPresent()) {
-                    PlaceDescriptionVector placeVector = placeVectorOpt.get();
-                    VectorSimilarityResult result = placeVector.calculateSimilarityWithUser(userVector);
-                    
+                VectorSimilarityResult result = results.get(place.getId());
+                if (result != null) {
                     if (result.getWeightedSimilarity() >= similarityThreshold) {
                         VectorSimilarityResponse.SimilarPlace similarPlace = new VectorSimilarityResponse.SimilarPlace(
                             convertToPlaceDto(place),
@@ -183,6 +186,10 @@ public class VectorSearchService {
      * Calculate vector similarities on-demand
      */
     private List<Place> calculateVectorSimilarities(User user, UserPreferenceVector userVector, int limit) {
+        if (placeVectorStore.isReady()) {
+            return calculateVectorSimilaritiesFromStore(userVector, limit);
+        }
+
         List<PlaceDescriptionVector> allPlaceVectors = placeDescriptionVectorRepository.findAllActive();
         List<SimilarityScore> scores = new ArrayList<>();
         
@@ -206,12 +213,72 @@ public class VectorSearchService {
             .collect(Collectors.toList());
     }
     
+    /**
+     * On-demand similarities over the pre-decoded vector store; only the top places are loaded
+     */
+    private List<Place> calculateVectorSimilaritiesFromStore(UserPreferenceVector userVector, int limit) {
+        PlaceVectorStore.UserVector user = PlaceVectorStore.prepare(userVector);
+        List<Map.Entry<Long, Double>> scores = new ArrayList<>();
+        placeVectorStore.entries().forEach((placeId, placeVector) -> {
+            double score = PlaceVectorStore.weightedScore(user, placeVector);
+            if (score > 0.2) { // Minimum threshold
+                scores.add(Map.entry(placeId, score));
+            }
+        });
+
+        List<Long> topIds = scores.stream()
+            .sorted((a, b) -> Double.compare(b.getValue(), a.getValue()))
+            .limit(limit)
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toList());
+        Map<Long, Place> places = placeRepository.findAllById(topIds).stream()
+            .collect(Collectors.toMap(Place::getId, place -> place));
+        return topIds.stream()
+            .map(places::get)
+            .filter(place -> place != null)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Full similarity results for candidate places (store first, one batched query as fallback)
+     */
+    private Map<Long, VectorSimilarityResult> calculateCandidateSimilarities(UserPreferenceVector userVector, List<Long> placeIds) {
+        Map<Long, VectorSimilarityResult> results = new HashMap<>();
+        if (placeIds.isEmpty()) {
+            return results;
+        }
+
+        if (placeVectorStore.isReady()) {
+            PlaceVectorStore.UserVector user = PlaceVectorStore.prepare(userVector);
+            for (Long placeId : placeIds) {
+                PlaceVectorStore.PlaceVector placeVector = placeVectorStore.get(placeId);
+                VectorSimilarityResult result = placeVector != null ? PlaceVectorStore.similarity(user, placeVector) : null;
+                if (result != null) {
+                    results.put(placeId, result);
+                }
+            }
+            return results;
+        }
+
+        for (PlaceDescriptionVector placeVector : placeDescriptionVectorRepository.findByPlaceIdIn(placeIds)) {
+            try {
+                results.put(placeVector.getPlace().getId(), placeVector.calculateSimilarityWithUser(userVector));
+            } catch (Exception e) {
+                // ignore individual failures
+            }
+        }
+        return results;
+    }
+    
     /**
      * Keyword-based search as fallback
      */
     private List<Place> keywordBasedSearch(String query, int limit) {
-        Pageable pageable = PageRequest.of(0, limit);
-        return placeRepository.searchPlaces(query, pageable).getContent();
+        String patterns = PlaceSearchTerms.likePatterns(query);
+        if (patterns.isEmpty()) {
+            return List.of();
+        }
+        return placeRepository.searchPlacesByPatterns(patterns, PlaceSearchTerms.normalize(query), limit);
     }
     
     /**
@@ -276,6 +343,10 @@ public class VectorSearchService {
             }
 
             UserPreferenceVector userVector = userVectorOpt.get();
+            if (placeVectorStore.isReady()) {
+                return rankCandidatesFromStore(userVector, candidateIds, similarityThreshold, limit);
+            }
+
             List<PlaceDescriptionVector> placeVectors = placeDescriptionVectorRepository.findByPlaceIdIn(candidateIds);
             Map<Long, Double> similarityScores = new HashMap<>();
 
@@ -302,4 +373,29 @@ public class VectorSearchService {
             return List.of();
         }
     }
+
+    /**
+     * Candidate scoring against the pre-decoded vector store.
+     */
+    private List<Long> rankCandidatesFromStore(UserPreferenceVector userVector, List<Long> candidateIds,
+                                               double similarityThreshold, int limit) {
+        PlaceVectorStore.UserVector user = PlaceVectorStore.prepare(userVector);
+        Map<Long, Double> similarityScores = new HashMap<>();
+        for (Long placeId : candidateIds) {
+            PlaceVectorStore.PlaceVector placeVector = placeVectorStore.get(placeId);
+            if (placeVector == null) {
+                continue;
+            }
+            double score = PlaceVectorStore.weightedScore(user, placeVector);
+            if (score >= similarityThreshold) {
+                similarityScores.put(placeId, score);
+            }
+        }
+
+        return similarityScores.entrySet().stream()
+            .sorted((a, b) -> Double.compare(b.getValue(), a.getValue()))
+            .map(Map.Entry::getKey)
+            .limit(Math.max(1, limit))
+            .collect(Collectors.toList());
+    }
 }
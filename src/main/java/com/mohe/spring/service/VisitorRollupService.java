@@ -0,0 +1,364 @@
+package com.mohe.spring.service;
+
+import com.mohe.spring.util.HyperLogLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * visitor_logs 증분 집계 서비스
+ *
+ * <p>마지막으로 집계한 visitor_logs.id(visitor_rollup_state) 이후 행만 읽어
+ * 시간(HOUR)·일(DAY) 단위 visitor_rollups / visitor_rollup_dimensions에 더합니다.
+ * 관리자 분석 API는 원본 로그 대신 이 집계 행을 읽습니다.</p>
+ *
+ * <ul>
+ *   <li>페이지뷰: 버킷별 합계, 기기/브라우저/OS/페이지별 합계</li>
+ *   <li>고유 방문자: 버킷별 세션 HyperLogLog 스케치 — 주/월은 일 스케치를 병합해 추정</li>
+ *   <li>state 행을 FOR UPDATE로 잡고 한 트랜잭션에서 집계 + 워터마크 갱신 (중복 집계 없음)</li>
+ *   <li>집계 실행은 {@link DatabaseAdvisoryLock}으로 여러 인스턴스 중 한 곳에서만</li>
+ * </ul>
+ *
+ * <p>여러 인스턴스의 {@link PageviewBuffer}가 동시에 쓰면 id 순서와 커밋 순서가 다를 수 있습니다
+ * (작은 id가 아직 커밋 전인데 큰 id가 먼저 보임). 그래서 created_at이 settle lag보다 오래된 행까지만,
+ * 그리고 id 순으로 처음 나오는 최근 행 앞에서 멈춰 집계합니다. lag은 flush 주기 + 트랜잭션 시간 + 인스턴스 간
+ * 시계 차이보다 충분히 길어야 합니다. 버킷 경계는 JVM 기본 시간대 기준입니다.</p>
+ */
+@Service
+public class VisitorRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(VisitorRollupService.class);
+
+    static final String HOUR = "HOUR";
+    static final String DAY = "DAY";
+
+    static final String LOCK_NAME = "visitor-rollup";
+
+    private static final int MAX_DIMENSION_VALUE_LENGTH = 500;
+
+    private static final String UPSERT_ROLLUP_SQL = """
+        INSERT INTO visitor_rollups (granularity, bucket_start, pageviews, visitors_hll, updated_at)
+        VALUES (?, ?, ?, ?, NOW())
+        ON CONFLICT (granularity, bucket_start) DO UPDATE
+        SET pageviews = visitor_rollups.pageviews + EXCLUDED.pageviews,
+            visitors_hll = EXCLUDED.visitors_hll,
+            updated_at = NOW()
+        """;
+
+    private static final String UPSERT_DIMENSION_SQL = """
+        INSERT INTO visitor_rollup_dimensions (granularity, bucket_start, dimension, value, pageviews)
+        VALUES (?, ?, ?, ?, ?)
+        ON CONFLICT (granularity, bucket_start, dimension, value) DO UPDATE
+        SET pageviews = visitor_rollup_dimensions.pageviews + EXCLUDED.pageviews
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DatabaseAdvisoryLock advisoryLock;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final long settleLagMillis;
+    private final boolean enabled;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile OffsetDateTime lastRunAt;
+    private volatile int lastRunRows;
+    private volatile long lastRunMillis;
+
+    public VisitorRollupService(
+        JdbcTemplate jdbcTemplate,
+        TransactionTemplate transactionTemplate,
+        DatabaseAdvisoryLock advisoryLock,
+        @Value("${mohe.analytics.rollup-batch-size:20000}") int batchSize,
+        @Value("${mohe.analytics.rollup-max-batches-per-run:50}") int maxBatchesPerRun,
+        @Value("${mohe.analytics.rollup-settle-lag-ms:120000}") long settleLagMillis,
+        @Value("${mohe.analytics.rollup-enabled:true}") boolean enabled
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.advisoryLock = advisoryLock;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxBatchesPerRun = Math.max(1, maxBatchesPerRun);
+        this.settleLagMillis = Math.max(0, settleLagMillis);
+        this.enabled = enabled;
+    }
+
+    @Scheduled(
+        initialDelayString = "${mohe.analytics.rollup-initial-delay-ms:30000}",
+        fixedDelayString = "${mohe.analytics.rollup-interval-ms:60000}"
+    )
+    public void scheduledRollup() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            rollup();
+        } catch (Exception e) {
+            logger.error("Visitor rollup failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 워터마크 이후 로그를 batchSize개씩 집계 (최대 maxBatchesPerRun회)
+     *
+     * <p>다른 인스턴스가 집계 중이면 기다리지 않고 0을 반환합니다.</p>
+     *
+     * @return 집계한 로그 행 수
+     */
+    public int rollup() {
+        if (!running.compareAndSet(false, true)) {
+            return 0;
+        }
+        long started = System.currentTimeMillis();
+        int[] total = {0};
+        try {
+            boolean ran = advisoryLock.runExclusively(LOCK_NAME, () -> {
+                for (int i = 0; i < maxBatchesPerRun; i++) {
+                    Integer rows = transactionTemplate.execute(status -> rollupBatch());
+                    if (rows == null || rows == 0) {
+                        break;
+                    }
+                    total[0] += rows;
+                    if (rows < batchSize) {
+                        break;
+                    }
+                }
+            });
+            if (!ran) {
+                logger.debug("Visitor rollup skipped: another instance holds the lock");
+                return 0;
+            }
+        } finally {
+            lastRunAt = OffsetDateTime.now();
+            lastRunRows = total[0];
+            lastRunMillis = System.currentTimeMillis() - started;
+            running.set(false);
+        }
+        if (total[0] > 0) {
+            logger.info("Rolled up {} visitor logs in {}ms", total[0], lastRunMillis);
+        }
+        return total[0];
+    }
+
+    // ===== 조회 (관리자 분석 API) =====
+
+    /**
+     * from 이후 버킷들의 (bucket_start, pageviews, 스케치)
+     */
+    List<Bucket> findBuckets(String granularity, OffsetDateTime from) {
+        return jdbcTemplate.query("""
+            SELECT bucket_start, pageviews, visitors_hll
+            FROM visitor_rollups
+            WHERE granularity = ? AND bucket_start >= ?
+            ORDER BY bucket_start
+            """,
+            (rs, rowNum) -> new Bucket(
+                rs.getObject(1, OffsetDateTime.class).atZoneSameInstant(zone).toOffsetDateTime(),
+                rs.getLong(2),
+                HyperLogLog.fromBytes(rs.getBytes(3))),
+            granularity, from);
+    }
+
+    /**
+     * from 이후 일 단위 차원별 페이지뷰 합계 (많은 순)
+     */
+    List<Object[]> findDimensionTotals(String dimension, OffsetDateTime from, int limit) {
+        return jdbcTemplate.query("""
+            SELECT value, SUM(pageviews) AS cnt
+            FROM visitor_rollup_dimensions
+            WHERE granularity = 'DAY' AND dimension = ? AND bucket_start >= ?
+            GROUP BY value
+            ORDER BY cnt DESC
+            LIMIT ?
+            """,
+            (rs, rowNum) -> new Object[]{rs.getString(1), rs.getLong(2)},
+            dimension, from, limit);
+    }
+
+    OffsetDateTime startOf(OffsetDateTime time, ChronoUnit unit) {
+        return time.atZoneSameInstant(zone).truncatedTo(unit).toOffsetDateTime();
+    }
+
+    public Map<String, Object> getStats() {
+        Long watermark = jdbcTemplate.queryForObject(
+            "SELECT last_log_id FROM visitor_rollup_state WHERE id = 1", Long.class);
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("lastLogId", watermark);
+        stats.put("settleLagMillis", settleLagMillis);
+        stats.put("lastRunAt", lastRunAt);
+        stats.put("lastRunRows", lastRunRows);
+        stats.put("lastRunMillis", lastRunMillis);
+        return stats;
+    }
+
+    // ===== 집계 =====
+
+    private int rollupBatch() {
+        Long lastLogId = jdbcTemplate.queryForObject(
+            "SELECT last_log_id FROM visitor_rollup_state WHERE id = 1 FOR UPDATE", Long.class);
+
+        List<LogRow> rows = jdbcTemplate.query("""
+            SELECT id, created_at, session_id, device_type, browser, os, page_path,
+                   COALESCE(created_at < NOW() - make_interval(secs => ?), TRUE) AS settled
+            FROM visitor_logs
+            WHERE id > ?
+            ORDER BY id
+            LIMIT ?
+            """,
+            (rs, rowNum) -> new LogRow(
+                rs.getLong(1),
+                rs.getObject(2, OffsetDateTime.class),
+                rs.getString(3),
+                rs.getString(4),
+                rs.getString(5),
+                rs.getString(6),
+                rs.getString(7),
+                rs.getBoolean(8)),
+            settleLagMillis / 1000.0, lastLogId, batchSize);
+
+        // 최근 행부터는 앞 id가 아직 커밋 전일 수 있음 — 워터마크가 그 id를 넘지 않도록 여기서 멈춤
+        int settled = 0;
+        while (settled < rows.size() && rows.get(settled).settled()) {
+            settled++;
+        }
+        rows = rows.subList(0, settled);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        Map<BucketKey, Aggregate> aggregates = aggregate(rows);
+        mergeExistingSketches(aggregates);
+        writeRollups(aggregates);
+        writeDimensions(aggregates);
+
+        jdbcTemplate.update("UPDATE visitor_rollup_state SET last_log_id = ?, updated_at = NOW() WHERE id = 1",
+            rows.get(rows.size() - 1).id());
+        return rows.size();
+    }
+
+    private Map<BucketKey, Aggregate> aggregate(List<LogRow> rows) {
+        Map<BucketKey, Aggregate> aggregates = new LinkedHashMap<>();
+        for (LogRow row : rows) {
+            OffsetDateTime createdAt = row.createdAt() != null ? row.createdAt() : OffsetDateTime.now();
+            for (String granularity : List.of(HOUR, DAY)) {
+                OffsetDateTime bucketStart = startOf(createdAt, HOUR.equals(granularity) ? ChronoUnit.HOURS : ChronoUnit.DAYS);
+                Aggregate aggregate = aggregates.computeIfAbsent(new BucketKey(granularity, bucketStart.toInstant().toEpochMilli()),
+                    key -> new Aggregate(bucketStart));
+                aggregate.pageviews++;
+                aggregate.visitors.add(row.sessionId());
+                aggregate.addDimension("device", row.deviceType());
+                aggregate.addDimension("browser", row.browser());
+                aggregate.addDimension("os", row.os());
+                aggregate.addDimension("page", row.pagePath());
+            }
+        }
+        return aggregates;
+    }
+
+    private void mergeExistingSketches(Map<BucketKey, Aggregate> aggregates) {
+        for (String granularity : List.of(HOUR, DAY)) {
+            Map<Long, Aggregate> byEpoch = new HashMap<>();
+            aggregates.forEach((key, aggregate) -> {
+                if (key.granularity().equals(granularity)) {
+                    byEpoch.put(key.epochMillis(), aggregate);
+                }
+            });
+            if (byEpoch.isEmpty()) {
+                continue;
+            }
+            // 한 batch는 id 순서라 버킷이 연속 구간에 몰려 있음 — 범위로 읽고 필요한 버킷만 병합
+            OffsetDateTime from = byEpoch.values().stream().map(a -> a.bucketStart).min(OffsetDateTime::compareTo).orElseThrow();
+            OffsetDateTime to = byEpoch.values().stream().map(a -> a.bucketStart).max(OffsetDateTime::compareTo).orElseThrow();
+            jdbcTemplate.query("""
+                SELECT bucket_start, visitors_hll
+                FROM visitor_rollups
+                WHERE granularity = ? AND bucket_start BETWEEN ? AND ?
+                """,
+                (RowCallbackHandler) rs -> {
+                    Aggregate aggregate = byEpoch.get(rs.getObject(1, OffsetDateTime.class).toInstant().toEpochMilli());
+                    if (aggregate != null) {
+                        aggregate.visitors.merge(HyperLogLog.fromBytes(rs.getBytes(2)));
+                    }
+                },
+                granularity, from, to);
+        }
+    }
+
+    private void writeRollups(Map<BucketKey, Aggregate> aggregates) {
+        List<Map.Entry<BucketKey, Aggregate>> entries = new ArrayList<>(aggregates.entrySet());
+        jdbcTemplate.batchUpdate(UPSERT_ROLLUP_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Map.Entry<BucketKey, Aggregate> entry = entries.get(i);
+                ps.setString(1, entry.getKey().granularity());
+                ps.setObject(2, entry.getValue().bucketStart);
+                ps.setLong(3, entry.getValue().pageviews);
+                ps.setBytes(4, entry.getValue().visitors.toBytes());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return entries.size();
+            }
+        });
+    }
+
+    private void writeDimensions(Map<BucketKey, Aggregate> aggregates) {
+        List<Object[]> rows = new ArrayList<>();
+        aggregates.forEach((key, aggregate) -> aggregate.dimensions.forEach((dimension, counts) ->
+            counts.forEach((value, count) -> rows.add(
+                new Object[]{key.granularity(), aggregate.bucketStart, dimension, value, count}))));
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_DIMENSION_SQL, rows);
+        }
+    }
+
+    record Bucket(OffsetDateTime bucketStart, long pageviews, HyperLogLog visitors) {
+    }
+
+    private record BucketKey(String granularity, long epochMillis) {
+    }
+
+    private record LogRow(long id, OffsetDateTime createdAt, String sessionId, String deviceType,
+                          String browser, String os, String pagePath, boolean settled) {
+    }
+
+    private static final class Aggregate {
+        private final OffsetDateTime bucketStart;
+        private final HyperLogLog visitors = new HyperLogLog();
+        private final Map<String, Map<String, Long>> dimensions = new LinkedHashMap<>();
+        private long pageviews;
+
+        private Aggregate(OffsetDateTime bucketStart) {
+            this.bucketStart = bucketStart;
+        }
+
+        private void addDimension(String dimension, String value) {
+            String key = value == null || value.isBlank() ? "unknown" : value;
+            if (key.length() > MAX_DIMENSION_VALUE_LENGTH) {
+                key = key.substring(0, MAX_DIMENSION_VALUE_LENGTH);
+            }
+            dimensions.computeIfAbsent(dimension, d -> new HashMap<>()).merge(key, 1L, Long::sum);
+        }
+    }
+}
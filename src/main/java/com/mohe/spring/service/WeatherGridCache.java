@@ -0,0 +1,79 @@
+package com.mohe.spring.service;
+
+import com.mohe.spring.util.GeoGridConverter;
+import com.mohe.spring.util.LoadingLruCache;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+
+/**
+ * 기상청 격자(nx, ny) 단위 날씨 캐시
+ *
+ * <p>사용자 좌표는 요청마다 조금씩 달라 원시 좌표를 키로 쓰면 거의 항상 miss가 납니다.
+ * 기상청 초단기실황은 5km 격자 단위로 제공되므로 같은 격자의 요청은 같은 값을 공유합니다.</p>
+ *
+ * <ul>
+ *   <li>크기 제한 LRU + TTL, single-flight ({@link LoadingLruCache})</li>
+ *   <li>refresh-ahead: TTL의 일정 비율이 지난 항목은 응답은 캐시로 하고 백그라운드에서 갱신</li>
+ *   <li>갱신 실패 시 만료 후 staleGraceMillis 동안은 이전 값을 반환</li>
+ *   <li>warm set 갱신({@link #refreshIfStale})은 같은 격자의 진행 중인 로드와 합쳐지고, 신선한 격자는 건너뜀</li>
+ * </ul>
+ *
+ * <p>한국 영역 밖 좌표는 격자 변환 왜곡이 크므로 소수점 2자리(약 1km) 좌표로 키를 만듭니다.</p>
+ */
+class WeatherGridCache {
+
+    private final BiFunction<Double, Double, WeatherData> loader;
+    private final LoadingLruCache<String, WeatherData> cache;
+
+    /**
+     * @param refreshAheadRatio TTL 대비 백그라운드 갱신 시작 시점 (예: 0.8 → 8분 경과 시 갱신)
+     */
+    WeatherGridCache(BiFunction<Double, Double, WeatherData> loader,
+                     Executor refreshExecutor,
+                     int maxEntries,
+                     long ttlMillis,
+                     double refreshAheadRatio,
+                     long staleGraceMillis) {
+        this.loader = loader;
+        this.cache = LoadingLruCache.<String, WeatherData>builder("Weather grid cache")
+            .maxEntries(maxEntries)
+            .ttlMillis(ttlMillis)
+            .refreshAheadMillis((long) (ttlMillis * refreshAheadRatio))
+            .staleIfError(staleGraceMillis)
+            .refreshExecutor(refreshExecutor)
+            .build();
+    }
+
+    static String keyOf(double lat, double lon) {
+        if (GeoGridConverter.isValidKoreanCoordinate(lat, lon)) {
+            GeoGridConverter.GridCoordinate grid = GeoGridConverter.toGrid(lat, lon);
+            return grid.getNx() + "," + grid.getNy();
+        }
+        return String.format(Locale.ROOT, "ll:%.2f,%.2f", lat, lon);
+    }
+
+    WeatherData get(double lat, double lon) {
+        return cache.get(keyOf(lat, lon), () -> loader.apply(lat, lon));
+    }
+
+    /**
+     * 지정 좌표의 격자를 백그라운드에서 갱신 (warm set 유지용)
+     * 이미 신선한 항목은 건너뜁니다.
+     */
+    void refreshIfStale(double lat, double lon) {
+        cache.refreshIfStale(keyOf(lat, lon), () -> loader.apply(lat, lon));
+    }
+
+    void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    Map<String, Object> getStats() {
+        Map<String, Object> stats = cache.getStats();
+        stats.put("cells", cache.keys());
+        return stats;
+    }
+}
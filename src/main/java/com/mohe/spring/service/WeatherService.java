@@ -4,7 +4,9 @@ import com.mohe.spring.dto.WeatherResponse;
 import com.mohe.spring.util.GeoGridConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
@@ -15,8 +17,7 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.Executor;
 
 /**
  * Weather data provider interface for pluggable weather services
@@ -459,22 +460,54 @@ class KMAWeatherProvider implements WeatherProvider {
 
 /**
  * Weather service orchestrator with pluggable providers
+ *
+ * <p>조회 결과는 기상청 격자(nx, ny) 단위로 {@link WeatherGridCache}에 보관합니다.
+ * batch.location 지역(seoul, jeju, yongin)의 대표 좌표는 warm set으로 주기적으로 미리 채워 둡니다.</p>
  */
 @Service
 public class WeatherService {
 
     private static final Logger logger = LoggerFactory.getLogger(WeatherService.class);
-    private static final Duration CACHE_TIMEOUT = Duration.ofMinutes(10);
+
+    /**
+     * warm set 대표 좌표 (지역 코드 → {lat, lon}), 각 좌표가 속한 격자를 미리 채움
+     */
+    private static final Map<String, List<double[]>> WARM_LOCATIONS = Map.of(
+        "seoul", List.of(
+            new double[]{37.5735, 126.9790},  // 종로
+            new double[]{37.4979, 127.0276},  // 강남
+            new double[]{37.5563, 126.9236},  // 홍대/마포
+            new double[]{37.5446, 127.0557},  // 성수
+            new double[]{37.5133, 127.1001},  // 잠실
+            new double[]{37.5219, 126.9245}   // 여의도
+        ),
+        "jeju", List.of(
+            new double[]{33.4996, 126.5312},  // 제주시
+            new double[]{33.2530, 126.5600},  // 서귀포
+            new double[]{33.4628, 126.3094},  // 애월
+            new double[]{33.4580, 126.9425}   // 성산
+        ),
+        "yongin", List.of(
+            new double[]{37.3223, 127.0978},  // 수지구
+            new double[]{37.2747, 127.1150},  // 기흥구
+            new double[]{37.2343, 127.2017}   // 처인구
+        )
+    );
 
     private final WeatherProvider weatherProvider;
     private final WeatherProvider fallbackProvider;
-
-    // Simple in-memory cache for 10 minutes
-    private final Map<String, CacheEntry> weatherCache = new ConcurrentHashMap<>();
+    private final WeatherGridCache weatherCache;
+    private final List<double[]> warmLocations;
 
     public WeatherService(KMAWeatherProvider kmaWeatherProvider,
                          OpenMeteoProvider openMeteoProvider,
-                         @Value("${api.kma.service-key:}") String kmaServiceKey) {
+                         @Value("${api.kma.service-key:}") String kmaServiceKey,
+                         @Qualifier("taskExecutor") Executor taskExecutor,
+                         @Value("${weather.cache.max-entries:2000}") int maxEntries,
+                         @Value("${weather.cache.ttl-seconds:600}") long ttlSeconds,
+                         @Value("${weather.cache.refresh-ahead-ratio:0.8}") double refreshAheadRatio,
+                         @Value("${weather.cache.stale-grace-seconds:1800}") long staleGraceSeconds,
+                         @Value("${weather.cache.warm-regions:seoul,jeju,yongin}") List<String> warmRegions) {
         // Use KMA as primary provider if configured, otherwise use OpenMeteo
         if (kmaServiceKey != null && !kmaServiceKey.isBlank()) {
             this.weatherProvider = kmaWeatherProvider;
@@ -485,39 +518,25 @@ public class WeatherService {
             this.fallbackProvider = null;
             logger.info("Weather service initialized with OpenMeteo provider (KMA not configured)");
         }
-    }
-    
-    public WeatherData getCurrentWeather(double lat, double lon) {
-        String cacheKey = lat + "_" + lon;
-        CacheEntry cached = weatherCache.get(cacheKey);
-
-        if (cached != null && Duration.between(cached.timestamp, LocalDateTime.now()).compareTo(CACHE_TIMEOUT) < 0) {
-            logger.debug("Returning cached weather data for lat={}, lon={}", lat, lon);
-            return cached.weatherData;
-        }
 
-        logger.info("Fetching fresh weather data for lat={}, lon={}", lat, lon);
+        this.weatherCache = new WeatherGridCache(this::fetchWeather, taskExecutor,
+            maxEntries, ttlSeconds * 1000, refreshAheadRatio, staleGraceSeconds * 1000);
 
-        WeatherData weather;
-        try {
-            weather = weatherProvider.getCurrentWeather(lat, lon);
-        } catch (Exception e) {
-            logger.warn("Primary weather provider failed, attempting fallback: {}", e.getMessage());
-            if (fallbackProvider != null) {
-                weather = fallbackProvider.getCurrentWeather(lat, lon);
-            } else {
-                throw e;
+        this.warmLocations = new ArrayList<>();
+        for (String region : warmRegions) {
+            List<double[]> locations = WARM_LOCATIONS.get(region.trim().toLowerCase());
+            if (locations != null) {
+                warmLocations.addAll(locations);
             }
         }
+        logger.info("Weather grid cache initialized: maxEntries={}, ttl={}s, warm locations={}",
+            maxEntries, ttlSeconds, warmLocations.size());
+    }
 
-        weatherCache.put(cacheKey, new CacheEntry(weather, LocalDateTime.now()));
-
-        // Clean old cache entries
-        cleanupCache();
-
-        return weather;
+    public WeatherData getCurrentWeather(double lat, double lon) {
+        return weatherCache.get(lat, lon);
     }
-    
+
     public WeatherContext getWeatherContext(double lat, double lon) {
         WeatherData weather = getCurrentWeather(lat, lon);
         return WeatherContext.from(weather);
@@ -542,23 +561,38 @@ public class WeatherService {
         );
     }
 
-    private void cleanupCache() {
-        LocalDateTime now = LocalDateTime.now();
-        List<String> expiredKeys = weatherCache.entrySet().stream()
-                .filter(entry -> Duration.between(entry.getValue().timestamp, now).compareTo(CACHE_TIMEOUT) > 0)
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
-        
-        expiredKeys.forEach(weatherCache::remove);
+    /**
+     * warm set 격자 선갱신 (시작 직후 1회 + 주기적으로)
+     * 신선한 격자는 건너뛰고, 갱신은 백그라운드 executor에서 격자별 single-flight로 실행됩니다.
+     */
+    @Scheduled(initialDelayString = "${weather.cache.warm-initial-delay-ms:10000}",
+               fixedDelayString = "${weather.cache.warm-refresh-interval-ms:120000}")
+    public void refreshWarmSet() {
+        for (double[] location : warmLocations) {
+            weatherCache.refreshIfStale(location[0], location[1]);
+        }
     }
-    
-    private static class CacheEntry {
-        final WeatherData weatherData;
-        final LocalDateTime timestamp;
-        
-        CacheEntry(WeatherData weatherData, LocalDateTime timestamp) {
-            this.weatherData = weatherData;
-            this.timestamp = timestamp;
+
+    public Map<String, Object> getCacheStats() {
+        Map<String, Object> stats = weatherCache.getStats();
+        stats.put("warmLocations", warmLocations.size());
+        return stats;
+    }
+
+    public void invalidateCache() {
+        weatherCache.invalidateAll();
+    }
+
+    private WeatherData fetchWeather(double lat, double lon) {
+        logger.info("Fetching fresh weather data for lat={}, lon={}", lat, lon);
+        try {
+            return weatherProvider.getCurrentWeather(lat, lon);
+        } catch (RuntimeException e) {
+            logger.warn("Primary weather provider failed, attempting fallback: {}", e.getMessage());
+            if (fallbackProvider != null) {
+                return fallbackProvider.getCurrentWeather(lat, lon);
+            }
+            throw e;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,254 @@
+package com.mohe.spring.service.card;
+
+import com.mohe.spring.dto.SimplePlaceDto;
+import com.mohe.spring.entity.Place;
+import com.mohe.spring.repository.PlaceBusinessHourRepository;
+import com.mohe.spring.repository.PlaceDescriptionRepository;
+import com.mohe.spring.repository.PlaceImageRepository;
+import com.mohe.spring.service.geo.PlaceGeoIndex;
+import com.mohe.spring.service.image.ImageStorage;
+import com.mohe.spring.service.image.ImageVariantService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 장소 카드(SimplePlaceDto) 일괄 조립기
+ *
+ * <p>목록 API는 장소마다 images / descriptions / businessHours 지연 로딩을 건드려
+ * 카드 20개에 60회 이상의 쿼리가 나갔습니다. 이 조립기는 ID 목록 기준 쿼리 3회
+ * (이미지, 첫 mohe_description, 영업시간)로 필요한 값을 모두 읽고, 엔티티 컬렉션은 건드리지 않습니다.</p>
+ *
+ * <p>목록용 이미지 URL 중 이 서버가 서빙하는 {@code /images/...}에는 카드 너비 버킷 {@code ?w=}를 붙여
+ * 원본 대신 리사이즈 변형을 받게 합니다 ({@link ImageVariantService}). 외부 CDN URL은 그대로 둡니다.</p>
+ */
+@Component
+public class PlaceCardAssembler {
+
+    private final PlaceImageRepository placeImageRepository;
+    private final PlaceDescriptionRepository placeDescriptionRepository;
+    private final PlaceBusinessHourRepository placeBusinessHourRepository;
+    /** 카드 이미지 너비 버킷 (0이면 원본 URL) */
+    private final int cardImageWidth;
+
+    public PlaceCardAssembler(PlaceImageRepository placeImageRepository,
+                              PlaceDescriptionRepository placeDescriptionRepository,
+                              PlaceBusinessHourRepository placeBusinessHourRepository,
+                              ImageVariantService imageVariantService,
+                              @Value("${mohe.image.card-width:640}") int cardWidth) {
+        this.placeImageRepository = placeImageRepository;
+        this.placeDescriptionRepository = placeDescriptionRepository;
+        this.placeBusinessHourRepository = placeBusinessHourRepository;
+        // 설정 너비를 버킷으로 맞춰 두어 같은 변형이 URL 하나로만 캐시되도록
+        this.cardImageWidth = cardWidth > 0 ? imageVariantService.bucketFor(cardWidth) : 0;
+    }
+
+    /**
+     * 장소 목록 → 카드 목록 (입력 순서 유지)
+     *
+     * @param latitude  사용자 위도 (null이면 distance 미설정)
+     * @param longitude 사용자 경도
+     */
+    public List<SimplePlaceDto> toSimplePlaceDtos(List<Place> places, Double latitude, Double longitude) {
+        if (places == null || places.isEmpty()) {
+            return List.of();
+        }
+        CardData data = load(idsOf(places), true);
+        List<SimplePlaceDto> dtos = new ArrayList<>(places.size());
+        for (Place place : places) {
+            dtos.add(toDto(place, data, latitude, longitude));
+        }
+        return dtos;
+    }
+
+    /**
+     * 장소 하나 → 카드 (상세 화면용이라 이미지는 원본 URL)
+     */
+    public SimplePlaceDto toSimplePlaceDto(Place place, Double latitude, Double longitude) {
+        CardData data = load(List.of(place.getId()), false);
+        return toDto(place, data, latitude, longitude);
+    }
+
+    /**
+     * 장소별 카드 이미지 URL 목록 (order_index 순, 쿼리 1회)
+     */
+    public Map<Long, List<String>> imageUrls(Collection<Long> placeIds) {
+        return imageUrls(placeIds, true);
+    }
+
+    private Map<Long, List<String>> imageUrls(Collection<Long> placeIds, boolean cardSized) {
+        Map<Long, List<String>> images = new HashMap<>();
+        if (placeIds == null || placeIds.isEmpty()) {
+            return images;
+        }
+        Map<Long, Set<String>> distinct = new HashMap<>();
+        for (Object[] row : placeImageRepository.findUrlsByPlaceIds(placeIds)) {
+            String url = (String) row[1];
+            if (url != null && !url.isBlank()) {
+                distinct.computeIfAbsent(((Number) row[0]).longValue(), k -> new LinkedHashSet<>()).add(url);
+            }
+        }
+        distinct.forEach((placeId, urls) -> {
+            List<String> list = new ArrayList<>(urls.size());
+            for (String url : urls) {
+                list.add(cardSized ? cardImageUrl(url) : url);
+            }
+            images.put(placeId, list);
+        });
+        return images;
+    }
+
+    /**
+     * 장소별 대표 카드 이미지 URL (쿼리 1회)
+     */
+    public Map<Long, String> primaryImageUrls(Collection<Long> placeIds) {
+        Map<Long, String> primary = new HashMap<>();
+        if (placeIds == null || placeIds.isEmpty()) {
+            return primary;
+        }
+        for (Object[] row : placeImageRepository.findFirstImagesByPlaceIds(new ArrayList<>(placeIds))) {
+            String url = (String) row[1];
+            if (url != null && !url.isBlank()) {
+                primary.put(((Number) row[0]).longValue(), cardImageUrl(url));
+            }
+        }
+        return primary;
+    }
+
+    /**
+     * 로컬 이미지 URL({@code /images/...})에 카드 너비 버킷 {@code ?w=}를 붙임 — 외부 URL이나 쿼리가 이미 있는 URL은 그대로
+     */
+    private String cardImageUrl(String url) {
+        if (cardImageWidth <= 0 || !url.startsWith(ImageStorage.PUBLIC_PREFIX) || url.indexOf('?') >= 0) {
+            return url;
+        }
+        return url + "?w=" + cardImageWidth;
+    }
+
+    /**
+     * Extract short address (구+동) from full road address
+     * Examples:
+     * - "서울특별시 강남구 역삼동 123-45" → "강남구 역삼동"
+     * - "경기도 성남시 분당구 정자동 123" → "분당구 정자동"
+     * - "제주특별자치도 제주시 애월읍 123" → "제주시 애월읍"
+     */
+    public static String extractShortAddress(String fullAddress) {
+        if (fullAddress == null || fullAddress.isBlank()) {
+            return "";
+        }
+
+        try {
+            // Remove province/city prefix (서울특별시, 경기도, etc.)
+            String address = fullAddress.replaceFirst("^(서울특별시|부산광역시|대구광역시|인천광역시|광주광역시|대전광역시|울산광역시|세종특별자치시|경기도|강원도|충청북도|충청남도|전라북도|전라남도|경상북도|경상남도|제주특별자치도)\\s*", "");
+
+            // Split by spaces
+            String[] parts = address.split("\\s+");
+
+            if (parts.length >= 2) {
+                // Extract district (구/군/시) and neighborhood (동/읍/면/리)
+                String district = parts[0]; // 시/구/군
+                String neighborhood = parts[1]; // 동/읍/면/리
+
+                // Handle city names that include "시" (e.g., "성남시" should become "성남시 분당구")
+                if (parts.length >= 3 && district.endsWith("시") && (parts[1].endsWith("구") || parts[1].endsWith("군"))) {
+                    return parts[1] + " " + parts[2];
+                }
+
+                return district + " " + neighborhood;
+            }
+
+            // If we can't parse, return first part or empty
+            return parts.length > 0 ? parts[0] : "";
+
+        } catch (Exception e) {
+            return "";
+        }
+    }
+
+    private CardData load(List<Long> placeIds, boolean cardSized) {
+        Map<Long, String> descriptions = new HashMap<>();
+        for (Object[] row : placeDescriptionRepository.findFirstMoheDescriptionsByPlaceIds(placeIds)) {
+            descriptions.put(((Number) row[0]).longValue(), (String) row[1]);
+        }
+
+        Map<Long, List<SimplePlaceDto.BusinessHourDto>> businessHours = new HashMap<>();
+        for (Object[] row : placeBusinessHourRepository.findCardRowsByPlaceIds(placeIds)) {
+            businessHours.computeIfAbsent(((Number) row[0]).longValue(), k -> new ArrayList<>())
+                .add(new SimplePlaceDto.BusinessHourDto(
+                    (String) row[1],
+                    formatTime((LocalTime) row[2]),
+                    formatTime((LocalTime) row[3]),
+                    (String) row[4],
+                    (Boolean) row[5],
+                    (Integer) row[6]
+                ));
+        }
+
+        return new CardData(imageUrls(placeIds, cardSized), descriptions, businessHours);
+    }
+
+    private SimplePlaceDto toDto(Place place, CardData data, Double latitude, Double longitude) {
+        List<String> imageUrls = data.images().getOrDefault(place.getId(), List.of());
+        String primaryImage = imageUrls.isEmpty() ? null : imageUrls.get(0);
+
+        String fullAddress = place.getRoadAddress();
+        String shortAddress = extractShortAddress(fullAddress);
+
+        SimplePlaceDto dto = new SimplePlaceDto(
+            place.getId().toString(),
+            place.getName(),
+            place.getCategory() != null && !place.getCategory().isEmpty() ? place.getCategory().get(0) : "기타",
+            place.getRating() != null ? place.getRating().doubleValue() : 4.0,
+            shortAddress, // location = shortAddress (구+동)
+            primaryImage
+        );
+
+        dto.setReviewCount(place.getReviewCount() != null ? place.getReviewCount() : 0);
+        dto.setAddress(fullAddress);
+        dto.setShortAddress(shortAddress);
+        dto.setFullAddress(fullAddress);
+        dto.setIsBookmarked(false);
+        dto.setIsDemo(false);
+        dto.setImages(imageUrls);
+        dto.setDescription(data.descriptions().get(place.getId()));
+
+        List<SimplePlaceDto.BusinessHourDto> hours = data.businessHours().get(place.getId());
+        if (hours != null) {
+            dto.setBusinessHours(hours);
+        }
+
+        // distance는 위치 있는 경우에만 세팅
+        if (latitude != null && longitude != null && place.getLatitude() != null && place.getLongitude() != null) {
+            double distance = PlaceGeoIndex.haversine(latitude, longitude,
+                place.getLatitude().doubleValue(), place.getLongitude().doubleValue());
+            dto.setDistance(Math.round(distance * 10.0) / 10.0);
+        }
+
+        return dto;
+    }
+
+    private static List<Long> idsOf(List<Place> places) {
+        List<Long> ids = new ArrayList<>(places.size());
+        for (Place place : places) {
+            ids.add(place.getId());
+        }
+        return ids;
+    }
+
+    private static String formatTime(LocalTime time) {
+        return time != null ? time.toString().substring(0, 5) : null;
+    }
+
+    private record CardData(Map<Long, List<String>> images,
+                            Map<Long, String> descriptions,
+                            Map<Long, List<SimplePlaceDto.BusinessHourDto>> businessHours) {
+    }
+}
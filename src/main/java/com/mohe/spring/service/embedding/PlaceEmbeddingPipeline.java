@@ -0,0 +1,329 @@
+package com.mohe.spring.service.embedding;
+
+import com.mohe.spring.config.BinaryPGvector;
+import com.mohe.spring.dto.embedding.FloatEmbeddingResponse;
+import com.mohe.spring.entity.KeywordEmbeddingLookup;
+import com.mohe.spring.repository.KeywordEmbeddingLookupRepository;
+import com.mohe.spring.repository.PlaceDescriptionEmbeddingRepository;
+import com.mohe.spring.service.EmbeddingClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 여러 장소를 한 번에 처리하는 임베딩 파이프라인
+ *
+ * <p>기존 배치는 장소마다 키워드 최대 9개로 OpenAI를 한 번씩 호출하고 행을 하나씩 저장했습니다.
+ * 이 파이프라인은 chunk 전체를 한 단위로 다룹니다.</p>
+ *
+ * <ol>
+ *   <li>chunk 안의 키워드를 모아 중복 제거 후 keyword_embeddings에서 한 번에 조회</li>
+ *   <li>캐시에 없는 키워드 + 문장 임베딩이 없는 장소의 설명을 요청당 최대 maxInputsPerRequest개로 묶어
+ *       maxConcurrentRequests개까지 동시에 호출</li>
+ *   <li>keyword_embeddings / place_keyword_embeddings / place_description_embeddings를
+ *       multi-row INSERT로 한 트랜잭션에 기록 (호출자 트랜잭션이 있으면 참여)</li>
+ * </ol>
+ *
+ * <p>실패한 요청의 텍스트는 결과에서 빠질 뿐 나머지 요청 결과는 저장됩니다.
+ * 키워드 임베딩이 하나도 없는 장소는 기존 행을 지우지 않습니다.</p>
+ */
+@Component
+public class PlaceEmbeddingPipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlaceEmbeddingPipeline.class);
+
+    /** multi-row INSERT 한 문장당 행 수 (PostgreSQL 바인드 파라미터 한도 32767 이내) */
+    static final int ROWS_PER_STATEMENT = 500;
+
+    private final EmbeddingClient embeddingClient;
+    private final KeywordEmbeddingLookupRepository lookupRepository;
+    private final PlaceDescriptionEmbeddingRepository descEmbeddingRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxInputsPerRequest;
+    private final int maxConcurrentRequests;
+
+    public PlaceEmbeddingPipeline(
+        EmbeddingClient embeddingClient,
+        KeywordEmbeddingLookupRepository lookupRepository,
+        PlaceDescriptionEmbeddingRepository descEmbeddingRepository,
+        JdbcTemplate jdbcTemplate,
+        TransactionTemplate transactionTemplate,
+        @Value("${mohe.embedding.max-inputs-per-request:512}") int maxInputsPerRequest,
+        @Value("${mohe.embedding.max-concurrent-requests:4}") int maxConcurrentRequests
+    ) {
+        this.embeddingClient = embeddingClient;
+        this.lookupRepository = lookupRepository;
+        this.descEmbeddingRepository = descEmbeddingRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        // OpenAI embeddings API는 요청당 입력 2048개까지 허용
+        this.maxInputsPerRequest = Math.max(1, Math.min(2048, maxInputsPerRequest));
+        this.maxConcurrentRequests = Math.max(1, maxConcurrentRequests);
+    }
+
+    /**
+     * 임베딩 대상 장소
+     *
+     * @param keywords    임베딩할 키워드 (호출자가 개수 제한)
+     * @param description 문장 임베딩용 설명, null이면 키워드만 처리
+     */
+    public record PlaceInput(Long placeId, List<String> keywords, String description) {
+    }
+
+    /**
+     * @param keywordCounts       장소별 저장된 키워드 임베딩 수 (0개인 장소는 빠짐)
+     * @param descriptionPlaceIds 이번에 문장 임베딩을 저장한 장소
+     */
+    public record Result(Map<Long, Integer> keywordCounts,
+                         Set<Long> descriptionPlaceIds,
+                         int apiRequests,
+                         int failedRequests,
+                         int cacheHits,
+                         int newKeywords) {
+
+        public int totalKeywordEmbeddings() {
+            return keywordCounts.values().stream().mapToInt(Integer::intValue).sum();
+        }
+    }
+
+    public Result embed(List<PlaceInput> inputs) {
+        if (inputs == null || inputs.isEmpty()) {
+            return new Result(Map.of(), Set.of(), 0, 0, 0, 0);
+        }
+
+        // 1. chunk 전체 키워드 → 캐시 조회 1회
+        Set<String> distinctKeywords = new LinkedHashSet<>();
+        List<Long> placeIds = new ArrayList<>(inputs.size());
+        for (PlaceInput input : inputs) {
+            placeIds.add(input.placeId());
+            for (String keyword : input.keywords()) {
+                if (keyword != null && !keyword.isBlank()) {
+                    distinctKeywords.add(keyword);
+                }
+            }
+        }
+
+        Map<String, float[]> keywordVectors = new HashMap<>();
+        if (!distinctKeywords.isEmpty()) {
+            for (KeywordEmbeddingLookup lookup : lookupRepository.findByKeywordIn(new ArrayList<>(distinctKeywords))) {
+                keywordVectors.put(lookup.getKeyword(), lookup.getEmbeddingAsArray());
+            }
+        }
+        int cacheHits = keywordVectors.size();
+
+        // 2. 문장 임베딩이 이미 있는 장소 (조회 1회)
+        Set<Long> needDescription = new LinkedHashSet<>();
+        for (PlaceInput input : inputs) {
+            if (input.description() != null && !input.description().isBlank()) {
+                needDescription.add(input.placeId());
+            }
+        }
+        if (!needDescription.isEmpty()) {
+            needDescription.removeAll(descEmbeddingRepository.findPlaceIdsByPlaceIdIn(needDescription));
+        }
+
+        // 3. 요청할 텍스트 (키워드와 설명이 같은 문자열이면 한 번만 요청)
+        Set<String> texts = new LinkedHashSet<>();
+        for (String keyword : distinctKeywords) {
+            if (!keywordVectors.containsKey(keyword)) {
+                texts.add(keyword);
+            }
+        }
+        List<String> newKeywords = new ArrayList<>(texts);
+        for (PlaceInput input : inputs) {
+            if (needDescription.contains(input.placeId())) {
+                texts.add(input.description());
+            }
+        }
+
+        // 4. 요청당 최대 입력 수로 묶어 제한된 동시성으로 호출
+        List<List<String>> requests = partition(new ArrayList<>(texts), maxInputsPerRequest);
+        Map<String, float[]> fetched = Collections.synchronizedMap(new HashMap<>());
+        int failedRequests = fetchAll(requests, fetched);
+
+        for (String keyword : newKeywords) {
+            float[] vector = fetched.get(keyword);
+            if (vector != null) {
+                keywordVectors.put(keyword, vector);
+            }
+        }
+
+        // 5. 저장할 행 구성
+        List<Object[]> lookupRows = new ArrayList<>();
+        for (String keyword : newKeywords) {
+            float[] vector = fetched.get(keyword);
+            if (vector != null) {
+                lookupRows.add(new Object[]{keyword, vector});
+            }
+        }
+
+        Map<Long, Integer> keywordCounts = new LinkedHashMap<>();
+        List<Object[]> placeKeywordRows = new ArrayList<>();
+        List<Object[]> descriptionRows = new ArrayList<>();
+        Set<Long> descriptionPlaceIds = new LinkedHashSet<>();
+        Set<Long> seenPlaces = new HashSet<>();
+        for (PlaceInput input : inputs) {
+            if (!seenPlaces.add(input.placeId())) {
+                continue;
+            }
+            Set<String> placeKeywords = new LinkedHashSet<>(input.keywords());
+            int count = 0;
+            for (String keyword : placeKeywords) {
+                float[] vector = keywordVectors.get(keyword);
+                if (vector != null) {
+                    placeKeywordRows.add(new Object[]{input.placeId(), keyword, vector});
+                    count++;
+                }
+            }
+            if (count > 0) {
+                keywordCounts.put(input.placeId(), count);
+            }
+            if (needDescription.contains(input.placeId())) {
+                float[] vector = fetched.get(input.description());
+                if (vector != null) {
+                    descriptionRows.add(new Object[]{input.placeId(), input.description(), vector});
+                    descriptionPlaceIds.add(input.placeId());
+                }
+            }
+        }
+
+        // 6. 한 트랜잭션에 bulk 저장
+        List<Long> replacedPlaceIds = new ArrayList<>(keywordCounts.keySet());
+        transactionTemplate.executeWithoutResult(status -> {
+            insertRows("INSERT INTO keyword_embeddings (keyword, embedding) VALUES ", "(?, ?)",
+                " ON CONFLICT (keyword) DO NOTHING", lookupRows);
+            if (!replacedPlaceIds.isEmpty()) {
+                jdbcTemplate.update("DELETE FROM place_keyword_embeddings WHERE place_id = ANY(?)", ps ->
+                    ps.setArray(1, ps.getConnection().createArrayOf("bigint", replacedPlaceIds.toArray())));
+            }
+            insertRows("INSERT INTO place_keyword_embeddings (place_id, keyword, embedding) VALUES ", "(?, ?, ?)",
+                "", placeKeywordRows);
+            insertRows("INSERT INTO place_description_embeddings (place_id, description_text, embedding) VALUES ", "(?, ?, ?)",
+                " ON CONFLICT (place_id) DO UPDATE SET description_text = EXCLUDED.description_text,"
+                    + " embedding = EXCLUDED.embedding, created_at = NOW()", descriptionRows);
+        });
+
+        logger.info("Embedding pipeline: {} places, {} distinct keywords (cache hit {}), {} texts in {} requests ({} failed), "
+                + "{} keyword rows, {} description rows",
+            seenPlaces.size(), distinctKeywords.size(), cacheHits, texts.size(), requests.size(), failedRequests,
+            placeKeywordRows.size(), descriptionRows.size());
+
+        return new Result(keywordCounts, descriptionPlaceIds, requests.size(), failedRequests, cacheHits, lookupRows.size());
+    }
+
+    /**
+     * @return 실패한 요청 수
+     */
+    private int fetchAll(List<List<String>> requests, Map<String, float[]> fetched) {
+        if (requests.isEmpty()) {
+            return 0;
+        }
+        if (requests.size() == 1 || maxConcurrentRequests == 1) {
+            int failed = 0;
+            for (List<String> request : requests) {
+                if (!fetch(request, fetched)) {
+                    failed++;
+                }
+            }
+            return failed;
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(maxConcurrentRequests, requests.size()));
+        try {
+            List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+            for (List<String> request : requests) {
+                futures.add(CompletableFuture.supplyAsync(() -> fetch(request, fetched), pool));
+            }
+            int failed = 0;
+            for (CompletableFuture<Boolean> future : futures) {
+                if (!future.join()) {
+                    failed++;
+                }
+            }
+            return failed;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private boolean fetch(List<String> texts, Map<String, float[]> fetched) {
+        try {
+            FloatEmbeddingResponse response = embeddingClient.getFloatEmbeddings(texts);
+            if (!response.hasValidEmbeddings()) {
+                logger.warn("Embedding request returned no vectors for {} inputs", texts.size());
+                return false;
+            }
+            List<float[]> vectors = response.getEmbeddingsAsFloatArrays();
+            if (vectors.size() != texts.size()) {
+                // 입력과 순서로 짝지으므로 개수가 다르면 어느 결과도 신뢰할 수 없음
+                logger.warn("Embedding count mismatch: expected {}, got {}", texts.size(), vectors.size());
+                return false;
+            }
+            for (int i = 0; i < texts.size(); i++) {
+                float[] vector = vectors.get(i);
+                if (vector != null && !isZero(vector)) {
+                    fetched.put(texts.get(i), vector);
+                }
+            }
+            return true;
+        } catch (RuntimeException e) {
+            logger.warn("Embedding request for {} inputs failed: {}", texts.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * VALUES 절을 ROWS_PER_STATEMENT행씩 이어 붙여 실행 (float[]는 vector로 바인딩)
+     */
+    private void insertRows(String prefix, String rowPlaceholder, String suffix, List<Object[]> rows) {
+        for (List<Object[]> slice : partition(rows, ROWS_PER_STATEMENT)) {
+            StringBuilder sql = new StringBuilder(prefix);
+            for (int i = 0; i < slice.size(); i++) {
+                sql.append(i == 0 ? "" : ", ").append(rowPlaceholder);
+            }
+            sql.append(suffix);
+            jdbcTemplate.update(sql.toString(), ps -> {
+                int index = 1;
+                for (Object[] row : slice) {
+                    for (Object value : row) {
+                        ps.setObject(index++, value instanceof float[] vector ? new BinaryPGvector(vector) : value);
+                    }
+                }
+            });
+        }
+    }
+
+    private static boolean isZero(float[] vector) {
+        for (float value : vector) {
+            if (value != 0.0f) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <T> List<List<T>> partition(List<T> items, int size) {
+        List<List<T>> slices = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += size) {
+            slices.add(items.subList(from, Math.min(from + size, items.size())));
+        }
+        return slices;
+    }
+}
@@ -0,0 +1,348 @@
+package com.mohe.spring.service.geo;
+
+import com.mohe.spring.repository.PlaceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongPredicate;
+
+/**
+ * COMPLETED 장소의 인메모리 격자(grid) 공간 인덱스
+ *
+ * <p>위경도를 고정 크기 셀(기본 0.01° ≈ 1.1km)로 나누고, 셀 키 순으로 정렬된
+ * primitive 배열(long[] id, double[] lat/lon)에 장소를 보관합니다.
+ * 반경/k-최근접 조회는 bounding box에 걸치는 셀만 이진 탐색으로 찾아 Haversine 검사하므로
+ * DB 왕복 없이 수 마이크로초~수백 마이크로초 안에 끝납니다.</p>
+ *
+ * <h3>갱신 방식</h3>
+ * <ul>
+ *   <li>기동 후 전체 로드, 이후 주기적으로 전체 재빌드 (삭제된 장소 정리)</li>
+ *   <li>짧은 주기로 {@code updated_at} 이후 변경분만 조회하여 반영 (embed_status 변경 포함)</li>
+ *   <li>조회는 불변 스냅샷을 참조하므로 락 없이 동시 수행 가능</li>
+ * </ul>
+ */
+@Component
+public class PlaceGeoIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlaceGeoIndex.class);
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double KM_PER_DEGREE = 111.0;
+    private static final long LON_CELL_SPAN = 1_000_000L;
+
+    private final PlaceRepository placeRepository;
+    private final boolean enabled;
+    private final double cellSizeDegrees;
+
+    /** 변경분 반영용 원본 (placeId → [lat, lon, rating]) — refresh 스레드에서만 수정 */
+    private final Map<Long, double[]> entries = new HashMap<>();
+
+    private volatile Snapshot snapshot;
+    private volatile LocalDateTime lastSyncedAt;
+
+    public PlaceGeoIndex(
+            PlaceRepository placeRepository,
+            @Value("${mohe.geo-index.enabled:true}") boolean enabled,
+            @Value("${mohe.geo-index.cell-size-degrees:0.01}") double cellSizeDegrees) {
+        this.placeRepository = placeRepository;
+        this.enabled = enabled;
+        this.cellSizeDegrees = cellSizeDegrees;
+    }
+
+    /**
+     * 인덱스 사용 가능 여부 (비활성화되었거나 아직 로드 전이면 false → 호출자는 DB 쿼리로 fallback)
+     */
+    public boolean isReady() {
+        return enabled && snapshot != null;
+    }
+
+    public int size() {
+        Snapshot current = snapshot;
+        return current != null ? current.ids.length : 0;
+    }
+
+    /**
+     * 전체 재빌드 — 기동 직후 및 주기적으로 실행
+     */
+    @Scheduled(initialDelayString = "${mohe.geo-index.initial-delay-ms:10000}",
+               fixedDelayString = "${mohe.geo-index.full-rebuild-interval-ms:3600000}")
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            LocalDateTime syncStartedAt = LocalDateTime.now();
+            List<Object[]> rows = placeRepository.findGeoIndexEntries();
+
+            entries.clear();
+            for (Object[] row : rows) {
+                putEntry(row);
+            }
+            snapshot = buildSnapshot();
+            lastSyncedAt = syncStartedAt;
+
+            logger.info("🗺️ Place geo index rebuilt: {} places in {}ms",
+                    snapshot.ids.length, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            logger.error("Place geo index rebuild failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 변경분 반영 — updated_at 이후 수정된 장소만 조회
+     */
+    @Scheduled(initialDelayString = "${mohe.geo-index.initial-delay-ms:10000}",
+               fixedDelayString = "${mohe.geo-index.delta-interval-ms:60000}")
+    public synchronized void refreshChanges() {
+        if (!enabled || lastSyncedAt == null) {
+            return;
+        }
+
+        try {
+            LocalDateTime syncStartedAt = LocalDateTime.now();
+            List<Object[]> rows = placeRepository.findGeoIndexChangesSince(lastSyncedAt);
+            if (rows.isEmpty()) {
+                lastSyncedAt = syncStartedAt;
+                return;
+            }
+
+            for (Object[] row : rows) {
+                Long placeId = ((Number) row[0]).longValue();
+                boolean indexable = row[1] != null && row[2] != null && "COMPLETED".equals(row[4]);
+                if (indexable) {
+                    putEntry(row);
+                } else {
+                    entries.remove(placeId);
+                }
+            }
+            snapshot = buildSnapshot();
+            lastSyncedAt = syncStartedAt;
+
+            logger.debug("Place geo index applied {} changes (size={})", rows.size(), snapshot.ids.length);
+        } catch (Exception e) {
+            logger.warn("Place geo index delta refresh failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 반경 내 장소 조회 (거리 오름차순)
+     *
+     * @param minRating null 평점은 통과, 그 외에는 minRating 이상만 포함 (NaN이면 필터 없음)
+     */
+    public List<Hit> findWithinRadius(double latitude, double longitude, double radiusKm, double minRating, int limit) {
+        Snapshot current = snapshot;
+        if (current == null || limit <= 0) {
+            return List.of();
+        }
+        HitBuffer buffer = new HitBuffer();
+        collect(current, latitude, longitude, radiusKm, minRating, null, buffer);
+        return buffer.sortedHits(limit);
+    }
+
+    /**
+     * k-최근접 장소 조회 (거리 오름차순)
+     * 셀 한 칸 크기 반경에서 시작해 결과가 k개 이상 모이거나 maxRadiusKm에 도달할 때까지 반경을 두 배씩 확장합니다.
+     * 반경 r 안의 모든 점을 수집하므로, r 내에서 k개 이상이면 그 중 상위 k개가 정확한 k-최근접입니다.
+     */
+    public List<Hit> findNearest(double latitude, double longitude, int k, double maxRadiusKm, double minRating) {
+        return findNearest(latitude, longitude, k, maxRadiusKm, minRating, null);
+    }
+
+    /**
+     * 조건을 만족하는 장소만 대상으로 한 k-최근접 조회
+     * 필터는 수집 단계에서 적용되므로, 가까운 장소가 모두 걸러져도 반경을 넓혀 k개를 채웁니다 (예: 현재 영업 중).
+     *
+     * @param filter placeId를 받아 포함 여부를 반환 (null이면 필터 없음)
+     */
+    public List<Hit> findNearest(double latitude, double longitude, int k, double maxRadiusKm, double minRating,
+                                 LongPredicate filter) {
+        Snapshot current = snapshot;
+        if (current == null || k <= 0) {
+            return List.of();
+        }
+
+        double radiusKm = Math.min(cellSizeDegrees * KM_PER_DEGREE, maxRadiusKm);
+        while (true) {
+            HitBuffer buffer = new HitBuffer();
+            collect(current, latitude, longitude, radiusKm, minRating, filter, buffer);
+            if (buffer.size >= k || radiusKm >= maxRadiusKm) {
+                return buffer.sortedHits(k);
+            }
+            radiusKm = Math.min(radiusKm * 2, maxRadiusKm);
+        }
+    }
+
+    private void collect(Snapshot s, double latitude, double longitude, double radiusKm,
+                         double minRating, LongPredicate filter, HitBuffer buffer) {
+        double latDelta = radiusKm / KM_PER_DEGREE;
+        double lonDelta = radiusKm / (KM_PER_DEGREE * Math.max(0.01, Math.cos(Math.toRadians(latitude))));
+
+        long minLatCell = latCell(latitude - latDelta);
+        long maxLatCell = latCell(latitude + latDelta);
+        long minLonCell = lonCell(longitude - lonDelta);
+        long maxLonCell = lonCell(longitude + lonDelta);
+
+        for (long latIdx = minLatCell; latIdx <= maxLatCell; latIdx++) {
+            long fromKey = latIdx * LON_CELL_SPAN + minLonCell;
+            long toKey = latIdx * LON_CELL_SPAN + maxLonCell;
+
+            // 같은 위도 행의 셀은 정렬 순서상 연속되어 있으므로 시작 셀만 이진 탐색
+            int cell = Arrays.binarySearch(s.cellKeys, fromKey);
+            if (cell < 0) {
+                cell = -cell - 1;
+            }
+            for (; cell < s.cellKeys.length && s.cellKeys[cell] <= toKey; cell++) {
+                for (int i = s.cellStart[cell]; i < s.cellStart[cell + 1]; i++) {
+                    double rating = s.ratings[i];
+                    if (!Double.isNaN(minRating) && !Double.isNaN(rating) && rating < minRating) {
+                        continue;
+                    }
+                    double distance = haversine(latitude, longitude, s.latitudes[i], s.longitudes[i]);
+                    if (distance <= radiusKm && (filter == null || filter.test(s.ids[i]))) {
+                        buffer.add(s.ids[i], distance);
+                    }
+                }
+            }
+        }
+    }
+
+    private void putEntry(Object[] row) {
+        Long placeId = ((Number) row[0]).longValue();
+        double lat = ((Number) row[1]).doubleValue();
+        double lon = ((Number) row[2]).doubleValue();
+        double rating = row[3] != null ? ((Number) row[3]).doubleValue() : Double.NaN;
+        entries.put(placeId, new double[]{lat, lon, rating});
+    }
+
+    private Snapshot buildSnapshot() {
+        int n = entries.size();
+        long[] keyed = new long[n];
+        long[] ids = new long[n];
+        int idx = 0;
+        for (Map.Entry<Long, double[]> entry : entries.entrySet()) {
+            ids[idx++] = entry.getKey();
+        }
+        // 셀 키 기준 정렬 (인덱스 정렬을 위해 idx 배열을 함께 정렬)
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            double[] point = entries.get(ids[i]);
+            keyed[i] = cellKey(point[0], point[1]);
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(keyed[a], keyed[b]));
+
+        long[] sortedIds = new long[n];
+        double[] latitudes = new double[n];
+        double[] longitudes = new double[n];
+        double[] ratings = new double[n];
+        List<Long> cellKeyList = new ArrayList<>();
+        List<Integer> cellStartList = new ArrayList<>();
+
+        long previousKey = Long.MIN_VALUE;
+        for (int i = 0; i < n; i++) {
+            int source = order[i];
+            double[] point = entries.get(ids[source]);
+            sortedIds[i] = ids[source];
+            latitudes[i] = point[0];
+            longitudes[i] = point[1];
+            ratings[i] = point[2];
+            if (keyed[source] != previousKey) {
+                cellKeyList.add(keyed[source]);
+                cellStartList.add(i);
+                previousKey = keyed[source];
+            }
+        }
+
+        long[] cellKeys = new long[cellKeyList.size()];
+        int[] cellStart = new int[cellKeyList.size() + 1];
+        for (int i = 0; i < cellKeys.length; i++) {
+            cellKeys[i] = cellKeyList.get(i);
+            cellStart[i] = cellStartList.get(i);
+        }
+        cellStart[cellKeys.length] = n;
+
+        return new Snapshot(sortedIds, latitudes, longitudes, ratings, cellKeys, cellStart);
+    }
+
+    private long cellKey(double latitude, double longitude) {
+        return latCell(latitude) * LON_CELL_SPAN + lonCell(longitude);
+    }
+
+    private long latCell(double latitude) {
+        double clamped = Math.max(-90.0, Math.min(90.0, latitude));
+        return (long) Math.floor((clamped + 90.0) / cellSizeDegrees);
+    }
+
+    private long lonCell(double longitude) {
+        double clamped = Math.max(-180.0, Math.min(180.0, longitude));
+        return (long) Math.floor((clamped + 180.0) / cellSizeDegrees);
+    }
+
+    public static double haversine(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+            + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+            * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return EARTH_RADIUS_KM * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    /**
+     * 조회 결과: 장소 ID + 기준점으로부터의 거리(km)
+     */
+    public record Hit(long placeId, double distanceKm) {
+    }
+
+    /**
+     * 셀 키 순으로 정렬된 불변 인덱스 스냅샷
+     * cellStart[c] ~ cellStart[c+1] 구간이 cellKeys[c] 셀에 속한 장소들
+     */
+    private record Snapshot(long[] ids, double[] latitudes, double[] longitudes, double[] ratings,
+                            long[] cellKeys, int[] cellStart) {
+    }
+
+    /**
+     * 조회 중 Hit 객체 생성을 줄이기 위한 primitive 버퍼
+     */
+    private static final class HitBuffer {
+        private long[] ids = new long[64];
+        private double[] distances = new double[64];
+        private int size;
+
+        void add(long id, double distance) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                distances = Arrays.copyOf(distances, size * 2);
+            }
+            ids[size] = id;
+            distances[size] = distance;
+            size++;
+        }
+
+        List<Hit> sortedHits(int limit) {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Double.compare(distances[a], distances[b]));
+
+            int count = Math.min(limit, size);
+            List<Hit> hits = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                hits.add(new Hit(ids[order[i]], distances[order[i]]));
+            }
+            return hits;
+        }
+    }
+}
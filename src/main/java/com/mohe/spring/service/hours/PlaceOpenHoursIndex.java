@@ -0,0 +1,224 @@
+package com.mohe.spring.service.hours;
+
+import com.mohe.spring.entity.Place;
+import com.mohe.spring.repository.PlaceBusinessHourRepository;
+import com.mohe.spring.repository.PlaceRepository;
+import com.mohe.spring.util.WeeklyOpenHours;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * places.open_hours 비트맵의 인메모리 사본
+ *
+ * <p>"영업 중" 판단을 DB 왕복 없이 장소 ID만으로 할 수 있게 placeId → 주간 비트맵을 보관합니다.
+ * 같은 영업시간(예: 매일 10:00 ~ 22:00)을 가진 장소는 같은 byte[]를 공유하므로
+ * 메모리는 고유한 영업시간 패턴 수 × 252바이트 + 맵 엔트리 수준입니다.</p>
+ *
+ * <h3>갱신 방식</h3>
+ * <ul>
+ *   <li>기동 후 전체 로드, 이후 주기적으로 전체 재빌드 — 재빌드 전에 V24 이전에 저장된
+ *       영업시간(open_hours가 비어 있는 장소)을 컴파일해 채움</li>
+ *   <li>짧은 주기로 {@code updated_at} 이후 변경분만 반영 (영업시간 저장 시 open_hours도 같이 바뀜)</li>
+ *   <li>비트맵이 없는 장소는 영업시간 정보 없음 → 영업 중으로 간주 (SQL의 {@code open_hours IS NULL}과 동일)</li>
+ * </ul>
+ */
+@Component
+public class PlaceOpenHoursIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlaceOpenHoursIndex.class);
+
+    private final PlaceRepository placeRepository;
+    private final PlaceBusinessHourRepository placeBusinessHourRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int backfillBatchSize;
+
+    /** 같은 내용의 비트맵 공유용 — refresh 스레드에서만 수정 */
+    private Map<ByteBuffer, byte[]> canonical = new HashMap<>();
+
+    private volatile Map<Long, byte[]> bitmaps;
+    private volatile LocalDateTime lastSyncedAt;
+    private volatile long lastBackfilled;
+
+    public PlaceOpenHoursIndex(
+            PlaceRepository placeRepository,
+            PlaceBusinessHourRepository placeBusinessHourRepository,
+            JdbcTemplate jdbcTemplate,
+            @Value("${mohe.open-hours-index.enabled:true}") boolean enabled,
+            @Value("${mohe.open-hours-index.backfill-batch-size:500}") int backfillBatchSize) {
+        this.placeRepository = placeRepository;
+        this.placeBusinessHourRepository = placeBusinessHourRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.backfillBatchSize = Math.max(1, backfillBatchSize);
+    }
+
+    /**
+     * 사본 사용 가능 여부 (비활성화되었거나 아직 로드 전이면 false → 호출자는 SQL 필터로 fallback)
+     */
+    public boolean isReady() {
+        return enabled && bitmaps != null;
+    }
+
+    /**
+     * 전체 재빌드 — 기동 직후 및 주기적으로 실행
+     */
+    @Scheduled(initialDelayString = "${mohe.open-hours-index.initial-delay-ms:10000}",
+               fixedDelayString = "${mohe.open-hours-index.full-rebuild-interval-ms:3600000}")
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            lastBackfilled = backfillMissing();
+
+            LocalDateTime syncStartedAt = LocalDateTime.now();
+            Map<ByteBuffer, byte[]> nextCanonical = new HashMap<>();
+            Map<Long, byte[]> next = new ConcurrentHashMap<>();
+            for (Object[] row : placeRepository.findOpenHoursEntries()) {
+                byte[] bitmap = intern(nextCanonical, (byte[]) row[1]);
+                if (bitmap != null) {
+                    next.put(((Number) row[0]).longValue(), bitmap);
+                }
+            }
+            canonical = nextCanonical;
+            bitmaps = next;
+            lastSyncedAt = syncStartedAt;
+
+            logger.info("🕒 Place open-hours index rebuilt: {} places, {} distinct schedules, {} backfilled in {}ms",
+                    next.size(), nextCanonical.size(), lastBackfilled, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            logger.error("Place open-hours index rebuild failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 변경분 반영 — updated_at 이후 수정된 장소만 조회
+     */
+    @Scheduled(initialDelayString = "${mohe.open-hours-index.initial-delay-ms:10000}",
+               fixedDelayString = "${mohe.open-hours-index.delta-interval-ms:60000}")
+    public synchronized void refreshChanges() {
+        Map<Long, byte[]> current = bitmaps;
+        if (!enabled || current == null || lastSyncedAt == null) {
+            return;
+        }
+
+        try {
+            LocalDateTime syncStartedAt = LocalDateTime.now();
+            List<Object[]> rows = placeRepository.findOpenHoursChangesSince(lastSyncedAt);
+            for (Object[] row : rows) {
+                Long placeId = ((Number) row[0]).longValue();
+                byte[] bitmap = intern(canonical, (byte[]) row[1]);
+                if (bitmap != null) {
+                    current.put(placeId, bitmap);
+                } else {
+                    current.remove(placeId);
+                }
+            }
+            lastSyncedAt = syncStartedAt;
+
+            if (!rows.isEmpty()) {
+                logger.debug("Place open-hours index applied {} changes (size={})", rows.size(), current.size());
+            }
+        } catch (Exception e) {
+            logger.warn("Place open-hours index delta refresh failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 장소가 주어진 슬롯({@link WeeklyOpenHours#slotOf})에 영업 중인지
+     */
+    public boolean isOpen(Long placeId, int slot) {
+        Map<Long, byte[]> current = bitmaps;
+        return current == null || WeeklyOpenHours.isOpen(current.get(placeId), slot);
+    }
+
+    /**
+     * 로드된 엔티티 기준 판단 — 엔티티에 비트맵이 없으면 사본을 확인 (백필 직후 등)
+     */
+    public boolean isOpen(Place place, int slot) {
+        if (place.getOpenHours() != null) {
+            return WeeklyOpenHours.isOpen(place.getOpenHours(), slot);
+        }
+        return place.getId() == null || isOpen(place.getId(), slot);
+    }
+
+    /**
+     * 영업 중인 장소 ID만 입력 순서대로 반환
+     */
+    public List<Long> filterOpen(List<Long> placeIds, int slot) {
+        List<Long> open = new ArrayList<>(placeIds.size());
+        for (Long placeId : placeIds) {
+            if (isOpen(placeId, slot)) {
+                open.add(placeId);
+            }
+        }
+        return open;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<Long, byte[]> current = bitmaps;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("ready", isReady());
+        stats.put("places", current != null ? current.size() : 0);
+        stats.put("distinctSchedules", canonical.size());
+        stats.put("lastBackfilled", lastBackfilled);
+        stats.put("lastSyncedAt", lastSyncedAt);
+        return stats;
+    }
+
+    /**
+     * 영업시간은 있지만 open_hours가 비어 있는 장소를 컴파일해 저장
+     *
+     * @return 채운 장소 수
+     */
+    int backfillMissing() {
+        long afterId = 0;
+        int total = 0;
+        while (true) {
+            List<Long> placeIds = placeRepository.findIdsMissingOpenHours(afterId, backfillBatchSize);
+            if (placeIds.isEmpty()) {
+                return total;
+            }
+
+            Map<Long, List<WeeklyOpenHours.DayHours>> hoursByPlace = new HashMap<>();
+            for (Object[] row : placeBusinessHourRepository.findCardRowsByPlaceIds(placeIds)) {
+                hoursByPlace.computeIfAbsent((Long) row[0], id -> new ArrayList<>())
+                        .add(new WeeklyOpenHours.DayHours(
+                                (String) row[1], (LocalTime) row[2], (LocalTime) row[3], (Boolean) row[5]));
+            }
+
+            List<Object[]> updates = new ArrayList<>(hoursByPlace.size());
+            hoursByPlace.forEach((placeId, hours) -> updates.add(new Object[]{WeeklyOpenHours.compile(hours), placeId}));
+            // updated_at은 건드리지 않음 — 재빌드가 바로 전체 로드하므로 변경분 동기화가 필요 없음
+            jdbcTemplate.batchUpdate("UPDATE places SET open_hours = ? WHERE id = ? AND open_hours IS NULL", updates);
+
+            total += updates.size();
+            afterId = placeIds.get(placeIds.size() - 1);
+        }
+    }
+
+    private static byte[] intern(Map<ByteBuffer, byte[]> pool, byte[] bitmap) {
+        if (bitmap == null || bitmap.length != WeeklyOpenHours.BYTES) {
+            return null;
+        }
+        return pool.computeIfAbsent(ByteBuffer.wrap(bitmap), key -> bitmap);
+    }
+}
@@ -0,0 +1,240 @@
+package com.mohe.spring.service.image;
+
+import com.mohe.spring.util.TokenBucket;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 장소 이미지 수집 엔진
+ *
+ * <p>이미지마다 ImageProcessor /save를 호출하고, ImageProcessor가 원본 URL(주로 네이버 CDN)을 내려받습니다.
+ * 기존에는 장소 하나의 이미지를 순서대로, 이미지 사이 500ms sleep을 두고 처리했습니다.</p>
+ *
+ * <ul>
+ *   <li>이미지 요청마다 가상 스레드 하나 — 여러 장소의 이미지가 동시에 진행되고, 대기 중인 요청이 플랫폼 스레드를 잡지 않음</li>
+ *   <li>동시 요청 수 상한 maxInFlight (ImageProcessor 보호)</li>
+ *   <li>원본 호스트별 {@link TokenBucket}으로 CDN 요청 속도 제한 (sleep 대신)</li>
+ *   <li>429 / 5xx / 연결 오류는 지수 백오프 + jitter로 재시도, Retry-After 헤더가 있으면 따름</li>
+ * </ul>
+ *
+ * <p>결과 경로는 입력 URL 순서를 유지하고, 실패한 이미지는 빠집니다.</p>
+ */
+@Component
+public class ImageIngestionEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageIngestionEngine.class);
+
+    private static final long MAX_BACKOFF_MILLIS = 30_000;
+
+    private final ImageProcessorService imageProcessorService;
+    private final ExecutorService executor;
+    private final Semaphore inFlight;
+    private final int maxInFlight;
+    private final double perHostRequestsPerSecond;
+    private final int perHostBurst;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final Sleeper sleeper;
+
+    private final ConcurrentHashMap<String, TokenBucket> hostBuckets = new ConcurrentHashMap<>();
+
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicLong saved = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+
+    public ImageIngestionEngine(
+            ImageProcessorService imageProcessorService,
+            @Value("${mohe.image-ingestion.max-in-flight:16}") int maxInFlight,
+            @Value("${mohe.image-ingestion.per-host-requests-per-second:2}") double perHostRequestsPerSecond,
+            @Value("${mohe.image-ingestion.per-host-burst:2}") int perHostBurst,
+            @Value("${mohe.image-ingestion.max-attempts:3}") int maxAttempts,
+            @Value("${mohe.image-ingestion.initial-backoff-ms:1000}") long initialBackoffMillis
+    ) {
+        this(imageProcessorService, maxInFlight, perHostRequestsPerSecond, perHostBurst, maxAttempts,
+                initialBackoffMillis, Thread::sleep);
+    }
+
+    ImageIngestionEngine(ImageProcessorService imageProcessorService, int maxInFlight,
+                         double perHostRequestsPerSecond, int perHostBurst, int maxAttempts,
+                         long initialBackoffMillis, Sleeper sleeper) {
+        this.imageProcessorService = imageProcessorService;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.inFlight = new Semaphore(this.maxInFlight);
+        this.perHostRequestsPerSecond = perHostRequestsPerSecond;
+        this.perHostBurst = perHostBurst;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMillis = Math.max(0, initialBackoffMillis);
+        this.sleeper = sleeper;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 장소 이미지 저장을 시작하고 바로 반환
+     *
+     * <p>chunk 단위 Writer는 장소마다 이 메서드로 먼저 모두 시작한 뒤 join하면
+     * 여러 장소의 이미지가 함께 진행됩니다.</p>
+     *
+     * @return 저장된 이미지 경로 목록 (예: /images/place/123_카페_1.jpg)
+     */
+    public CompletableFuture<List<String>> ingest(Long placeId, String placeName, List<String> imageUrls) {
+        if (imageUrls == null || imageUrls.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        List<CompletableFuture<String>> images = new ArrayList<>(imageUrls.size());
+        for (int i = 0; i < imageUrls.size(); i++) {
+            String imageUrl = imageUrls.get(i);
+            String fileName = imageProcessorService.placeImageFileName(placeId, placeName, i + 1, imageUrl);
+            images.add(CompletableFuture.supplyAsync(() -> saveWithRetry(imageUrl, fileName), executor));
+        }
+
+        return CompletableFuture.allOf(images.toArray(new CompletableFuture[0])).thenApply(ignored -> {
+            List<String> savedPaths = new ArrayList<>();
+            for (CompletableFuture<String> image : images) {
+                String path = image.join();
+                if (path != null) {
+                    savedPaths.add(path);
+                }
+            }
+            logger.info("✅ Saved {}/{} images via ImageProcessor for: {} (id={})",
+                    savedPaths.size(), imageUrls.size(), placeName, placeId);
+            return savedPaths;
+        });
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("maxInFlight", maxInFlight);
+        stats.put("inFlight", maxInFlight - inFlight.availablePermits());
+        stats.put("perHostRequestsPerSecond", perHostRequestsPerSecond);
+        stats.put("hosts", hostBuckets.size());
+        stats.put("requested", requested.get());
+        stats.put("saved", saved.get());
+        stats.put("failed", failed.get());
+        stats.put("retries", retries.get());
+        return stats;
+    }
+
+    private String saveWithRetry(String imageUrl, String fileName) {
+        requested.incrementAndGet();
+        TokenBucket hostBucket = hostBuckets.computeIfAbsent(hostOf(imageUrl),
+                host -> new TokenBucket(perHostRequestsPerSecond, perHostBurst));
+
+        try {
+            for (int attempt = 1; ; attempt++) {
+                long retryAfterMillis;
+                // 호스트 토큰을 먼저 기다림 — 느린 호스트를 기다리는 동안 전역 슬롯을 잡고 있지 않도록
+                hostBucket.acquire();
+                inFlight.acquire();
+                try {
+                    String savedFileName = imageProcessorService.requestSave(imageUrl, fileName);
+                    if (savedFileName == null) {
+                        failed.incrementAndGet();
+                        return null;
+                    }
+                    saved.incrementAndGet();
+                    return "/images/" + savedFileName;
+                } catch (HttpStatusCodeException e) {
+                    if (!isRetryable(e.getStatusCode()) || attempt >= maxAttempts) {
+                        logger.warn("⚠️ Image save failed with {} after {} attempt(s): {}", e.getStatusCode(), attempt, imageUrl);
+                        failed.incrementAndGet();
+                        return null;
+                    }
+                    retryAfterMillis = retryAfterMillis(e);
+                } catch (ResourceAccessException e) {
+                    if (attempt >= maxAttempts) {
+                        logger.warn("⚠️ Image save failed after {} attempt(s): {} - {}", attempt, imageUrl, e.getMessage());
+                        failed.incrementAndGet();
+                        return null;
+                    }
+                    retryAfterMillis = -1;
+                } catch (RuntimeException e) {
+                    logger.error("❌ Error saving image via ImageProcessor: {}", imageUrl, e);
+                    failed.incrementAndGet();
+                    return null;
+                } finally {
+                    inFlight.release();
+                }
+
+                // 백오프 동안에는 동시 요청 슬롯을 돌려줌
+                retries.incrementAndGet();
+                long backoff = retryAfterMillis >= 0 ? retryAfterMillis : backoffMillis(attempt);
+                logger.debug("🔁 Retrying image save in {}ms (attempt {}/{}): {}", backoff, attempt + 1, maxAttempts, imageUrl);
+                sleeper.sleep(backoff);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failed.incrementAndGet();
+            return null;
+        }
+    }
+
+    private static boolean isRetryable(HttpStatusCode status) {
+        return status.value() == 429 || status.is5xxServerError();
+    }
+
+    /**
+     * 지수 백오프 (initialBackoff × 2^(attempt-1)) + 최대 50% jitter
+     */
+    private long backoffMillis(int attempt) {
+        long base = Math.min(MAX_BACKOFF_MILLIS, initialBackoffMillis << Math.min(attempt - 1, 20));
+        return base + (base > 0 ? ThreadLocalRandom.current().nextLong(base / 2 + 1) : 0);
+    }
+
+    /**
+     * Retry-After 헤더(초)가 있으면 그 값, 없으면 -1
+     */
+    private static long retryAfterMillis(HttpStatusCodeException e) {
+        if (e.getResponseHeaders() == null) {
+            return -1;
+        }
+        String retryAfter = e.getResponseHeaders().getFirst("Retry-After");
+        if (retryAfter == null) {
+            return -1;
+        }
+        try {
+            return Math.min(MAX_BACKOFF_MILLIS, Long.parseLong(retryAfter.trim()) * 1000);
+        } catch (NumberFormatException ignored) {
+            return -1;
+        }
+    }
+
+    private static String hostOf(String imageUrl) {
+        try {
+            String host = URI.create(imageUrl.trim()).getHost();
+            return host != null ? host.toLowerCase() : "unknown";
+        } catch (IllegalArgumentException e) {
+            return "unknown";
+        }
+    }
+
+    @FunctionalInterface
+    interface Sleeper {
+        void sleep(long millis) throws InterruptedException;
+    }
+}
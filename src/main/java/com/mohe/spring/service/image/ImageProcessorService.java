@@ -50,57 +50,6 @@ public class ImageProcessorService {
         logger.info("   Processor URL: {}", imageProcessorUrl);
     }
 
-    /**
-     * 이미지 URL 목록을 ImageProcessor로 전송하여 저장
-     *
-     * @param placeId   Place ID
-     * @param placeName Place 이름
-     * @param imageUrls 이미지 URL 목록
-     * @return 저장된 이미지 경로 목록
-     */
-    public List<String> saveImages(Long placeId, String placeName, List<String> imageUrls) {
-        if (imageUrls == null || imageUrls.isEmpty()) {
-            logger.debug("No images to save for place: {}", placeName);
-            return List.of();
-        }
-
-        List<String> savedPaths = new ArrayList<>();
-
-        for (int i = 0; i < imageUrls.size(); i++) {
-            String imageUrl = imageUrls.get(i);
-
-            // 이미지 간 500ms 딜레이 (네이버 CDN 차단 방지)
-            if (i > 0) {
-                try { Thread.sleep(500); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-            }
-
-            // 확장자 추출
-            String extension = extractExtensionFromUrl(imageUrl);
-
-            // 파일명 생성 (place/ 폴더에 저장)
-            String fileName = "place/" + generateFileName(placeId, placeName, i + 1) + "." + extension;
-
-            try {
-                String savedFileName = saveImageToProcessor(imageUrl, fileName);
-                if (savedFileName != null) {
-                    // ImageProcessor가 반환한 파일명을 그대로 사용
-                    String savedPath = "/images/" + savedFileName;
-                    savedPaths.add(savedPath);
-                    logger.debug("✅ Saved via ImageProcessor: {} from {}", savedPath, imageUrl);
-                } else {
-                    logger.warn("⚠️ Failed to save image via ImageProcessor: {}", imageUrl);
-                }
-            } catch (Exception e) {
-                logger.error("❌ Error saving image via ImageProcessor: {}", imageUrl, e);
-            }
-        }
-
-        logger.info("✅ Saved {}/{} images via ImageProcessor for: {} (id={})",
-                savedPaths.size(), imageUrls.size(), placeName, placeId);
-
-        return savedPaths;
-    }
-
     /**
      * ImageProcessor API를 호출하여 이미지 저장
      *
@@ -110,39 +59,59 @@ public class ImageProcessorService {
      */
     private String saveImageToProcessor(String imageUrl, String fileName) {
         try {
-            String url = imageProcessorUrl + "/save";
+            return requestSave(imageUrl, fileName);
+        } catch (Exception e) {
+            logger.error("❌ Failed to call ImageProcessor API for URL: {} - Error: {}", imageUrl, e.getMessage(), e);
+            return null;
+        }
+    }
 
-            // 요청 DTO 생성
-            ImageSaveRequest request = new ImageSaveRequest(imageUrl, fileName);
+    /**
+     * ImageProcessor /save 호출 (예외를 그대로 전달)
+     *
+     * <p>재시도 판단이 필요한 호출자({@link ImageIngestionEngine})용입니다.
+     * 4xx/5xx는 RestTemplate의 {@code HttpStatusCodeException}, 연결 실패는 {@code ResourceAccessException}으로 전달됩니다.</p>
+     *
+     * @return 저장된 파일명 (확장자 포함), 2xx지만 본문이 없으면 null
+     */
+    String requestSave(String imageUrl, String fileName) {
+        String url = imageProcessorUrl + "/save";
 
-            // HTTP 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
+        // 요청 DTO 생성
+        ImageSaveRequest request = new ImageSaveRequest(imageUrl, fileName);
 
-            HttpEntity<ImageSaveRequest> entity = new HttpEntity<>(request, headers);
+        // HTTP 헤더 설정
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
 
-            logger.debug("📤 Calling ImageProcessor: url={}, fileName={}", imageUrl, fileName);
+        HttpEntity<ImageSaveRequest> entity = new HttpEntity<>(request, headers);
 
-            // API 호출
-            ResponseEntity<ImageSaveResponse> response = restTemplate.postForEntity(
-                    url,
-                    entity,
-                    ImageSaveResponse.class
-            );
+        logger.debug("📤 Calling ImageProcessor: url={}, fileName={}", imageUrl, fileName);
 
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                String savedFileName = response.getBody().getFileName();
-                logger.info("✅ ImageProcessor saved: {} (original URL: {})", savedFileName, imageUrl);
-                return savedFileName;
-            } else {
-                logger.error("❌ ImageProcessor returned non-2xx: {} for URL: {}", response.getStatusCode(), imageUrl);
-                return null;
-            }
+        // API 호출
+        ResponseEntity<ImageSaveResponse> response = restTemplate.postForEntity(
+                url,
+                entity,
+                ImageSaveResponse.class
+        );
 
-        } catch (Exception e) {
-            logger.error("❌ Failed to call ImageProcessor API for URL: {} - Error: {}", imageUrl, e.getMessage(), e);
-            return null;
+        if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+            String savedFileName = response.getBody().getFileName();
+            logger.info("✅ ImageProcessor saved: {} (original URL: {})", savedFileName, imageUrl);
+            return savedFileName;
         }
+        logger.error("❌ ImageProcessor returned non-2xx: {} for URL: {}", response.getStatusCode(), imageUrl);
+        return null;
+    }
+
+    /**
+     * 장소 이미지 파일명 (place/ 폴더, 확장자 포함)
+     *
+     * @param index 1부터 시작하는 이미지 순번
+     * @return 예: "place/123_카페_1.jpg"
+     */
+    String placeImageFileName(Long placeId, String placeName, int index, String imageUrl) {
+        return "place/" + generateFileName(placeId, placeName, index) + "." + extractExtensionFromUrl(imageUrl);
     }
 
     /**
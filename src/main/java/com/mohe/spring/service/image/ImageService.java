@@ -5,6 +5,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Image Service
@@ -16,15 +17,17 @@ import java.util.List;
  *   <li>기존: 로컬 파일 시스템에 직접 저장</li>
  *   <li>현재: ImageProcessor 노드를 통해 저장 (자동 확장자 감지, 리사이징 지원)</li>
  * </ul>
+ *
+ * <p>요청 병렬화, 원본 호스트별 속도 제한, 429/5xx 재시도는 {@link ImageIngestionEngine}이 담당합니다.</p>
  */
 @Service
 public class ImageService {
     private static final Logger logger = LoggerFactory.getLogger(ImageService.class);
 
-    private final ImageProcessorService imageProcessorService;
+    private final ImageIngestionEngine imageIngestionEngine;
 
-    public ImageService(ImageProcessorService imageProcessorService) {
-        this.imageProcessorService = imageProcessorService;
+    public ImageService(ImageIngestionEngine imageIngestionEngine) {
+        this.imageIngestionEngine = imageIngestionEngine;
         logger.info("🖼️ ImageService initialized (using ImageProcessor)");
     }
 
@@ -37,6 +40,18 @@ public class ImageService {
      * @return 저장된 이미지 경로 목록
      */
     public List<String> downloadAndSaveImages(Long placeId, String placeName, List<String> imageUrls) {
-        return imageProcessorService.saveImages(placeId, placeName, imageUrls);
+        return imageIngestionEngine.ingest(placeId, placeName, imageUrls).join();
+    }
+
+    /**
+     * 이미지 저장을 시작하고 완료를 기다리지 않고 반환
+     *
+     * <p>여러 장소를 처리하는 Writer는 장소마다 먼저 호출한 뒤 한꺼번에 join하면
+     * 장소 간 이미지 저장이 겹쳐서 진행됩니다.</p>
+     *
+     * @return 저장된 이미지 경로 목록 (입력 URL 순서, 실패한 이미지 제외)
+     */
+    public CompletableFuture<List<String>> downloadAndSaveImagesAsync(Long placeId, String placeName, List<String> imageUrls) {
+        return imageIngestionEngine.ingest(placeId, placeName, imageUrls);
     }
 }
@@ -0,0 +1,326 @@
+package com.mohe.spring.service.image;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 이미지 저장소
+ *
+ * <h3>저장 구조</h3>
+ * <pre>
+ * {storage-path}/store/{placeId % 256, 16진수 2자리}/{placeId}/{내용 SHA-256 앞 16자리}.{확장자}
+ *   → 공개 URL: /images/store/3f/12351/9a1c0e2b7d4f5a61.jpg
+ * </pre>
+ * <ul>
+ *   <li>파일명이 내용 해시이므로 URL이 가리키는 바이트는 절대 바뀌지 않음 → 1년 immutable 캐시 가능</li>
+ *   <li>256개 샤드 디렉터리로 한 디렉터리의 엔트리 수를 제한</li>
+ *   <li>장소별 디렉터리가 곧 장소별 인덱스 — 삭제는 그 디렉터리만 지움</li>
+ * </ul>
+ *
+ * <p>이전 방식으로 최상위에 저장된 {@code {placeId}_이름_N.jpeg} 파일은 첫 삭제 요청 때 한 번만 스캔해
+ * 장소별 목록을 만들어 두고, 이후 삭제는 그 목록만 사용합니다 (새 파일은 더 이상 최상위에 저장되지 않음).</p>
+ *
+ * <p>{@code /images/places/**}는 생성 이미지 디렉터리(IMAGE_STORAGE_DIR)를, 그 외 {@code /images/**}는 storage-path를 가리킵니다.</p>
+ *
+ * <p>리사이즈 변형은 {@code {storage-path}/.variants/{버킷}/{원본 공개 경로}}에 저장되므로
+ * 장소 이미지를 삭제할 때 같은 공개 경로의 변형도 함께 지웁니다.</p>
+ */
+@Component
+public class ImageStorage {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageStorage.class);
+
+    public static final String PUBLIC_PREFIX = "/images/";
+    public static final String STORE_DIR = "store";
+    public static final String VARIANT_DIR = ".variants";
+    private static final String GENERATED_PREFIX = "places/";
+    private static final String TEMP_DIR = ".tmp";
+    private static final int HASH_CHARS = 16;
+    private static final Set<String> KNOWN_EXTENSIONS = Set.of("jpg", "jpeg", "png", "webp", "gif");
+
+    private final Path root;
+    private final Path generatedRoot;
+
+    /** 최상위 레거시 파일의 장소별 목록 — 첫 삭제 때 한 번 생성 */
+    private volatile Map<Long, List<Path>> legacyIndex;
+
+    public ImageStorage(
+            @Value("${mohe.image.storage-path:/images}") String storagePath,
+            @Value("${IMAGE_STORAGE_DIR:/host/images}") String generatedImageDir) {
+        // Absolute path (production) / relative path (test environment) - use current working directory
+        this.root = (storagePath.startsWith("/") ? Paths.get(storagePath) : Paths.get(System.getProperty("user.dir"), storagePath))
+                .toAbsolutePath().normalize();
+        this.generatedRoot = Paths.get(generatedImageDir).toAbsolutePath().normalize();
+
+        try {
+            Files.createDirectories(root.resolve(STORE_DIR));
+            Files.createDirectories(root.resolve(TEMP_DIR));
+            logger.info("📁 Image storage initialized: {}", root);
+            logger.info("   Writable: {}", Files.isWritable(root));
+        } catch (IOException ex) {
+            logger.error("❌ Could not create image storage directory: {}", storagePath, ex);
+            throw new RuntimeException("Could not create image storage directory: " + storagePath, ex);
+        }
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    /**
+     * 장소 이미지 저장 (내용 해시 파일명)
+     *
+     * @param extension 확장자 (알 수 없으면 jpeg)
+     * @return 공개 URL (예: /images/store/3f/12351/9a1c0e2b7d4f5a61.jpg)
+     */
+    public String storePlaceImage(Long placeId, InputStream content, String extension) throws IOException {
+        Path temp = Files.createTempFile(root.resolve(TEMP_DIR), "upload-", ".part");
+        try {
+            MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(content, digest);
+                 OutputStream out = Files.newOutputStream(temp)) {
+                in.transferTo(out);
+            }
+
+            String fileName = HexFormat.of().formatHex(digest.digest()).substring(0, HASH_CHARS)
+                    + "." + normalizeExtension(extension);
+            Path placeDir = placeDirectory(placeId);
+            Files.createDirectories(placeDir);
+            Path target = placeDir.resolve(fileName);
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // 같은 내용이 이미 저장되어 있음
+            }
+            return PUBLIC_PREFIX + root.relativize(target).toString().replace('\\', '/');
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 장소의 모든 이미지 삭제 (장소 디렉터리 + 레거시 최상위 파일 + 각각의 리사이즈 변형)
+     *
+     * @return 삭제한 원본 파일 수
+     */
+    public int deletePlaceImages(Long placeId) throws IOException {
+        int deleted = 0;
+
+        Path placeDir = placeDirectory(placeId);
+        if (Files.isDirectory(placeDir)) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(placeDir)) {
+                for (Path file : files) {
+                    if (deleteQuietly(file)) {
+                        deleted++;
+                    }
+                }
+            }
+            Files.deleteIfExists(placeDir);
+        }
+
+        List<Path> legacy = legacyIndex().remove(placeId);
+        if (legacy != null) {
+            for (Path file : legacy) {
+                if (deleteQuietly(file)) {
+                    deleted++;
+                }
+            }
+        }
+
+        Path variantRoot = root.resolve(VARIANT_DIR);
+        if (Files.isDirectory(variantRoot)) {
+            try (DirectoryStream<Path> buckets = Files.newDirectoryStream(variantRoot, Files::isDirectory)) {
+                for (Path bucket : buckets) {
+                    deleteRecursively(bucket.resolve(root.relativize(placeDir)));
+                    if (legacy != null) {
+                        for (Path file : legacy) {
+                            deleteQuietly(bucket.resolve(root.relativize(file)));
+                        }
+                    }
+                }
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * 공개 경로(/images/ 이후)를 실제 파일로 변환 — 저장소 밖이나 숨김 경로는 거부
+     */
+    public Optional<Path> resolvePublicPath(String relativePath) {
+        if (relativePath == null || relativePath.isEmpty()) {
+            return Optional.empty();
+        }
+        Path base = root;
+        String rest = relativePath;
+        if (rest.startsWith(GENERATED_PREFIX)) {
+            base = generatedRoot;
+            rest = rest.substring(GENERATED_PREFIX.length());
+        }
+        for (String segment : rest.split("/")) {
+            if (segment.isEmpty() || segment.startsWith(".")) {
+                return Optional.empty();
+            }
+        }
+
+        Path resolved = base.resolve(rest).normalize();
+        if (!resolved.startsWith(base) || !Files.isRegularFile(resolved)) {
+            return Optional.empty();
+        }
+        return Optional.of(resolved);
+    }
+
+    /**
+     * 실제 파일 → 공개 경로(/images/ 이후), 저장소 밖이면 empty ({@link #resolvePublicPath}의 역)
+     */
+    public Optional<String> publicPathOf(Path file) {
+        Path normalized = file.toAbsolutePath().normalize();
+        if (normalized.startsWith(generatedRoot) && !normalized.equals(generatedRoot)) {
+            return Optional.of(GENERATED_PREFIX + toPublicSeparators(generatedRoot.relativize(normalized)));
+        }
+        if (normalized.startsWith(root) && !normalized.equals(root)) {
+            return Optional.of(toPublicSeparators(root.relativize(normalized)));
+        }
+        return Optional.empty();
+    }
+
+    private static String toPublicSeparators(Path relative) {
+        return relative.toString().replace('\\', '/');
+    }
+
+    /**
+     * 내용 해시 파일명을 가진 불변 경로인지 (store/ 아래)
+     */
+    public static boolean isImmutablePath(String relativePath) {
+        return relativePath.startsWith(STORE_DIR + "/");
+    }
+
+    Path placeDirectory(Long placeId) {
+        String shard = String.format("%02x", placeId & 0xff);
+        return root.resolve(STORE_DIR).resolve(shard).resolve(String.valueOf(placeId));
+    }
+
+    /**
+     * 파일명/URL/Content-Type에서 확장자 추출
+     */
+    public static String extensionOf(String nameOrUrl, String contentType) {
+        if (nameOrUrl != null) {
+            String path = nameOrUrl;
+            int query = path.indexOf('?');
+            if (query >= 0) {
+                path = path.substring(0, query);
+            }
+            int dot = path.lastIndexOf('.');
+            if (dot >= 0 && dot > path.lastIndexOf('/')) {
+                String extension = path.substring(dot + 1).toLowerCase(Locale.ROOT);
+                if (KNOWN_EXTENSIONS.contains(extension)) {
+                    return extension;
+                }
+            }
+        }
+        if (contentType != null && contentType.startsWith("image/")) {
+            String subtype = contentType.substring("image/".length()).toLowerCase(Locale.ROOT);
+            if (KNOWN_EXTENSIONS.contains(subtype)) {
+                return subtype;
+            }
+        }
+        return "jpeg";
+    }
+
+    private static String normalizeExtension(String extension) {
+        String normalized = extension != null ? extension.toLowerCase(Locale.ROOT) : "";
+        return KNOWN_EXTENSIONS.contains(normalized) ? normalized : "jpeg";
+    }
+
+    private Map<Long, List<Path>> legacyIndex() throws IOException {
+        Map<Long, List<Path>> index = legacyIndex;
+        if (index != null) {
+            return index;
+        }
+        synchronized (this) {
+            if (legacyIndex == null) {
+                Map<Long, List<Path>> built = new ConcurrentHashMap<>();
+                try (Stream<Path> files = Files.list(root)) {
+                    files.filter(Files::isRegularFile).forEach(file -> {
+                        Long placeId = legacyPlaceId(file.getFileName().toString());
+                        if (placeId != null) {
+                            built.computeIfAbsent(placeId, id -> new ArrayList<>()).add(file);
+                        }
+                    });
+                }
+                logger.info("📇 Legacy image index built: {} places", built.size());
+                legacyIndex = built;
+            }
+            return legacyIndex;
+        }
+    }
+
+    /**
+     * "{placeId}_이름_N.ext" → placeId
+     */
+    static Long legacyPlaceId(String fileName) {
+        int underscore = fileName.indexOf('_');
+        if (underscore <= 0) {
+            return null;
+        }
+        try {
+            return Long.parseLong(fileName.substring(0, underscore));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(ImageStorage::deleteQuietly);
+        }
+    }
+
+    private static boolean deleteQuietly(Path file) {
+        try {
+            boolean deleted = Files.deleteIfExists(file);
+            if (deleted) {
+                logger.debug("🗑️ Deleted: {}", file.getFileName());
+            }
+            return deleted;
+        } catch (IOException e) {
+            logger.error("❌ Failed to delete: {}", file.getFileName(), e);
+            return false;
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
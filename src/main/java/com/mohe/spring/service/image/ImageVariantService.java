@@ -0,0 +1,414 @@
+package com.mohe.spring.service.image;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 너비 버킷 리사이즈 변형 이미지 서비스
+ *
+ * <p>카드 목록처럼 작은 영역에 원본(크롤링 이미지는 보통 1~3MB)을 그대로 내려주지 않도록,
+ * 요청 너비를 설정된 버킷(기본 160/320/640/1080) 중 그 이상인 가장 작은 값으로 올려 한 번만 리사이즈하고
+ * 디스크에 캐시합니다. 버킷이 고정되어 있어 임의 너비 요청으로 캐시가 늘어나지 않습니다.</p>
+ *
+ * <h3>캐시 구조</h3>
+ * <pre>
+ * {storage-path}/.variants/{버킷}/{원본 공개 경로}
+ *   예: /images/store/3f/12351/9a1c0e2b7d4f5a61.jpg → .variants/320/store/3f/12351/9a1c0e2b7d4f5a61.jpg
+ * </pre>
+ * <ul>
+ *   <li>원본보다 오래된 변형은 다시 생성 (원본이 바뀐 레거시 파일명)</li>
+ *   <li>장소 이미지를 지우면 {@link ImageStorage#deletePlaceImages}가 같은 경로의 변형도 지움</li>
+ *   <li>주기적 sweep이 원본이 사라졌거나 원본보다 오래된 변형을 지움 (개수는 관리자 통계에 노출)</li>
+ * </ul>
+ *
+ * <ul>
+ *   <li>같은 변형을 동시에 요청하면 한 요청만 생성하고 나머지는 그 결과를 기다림 (single-flight)</li>
+ *   <li>동시 리사이즈 수를 제한해 디코딩 메모리 사용량을 제한 — 슬롯을 acquireTimeout 안에 얻지 못하면
+ *       그 요청은 원본을 서빙하고 다음 요청에서 다시 시도</li>
+ *   <li>디코딩 전에 헤더에서 크기만 읽어, 픽셀 수가 maxPixels를 넘는 원본은 디코딩하지 않고 원본을 사용</li>
+ *   <li>임시 파일에 쓴 뒤 원자적으로 이동 → 반쯤 쓰인 파일이 서빙되지 않음</li>
+ *   <li>JDK ImageIO가 읽지 못하는 형식(webp 등)이나 이미 버킷보다 좁은 원본은 원본을 그대로 사용</li>
+ * </ul>
+ */
+@Service
+public class ImageVariantService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageVariantService.class);
+
+    private static final Set<String> RESIZABLE_EXTENSIONS = Set.of("jpg", "jpeg", "png", "gif");
+    private static final int ORIGINAL_ONLY_MAX_ENTRIES = 10_000;
+    private static final String TEMP_SUFFIX = ".part";
+    /** 이보다 오래된 임시 파일은 중단된 생성의 잔여물로 보고 sweep에서 지움 */
+    private static final Duration ABANDONED_TEMP_AGE = Duration.ofHours(1);
+
+    private final ImageStorage imageStorage;
+    private final Path variantRoot;
+    private final int[] widthBuckets;
+    private final Semaphore resizePermits;
+    private final long maxPixels;
+    private final long acquireTimeoutMillis;
+    private final Resizer resizer;
+    private final Map<Path, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+    /**
+     * 리사이즈가 필요 없거나 불가능했던 (변형 경로, 원본 수정 시각) — 매 요청마다 원본 헤더를 다시 읽지 않도록 기억.
+     * 원본이 바뀌면 키가 달라져 계속 늘어날 수 있으므로 오래된 것부터 버림
+     */
+    private final Set<OriginalOnly> originalOnly = Collections.newSetFromMap(Collections.synchronizedMap(
+        new LinkedHashMap<OriginalOnly, Boolean>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<OriginalOnly, Boolean> eldest) {
+                return size() > ORIGINAL_ONLY_MAX_ENTRIES;
+            }
+        }));
+
+    private final AtomicLong generated = new AtomicLong();
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong passthrough = new AtomicLong();
+    private final AtomicLong oversized = new AtomicLong();
+    private final AtomicLong busyFallbacks = new AtomicLong();
+    private final AtomicLong swept = new AtomicLong();
+    private volatile long variantFiles = -1;
+    private volatile Instant lastSweepAt;
+
+    /**
+     * 변형 결과
+     *
+     * @param file   서빙할 파일 (변형 또는 원본)
+     * @param bucket 적용된 너비 버킷 (원본이면 0)
+     */
+    public record Variant(Path file, int bucket) {
+        public boolean isOriginal() {
+            return bucket == 0;
+        }
+    }
+
+    public ImageVariantService(
+            ImageStorage imageStorage,
+            @Value("${mohe.image.variant-widths:160,320,640,1080}") int[] widthBuckets,
+            @Value("${mohe.image.variant-max-concurrency:2}") int maxConcurrency,
+            @Value("${mohe.image.variant-max-pixels:25000000}") long maxPixels,
+            @Value("${mohe.image.variant-acquire-timeout-ms:2000}") long acquireTimeoutMillis) {
+        this(imageStorage, widthBuckets, maxConcurrency, maxPixels, acquireTimeoutMillis, ImageVariantService::resize);
+    }
+
+    ImageVariantService(ImageStorage imageStorage, int[] widthBuckets, int maxConcurrency, long maxPixels,
+                        long acquireTimeoutMillis, Resizer resizer) {
+        this.imageStorage = imageStorage;
+        this.variantRoot = imageStorage.getRoot().resolve(ImageStorage.VARIANT_DIR);
+        this.widthBuckets = Arrays.stream(widthBuckets).filter(w -> w > 0).sorted().distinct().toArray();
+        this.resizePermits = new Semaphore(Math.max(1, maxConcurrency));
+        this.maxPixels = maxPixels;
+        this.acquireTimeoutMillis = Math.max(0, acquireTimeoutMillis);
+        this.resizer = resizer;
+    }
+
+    /**
+     * 요청 너비를 버킷으로 올림 (최대 버킷보다 크면 최대 버킷, 버킷이 없으면 0)
+     */
+    public int bucketFor(int requestedWidth) {
+        for (int bucket : widthBuckets) {
+            if (requestedWidth <= bucket) {
+                return bucket;
+            }
+        }
+        return widthBuckets.length > 0 ? widthBuckets[widthBuckets.length - 1] : 0;
+    }
+
+    /**
+     * 원본에 대한 너비 변형 반환 (없으면 생성) — 리사이즈할 수 없으면 원본
+     */
+    public Variant resolve(Path original, int requestedWidth) throws IOException {
+        int bucket = bucketFor(requestedWidth);
+        String extension = extensionOf(original);
+        Optional<String> publicPath = bucket > 0 && RESIZABLE_EXTENSIONS.contains(extension)
+            ? imageStorage.publicPathOf(original)
+            : Optional.empty();
+        if (publicPath.isEmpty()) {
+            passthrough.incrementAndGet();
+            return new Variant(original, 0);
+        }
+
+        Path target = variantRoot.resolve(String.valueOf(bucket)).resolve(publicPath.get());
+        OriginalOnly marker = new OriginalOnly(target, Files.getLastModifiedTime(original).toMillis());
+        if (isFresh(marker)) {
+            cacheHits.incrementAndGet();
+            return new Variant(target, bucket);
+        }
+        if (originalOnly.contains(marker)) {
+            passthrough.incrementAndGet();
+            return new Variant(original, 0);
+        }
+
+        CompletableFuture<Path> created = new CompletableFuture<>();
+        CompletableFuture<Path> existing = inFlight.putIfAbsent(target, created);
+        if (existing != null) {
+            return toVariant(existing.join(), original, bucket);
+        }
+        try {
+            Path result = generate(original, marker, bucket, extension);
+            created.complete(result);
+            return toVariant(result, original, bucket);
+        } catch (IOException | RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(target);
+        }
+    }
+
+    /**
+     * 원본이 사라졌거나(장소·레거시 파일 삭제) 원본보다 오래된 변형과, 중단된 생성의 임시 파일을 삭제
+     *
+     * @return 삭제한 파일 수
+     */
+    @Scheduled(initialDelayString = "${mohe.image.variant-sweep-initial-delay-ms:600000}",
+               fixedDelayString = "${mohe.image.variant-sweep-interval-ms:21600000}")
+    public int sweepVariants() {
+        if (!Files.isDirectory(variantRoot)) {
+            variantFiles = 0;
+            return 0;
+        }
+        long start = System.currentTimeMillis();
+        int[] counts = {0, 0};
+        try (Stream<Path> files = Files.walk(variantRoot)) {
+            files.filter(Files::isRegularFile).forEach(file -> {
+                if (isOrphaned(file) && deleteVariant(file)) {
+                    counts[1]++;
+                } else {
+                    counts[0]++;
+                }
+            });
+        } catch (IOException | UncheckedIOException e) {
+            logger.warn("Image variant sweep failed: {}", e.getMessage());
+            return counts[1];
+        } finally {
+            swept.addAndGet(counts[1]);
+            lastSweepAt = Instant.now();
+        }
+        variantFiles = counts[0];
+        if (counts[1] > 0) {
+            logger.info("🧹 Removed {} orphaned or stale image variants ({} kept) in {}ms",
+                counts[1], counts[0], System.currentTimeMillis() - start);
+        }
+        return counts[1];
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("widthBuckets", widthBuckets);
+        stats.put("generated", generated.get());
+        stats.put("cacheHits", cacheHits.get());
+        stats.put("passthrough", passthrough.get());
+        stats.put("oversized", oversized.get());
+        stats.put("busyFallbacks", busyFallbacks.get());
+        stats.put("originalOnly", originalOnly.size());
+        stats.put("inFlight", inFlight.size());
+        stats.put("variantFiles", variantFiles);
+        stats.put("swept", swept.get());
+        stats.put("lastSweepAt", lastSweepAt);
+        return stats;
+    }
+
+    /**
+     * .variants/{버킷}/{공개 경로} → 원본이 없거나 원본이 더 새로우면 정리 대상
+     */
+    private boolean isOrphaned(Path file) {
+        try {
+            if (file.getFileName().toString().endsWith(TEMP_SUFFIX)) {
+                return Files.getLastModifiedTime(file).toInstant().isBefore(Instant.now().minus(ABANDONED_TEMP_AGE));
+            }
+            Path relative = variantRoot.relativize(file);
+            if (relative.getNameCount() < 2) {
+                return true;
+            }
+            String publicPath = relative.subpath(1, relative.getNameCount()).toString().replace('\\', '/');
+            Optional<Path> original = imageStorage.resolvePublicPath(publicPath);
+            return original.isEmpty()
+                || !isFresh(new OriginalOnly(file, Files.getLastModifiedTime(original.get()).toMillis()));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static boolean deleteVariant(Path file) {
+        try {
+            return Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Could not delete image variant {}: {}", file, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 변형 파일이 있고 원본보다 나중에 만들어졌는지
+     */
+    private static boolean isFresh(OriginalOnly marker) {
+        try {
+            return Files.getLastModifiedTime(marker.target()).toMillis() >= marker.originalModifiedMillis();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static Variant toVariant(Path result, Path original, int bucket) {
+        return result.equals(original) ? new Variant(original, 0) : new Variant(result, bucket);
+    }
+
+    /**
+     * @return 생성한 변형 경로, 리사이즈가 필요 없거나 할 수 없으면 원본 경로
+     */
+    private Path generate(Path original, OriginalOnly marker, int bucket, String extension) throws IOException {
+        Path target = marker.target();
+        if (!acquirePermit()) {
+            // 리사이즈가 밀려 있으면 기다리지 않고 이번 요청은 원본으로 응답 (기억하지 않음 — 다음 요청에서 다시 시도)
+            busyFallbacks.incrementAndGet();
+            return original;
+        }
+        try {
+            if (isFresh(marker)) {
+                cacheHits.incrementAndGet();
+                return target;
+            }
+
+            BufferedImage source = decode(original, marker, bucket);
+            if (source == null) {
+                return original;
+            }
+
+            BufferedImage resized = resizer.resize(source, bucket, !"png".equals(extension) && !"gif".equals(extension));
+            String format = "jpg".equals(extension) ? "jpeg" : extension;
+
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), "variant-", TEMP_SUFFIX);
+            try {
+                if (!ImageIO.write(resized, format, temp.toFile())) {
+                    markOriginalOnly(marker);
+                    return original;
+                }
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+
+            generated.incrementAndGet();
+            logger.debug("🖼️ Generated {}w variant for {} ({}x{} → {})",
+                bucket, original.getFileName(), source.getWidth(), source.getHeight(), target.getFileName());
+            return target;
+        } finally {
+            resizePermits.release();
+        }
+    }
+
+    private boolean acquirePermit() {
+        try {
+            return resizePermits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 헤더에서 크기를 먼저 읽고, 버킷보다 넓고 픽셀 수가 maxPixels 이하일 때만 디코딩
+     *
+     * @return 디코딩한 원본, 원본을 그대로 서빙해야 하면 null
+     */
+    private BufferedImage decode(Path original, OriginalOnly marker, int bucket) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(original.toFile())) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : Collections.emptyIterator();
+            if (!readers.hasNext()) {
+                markOriginalOnly(marker);
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if (width <= bucket) {
+                    markOriginalOnly(marker);
+                    return null;
+                }
+                if ((long) width * height > maxPixels) {
+                    oversized.incrementAndGet();
+                    logger.warn("⚠️ Skipping {}w variant for {}: {}x{} exceeds {} pixels",
+                        bucket, original.getFileName(), width, height, maxPixels);
+                    markOriginalOnly(marker);
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private void markOriginalOnly(OriginalOnly marker) {
+        originalOnly.add(marker);
+        passthrough.incrementAndGet();
+    }
+
+    static BufferedImage resize(BufferedImage source, int width, boolean opaque) {
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+        BufferedImage resized = new BufferedImage(width, height,
+            opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private static String extensionOf(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot >= 0 ? name.substring(dot + 1).toLowerCase(Locale.ROOT) : "";
+    }
+
+    /**
+     * 변형 경로 + 그 변형을 만든 원본의 수정 시각
+     */
+    private record OriginalOnly(Path target, long originalModifiedMillis) {
+    }
+
+    @FunctionalInterface
+    interface Resizer {
+        BufferedImage resize(BufferedImage source, int width, boolean opaque);
+    }
+}
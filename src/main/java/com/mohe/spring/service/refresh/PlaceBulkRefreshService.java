@@ -0,0 +1,389 @@
+package com.mohe.spring.service.refresh;
+
+import com.mohe.spring.dto.refresh.BatchRefreshResponseDto;
+import com.mohe.spring.dto.refresh.PlaceRefreshResponseDto;
+import com.mohe.spring.repository.PlaceRepository;
+import com.mohe.spring.util.TokenBucket;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전체 장소 새로고침 (스트리밍 + 병렬)
+ *
+ * <p>{@code findAll()}로 전체 엔티티를 올리지 않고, 장소 ID만 keyset 페이지로 읽어
+ * 고정 크기 워커 풀에서 {@link PlaceRefreshService#refreshPlaceData}를 실행합니다.</p>
+ *
+ * <ul>
+ *   <li>메모리: ID 한 페이지 + 진행 중인 작업(워커 수 × 2)만 유지 — 결과 목록 대신 카운터와 최근 실패만 보관</li>
+ *   <li>크롤러 보호: 동시 실행 수 = 워커 수, 요청 속도는 공유 토큰 버킷으로 제한</li>
+ *   <li>진행 상황: {@link #getProgress()} (처리 수, 성공/실패, 초당 처리량, 체크포인트)</li>
+ *   <li>재개: place_refresh_checkpoints에 "이 ID까지는 모두 완료" 워터마크를 주기적으로 저장하고,
+ *       resume=true면 그 다음 ID부터 이어서 실행</li>
+ * </ul>
+ */
+@Service
+public class PlaceBulkRefreshService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlaceBulkRefreshService.class);
+
+    static final String CHECKPOINT_NAME = "all-places";
+    private static final int MAX_RECENT_FAILURES = 50;
+
+    private final PlaceRepository placeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlaceRefreshService placeRefreshService;
+    private final int workers;
+    private final int idPageSize;
+    private final int checkpointEvery;
+    private final TokenBucket crawlRateLimiter;
+    private final ExecutorService workerPool;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile boolean stopRequested;
+    private volatile Run currentRun;
+
+    public PlaceBulkRefreshService(
+            PlaceRepository placeRepository,
+            JdbcTemplate jdbcTemplate,
+            @Lazy PlaceRefreshService placeRefreshService,
+            @Value("${mohe.refresh.bulk.workers:4}") int workers,
+            @Value("${mohe.refresh.bulk.crawl-requests-per-second:2}") double crawlRequestsPerSecond,
+            @Value("${mohe.refresh.bulk.id-page-size:500}") int idPageSize,
+            @Value("${mohe.refresh.bulk.checkpoint-every:20}") int checkpointEvery) {
+        this.placeRepository = placeRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.placeRefreshService = placeRefreshService;
+        this.workers = Math.max(1, workers);
+        this.idPageSize = Math.max(1, idPageSize);
+        this.checkpointEvery = Math.max(1, checkpointEvery);
+        this.crawlRateLimiter = new TokenBucket(crawlRequestsPerSecond, 1);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workerPool = Executors.newFixedThreadPool(this.workers, runnable -> {
+            Thread thread = new Thread(runnable, "PlaceRefresh-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stopRequested = true;
+        workerPool.shutdownNow();
+    }
+
+    /**
+     * 전체 장소 새로고침 (끝날 때까지 블록)
+     *
+     * @param resume true면 마지막 체크포인트 다음 ID부터, false면 처음부터
+     * @return 집계 결과 (results에는 최근 실패만 포함)
+     * @throws IllegalStateException 이미 실행 중인 경우
+     */
+    public BatchRefreshResponseDto refreshAll(boolean resume) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("Bulk place refresh is already running");
+        }
+        stopRequested = false;
+        Run run = null;
+        try {
+            Checkpoint checkpoint = resume ? loadCheckpoint() : null;
+            run = new Run(checkpoint, placeRepository.count());
+            currentRun = run;
+            logger.info("🚀 Bulk refresh started (resume={}, afterId={}, workers={})",
+                    resume, run.startAfterId, workers);
+            saveCheckpoint(run, "RUNNING");
+
+            execute(run);
+
+            run.status = stopRequested ? "STOPPED" : "COMPLETED";
+            saveCheckpoint(run, run.status);
+            logger.info("✅ Bulk refresh {}: {} processed ({} succeeded, {} failed) in {}ms",
+                    run.status.toLowerCase(), run.processed.get(), run.succeeded.get(), run.failed.get(),
+                    run.elapsedMillis());
+            return run.toResponse();
+        } catch (RuntimeException e) {
+            if (run != null) {
+                run.status = "FAILED";
+                saveCheckpoint(run, run.status);
+            }
+            throw e;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 실행 중인 전체 새로고침 중단 요청 (진행 중인 장소는 마저 처리하고 체크포인트 저장)
+     */
+    public boolean requestStop() {
+        if (!running.get()) {
+            return false;
+        }
+        stopRequested = true;
+        return true;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * 주어진 장소들을 워커 풀에서 병렬 새로고침 (입력 순서대로 결과 반환)
+     */
+    public List<BatchRefreshResponseDto.PlaceRefreshSummary> refreshIds(List<Long> placeIds) {
+        List<CompletableFuture<BatchRefreshResponseDto.PlaceRefreshSummary>> futures = new ArrayList<>(placeIds.size());
+        for (Long placeId : placeIds) {
+            futures.add(CompletableFuture.supplyAsync(() -> refreshOne(placeId), workerPool));
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    public Map<String, Object> getProgress() {
+        Run run = currentRun;
+        Map<String, Object> progress = new LinkedHashMap<>();
+        progress.put("running", running.get());
+        progress.put("workers", workers);
+        if (run == null) {
+            Checkpoint checkpoint = loadCheckpoint();
+            progress.put("status", checkpoint != null ? checkpoint.status() : "IDLE");
+            progress.put("checkpointPlaceId", checkpoint != null ? checkpoint.lastPlaceId() : 0L);
+            return progress;
+        }
+        long elapsed = Math.max(1, run.elapsedMillis());
+        long processedThisRun = run.processed.get() - run.processedBefore;
+        progress.put("status", run.status);
+        progress.put("startedAt", run.startedAt);
+        progress.put("totalPlaces", run.totalPlaces);
+        progress.put("processed", run.processed.get());
+        progress.put("succeeded", run.succeeded.get());
+        progress.put("failed", run.failed.get());
+        progress.put("inFlight", run.inFlightCount());
+        progress.put("checkpointPlaceId", run.watermark());
+        progress.put("placesPerSecond", processedThisRun * 1000.0 / elapsed);
+        progress.put("elapsedMs", run.elapsedMillis());
+        progress.put("recentFailures", run.recentFailures());
+        return progress;
+    }
+
+    private void execute(Run run) {
+        // 진행 중 작업 수 상한: 워커가 쉬지 않을 만큼만 앞서 제출 (대기열이 전체 ID로 커지지 않음)
+        int maxPending = workers * 2;
+        Semaphore pending = new Semaphore(maxPending);
+
+        long afterId = run.startAfterId;
+        try {
+            while (!stopRequested) {
+                List<Long> ids = placeRepository.findIdsAfter(afterId, PageRequest.of(0, idPageSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                for (Long placeId : ids) {
+                    if (stopRequested) {
+                        break;
+                    }
+                    pending.acquire();
+                    run.started(placeId);
+                    try {
+                        workerPool.execute(() -> {
+                            try {
+                                BatchRefreshResponseDto.PlaceRefreshSummary summary = refreshOne(placeId);
+                                run.completed(placeId, summary);
+                                if (run.processed.get() % checkpointEvery == 0) {
+                                    saveCheckpoint(run, "RUNNING");
+                                }
+                            } finally {
+                                pending.release();
+                            }
+                        });
+                    } catch (RuntimeException e) {
+                        run.abandoned(placeId);
+                        pending.release();
+                        throw e;
+                    }
+                }
+                afterId = ids.get(ids.size() - 1);
+            }
+            // 제출한 작업이 모두 끝날 때까지 대기
+            pending.acquire(maxPending);
+            pending.release(maxPending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stopRequested = true;
+        }
+    }
+
+    private BatchRefreshResponseDto.PlaceRefreshSummary refreshOne(Long placeId) {
+        try {
+            crawlRateLimiter.acquire();
+            PlaceRefreshResponseDto result = placeRefreshService.refreshPlaceData(placeId);
+            return BatchRefreshResponseDto.PlaceRefreshSummary.builder()
+                    .placeId(placeId)
+                    .placeName(result.getPlaceName())
+                    .success(true)
+                    .imageCount(result.getImageCount())
+                    .reviewCount(result.getNewReviewCount())
+                    .menuCount(result.getMenuCount())
+                    .build();
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            logger.error("❌ Failed to refresh place ID: {} - {}", placeId, e.getMessage());
+            return BatchRefreshResponseDto.PlaceRefreshSummary.builder()
+                    .placeId(placeId)
+                    .success(false)
+                    .imageCount(0)
+                    .reviewCount(0)
+                    .menuCount(0)
+                    .errorMessage(e.getMessage())
+                    .build();
+        }
+    }
+
+    private Checkpoint loadCheckpoint() {
+        List<Checkpoint> rows = jdbcTemplate.query("""
+                SELECT status, last_place_id, processed, succeeded, failed
+                FROM place_refresh_checkpoints
+                WHERE name = ?
+                """,
+                (rs, rowNum) -> new Checkpoint(
+                        rs.getString(1), rs.getLong(2), rs.getLong(3), rs.getLong(4), rs.getLong(5)),
+                CHECKPOINT_NAME);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    private synchronized void saveCheckpoint(Run run, String status) {
+        try {
+            jdbcTemplate.update("""
+                    INSERT INTO place_refresh_checkpoints
+                        (name, status, last_place_id, processed, succeeded, failed, started_at, updated_at)
+                    VALUES (?, ?, ?, ?, ?, ?, ?, NOW())
+                    ON CONFLICT (name) DO UPDATE
+                    SET status = EXCLUDED.status,
+                        last_place_id = EXCLUDED.last_place_id,
+                        processed = EXCLUDED.processed,
+                        succeeded = EXCLUDED.succeeded,
+                        failed = EXCLUDED.failed,
+                        started_at = EXCLUDED.started_at,
+                        updated_at = NOW()
+                    """,
+                    CHECKPOINT_NAME, status, run.watermark(), run.processed.get(), run.succeeded.get(),
+                    run.failed.get(), run.startedAt);
+        } catch (RuntimeException e) {
+            // 체크포인트 저장 실패로 새로고침을 멈추지는 않음 (다음 주기에 다시 저장)
+            logger.warn("Failed to save bulk refresh checkpoint: {}", e.getMessage());
+        }
+    }
+
+    record Checkpoint(String status, long lastPlaceId, long processed, long succeeded, long failed) {
+    }
+
+    /**
+     * 한 번의 전체 새로고침 실행 상태
+     */
+    private static final class Run {
+        private final OffsetDateTime startedAt = OffsetDateTime.now();
+        private final long startedAtMillis = System.currentTimeMillis();
+        private final long startAfterId;
+        private final long processedBefore;
+        private final long totalPlaces;
+        private final AtomicLong processed;
+        private final AtomicLong succeeded;
+        private final AtomicLong failed;
+        private final TreeSet<Long> inFlight = new TreeSet<>();
+        private final Deque<BatchRefreshResponseDto.PlaceRefreshSummary> recentFailures = new ArrayDeque<>();
+        private long lastStartedId;
+        private volatile String status = "RUNNING";
+
+        private Run(Checkpoint checkpoint, long totalPlaces) {
+            boolean resumable = checkpoint != null && !"COMPLETED".equals(checkpoint.status());
+            this.startAfterId = resumable ? checkpoint.lastPlaceId() : 0L;
+            this.processedBefore = resumable ? checkpoint.processed() : 0L;
+            this.processed = new AtomicLong(processedBefore);
+            this.succeeded = new AtomicLong(resumable ? checkpoint.succeeded() : 0L);
+            this.failed = new AtomicLong(resumable ? checkpoint.failed() : 0L);
+            this.totalPlaces = totalPlaces;
+            this.lastStartedId = startAfterId;
+        }
+
+        private synchronized void started(Long placeId) {
+            inFlight.add(placeId);
+            lastStartedId = placeId;
+        }
+
+        private synchronized void abandoned(Long placeId) {
+            inFlight.remove(placeId);
+        }
+
+        private void completed(Long placeId, BatchRefreshResponseDto.PlaceRefreshSummary summary) {
+            if (summary.isSuccess()) {
+                succeeded.incrementAndGet();
+            } else {
+                failed.incrementAndGet();
+            }
+            synchronized (this) {
+                inFlight.remove(placeId);
+                if (!summary.isSuccess()) {
+                    recentFailures.addLast(summary);
+                    if (recentFailures.size() > MAX_RECENT_FAILURES) {
+                        recentFailures.removeFirst();
+                    }
+                }
+            }
+            processed.incrementAndGet();
+        }
+
+        /**
+         * 이 ID까지(포함)는 모두 처리됨 — 가장 작은 진행 중 ID 바로 앞
+         */
+        private synchronized long watermark() {
+            return inFlight.isEmpty() ? lastStartedId : inFlight.first() - 1;
+        }
+
+        private synchronized int inFlightCount() {
+            return inFlight.size();
+        }
+
+        private synchronized List<BatchRefreshResponseDto.PlaceRefreshSummary> recentFailures() {
+            return new ArrayList<>(recentFailures);
+        }
+
+        private long elapsedMillis() {
+            return System.currentTimeMillis() - startedAtMillis;
+        }
+
+        private BatchRefreshResponseDto toResponse() {
+            long processedThisRun = processed.get() - processedBefore;
+            return BatchRefreshResponseDto.builder()
+                    .totalPlaces((int) totalPlaces)
+                    .successCount((int) succeeded.get())
+                    .failedCount((int) failed.get())
+                    .results(recentFailures())
+                    .elapsedTimeMs(elapsedMillis())
+                    .message(String.format("Bulk refresh %s: %d/%d succeeded (%d processed in this run, resumed after ID %d)",
+                            status.toLowerCase(), succeeded.get(), totalPlaces, processedThisRun, startAfterId))
+                    .build();
+        }
+    }
+}
@@ -19,7 +19,6 @@ import com.mohe.spring.service.image.ImageService;
 import com.mohe.spring.service.OpenAiDescriptionService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.annotation.Lazy;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
@@ -58,7 +57,7 @@ public class PlaceRefreshService {
     private final ImageService imageService;
     private final ImageProcessorService imageProcessorService;
     private final OpenAiDescriptionService openAiDescriptionService;
-    private final PlaceRefreshService self; // Self-injection for proxy-aware internal calls
+    private final PlaceBulkRefreshService bulkRefreshService;
 
     public PlaceRefreshService(
             PlaceRepository placeRepository,
@@ -67,14 +66,14 @@ public class PlaceRefreshService {
             ImageService imageService,
             ImageProcessorService imageProcessorService,
             OpenAiDescriptionService openAiDescriptionService,
-            @Lazy PlaceRefreshService self) {
+            PlaceBulkRefreshService bulkRefreshService) {
         this.placeRepository = placeRepository;
         this.placeMenuRepository = placeMenuRepository;
         this.crawlingService = crawlingService;
         this.imageService = imageService;
         this.imageProcessorService = imageProcessorService;
         this.openAiDescriptionService = openAiDescriptionService;
-        this.self = self;
+        this.bulkRefreshService = bulkRefreshService;
         logger.info("PlaceRefreshService initialized");
     }
 
@@ -522,95 +521,47 @@ public class PlaceRefreshService {
      *
      * <p>모든 장소에 대해 새로고침을 백그라운드에서 수행합니다.</p>
      * <p>즉시 반환되며, 실제 작업은 별도 스레드에서 실행됩니다.</p>
+     *
+     * @param resume true면 마지막 체크포인트 다음 장소부터 이어서 실행
      */
     @Async
-    public void refreshAllPlacesAsync() {
-        logger.info("🚀 Starting async batch refresh for all places");
+    public void refreshAllPlacesAsync(boolean resume) {
+        logger.info("🚀 Starting async batch refresh for all places (resume={})", resume);
         try {
-            BatchRefreshResponseDto result = refreshAllPlaces();
-            logger.info("✅ Async batch refresh completed: {}/{} succeeded in {}ms",
+            BatchRefreshResponseDto result = refreshAllPlaces(resume);
+            logger.info("✅ Async batch refresh finished: {}/{} succeeded in {}ms",
                     result.getSuccessCount(), result.getTotalPlaces(), result.getElapsedTimeMs());
         } catch (Exception e) {
             logger.error("❌ Async batch refresh failed: {}", e.getMessage(), e);
         }
     }
 
+    @Async
+    public void refreshAllPlacesAsync() {
+        refreshAllPlacesAsync(false);
+    }
+
     /**
      * 전체 Places 배치 새로고침 (이미지, 리뷰, 메뉴, 영업시간)
      *
-     * <p>모든 장소에 대해 새로고침을 수행합니다.</p>
+     * <p>장소 ID를 keyset 페이지로 읽어 {@link PlaceBulkRefreshService}의 워커 풀에서 병렬 처리합니다.
+     * 결과 목록에는 최근 실패 장소만 포함됩니다.</p>
      *
+     * @param resume true면 마지막 체크포인트 다음 장소부터 이어서 실행
      * @return 배치 새로고침 결과
      */
-    public BatchRefreshResponseDto refreshAllPlaces() {
-        logger.info("Starting batch refresh for all places");
-        long startTime = System.currentTimeMillis();
-
-        List<Place> allPlaces = placeRepository.findAll();
-        int totalPlaces = allPlaces.size();
-        int successCount = 0;
-        int failedCount = 0;
-
-        List<BatchRefreshResponseDto.PlaceRefreshSummary> results = new ArrayList<>();
-
-        for (Place place : allPlaces) {
-            try {
-                logger.info("[{}/{}] Refreshing place: {} (ID: {})",
-                        successCount + failedCount + 1, totalPlaces, place.getName(), place.getId());
-
-                // Use self-injection to ensure @Transactional proxy is invoked
-                PlaceRefreshResponseDto result = self.refreshPlaceData(place.getId());
-
-                results.add(BatchRefreshResponseDto.PlaceRefreshSummary.builder()
-                        .placeId(place.getId())
-                        .placeName(place.getName())
-                        .success(true)
-                        .imageCount(result.getImageCount())
-                        .reviewCount(result.getNewReviewCount())
-                        .menuCount(result.getMenuCount())
-                        .build());
-
-                successCount++;
-                logger.info("✅ [{}/{}] Refreshed place: {} - Images: {}, Reviews: {}, Menus: {}",
-                        successCount + failedCount, totalPlaces, place.getName(),
-                        result.getImageCount(), result.getNewReviewCount(), result.getMenuCount());
-
-            } catch (Exception e) {
-                failedCount++;
-                logger.error("❌ [{}/{}] Failed to refresh place: {} (ID: {}) - {}",
-                        successCount + failedCount, totalPlaces, place.getName(), place.getId(), e.getMessage());
-
-                results.add(BatchRefreshResponseDto.PlaceRefreshSummary.builder()
-                        .placeId(place.getId())
-                        .placeName(place.getName())
-                        .success(false)
-                        .imageCount(0)
-                        .reviewCount(0)
-                        .menuCount(0)
-                        .errorMessage(e.getMessage())
-                        .build());
-            }
-        }
-
-        long elapsedTime = System.currentTimeMillis() - startTime;
-
-        logger.info("Batch refresh completed: {} succeeded, {} failed, total time: {}ms",
-                successCount, failedCount, elapsedTime);
+    public BatchRefreshResponseDto refreshAllPlaces(boolean resume) {
+        return bulkRefreshService.refreshAll(resume);
+    }
 
-        return BatchRefreshResponseDto.builder()
-                .totalPlaces(totalPlaces)
-                .successCount(successCount)
-                .failedCount(failedCount)
-                .results(results)
-                .elapsedTimeMs(elapsedTime)
-                .message(String.format("Batch refresh completed: %d/%d succeeded", successCount, totalPlaces))
-                .build();
+    public BatchRefreshResponseDto refreshAllPlaces() {
+        return refreshAllPlaces(false);
     }
 
     /**
      * 특정 범위의 Places 배치 새로고침
      *
-     * <p>지정된 offset과 limit으로 페이지네이션된 장소들에 대해 새로고침을 수행합니다.</p>
+     * <p>지정된 offset과 limit으로 ID 순 페이지네이션된 장소들에 대해 병렬로 새로고침을 수행합니다.</p>
      *
      * @param offset 시작 위치
      * @param limit  최대 개수
@@ -620,54 +571,12 @@ public class PlaceRefreshService {
         logger.info("Starting batch refresh for places: offset={}, limit={}", offset, limit);
         long startTime = System.currentTimeMillis();
 
-        List<Place> places = placeRepository.findAll()
-                .stream()
-                .skip(offset)
-                .limit(limit)
-                .collect(Collectors.toList());
-
-        int totalPlaces = places.size();
-        int successCount = 0;
-        int failedCount = 0;
-
-        List<BatchRefreshResponseDto.PlaceRefreshSummary> results = new ArrayList<>();
-
-        for (int i = 0; i < places.size(); i++) {
-            Place place = places.get(i);
-            try {
-                logger.info("[{}/{}] Refreshing place: {} (ID: {})",
-                        i + 1, totalPlaces, place.getName(), place.getId());
-
-                // Use self-injection to ensure @Transactional proxy is invoked
-                PlaceRefreshResponseDto result = self.refreshPlaceData(place.getId());
+        List<Long> placeIds = placeRepository.findIdsOrderById(offset, limit);
+        List<BatchRefreshResponseDto.PlaceRefreshSummary> results = bulkRefreshService.refreshIds(placeIds);
 
-                results.add(BatchRefreshResponseDto.PlaceRefreshSummary.builder()
-                        .placeId(place.getId())
-                        .placeName(place.getName())
-                        .success(true)
-                        .imageCount(result.getImageCount())
-                        .reviewCount(result.getNewReviewCount())
-                        .menuCount(result.getMenuCount())
-                        .build());
-
-                successCount++;
-
-            } catch (Exception e) {
-                failedCount++;
-                logger.error("❌ Failed to refresh place: {} (ID: {}) - {}",
-                        place.getName(), place.getId(), e.getMessage());
-
-                results.add(BatchRefreshResponseDto.PlaceRefreshSummary.builder()
-                        .placeId(place.getId())
-                        .placeName(place.getName())
-                        .success(false)
-                        .imageCount(0)
-                        .reviewCount(0)
-                        .menuCount(0)
-                        .errorMessage(e.getMessage())
-                        .build());
-            }
-        }
+        int totalPlaces = results.size();
+        int successCount = (int) results.stream().filter(BatchRefreshResponseDto.PlaceRefreshSummary::isSuccess).count();
+        int failedCount = totalPlaces - successCount;
 
         long elapsedTime = System.currentTimeMillis() - startTime;
 
@@ -882,6 +791,7 @@ public class PlaceRefreshService {
             }
             logger.info("Updated {} business hours for place: {}", place.getBusinessHours().size(), place.getName());
         }
+        place.compileOpenHours();
     }
 
     /**
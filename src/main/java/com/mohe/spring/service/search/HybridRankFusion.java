@@ -0,0 +1,77 @@
+package com.mohe.spring.service.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 하이브리드 검색 결과 병합 (Reciprocal Rank Fusion)
+ *
+ * <p>키워드 순위, 벡터 유사도 순위, 거리 순위를 각각 {@code weight / (k + rank)}로 점수화해 합산합니다.
+ * 점수 스케일이 다른 LIKE 매칭과 cosine 유사도를 정규화 없이 섞을 수 있고,
+ * 거리는 필터가 아니라 하나의 재정렬 신호로만 반영됩니다.</p>
+ */
+public final class HybridRankFusion {
+
+    /** RRF 상수 (원 논문 권장값) */
+    public static final int DEFAULT_K = 60;
+
+    /**
+     * @param keyword  키워드 순위 가중치
+     * @param vector   벡터 유사도 순위 가중치
+     * @param distance 거리 순위 가중치
+     */
+    public record Weights(double keyword, double vector, double distance) {
+    }
+
+    private HybridRankFusion() {
+    }
+
+    /**
+     * @param keywordIds  키워드 검색 결과 (관련도 순)
+     * @param vectorIds   벡터 검색 결과 (유사도 순)
+     * @param distancesKm 후보별 사용자와의 거리 (없으면 거리 점수 없음)
+     * @return 융합 점수 내림차순 place id
+     */
+    public static List<Long> fuse(List<Long> keywordIds, List<Long> vectorIds, Map<Long, Double> distancesKm,
+                                  Weights weights, int k, int limit) {
+        Map<Long, Double> scores = new HashMap<>();
+        addRanks(scores, keywordIds, weights.keyword(), k);
+        addRanks(scores, vectorIds, weights.vector(), k);
+
+        if (weights.distance() > 0 && !distancesKm.isEmpty()) {
+            List<Long> byDistance = new ArrayList<>(scores.keySet());
+            byDistance.removeIf(id -> !distancesKm.containsKey(id));
+            byDistance.sort(Comparator.comparingDouble(distancesKm::get));
+            addRanks(scores, byDistance, weights.distance(), k);
+        }
+
+        // 동점이면 키워드 → 벡터 순으로 먼저 나온 후보 우선
+        Map<Long, Integer> firstSeen = new HashMap<>();
+        int order = 0;
+        for (Long id : keywordIds) firstSeen.putIfAbsent(id, order++);
+        for (Long id : vectorIds) firstSeen.putIfAbsent(id, order++);
+
+        return scores.entrySet().stream()
+            .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                .thenComparing(entry -> firstSeen.getOrDefault(entry.getKey(), Integer.MAX_VALUE)))
+            .limit(limit)
+            .map(Map.Entry::getKey)
+            .toList();
+    }
+
+    private static void addRanks(Map<Long, Double> scores, List<Long> rankedIds, double weight, int k) {
+        if (weight <= 0) {
+            return;
+        }
+        int rank = 0;
+        for (Long id : rankedIds) {
+            rank++;
+            if (id == null) continue;
+            double contribution = weight / (k + rank);
+            scores.merge(id, contribution, Double::sum);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.mohe.spring.service.search;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 키워드 검색어 → places.search_text LIKE 패턴 변환
+ *
+ * <p>검색어를 공백 단위로 나눠 소문자화/중복 제거한 뒤 {@code %term%} 패턴을 공백으로 이어 붙입니다.
+ * 쿼리에서는 {@code string_to_array(:patterns, ' ')}로 풀어 {@code LIKE ANY}에 사용하므로
+ * 모든 단어를 한 번의 인덱스 스캔으로 검색합니다.</p>
+ */
+public final class PlaceSearchTerms {
+
+    /** 한 번에 검색할 최대 단어 수 */
+    public static final int MAX_TERMS = 8;
+
+    private PlaceSearchTerms() {
+    }
+
+    public static String normalize(String query) {
+        if (query == null) {
+            return "";
+        }
+        return query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 2글자 미만 단어는 제외합니다 (전체 검색어가 한 글자인 경우만 그대로 사용).
+     */
+    public static Set<String> terms(String query) {
+        String normalized = normalize(query);
+        Set<String> terms = new LinkedHashSet<>();
+        if (normalized.isEmpty()) {
+            return terms;
+        }
+        for (String word : normalized.split(" ")) {
+            if (word.length() >= 2) {
+                terms.add(word);
+            }
+            if (terms.size() >= MAX_TERMS) {
+                break;
+            }
+        }
+        if (terms.isEmpty()) {
+            terms.add(normalized);
+        }
+        return terms;
+    }
+
+    public static String likePatterns(String query) {
+        StringBuilder patterns = new StringBuilder();
+        for (String term : terms(query)) {
+            if (patterns.length() > 0) {
+                patterns.append(' ');
+            }
+            patterns.append('%').append(escapeLike(term)).append('%');
+        }
+        return patterns.toString();
+    }
+
+    static String escapeLike(String term) {
+        StringBuilder escaped = new StringBuilder(term.length() + 4);
+        for (int i = 0; i < term.length(); i++) {
+            char c = term.charAt(i);
+            if (c == '%' || c == '_' || c == '\\') {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,79 @@
+package com.mohe.spring.service.search;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검색 단계별 지연시간 기록기
+ *
+ * <p>단계(keyword, embedding, vector, fusion, hydrate, total)마다 최근 N개 샘플을 링 버퍼에 보관하고
+ * p50/p95/p99를 계산합니다. 관리자 모니터 API에서 조회합니다.</p>
+ */
+@Component
+public class SearchLatencyRecorder {
+
+    private final int windowSize;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    public SearchLatencyRecorder(@Value("${mohe.search.latency-window-size:2048}") int windowSize) {
+        this.windowSize = Math.max(16, windowSize);
+    }
+
+    public void record(String stage, long nanos) {
+        windows.computeIfAbsent(stage, key -> new Window(windowSize)).add(nanos);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        windows.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .forEach(entry -> stats.put(entry.getKey(), entry.getValue().summary()));
+        return stats;
+    }
+
+    private static final class Window {
+        private final long[] samples;
+        private long count;
+
+        Window(int size) {
+            this.samples = new long[size];
+        }
+
+        synchronized void add(long nanos) {
+            samples[(int) (count % samples.length)] = nanos;
+            count++;
+        }
+
+        Map<String, Object> summary() {
+            long[] copy;
+            long total;
+            synchronized (this) {
+                total = count;
+                copy = Arrays.copyOf(samples, (int) Math.min(count, samples.length));
+            }
+            Arrays.sort(copy);
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("count", total);
+            summary.put("samples", copy.length);
+            summary.put("p50Millis", percentileMillis(copy, 0.50));
+            summary.put("p95Millis", percentileMillis(copy, 0.95));
+            summary.put("p99Millis", percentileMillis(copy, 0.99));
+            summary.put("maxMillis", copy.length > 0 ? copy[copy.length - 1] / 1_000_000.0 : 0.0);
+            return summary;
+        }
+
+        private static double percentileMillis(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0.0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package com.mohe.spring.service.similarity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 북마크 공동 출현 기반 장소 유사도 엔진
+ *
+ * <p>(user, place) 북마크 쌍을 한 번 읽어 장소→사용자, 사용자→장소 CSR(압축 희소 행) 배열로 보관하고,
+ * 장소별로 "같은 사용자가 북마크한 다른 장소"를 dense int 카운터 + touched 목록(희소 누산기)으로 집계합니다.
+ * SQL 자기 조인(O(북마크²)) 대신 장소마다 이웃 사용자 행만 훑으며, 박싱 없는 primitive 배열만 사용합니다.</p>
+ *
+ * <ul>
+ *   <li>jaccard = co / (|U(p)| + |U(q)| - co)</li>
+ *   <li>cosine(binary) = co / sqrt(|U(p)| * |U(q)|)</li>
+ *   <li>score = jaccardWeight * jaccard + cosineWeight * cosine, 장소별 상위 K개 유지</li>
+ * </ul>
+ *
+ * <p>장소 인덱스 범위를 ForkJoin으로 분할해 병렬 계산합니다. 각 리프는 서로 다른 인덱스에만 결과를 기록합니다.</p>
+ */
+public final class BookmarkCooccurrenceEngine {
+
+    public record Config(int topK, double jaccardWeight, double cosineWeight, int minCoUsers, int maxUserBookmarks) {
+    }
+
+    public record Neighbor(long placeId, int coUsers, double jaccard, double cosine, double score) {
+    }
+
+    private static final int LEAF_SIZE = 256;
+
+    private final long[] placeIds;
+    private final int[] placeOffsets;
+    private final int[] placeUsers;
+    private final int[] userOffsets;
+    private final int[] userPlaces;
+
+    private BookmarkCooccurrenceEngine(long[] placeIds, int[] placeOffsets, int[] placeUsers,
+                                       int[] userOffsets, int[] userPlaces) {
+        this.placeIds = placeIds;
+        this.placeOffsets = placeOffsets;
+        this.placeUsers = placeUsers;
+        this.userOffsets = userOffsets;
+        this.userPlaces = userPlaces;
+    }
+
+    /**
+     * @param bookmarkUserIds  북마크 user_id (bookmarkPlaceIds와 같은 길이, (user, place) 중복 없음)
+     * @param bookmarkPlaceIds 북마크 place_id
+     * @param count            유효한 쌍의 수
+     */
+    public static BookmarkCooccurrenceEngine build(long[] bookmarkUserIds, long[] bookmarkPlaceIds, int count) {
+        long[] placeIds = distinctSorted(bookmarkPlaceIds, count);
+        long[] userIds = distinctSorted(bookmarkUserIds, count);
+
+        int[] placeIdx = new int[count];
+        int[] userIdx = new int[count];
+        int[] placeOffsets = new int[placeIds.length + 1];
+        int[] userOffsets = new int[userIds.length + 1];
+        for (int i = 0; i < count; i++) {
+            placeIdx[i] = Arrays.binarySearch(placeIds, bookmarkPlaceIds[i]);
+            userIdx[i] = Arrays.binarySearch(userIds, bookmarkUserIds[i]);
+            placeOffsets[placeIdx[i] + 1]++;
+            userOffsets[userIdx[i] + 1]++;
+        }
+        for (int i = 0; i < placeIds.length; i++) placeOffsets[i + 1] += placeOffsets[i];
+        for (int i = 0; i < userIds.length; i++) userOffsets[i + 1] += userOffsets[i];
+
+        int[] placeUsers = new int[count];
+        int[] userPlaces = new int[count];
+        int[] placeCursor = Arrays.copyOf(placeOffsets, placeIds.length);
+        int[] userCursor = Arrays.copyOf(userOffsets, userIds.length);
+        for (int i = 0; i < count; i++) {
+            placeUsers[placeCursor[placeIdx[i]]++] = userIdx[i];
+            userPlaces[userCursor[userIdx[i]]++] = placeIdx[i];
+        }
+
+        return new BookmarkCooccurrenceEngine(placeIds, placeOffsets, placeUsers, userOffsets, userPlaces);
+    }
+
+    public int placeCount() {
+        return placeIds.length;
+    }
+
+    public long placeIdAt(int index) {
+        return placeIds[index];
+    }
+
+    public int indexOf(long placeId) {
+        int index = Arrays.binarySearch(placeIds, placeId);
+        return index >= 0 ? index : -1;
+    }
+
+    /**
+     * 지정한 장소들과 사용자를 공유하는 장소 인덱스 (자기 자신 포함)
+     * 증분 갱신 시 재계산 범위를 정하는 데 사용합니다.
+     * 현재 북마크 기준이므로, 삭제로 끊어진 관계의 상대 장소는 호출자가 기존 top-K에서 찾아 더해야 합니다.
+     */
+    public int[] affectedPlaces(int[] placeIndexes, int maxUserBookmarks) {
+        boolean[] marked = new boolean[placeIds.length];
+        int markedCount = 0;
+        for (int p : placeIndexes) {
+            if (!marked[p]) { marked[p] = true; markedCount++; }
+            for (int i = placeOffsets[p]; i < placeOffsets[p + 1]; i++) {
+                int user = placeUsers[i];
+                if (userOffsets[user + 1] - userOffsets[user] > maxUserBookmarks) continue;
+                for (int j = userOffsets[user]; j < userOffsets[user + 1]; j++) {
+                    int q = userPlaces[j];
+                    if (!marked[q]) { marked[q] = true; markedCount++; }
+                }
+            }
+        }
+        int[] result = new int[markedCount];
+        int n = 0;
+        for (int i = 0; i < marked.length; i++) {
+            if (marked[i]) result[n++] = i;
+        }
+        return result;
+    }
+
+    /**
+     * 지정한 장소 인덱스들의 top-K 이웃 계산 (ForkJoin 병렬)
+     *
+     * @return placeIndexes와 같은 순서의 이웃 목록
+     */
+    public List<Neighbor>[] computeTopK(int[] placeIndexes, Config config, ForkJoinPool pool) {
+        @SuppressWarnings("unchecked")
+        List<Neighbor>[] results = new List[placeIndexes.length];
+        ThreadLocal<Accumulator> accumulators = ThreadLocal.withInitial(() -> new Accumulator(placeIds.length));
+        pool.invoke(new TopKTask(placeIndexes, 0, placeIndexes.length, config, results, accumulators));
+        return results;
+    }
+
+    public int[] allPlaceIndexes() {
+        int[] all = new int[placeIds.length];
+        for (int i = 0; i < all.length; i++) all[i] = i;
+        return all;
+    }
+
+    List<Neighbor> topKFor(int p, Config config, Accumulator acc) {
+        int degreeP = placeOffsets[p + 1] - placeOffsets[p];
+        if (degreeP == 0) return List.of();
+
+        for (int i = placeOffsets[p]; i < placeOffsets[p + 1]; i++) {
+            int user = placeUsers[i];
+            int from = userOffsets[user];
+            int to = userOffsets[user + 1];
+            // 과도하게 많이 북마크한 사용자는 신호가 약하고 비용만 큼 (O(d²))
+            if (to - from > config.maxUserBookmarks()) continue;
+            for (int j = from; j < to; j++) {
+                int q = userPlaces[j];
+                if (q != p) acc.increment(q);
+            }
+        }
+
+        int k = config.topK();
+        int[] heapPlace = new int[k];
+        int[] heapCo = new int[k];
+        double[] heapScore = new double[k];
+        int heapSize = 0;
+
+        for (int t = 0; t < acc.touchedCount; t++) {
+            int q = acc.touched[t];
+            int co = acc.counts[q];
+            if (co < config.minCoUsers()) continue;
+            int degreeQ = placeOffsets[q + 1] - placeOffsets[q];
+            double jaccard = (double) co / (degreeP + degreeQ - co);
+            double cosine = co / Math.sqrt((double) degreeP * degreeQ);
+            double score = config.jaccardWeight() * jaccard + config.cosineWeight() * cosine;
+
+            if (heapSize < k) {
+                heapPlace[heapSize] = q;
+                heapCo[heapSize] = co;
+                heapScore[heapSize] = score;
+                siftUp(heapPlace, heapCo, heapScore, heapSize++);
+            } else if (better(score, q, heapScore[0], heapPlace[0])) {
+                heapPlace[0] = q;
+                heapCo[0] = co;
+                heapScore[0] = score;
+                siftDown(heapPlace, heapCo, heapScore, heapSize);
+            }
+        }
+        acc.reset();
+
+        List<Neighbor> neighbors = new ArrayList<>(heapSize);
+        for (int i = 0; i < heapSize; i++) {
+            int q = heapPlace[i];
+            int degreeQ = placeOffsets[q + 1] - placeOffsets[q];
+            int co = heapCo[i];
+            neighbors.add(new Neighbor(placeIds[q], co,
+                (double) co / (degreeP + degreeQ - co),
+                co / Math.sqrt((double) degreeP * degreeQ),
+                heapScore[i]));
+        }
+        neighbors.sort((a, b) -> a.score() != b.score()
+            ? Double.compare(b.score(), a.score())
+            : Long.compare(a.placeId(), b.placeId()));
+        return neighbors;
+    }
+
+    /** 점수가 높거나, 같으면 place 인덱스가 작은 쪽이 우선 (결정적 결과) */
+    private static boolean better(double score, int place, double otherScore, int otherPlace) {
+        return score > otherScore || (score == otherScore && place < otherPlace);
+    }
+
+    // min-heap: 루트가 현재 top-K 중 가장 약한 후보
+    private static void siftUp(int[] place, int[] co, double[] score, int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!better(score[parent], place[parent], score[i], place[i])) break;
+            swap(place, co, score, i, parent);
+            i = parent;
+        }
+    }
+
+    private static void siftDown(int[] place, int[] co, double[] score, int size) {
+        int i = 0;
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) break;
+            int weakest = left;
+            int right = left + 1;
+            if (right < size && better(score[weakest], place[weakest], score[right], place[right])) weakest = right;
+            if (!better(score[i], place[i], score[weakest], place[weakest])) break;
+            swap(place, co, score, i, weakest);
+            i = weakest;
+        }
+    }
+
+    private static void swap(int[] place, int[] co, double[] score, int a, int b) {
+        int tp = place[a]; place[a] = place[b]; place[b] = tp;
+        int tc = co[a]; co[a] = co[b]; co[b] = tc;
+        double ts = score[a]; score[a] = score[b]; score[b] = ts;
+    }
+
+    private static long[] distinctSorted(long[] values, int count) {
+        long[] sorted = Arrays.copyOf(values, count);
+        Arrays.sort(sorted);
+        int n = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) sorted[n++] = sorted[i];
+        }
+        return Arrays.copyOf(sorted, n);
+    }
+
+    /** 스레드별 희소 누산기: dense 카운터 + 값이 기록된 인덱스 목록 */
+    static final class Accumulator {
+        final int[] counts;
+        final int[] touched;
+        int touchedCount;
+
+        Accumulator(int size) {
+            this.counts = new int[size];
+            this.touched = new int[size];
+        }
+
+        void increment(int index) {
+            if (counts[index]++ == 0) touched[touchedCount++] = index;
+        }
+
+        void reset() {
+            for (int i = 0; i < touchedCount; i++) counts[touched[i]] = 0;
+            touchedCount = 0;
+        }
+    }
+
+    private final class TopKTask extends RecursiveAction {
+        private final int[] placeIndexes;
+        private final int from;
+        private final int to;
+        private final Config config;
+        private final List<Neighbor>[] results;
+        private final ThreadLocal<Accumulator> accumulators;
+
+        TopKTask(int[] placeIndexes, int from, int to, Config config,
+                 List<Neighbor>[] results, ThreadLocal<Accumulator> accumulators) {
+            this.placeIndexes = placeIndexes;
+            this.from = from;
+            this.to = to;
+            this.config = config;
+            this.results = results;
+            this.accumulators = accumulators;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_SIZE) {
+                Accumulator acc = accumulators.get();
+                for (int i = from; i < to; i++) {
+                    results[i] = topKFor(placeIndexes[i], config, acc);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                new TopKTask(placeIndexes, from, mid, config, results, accumulators),
+                new TopKTask(placeIndexes, mid, to, config, results, accumulators)
+            );
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.mohe.spring.service.similarity;
+
+import com.mohe.spring.repository.PlaceKeywordEmbeddingRepository;
+import com.mohe.spring.util.VectorKernels;
+import com.pgvector.PGvector;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 후보 장소 풀 안에서의 정확한 키워드 임베딩 순위
+ *
+ * <p>전체 place_keyword_embeddings에 HNSW 검색을 돌린 뒤 후보 밖 결과를 버리는 대신,
+ * 후보 장소의 키워드 임베딩만 한 번의 쿼리로 읽어 질의 벡터와의 코사인 유사도를 직접 계산합니다.
+ * 장소 점수는 그 장소 키워드들 중 가장 높은 유사도이며, 후보 안에서는 근사 없이 정확한 순위가 됩니다.</p>
+ */
+@Component
+public class CandidateEmbeddingScorer {
+
+    private final PlaceKeywordEmbeddingRepository placeKeywordEmbeddingRepository;
+
+    public CandidateEmbeddingScorer(PlaceKeywordEmbeddingRepository placeKeywordEmbeddingRepository) {
+        this.placeKeywordEmbeddingRepository = placeKeywordEmbeddingRepository;
+    }
+
+    public record ScoredPlace(Long placeId, float score) {
+    }
+
+    /**
+     * @param query        질의 임베딩 (수정하지 않음)
+     * @param candidateIds 후보 장소 ID
+     * @param limit        최대 반환 개수
+     * @return 유사도 내림차순 (동점은 ID 오름차순), 임베딩이 없는 후보는 제외
+     */
+    public List<ScoredPlace> rank(float[] query, Collection<Long> candidateIds, int limit) {
+        if (query == null || candidateIds == null || candidateIds.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        float[] queryUnit = query.clone();
+        if (VectorKernels.normalize(queryUnit) == 0f) {
+            return List.of();
+        }
+
+        Map<Long, Float> best = new HashMap<>();
+        for (Object[] row : placeKeywordEmbeddingRepository.findEmbeddingRowsByPlaceIds(candidateIds)) {
+            float[] vector = row[1] instanceof PGvector pgvector ? pgvector.toArray() : null;
+            if (vector == null || vector.length != queryUnit.length) {
+                continue;
+            }
+            float score = VectorKernels.cosineToUnit(vector, queryUnit);
+            best.merge(((Number) row[0]).longValue(), score, Math::max);
+        }
+
+        List<ScoredPlace> ranked = new ArrayList<>(best.size());
+        best.forEach((placeId, score) -> ranked.add(new ScoredPlace(placeId, score)));
+        ranked.sort(Comparator.comparingDouble((ScoredPlace scored) -> -scored.score())
+                .thenComparing(ScoredPlace::placeId));
+        return ranked.size() > limit ? ranked.subList(0, limit) : ranked;
+    }
+}
@@ -0,0 +1,395 @@
+package com.mohe.spring.service.similarity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.mohe.spring.entity.PlaceDescriptionVector;
+import com.mohe.spring.entity.UserPreferenceVector;
+import com.mohe.spring.entity.VectorSimilarityResult;
+import com.mohe.spring.repository.PlaceDescriptionVectorRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 미리 디코딩된 장소 설명 벡터의 인메모리 저장소
+ *
+ * <p>{@link PlaceDescriptionVector#calculateSimilarityWithUser}는 호출마다 description_vector 문자열과
+ * selected_keywords JSON을 다시 파싱하고 boxed {@code List<Integer>}로 Jaccard를 계산합니다.
+ * 이 저장소는 장소마다 {@code float[]} 벡터, 제곱 norm, 정렬된 {@code int[]} 키워드 ID,
+ * MBTI 가중치 키워드 비트마스크를 한 번만 만들어 두고, 점수 계산은 할당 없이 배열만 순회합니다.
+ * 점수 공식은 엔티티와 동일합니다 (cosine 0.7 + Jaccard 0.3, MBTI 가중치, 최대 1.0).</p>
+ *
+ * <h3>갱신 방식</h3>
+ * <ul>
+ *   <li>기동 후 전체 로드, 이후 주기적으로 전체 재빌드 (삭제된 벡터 정리)</li>
+ *   <li>짧은 주기로 {@code updated_at} 이후 변경분만 조회하여 반영</li>
+ *   <li>벡터를 저장하는 쪽은 {@link #upsert}/{@link #remove}로 즉시 반영 가능</li>
+ * </ul>
+ */
+@Component
+public class PlaceVectorStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlaceVectorStore.class);
+
+    /** Jaccard / 공통 키워드 판단 기준 (엔티티와 동일) */
+    private static final double KEYWORD_CONFIDENCE_THRESHOLD = 0.3;
+    /** MBTI 가중치 키워드 판단 기준 (엔티티와 동일) */
+    private static final double MBTI_CONFIDENCE_THRESHOLD = 0.4;
+    private static final double DEFAULT_MBTI_BOOST = 1.2;
+
+    /** PlaceDescriptionVector.calculateMbtiBoost와 같은 규칙 — I, E, N, S 순 */
+    private static final int[][] MBTI_KEYWORD_IDS = {
+            {16, 38, 24, 98},   // 조용한, 공부하기 좋은 곳
+            {26, 43, 96, 99},   // 활기찬, 사교적인 곳
+            {23, 85, 91, 93},   // 창의적, 독특한 곳
+            {87, 90, 51, 68}    // 전통적, 믿을 수 있는 곳
+    };
+    private static final int MBTI_I = 1;
+    private static final int MBTI_E = 1 << 1;
+    private static final int MBTI_N = 1 << 2;
+    private static final int MBTI_S = 1 << 3;
+
+    /**
+     * 디코딩된 장소 벡터
+     *
+     * @param keywordIds  신뢰도 0.3 이상 키워드 ID (정렬, 중복 제거)
+     * @param mbtiMask    신뢰도 0.4 이상 키워드 기준 MBTI 가중치 규칙 일치 비트
+     * @param hasKeywords 선택 키워드가 하나라도 있는지 (keywordOverlapRatio 계산용)
+     */
+    public record PlaceVector(float[] vector, double normSquared, int[] keywordIds, int mbtiMask, boolean hasKeywords) {
+    }
+
+    /**
+     * 디코딩된 사용자 선호 벡터 — 요청마다 한 번 만들어 후보 전체에 재사용
+     */
+    public record UserVector(float[] vector, double normSquared, int[] keywordIds, int mbtiMask) {
+    }
+
+    private final PlaceDescriptionVectorRepository placeDescriptionVectorRepository;
+    private final boolean enabled;
+
+    private volatile Map<Long, PlaceVector> vectors;
+    private volatile OffsetDateTime lastSyncedAt;
+    private volatile long lastSkipped;
+
+    public PlaceVectorStore(
+            PlaceDescriptionVectorRepository placeDescriptionVectorRepository,
+            @Value("${mohe.place-vector-store.enabled:true}") boolean enabled) {
+        this.placeDescriptionVectorRepository = placeDescriptionVectorRepository;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 저장소 사용 가능 여부 (비활성화되었거나 아직 로드 전이면 false → 호출자는 DB 조회로 fallback)
+     */
+    public boolean isReady() {
+        return enabled && vectors != null;
+    }
+
+    /**
+     * 전체 재빌드 — 기동 직후 및 주기적으로 실행
+     */
+    @Scheduled(initialDelayString = "${mohe.place-vector-store.initial-delay-ms:15000}",
+               fixedDelayString = "${mohe.place-vector-store.full-rebuild-interval-ms:3600000}")
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            OffsetDateTime syncStartedAt = OffsetDateTime.now();
+            Map<Long, PlaceVector> next = new ConcurrentHashMap<>();
+            long skipped = apply(next, placeDescriptionVectorRepository.findVectorRows());
+            vectors = next;
+            lastSyncedAt = syncStartedAt;
+            lastSkipped = skipped;
+
+            logger.info("🧭 Place vector store rebuilt: {} places ({} skipped) in {}ms",
+                    next.size(), skipped, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            logger.error("Place vector store rebuild failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 변경분 반영 — updated_at 이후 수정된 벡터만 조회
+     */
+    @Scheduled(initialDelayString = "${mohe.place-vector-store.initial-delay-ms:15000}",
+               fixedDelayString = "${mohe.place-vector-store.delta-interval-ms:60000}")
+    public synchronized void refreshChanges() {
+        Map<Long, PlaceVector> current = vectors;
+        if (!enabled || current == null || lastSyncedAt == null) {
+            return;
+        }
+
+        try {
+            OffsetDateTime syncStartedAt = OffsetDateTime.now();
+            List<Object[]> rows = placeDescriptionVectorRepository.findVectorRowsUpdatedSince(lastSyncedAt);
+            apply(current, rows);
+            lastSyncedAt = syncStartedAt;
+
+            if (!rows.isEmpty()) {
+                logger.debug("Place vector store applied {} changes (size={})", rows.size(), current.size());
+            }
+        } catch (Exception e) {
+            logger.warn("Place vector store delta refresh failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 저장된 벡터를 즉시 반영 (다음 변경분 동기화를 기다리지 않음)
+     */
+    public void upsert(Long placeId, PlaceDescriptionVector placeVector) {
+        Map<Long, PlaceVector> current = vectors;
+        if (current == null || placeId == null || placeVector == null) {
+            return;
+        }
+        try {
+            current.put(placeId, decode(placeVector.getDescriptionVector(), placeVector.getSelectedKeywords()));
+        } catch (RuntimeException e) {
+            current.remove(placeId);
+        }
+    }
+
+    public void remove(Long placeId) {
+        Map<Long, PlaceVector> current = vectors;
+        if (current != null && placeId != null) {
+            current.remove(placeId);
+        }
+    }
+
+    /**
+     * @return 장소 벡터, 없거나 로드 전이면 null
+     */
+    public PlaceVector get(Long placeId) {
+        Map<Long, PlaceVector> current = vectors;
+        return current != null ? current.get(placeId) : null;
+    }
+
+    /**
+     * 전체 장소 벡터 (읽기 전용 뷰)
+     */
+    public Map<Long, PlaceVector> entries() {
+        Map<Long, PlaceVector> current = vectors;
+        return current != null ? Collections.unmodifiableMap(current) : Map.of();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<Long, PlaceVector> current = vectors;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("ready", isReady());
+        stats.put("places", current != null ? current.size() : 0);
+        stats.put("lastSkipped", lastSkipped);
+        stats.put("lastSyncedAt", lastSyncedAt);
+        return stats;
+    }
+
+    // ===== 점수 계산 =====
+
+    /**
+     * 사용자 선호 벡터 디코딩 — 후보 순위 계산 전에 한 번만 호출
+     */
+    public static UserVector prepare(UserPreferenceVector userVector) {
+        float[] vector = parseVector(userVector.getPreferenceVector());
+        String mbti = userVector.getUser() != null ? userVector.getUser().getMbti() : null;
+        return new UserVector(vector, squaredNorm(vector),
+                keywordIds(userVector.getSelectedKeywords(), KEYWORD_CONFIDENCE_THRESHOLD), userMbtiMask(mbti));
+    }
+
+    /**
+     * 가중 유사도 ({@link VectorSimilarityResult#getWeightedSimilarity()}와 같은 값), 할당 없음
+     *
+     * @return 차원이 다르면 NaN (어떤 임계값 비교도 통과하지 않음)
+     */
+    public static double weightedScore(UserVector user, PlaceVector place) {
+        float[] u = user.vector();
+        float[] p = place.vector();
+        if (u.length != p.length) {
+            return Double.NaN;
+        }
+        double dot = 0.0;
+        for (int i = 0; i < p.length; i++) {
+            dot += p[i] * u[i];
+        }
+        int common = intersectionSize(place.keywordIds(), user.keywordIds());
+        return weighted(cosine(dot, place, user), jaccard(common, place, user), mbtiBoost(user, place));
+    }
+
+    /**
+     * 엔티티의 calculateSimilarityWithUser와 같은 전체 결과
+     *
+     * @return 차원이 다르면 null
+     */
+    public static VectorSimilarityResult similarity(UserVector user, PlaceVector place) {
+        float[] u = user.vector();
+        float[] p = place.vector();
+        if (u.length != p.length) {
+            return null;
+        }
+        double dot = 0.0;
+        double distanceSquared = 0.0;
+        for (int i = 0; i < p.length; i++) {
+            dot += p[i] * u[i];
+            double diff = p[i] - u[i];
+            distanceSquared += diff * diff;
+        }
+        int common = intersectionSize(place.keywordIds(), user.keywordIds());
+        double cosine = cosine(dot, place, user);
+        double jaccard = jaccard(common, place, user);
+        double boost = mbtiBoost(user, place);
+        return new VectorSimilarityResult(cosine, jaccard, Math.sqrt(distanceSquared), boost,
+                weighted(cosine, jaccard, boost), common, place.hasKeywords() ? common / 15.0 : 0.0);
+    }
+
+    private static double cosine(double dot, PlaceVector place, UserVector user) {
+        double normProduct = Math.sqrt(place.normSquared() * user.normSquared());
+        return normProduct > 0 ? dot / normProduct : 0.0;
+    }
+
+    private static double jaccard(int common, PlaceVector place, UserVector user) {
+        int union = place.keywordIds().length + user.keywordIds().length - common;
+        return union == 0 ? 1.0 : (double) common / union;
+    }
+
+    private static double mbtiBoost(UserVector user, PlaceVector place) {
+        int matched = user.mbtiMask() & place.mbtiMask();
+        return matched != 0 ? DEFAULT_MBTI_BOOST : 1.0;
+    }
+
+    private static double weighted(double cosine, double jaccard, double boost) {
+        return Math.min((cosine * 0.7 + jaccard * 0.3) * boost, 1.0);
+    }
+
+    private static int intersectionSize(int[] a, int[] b) {
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                count++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return count;
+    }
+
+    // ===== 디코딩 =====
+
+    private static long apply(Map<Long, PlaceVector> target, List<Object[]> rows) {
+        long skipped = 0;
+        for (Object[] row : rows) {
+            Long placeId = ((Number) row[0]).longValue();
+            try {
+                target.put(placeId, decode((String) row[1], (JsonNode) row[2]));
+            } catch (RuntimeException e) {
+                target.remove(placeId);
+                skipped++;
+            }
+        }
+        return skipped;
+    }
+
+    static PlaceVector decode(String vectorText, JsonNode selectedKeywords) {
+        float[] vector = parseVector(vectorText);
+        int mbtiMask = 0;
+        boolean hasKeywords = false;
+        if (selectedKeywords != null && selectedKeywords.isArray()) {
+            for (JsonNode node : selectedKeywords) {
+                hasKeywords = true;
+                if (node.get("confidence").asDouble() >= MBTI_CONFIDENCE_THRESHOLD) {
+                    mbtiMask |= placeMbtiBits(node.get("keyword_id").asInt());
+                }
+            }
+        }
+        return new PlaceVector(vector, squaredNorm(vector),
+                keywordIds(selectedKeywords, KEYWORD_CONFIDENCE_THRESHOLD), mbtiMask, hasKeywords);
+    }
+
+    /**
+     * "[0.1, 0.0, 0.8, ...]" 형식 파싱 (엔티티의 getVectorAsFloatArray와 동일)
+     */
+    static float[] parseVector(String vectorText) {
+        String text = vectorText.trim();
+        int from = text.startsWith("[") ? 1 : 0;
+        int to = text.endsWith("]") ? text.length() - 1 : text.length();
+
+        int count = 1;
+        for (int i = from; i < to; i++) {
+            if (text.charAt(i) == ',') {
+                count++;
+            }
+        }
+        float[] result = new float[count];
+        int index = 0;
+        int start = from;
+        for (int i = from; i <= to; i++) {
+            if (i == to || text.charAt(i) == ',') {
+                result[index++] = Float.parseFloat(text.substring(start, i).trim());
+                start = i + 1;
+            }
+        }
+        return result;
+    }
+
+    private static int[] keywordIds(JsonNode selectedKeywords, double confidenceThreshold) {
+        if (selectedKeywords == null || !selectedKeywords.isArray()) {
+            return new int[0];
+        }
+        int[] ids = new int[selectedKeywords.size()];
+        int count = 0;
+        for (JsonNode node : selectedKeywords) {
+            if (node.get("confidence").asDouble() >= confidenceThreshold) {
+                ids[count++] = node.get("keyword_id").asInt();
+            }
+        }
+        return Arrays.stream(ids, 0, count).sorted().distinct().toArray();
+    }
+
+    private static double squaredNorm(float[] vector) {
+        double sum = 0.0;
+        for (float value : vector) {
+            sum += value * value;
+        }
+        return sum;
+    }
+
+    private static int placeMbtiBits(int keywordId) {
+        int bits = 0;
+        for (int rule = 0; rule < MBTI_KEYWORD_IDS.length; rule++) {
+            for (int id : MBTI_KEYWORD_IDS[rule]) {
+                if (id == keywordId) {
+                    bits |= 1 << rule;
+                }
+            }
+        }
+        return bits;
+    }
+
+    private static int userMbtiMask(String mbti) {
+        if (mbti == null) {
+            return 0;
+        }
+        int mask = 0;
+        if (mbti.startsWith("I")) mask |= MBTI_I;
+        if (mbti.startsWith("E")) mask |= MBTI_E;
+        if (mbti.contains("N")) mask |= MBTI_N;
+        if (mbti.contains("S")) mask |= MBTI_S;
+        return mask;
+    }
+}
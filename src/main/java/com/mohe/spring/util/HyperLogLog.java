@@ -0,0 +1,126 @@
+package com.mohe.spring.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 고유 방문자 수 추정용 HyperLogLog 스케치
+ *
+ * <p>레지스터 2^precision개(precision 12 → 4096바이트)에 값의 해시를 기록하고,
+ * 같은 precision끼리는 레지스터별 max로 병합합니다. 시간 단위 스케치를 합쳐 일/주/월
+ * 고유 방문자 수를 원본 로그 스캔 없이 계산할 수 있습니다. 표준 오차는 약 1.04 / √(2^precision)
+ * (precision 12에서 약 1.6%)입니다.</p>
+ *
+ * <p>{@link #toBytes()}는 레지스터 배열을 그대로 반환하며 bytea 컬럼에 저장합니다.</p>
+ */
+public class HyperLogLog {
+
+    public static final int DEFAULT_PRECISION = 12;
+
+    private final int precision;
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this(DEFAULT_PRECISION);
+    }
+
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 16) {
+            throw new IllegalArgumentException("precision must be between 4 and 16");
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    private HyperLogLog(int precision, byte[] registers) {
+        this.precision = precision;
+        this.registers = registers;
+    }
+
+    /**
+     * 저장된 레지스터 배열로 복원 (길이로 precision을 결정)
+     */
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        int precision = Integer.numberOfTrailingZeros(bytes.length);
+        if (bytes.length != (1 << precision) || precision < 4 || precision > 16) {
+            throw new IllegalArgumentException("Invalid HyperLogLog register length: " + bytes.length);
+        }
+        return new HyperLogLog(precision, bytes.clone());
+    }
+
+    public void add(String value) {
+        if (value == null) {
+            return;
+        }
+        addHash(hash64(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    void addHash(long hash) {
+        int index = (int) (hash >>> (64 - precision));
+        // 상위 precision비트를 제외한 나머지에서 첫 1비트 위치 (1부터 시작)
+        long remaining = (hash << precision) | (1L << (precision - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(remaining) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+
+    public void merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Cannot merge HyperLogLog sketches with different precision");
+        }
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double estimate = alpha(m) * m * m / sum;
+
+        // 작은 범위 보정 (linear counting)
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public byte[] toBytes() {
+        return registers.clone();
+    }
+
+    private static double alpha(int m) {
+        return switch (m) {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / m);
+        };
+    }
+
+    /**
+     * FNV-1a 64비트 + murmur3 fmix64 (상위 비트까지 고르게 섞이도록)
+     */
+    private static long hash64(byte[] bytes) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            hash ^= (b & 0xff);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,372 @@
+package com.mohe.spring.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 크기 제한 LRU + TTL 로딩 캐시
+ *
+ * <p>날씨 격자, 홈 피드, 쿼리 임베딩, UserPrincipal 캐시가 공통으로 쓰는 인메모리 캐시입니다.
+ * 로더는 호출마다 넘기므로 요청 문맥(좌표, 시간대 등)을 그대로 사용할 수 있습니다.</p>
+ *
+ * <ul>
+ *   <li>single-flight: 같은 키의 동시 miss와 백그라운드 갱신은 하나의 로드 결과를 공유</li>
+ *   <li>refresh-ahead (선택): 적재 후 refreshAheadMillis가 지난 항목은 캐시로 응답하고 백그라운드에서 갱신</li>
+ *   <li>만료 후 유예 (선택): stale-while-revalidate는 이전 값을 바로 반환하고 백그라운드에서 갱신,
+ *       stale-if-error는 동기 로드하되 실패할 때만 이전 값을 반환</li>
+ *   <li>로드 도중 invalidate가 있었다면 로드한 값은 저장하지 않고, 진행 중인 로드도 공유 대상에서 빼서
+ *       무효화 이후 요청은 새로 로드함 (무효화 전 값 재적재·전달 방지)</li>
+ * </ul>
+ *
+ * @param <K> 캐시 키
+ * @param <V> 캐시 값 (호출자와 공유되므로 불변으로 취급)
+ */
+public class LoadingLruCache<K, V> {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadingLruCache.class);
+
+    private final String name;
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final long refreshAheadMillis;
+    private final long staleGraceMillis;
+    private final boolean staleWhileRevalidate;
+    private final Executor refreshExecutor;
+    private final LongSupplier clock;
+
+    private final Map<K, Entry<V>> entries;
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /** invalidate 호출마다 증가 — 로드 시작 이후 바뀌었으면 결과를 저장하지 않음 */
+    private final AtomicLong invalidationVersion = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong staleHits = new AtomicLong();
+    private final AtomicLong staleOnError = new AtomicLong();
+    private final AtomicLong refreshes = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong loadFailures = new AtomicLong();
+    private final AtomicLong totalLoadNanos = new AtomicLong();
+    private final AtomicLong maxLoadNanos = new AtomicLong();
+
+    private LoadingLruCache(Builder<K, V> builder) {
+        this.name = builder.name;
+        this.maxEntries = builder.maxEntries;
+        this.ttlMillis = builder.ttlMillis;
+        this.refreshAheadMillis = builder.refreshAheadMillis;
+        this.staleGraceMillis = builder.staleGraceMillis;
+        this.staleWhileRevalidate = builder.staleWhileRevalidate;
+        this.refreshExecutor = builder.refreshExecutor;
+        this.clock = builder.clock;
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > LoadingLruCache.this.maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public static <K, V> Builder<K, V> builder(String name) {
+        return new Builder<>(name);
+    }
+
+    public V get(K key, Supplier<? extends V> loader) {
+        return get(key, Long.MAX_VALUE, loader);
+    }
+
+    /**
+     * @param expiresAtCap 이 시각(clock 기준 ms)을 넘겨 신선하게 취급하지 않음 (예: 현재 시간대 종료 시각)
+     */
+    public V get(K key, long expiresAtCap, Supplier<? extends V> loader) {
+        long now = clock.getAsLong();
+        Entry<V> entry = peek(key, now);
+
+        if (entry != null) {
+            if (now < entry.expiresAt) {
+                hits.incrementAndGet();
+                if (now - entry.loadedAt >= refreshAheadMillis) {
+                    refreshAsync(key, expiresAtCap, loader);
+                }
+                return entry.value;
+            }
+            if (staleWhileRevalidate) {
+                staleHits.incrementAndGet();
+                refreshAsync(key, expiresAtCap, loader);
+                return entry.value;
+            }
+        }
+
+        try {
+            return loadShared(key, expiresAtCap, loader);
+        } catch (RuntimeException e) {
+            if (entry != null) {
+                staleOnError.incrementAndGet();
+                logger.warn("{} load failed for {}, serving stale value: {}", name, key, e.getMessage());
+                return entry.value;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 항목이 없거나 refresh-ahead 시점이 지났으면 백그라운드에서 갱신 (warm set 유지용)
+     */
+    public void refreshIfStale(K key, Supplier<? extends V> loader) {
+        long now = clock.getAsLong();
+        Entry<V> entry = peek(key, now);
+        if (entry == null || now - entry.loadedAt >= refreshAheadMillis || now >= entry.expiresAt) {
+            refreshAsync(key, Long.MAX_VALUE, loader);
+        }
+    }
+
+    /**
+     * 항목과 진행 중인 로드를 함께 무효화 — 이미 대기 중인 호출자만 진행 중인 로드 결과를 받음
+     *
+     * @return 캐시에 있던 항목을 제거했으면 true
+     */
+    public boolean invalidate(K key) {
+        synchronized (entries) {
+            invalidationVersion.incrementAndGet();
+            inFlight.remove(key);
+            if (entries.remove(key) != null) {
+                invalidations.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            invalidationVersion.incrementAndGet();
+            inFlight.clear();
+            invalidations.addAndGet(entries.size());
+            entries.clear();
+        }
+    }
+
+    public List<K> keys() {
+        synchronized (entries) {
+            return new ArrayList<>(entries.keySet());
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long coalescedCount = coalesced.get();
+        long staleHitCount = staleHits.get();
+        long requests = hitCount + missCount + coalescedCount + staleHitCount;
+        long loadCount = loads.get();
+
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", size);
+        stats.put("maxEntries", maxEntries);
+        stats.put("ttlSeconds", ttlMillis / 1000);
+        if (refreshAheadMillis != Long.MAX_VALUE) {
+            stats.put("refreshAheadSeconds", refreshAheadMillis / 1000);
+        }
+        if (staleGraceMillis > 0) {
+            stats.put("staleGraceSeconds", staleGraceMillis / 1000);
+        }
+        stats.put("requests", requests);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("coalesced", coalescedCount);
+        stats.put("staleServed", staleHitCount + staleOnError.get());
+        stats.put("refreshes", refreshes.get());
+        stats.put("evictions", evictions.get());
+        stats.put("invalidations", invalidations.get());
+        stats.put("loadFailures", loadFailures.get());
+        stats.put("hitRate", requests > 0 ? (double) (hitCount + coalescedCount + staleHitCount) / requests : 0.0);
+        stats.put("avgLoadMillis", loadCount > 0 ? totalLoadNanos.get() / 1_000_000.0 / loadCount : 0.0);
+        stats.put("maxLoadMillis", maxLoadNanos.get() / 1_000_000.0);
+        return stats;
+    }
+
+    private void refreshAsync(K key, long expiresAtCap, Supplier<? extends V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, created) != null) {
+            return;
+        }
+        refreshes.incrementAndGet();
+        try {
+            refreshExecutor.execute(() -> runLoad(key, expiresAtCap, loader, created));
+        } catch (RuntimeException e) {
+            inFlight.remove(key, created);
+            created.completeExceptionally(e);
+            logger.warn("{} refresh could not be scheduled for {}: {}", name, key, e.getMessage());
+        }
+    }
+
+    private V loadShared(K key, long expiresAtCap, Supplier<? extends V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            return join(existing);
+        }
+        misses.incrementAndGet();
+        runLoad(key, expiresAtCap, loader, created);
+        return join(created);
+    }
+
+    private void runLoad(K key, long expiresAtCap, Supplier<? extends V> loader, CompletableFuture<V> future) {
+        long version = invalidationVersion.get();
+        long start = System.nanoTime();
+        try {
+            V value = loader.get();
+            recordLoad(start);
+            long now = clock.getAsLong();
+            synchronized (entries) {
+                if (invalidationVersion.get() == version) {
+                    entries.put(key, new Entry<>(value, now, Math.min(now + ttlMillis, expiresAtCap)));
+                }
+            }
+            future.complete(value);
+        } catch (Throwable t) {
+            recordLoad(start);
+            loadFailures.incrementAndGet();
+            future.completeExceptionally(t);
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private void recordLoad(long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        loads.incrementAndGet();
+        totalLoadNanos.addAndGet(elapsed);
+        maxLoadNanos.accumulateAndGet(elapsed, Math::max);
+    }
+
+    /**
+     * 유예 구간까지 지난 항목은 제거하고 null
+     */
+    private Entry<V> peek(K key, long now) {
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && now >= entry.expiresAt + staleGraceMillis) {
+                entries.remove(key);
+                evictions.incrementAndGet();
+                return null;
+            }
+            return entry;
+        }
+    }
+
+    private V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(name + " load failed", e.getCause());
+        }
+    }
+
+    private record Entry<V>(V value, long loadedAt, long expiresAt) {
+    }
+
+    public static final class Builder<K, V> {
+
+        private final String name;
+        private int maxEntries = 1000;
+        private long ttlMillis = 60_000;
+        private long refreshAheadMillis = Long.MAX_VALUE;
+        private long staleGraceMillis;
+        private boolean staleWhileRevalidate;
+        private Executor refreshExecutor;
+        private LongSupplier clock = System::currentTimeMillis;
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        public Builder<K, V> maxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        public Builder<K, V> ttlMillis(long ttlMillis) {
+            this.ttlMillis = ttlMillis;
+            return this;
+        }
+
+        /**
+         * 적재 후 이 시간이 지난 신선한 항목은 백그라운드에서 미리 갱신 (refreshExecutor 필요)
+         */
+        public Builder<K, V> refreshAheadMillis(long refreshAheadMillis) {
+            this.refreshAheadMillis = refreshAheadMillis;
+            return this;
+        }
+
+        /**
+         * 만료 후 graceMillis 동안 이전 값을 바로 반환하고 백그라운드에서 갱신 (refreshExecutor 필요)
+         */
+        public Builder<K, V> staleWhileRevalidate(long graceMillis) {
+            this.staleGraceMillis = graceMillis;
+            this.staleWhileRevalidate = true;
+            return this;
+        }
+
+        /**
+         * 만료 후 graceMillis 동안은 동기 로드가 실패할 때만 이전 값을 반환
+         */
+        public Builder<K, V> staleIfError(long graceMillis) {
+            this.staleGraceMillis = graceMillis;
+            this.staleWhileRevalidate = false;
+            return this;
+        }
+
+        public Builder<K, V> refreshExecutor(Executor refreshExecutor) {
+            this.refreshExecutor = refreshExecutor;
+            return this;
+        }
+
+        public Builder<K, V> clock(LongSupplier clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public LoadingLruCache<K, V> build() {
+            if (maxEntries <= 0 || ttlMillis <= 0 || staleGraceMillis < 0) {
+                throw new IllegalArgumentException(name + ": maxEntries and ttlMillis must be positive");
+            }
+            if (refreshAheadMillis != Long.MAX_VALUE || staleWhileRevalidate) {
+                Objects.requireNonNull(refreshExecutor, name + ": refreshExecutor is required for background refresh");
+            }
+            return new LoadingLruCache<>(this);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.mohe.spring.util;
+
+/**
+ * float 벡터 내적 / 정규화 커널
+ *
+ * <p>누산기 4개로 나눠 더하는 언롤 루프입니다. 부동소수점 덧셈 순서 때문에 JIT가 단일 누산기 reduction은
+ * 벡터화하지 못하지만, 독립된 누산기 4개는 의존 체인이 끊겨 파이프라인을 채우고 경계 검사도 루프 밖으로 빠집니다.
+ * 오프셋 버전은 행 우선(row-major) 1차원 배열의 한 행을 복사 없이 읽을 때 씁니다.</p>
+ *
+ * <p>코사인 유사도는 질의 벡터를 한 번 {@link #normalize}한 뒤 {@link #cosineToUnit}으로 후보마다 계산합니다.</p>
+ */
+public final class VectorKernels {
+
+    private VectorKernels() {
+    }
+
+    public static float dot(float[] a, float[] b) {
+        if (a.length != b.length) {
+            throw new IllegalArgumentException("Vector length mismatch: " + a.length + " vs " + b.length);
+        }
+        return dot(a, 0, b, 0, a.length);
+    }
+
+    /**
+     * a[aOffset..aOffset+length) · b[bOffset..bOffset+length)
+     */
+    public static float dot(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        float s0 = 0f;
+        float s1 = 0f;
+        float s2 = 0f;
+        float s3 = 0f;
+        int i = 0;
+        int unrolled = length & ~3;
+        for (; i < unrolled; i += 4) {
+            s0 += a[aOffset + i] * b[bOffset + i];
+            s1 += a[aOffset + i + 1] * b[bOffset + i + 1];
+            s2 += a[aOffset + i + 2] * b[bOffset + i + 2];
+            s3 += a[aOffset + i + 3] * b[bOffset + i + 3];
+        }
+        for (; i < length; i++) {
+            s0 += a[aOffset + i] * b[bOffset + i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * 코사인 유사도 — queryUnit은 이미 정규화된 단위 벡터 (영벡터면 0)
+     */
+    public static float cosineToUnit(float[] vector, float[] queryUnit) {
+        float dot = dot(vector, queryUnit);
+        float normSquared = dot(vector, 0, vector, 0, vector.length);
+        return normSquared > 0f ? dot / (float) Math.sqrt(normSquared) : 0f;
+    }
+
+    /**
+     * 단위 벡터로 정규화 (제자리 수정). 영벡터는 그대로 둡니다.
+     *
+     * @return 정규화 전 L2 norm
+     */
+    public static float normalize(float[] vector) {
+        float norm = (float) Math.sqrt(dot(vector, 0, vector, 0, vector.length));
+        if (norm > 0f) {
+            float inverse = 1f / norm;
+            for (int i = 0; i < vector.length; i++) {
+                vector[i] *= inverse;
+            }
+        }
+        return norm;
+    }
+}
@@ -0,0 +1,146 @@
+package com.mohe.spring.util;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
+
+/**
+ * 주간 영업시간 비트맵
+ *
+ * <p>월요일 00:00부터 5분 단위 슬롯 2016개(7일 × 288)를 비트 하나씩으로 표현합니다 (252바이트).
+ * 영업시간을 저장할 때 한 번 컴파일해 두면 "지금 영업 중" / "T 시각에 영업 중" 판단은
+ * 슬롯 번호 계산 + 비트 하나 검사로 끝납니다.</p>
+ *
+ * <p>비트 순서는 PostgreSQL {@code get_bit(bytea, n)}과 같습니다 (n번째 비트 = n/8번째 바이트의 하위에서 n%8번째).
+ * 따라서 places.open_hours 컬럼에 그대로 저장하고 SQL에서 {@code get_bit(p.open_hours, :openSlot) = 1}로
+ * 같은 판단을 할 수 있습니다.</p>
+ *
+ * <h3>컴파일 규칙</h3>
+ * <ul>
+ *   <li>영업시간 행이 하나도 없으면 null (정보 없음 → 영업 중으로 간주)</li>
+ *   <li>isOperating = false인 요일은 휴무, 행이 없는 요일도 휴무</li>
+ *   <li>시작/종료 시각이 없거나 같으면 그 요일 하루 종일 영업</li>
+ *   <li>종료가 시작보다 이르면 (예: 22:00 ~ 02:00) 다음 요일 새벽까지 이어서 표시 (일요일 → 월요일)</li>
+ *   <li>구간은 [시작, 종료) — 시작 슬롯은 내림, 종료 슬롯은 올림</li>
+ * </ul>
+ */
+public final class WeeklyOpenHours {
+
+    public static final int SLOT_MINUTES = 5;
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+    public static final int SLOTS_PER_WEEK = SLOTS_PER_DAY * 7;
+    public static final int BYTES = SLOTS_PER_WEEK / 8;
+
+    private static final String KO_DAYS = "월화수목금토일";
+
+    private WeeklyOpenHours() {
+    }
+
+    /**
+     * 한 요일의 영업시간 (place_business_hours 한 행)
+     */
+    public record DayHours(String dayOfWeek, LocalTime open, LocalTime close, Boolean isOperating) {
+    }
+
+    /**
+     * 영업시간 행들을 주간 비트맵으로 컴파일
+     *
+     * @return 비트맵, 행이 없으면 null
+     */
+    public static byte[] compile(Collection<DayHours> hours) {
+        if (hours == null || hours.isEmpty()) {
+            return null;
+        }
+        byte[] bitmap = new byte[BYTES];
+        for (DayHours day : hours) {
+            DayOfWeek dayOfWeek = parseDay(day.dayOfWeek());
+            if (dayOfWeek == null || Boolean.FALSE.equals(day.isOperating())) {
+                continue;
+            }
+            int dayStart = (dayOfWeek.getValue() - 1) * SLOTS_PER_DAY;
+            if (day.open() == null || day.close() == null || day.open().equals(day.close())) {
+                setRange(bitmap, dayStart, dayStart + SLOTS_PER_DAY);
+                continue;
+            }
+
+            int openSlot = minuteOfDay(day.open()) / SLOT_MINUTES;
+            int closeSlot = ceilDiv(minuteOfDay(day.close()), SLOT_MINUTES);
+            if (day.close().isAfter(day.open())) {
+                setRange(bitmap, dayStart + openSlot, dayStart + closeSlot);
+            } else {
+                // 자정을 넘기는 영업: 당일 시작 ~ 자정, 다음 요일 자정 ~ 종료
+                setRange(bitmap, dayStart + openSlot, dayStart + SLOTS_PER_DAY);
+                int nextDayStart = (dayStart + SLOTS_PER_DAY) % SLOTS_PER_WEEK;
+                setRange(bitmap, nextDayStart, nextDayStart + closeSlot);
+            }
+        }
+        return bitmap;
+    }
+
+    /**
+     * 월요일 00:00 기준 슬롯 번호 (SQL {@code :openSlot} 파라미터로 그대로 사용)
+     */
+    public static int slotOf(DayOfWeek dayOfWeek, LocalTime time) {
+        return (dayOfWeek.getValue() - 1) * SLOTS_PER_DAY + minuteOfDay(time) / SLOT_MINUTES;
+    }
+
+    public static int slotOf(LocalDateTime dateTime) {
+        return slotOf(dateTime.getDayOfWeek(), dateTime.toLocalTime());
+    }
+
+    public static int currentSlot() {
+        return slotOf(LocalDateTime.now());
+    }
+
+    /**
+     * 슬롯 시각에 영업 중인지 (비트맵이 null이면 정보 없음 → true)
+     */
+    public static boolean isOpen(byte[] bitmap, int slot) {
+        if (bitmap == null || bitmap.length != BYTES) {
+            return true;
+        }
+        return (bitmap[slot >>> 3] & (1 << (slot & 7))) != 0;
+    }
+
+    public static boolean isOpenAt(byte[] bitmap, LocalDateTime dateTime) {
+        return isOpen(bitmap, slotOf(dateTime));
+    }
+
+    /**
+     * "월" / "월요일" / "MON" / "MONDAY" 형태의 요일 문자열 파싱 (알 수 없으면 null)
+     */
+    static DayOfWeek parseDay(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        int index = KO_DAYS.indexOf(trimmed.charAt(0));
+        if (index >= 0) {
+            return DayOfWeek.of(index + 1);
+        }
+        if (trimmed.length() >= 3) {
+            String prefix = trimmed.substring(0, 3).toUpperCase();
+            for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+                if (dayOfWeek.name().startsWith(prefix)) {
+                    return dayOfWeek;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static void setRange(byte[] bitmap, int fromSlot, int toSlot) {
+        for (int slot = fromSlot; slot < toSlot; slot++) {
+            bitmap[slot >>> 3] |= (byte) (1 << (slot & 7));
+        }
+    }
+
+    private static int minuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static int ceilDiv(int value, int divisor) {
+        return (value + divisor - 1) / divisor;
+    }
+}
@@ -0,0 +1,37 @@
+-- Spatial column for places using cube + earthdistance (contrib, no PostGIS required)
+-- Replaces per-row acos() Haversine over CAST(latitude AS DOUBLE PRECISION) with
+-- an indexable earth point: earth_box(...) @> location for radius filters and
+-- location <-> ll_to_earth(...) for KNN ordering.
+
+CREATE EXTENSION IF NOT EXISTS cube;
+CREATE EXTENSION IF NOT EXISTS earthdistance;
+
+ALTER TABLE places ADD COLUMN IF NOT EXISTS location earth;
+
+-- Backfill existing rows
+UPDATE places
+SET location = ll_to_earth(CAST(latitude AS DOUBLE PRECISION), CAST(longitude AS DOUBLE PRECISION))
+WHERE latitude IS NOT NULL AND longitude IS NOT NULL AND location IS NULL;
+
+-- Keep location in sync with latitude/longitude (JPA entity does not map this column)
+CREATE OR REPLACE FUNCTION places_sync_location() RETURNS trigger AS $$
+BEGIN
+    IF NEW.latitude IS NULL OR NEW.longitude IS NULL THEN
+        NEW.location := NULL;
+    ELSE
+        NEW.location := ll_to_earth(CAST(NEW.latitude AS DOUBLE PRECISION), CAST(NEW.longitude AS DOUBLE PRECISION));
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_places_sync_location ON places;
+CREATE TRIGGER trg_places_sync_location
+    BEFORE INSERT OR UPDATE OF latitude, longitude ON places
+    FOR EACH ROW EXECUTE FUNCTION places_sync_location();
+
+-- GiST index: supports earth_box containment and <-> KNN ordering
+CREATE INDEX IF NOT EXISTS idx_places_location_gist
+    ON places USING gist (location);
+
+COMMENT ON COLUMN places.location IS 'll_to_earth(latitude, longitude). mohe.spatial.mode=EARTH_DISTANCE 쿼리에서 사용.';
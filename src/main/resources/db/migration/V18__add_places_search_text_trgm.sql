@@ -0,0 +1,79 @@
+-- Trigram search document for keyword search (PlaceRepository.searchPlaces / searchPlacesByPatterns)
+-- Replaces per-column LOWER(...) LIKE '%q%' scans (name, road_address, category[], keyword[],
+-- place_descriptions.mohe_description) with one lower-cased text column and a pg_trgm GIN index.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE places ADD COLUMN IF NOT EXISTS search_text text;
+
+CREATE OR REPLACE FUNCTION places_build_search_text(
+    p_place_id bigint,
+    p_name varchar,
+    p_road_address varchar,
+    p_category varchar[],
+    p_keyword varchar[]
+) RETURNS text AS $$
+    SELECT lower(concat_ws(' ',
+        p_name,
+        p_road_address,
+        array_to_string(p_category, ' '),
+        array_to_string(p_keyword, ' '),
+        (SELECT string_agg(pd.mohe_description, ' ')
+         FROM place_descriptions pd
+         WHERE pd.place_id = p_place_id AND pd.mohe_description IS NOT NULL)
+    ));
+$$ LANGUAGE sql STABLE;
+
+-- Backfill existing rows
+UPDATE places p
+SET search_text = places_build_search_text(p.id, p.name, p.road_address, p.category, p.keyword);
+
+-- places 컬럼 변경 시 재계산 (JPA 엔티티는 이 컬럼을 매핑하지 않음)
+CREATE OR REPLACE FUNCTION places_sync_search_text() RETURNS trigger AS $$
+BEGIN
+    NEW.search_text := places_build_search_text(NEW.id, NEW.name, NEW.road_address, NEW.category, NEW.keyword);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_places_sync_search_text ON places;
+CREATE TRIGGER trg_places_sync_search_text
+    BEFORE INSERT OR UPDATE OF name, road_address, category, keyword ON places
+    FOR EACH ROW EXECUTE FUNCTION places_sync_search_text();
+
+-- place_descriptions 변경 시 소유 장소의 문서 재계산
+CREATE OR REPLACE FUNCTION place_descriptions_sync_search_text() RETURNS trigger AS $$
+DECLARE
+    target_place_id bigint;
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        target_place_id := OLD.place_id;
+    ELSE
+        target_place_id := NEW.place_id;
+    END IF;
+
+    UPDATE places p
+    SET search_text = places_build_search_text(p.id, p.name, p.road_address, p.category, p.keyword)
+    WHERE p.id = target_place_id;
+
+    IF TG_OP = 'UPDATE' AND OLD.place_id IS DISTINCT FROM NEW.place_id THEN
+        UPDATE places p
+        SET search_text = places_build_search_text(p.id, p.name, p.road_address, p.category, p.keyword)
+        WHERE p.id = OLD.place_id;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_place_descriptions_sync_search_text ON place_descriptions;
+CREATE TRIGGER trg_place_descriptions_sync_search_text
+    AFTER INSERT OR DELETE OR UPDATE OF mohe_description, place_id ON place_descriptions
+    FOR EACH ROW EXECUTE FUNCTION place_descriptions_sync_search_text();
+
+-- GIN trigram index: LIKE '%term%' / LIKE ANY(patterns) / word_similarity 모두 지원
+-- 검색 쿼리는 항상 embed_status = 'COMPLETED' 조건을 포함하므로 부분 인덱스로 유지
+CREATE INDEX IF NOT EXISTS idx_places_search_text_trgm
+    ON places USING gin (search_text gin_trgm_ops)
+    WHERE embed_status = 'COMPLETED';
+
+COMMENT ON COLUMN places.search_text IS 'lower(name, road_address, category, keyword, mohe_description). 트리거로 동기화, pg_trgm 키워드 검색용.';
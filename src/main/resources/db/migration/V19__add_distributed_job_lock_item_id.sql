@@ -0,0 +1,12 @@
+-- Per-item leases for DistributedJobLockService.claimPendingPlaces
+-- 청크(place_1-10) 단위 락 외에 장소 단위 lease 행을 같은 테이블에 저장합니다 (chunk_id = 'place:<id>').
+-- item_id 는 claim 쿼리의 RETURNING 으로 바로 장소 ID를 돌려주기 위한 컬럼입니다.
+
+ALTER TABLE distributed_job_lock ADD COLUMN IF NOT EXISTS item_id bigint;
+
+-- 워커별 lease 완료/실패 일괄 갱신 (job_name, worker_id, item_id IN (...))
+CREATE INDEX IF NOT EXISTS idx_job_lock_item
+    ON distributed_job_lock USING btree (job_name, item_id)
+    WHERE item_id IS NOT NULL;
+
+COMMENT ON COLUMN distributed_job_lock.item_id IS '장소 단위 lease 대상 ID (청크 락은 NULL)';
@@ -0,0 +1,17 @@
+-- Precomputed description-embedding neighbours (PlaceEmbeddingNeighborService)
+-- 상세 페이지 "비슷한 장소"는 요청마다 HNSW 검색 대신 (place_id, rank) PK 조회 한 번으로 제공합니다.
+
+CREATE TABLE IF NOT EXISTS place_embedding_neighbors (
+    place_id          bigint   NOT NULL REFERENCES places(id) ON DELETE CASCADE,
+    rank              smallint NOT NULL,
+    neighbor_place_id bigint   NOT NULL REFERENCES places(id) ON DELETE CASCADE,
+    similarity        real     NOT NULL,
+    updated_at        timestamp without time zone NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (place_id, rank)
+);
+
+-- ON DELETE CASCADE 및 역방향 이웃 갱신용
+CREATE INDEX IF NOT EXISTS idx_place_embedding_neighbors_neighbor
+    ON place_embedding_neighbors (neighbor_place_id);
+
+COMMENT ON TABLE place_embedding_neighbors IS 'place_description_embeddings 코사인 유사도 기준 장소별 top-K 이웃. 백그라운드 작업이 갱신.';
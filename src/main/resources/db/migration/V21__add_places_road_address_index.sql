@@ -0,0 +1,6 @@
+-- Place collection dedup (PlaceCollectionWriter) checks a whole chunk of Kakao results with
+-- road_address = ANY(?) instead of one existsByRoadAddress call per result; without an index
+-- each lookup was a sequential scan over places.
+
+CREATE INDEX IF NOT EXISTS idx_places_road_address
+    ON places (road_address);
@@ -0,0 +1,33 @@
+-- Visitor analytics rollups (VisitorRollupService)
+-- 관리자 분석 API는 visitor_logs 원본을 매번 COUNT / COUNT(DISTINCT) / GROUP BY 하지 않고
+-- 시간(HOUR)·일(DAY) 단위로 미리 집계한 행을 읽습니다. 고유 방문자는 HyperLogLog 스케치(bytea)로 병합합니다.
+
+CREATE TABLE IF NOT EXISTS visitor_rollups (
+    granularity  varchar(8)  NOT NULL,
+    bucket_start timestamptz NOT NULL,
+    pageviews    bigint      NOT NULL DEFAULT 0,
+    visitors_hll bytea       NOT NULL,
+    updated_at   timestamptz NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (granularity, bucket_start)
+);
+
+-- 기기 / 브라우저 / OS / 페이지별 페이지뷰
+CREATE TABLE IF NOT EXISTS visitor_rollup_dimensions (
+    granularity  varchar(8)   NOT NULL,
+    bucket_start timestamptz  NOT NULL,
+    dimension    varchar(16)  NOT NULL,
+    value        varchar(500) NOT NULL,
+    pageviews    bigint       NOT NULL DEFAULT 0,
+    PRIMARY KEY (granularity, bucket_start, dimension, value)
+);
+
+-- 집계가 끝난 마지막 visitor_logs.id (단일 행)
+CREATE TABLE IF NOT EXISTS visitor_rollup_state (
+    id          smallint    PRIMARY KEY,
+    last_log_id bigint      NOT NULL DEFAULT 0,
+    updated_at  timestamptz NOT NULL DEFAULT NOW()
+);
+
+INSERT INTO visitor_rollup_state (id, last_log_id) VALUES (1, 0) ON CONFLICT (id) DO NOTHING;
+
+COMMENT ON TABLE visitor_rollups IS 'visitor_logs 시간/일 단위 페이지뷰 합계와 세션 HyperLogLog 스케치. 스케줄 작업이 증분 갱신.';
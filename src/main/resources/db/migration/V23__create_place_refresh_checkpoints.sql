@@ -0,0 +1,15 @@
+-- Bulk place refresh checkpoints (PlaceBulkRefreshService)
+-- 전체 새로고침은 장소 ID를 keyset으로 순회하며, 중단/재시작 시 last_place_id 이후부터 이어서 실행합니다.
+
+CREATE TABLE IF NOT EXISTS place_refresh_checkpoints (
+    name          varchar(64) PRIMARY KEY,
+    status        varchar(16) NOT NULL,
+    last_place_id bigint      NOT NULL DEFAULT 0,
+    processed     bigint      NOT NULL DEFAULT 0,
+    succeeded     bigint      NOT NULL DEFAULT 0,
+    failed        bigint      NOT NULL DEFAULT 0,
+    started_at    timestamptz,
+    updated_at    timestamptz NOT NULL DEFAULT NOW()
+);
+
+COMMENT ON COLUMN place_refresh_checkpoints.last_place_id IS '이 ID까지(포함)는 모두 처리 완료 — 재개 시 id > last_place_id부터';
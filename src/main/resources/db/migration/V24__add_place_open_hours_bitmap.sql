@@ -0,0 +1,8 @@
+-- Weekly open-hours bitmap (WeeklyOpenHours)
+-- place_business_hours를 월요일 00:00부터 5분 단위 2016비트(252바이트)로 미리 컴파일해 둡니다.
+-- "영업 중" 필터는 요일 문자열 / TIME 비교 서브쿼리 대신 get_bit(open_hours, :openSlot) = 1 한 번으로 판단합니다.
+-- NULL = 영업시간 정보 없음 (영업 중으로 간주). 기존 행은 PlaceOpenHoursIndex가 기동 시 채웁니다.
+
+ALTER TABLE places ADD COLUMN IF NOT EXISTS open_hours bytea;
+
+COMMENT ON COLUMN places.open_hours IS '주간 영업시간 비트맵 (5분 슬롯, 월요일 00:00 기준, get_bit 순서). NULL이면 정보 없음.';
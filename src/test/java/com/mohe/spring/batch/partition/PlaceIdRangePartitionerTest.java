@@ -0,0 +1,46 @@
+package com.mohe.spring.batch.partition;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("장소 ID 범위 Partitioner 테스트")
+class PlaceIdRangePartitionerTest {
+
+    @Test
+    @DisplayName("ID 범위를 빈틈과 겹침 없이 gridSize개 구간으로 분할")
+    void splitsRangeIntoContiguousPartitions() {
+        PlaceIdRangePartitioner partitioner = new PlaceIdRangePartitioner("test",
+            () -> PlaceIdRangePartitioner.IdRange.of(List.<Object[]>of(new Object[]{101L, 110L})));
+
+        Map<String, ExecutionContext> partitions = partitioner.partition(3);
+
+        assertThat(partitions).containsOnlyKeys("partition0", "partition1", "partition2");
+        assertThat(range(partitions.get("partition0"))).containsExactly(101L, 104L);
+        assertThat(range(partitions.get("partition1"))).containsExactly(105L, 108L);
+        assertThat(range(partitions.get("partition2"))).containsExactly(109L, 110L);
+    }
+
+    @Test
+    @DisplayName("범위가 gridSize보다 좁으면 파티션 수를 줄이고, 대상이 없으면 빈 파티션 하나")
+    void handlesNarrowAndEmptyRanges() {
+        PlaceIdRangePartitioner narrow = new PlaceIdRangePartitioner("test",
+            () -> new PlaceIdRangePartitioner.IdRange(5L, 6L));
+        assertThat(narrow.partition(8)).hasSize(2);
+
+        PlaceIdRangePartitioner empty = new PlaceIdRangePartitioner("test",
+            () -> PlaceIdRangePartitioner.IdRange.of(List.<Object[]>of(new Object[]{null, null})));
+        Map<String, ExecutionContext> partitions = empty.partition(4);
+        assertThat(partitions).containsOnlyKeys("partition0");
+        assertThat(partitions.get("partition0").containsKey(PlaceIdRangePartitioner.MIN_ID_KEY)).isFalse();
+    }
+
+    private static List<Long> range(ExecutionContext context) {
+        return List.of(context.getLong(PlaceIdRangePartitioner.MIN_ID_KEY), context.getLong(PlaceIdRangePartitioner.MAX_ID_KEY));
+    }
+}
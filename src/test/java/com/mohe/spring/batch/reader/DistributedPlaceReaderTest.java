@@ -0,0 +1,180 @@
+package com.mohe.spring.batch.reader;
+
+import com.mohe.spring.entity.Place;
+import com.mohe.spring.repository.PlaceRepository;
+import com.mohe.spring.service.DistributedJobLockService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("분산 장소 Reader 테스트")
+class DistributedPlaceReaderTest {
+
+    private static final String JOB = "distributedCrawlingJob";
+
+    private final PlaceRepository placeRepository = mock(PlaceRepository.class);
+    private final DistributedJobLockService lockService = mock(DistributedJobLockService.class);
+
+    private static Place place(Long id) {
+        Place place = new Place();
+        place.setId(id);
+        place.setName("place-" + id);
+        return place;
+    }
+
+    private DistributedPlaceReader newReader() {
+        return newReader(2);
+    }
+
+    private DistributedPlaceReader newReader(int leaseBatchSize) {
+        when(lockService.getWorkerId()).thenReturn("worker-a");
+        when(placeRepository.findAllByIdInWithDescriptions(anyCollection()))
+            .thenAnswer(invocation -> invocation.<Collection<Long>>getArgument(0).stream().map(DistributedPlaceReaderTest::place).toList());
+        return new DistributedPlaceReader(placeRepository, lockService, JOB, leaseBatchSize);
+    }
+
+    private static ChunkContext chunkContext() {
+        return new ChunkContext(new StepContext(
+            MetaDataInstanceFactory.createStepExecution()));
+    }
+
+    /**
+     * step chunk 하나를 흉내 — 최대 chunkSize개를 읽음 (끝이면 빈 목록)
+     */
+    private static List<Long> readChunk(DistributedPlaceReader reader, int chunkSize) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        Place place;
+        while (ids.size() < chunkSize && (place = reader.read()) != null) {
+            ids.add(place.getId());
+        }
+        return ids;
+    }
+
+    private static List<Long> readAll(DistributedPlaceReader reader) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        Place place;
+        while ((place = reader.read()) != null) {
+            ids.add(place.getId());
+        }
+        return ids;
+    }
+
+    @Test
+    @DisplayName("lease 배치 단위로 읽고, lease는 다음 배치 획득이 아니라 chunk 커밋 후에 완료 처리")
+    void readsLeaseBatchesAndCompletesThemAfterCommit() throws Exception {
+        when(lockService.claimPendingPlaces(JOB, 2, 10))
+            .thenReturn(List.of(1L, 2L), List.of(3L), List.of());
+        DistributedPlaceReader reader = newReader();
+
+        assertThat(reader.read().getId()).isEqualTo(1L);
+        assertThat(reader.read().getId()).isEqualTo(2L);
+        assertThat(reader.read().getId()).isEqualTo(3L);
+        assertThat(reader.read()).isNull();
+        verify(lockService, never()).completeLeases(anyString(), anyCollection());
+
+        reader.afterChunk(chunkContext());
+        verify(lockService).completeLeases(JOB, List.of(1L, 2L, 3L));
+        verify(lockService, times(3)).claimPendingPlaces(JOB, 2, 10);
+        // 배치마다 컬렉션까지 일괄 로드 (장소별 조회 없음)
+        verify(placeRepository, times(2)).findAllByIdInWithDescriptions(anyCollection());
+        verify(placeRepository, never()).findByIdWithCollections(anyLong());
+    }
+
+    @Test
+    @DisplayName("claim이 chunk 크기보다 적게 돌아와도 아직 쓰지 않은 장소의 lease는 완료/실패 처리하지 않음")
+    void shortClaimDoesNotSettleUnwrittenPlaces() throws Exception {
+        // lease 배치 10, step chunk 5 — 첫 claim이 3개만 반환 (다른 워커가 나머지를 보유)
+        when(lockService.claimPendingPlaces(JOB, 10, 10))
+            .thenReturn(List.of(1L, 2L, 3L), List.of(4L, 5L, 6L, 7L), List.of());
+        DistributedPlaceReader reader = newReader(10);
+
+        assertThat(readChunk(reader, 5)).containsExactly(1L, 2L, 3L, 4L, 5L);
+        // 두 번째 claim 시점에 1~3은 아직 커밋 전 — 여기서 정리하면 PENDING으로 보고 FAILED 처리됨
+        verify(lockService, never()).completeLeases(anyString(), anyCollection());
+        verify(lockService, never()).failLeases(anyString(), anyCollection(), anyString());
+
+        reader.afterChunk(chunkContext());
+        verify(lockService).completeLeases(JOB, List.of(1L, 2L, 3L, 4L, 5L));
+
+        assertThat(readChunk(reader, 5)).containsExactly(6L, 7L);
+        reader.afterChunk(chunkContext());
+        verify(lockService).completeLeases(JOB, List.of(6L, 7L));
+        verify(lockService, never()).failLeases(anyString(), anyCollection(), anyString());
+    }
+
+    @Test
+    @DisplayName("chunk가 롤백되면 그 chunk에서 읽은 장소의 lease만 FAILED로 기록")
+    void failsLeasesOfRolledBackChunk() throws Exception {
+        when(lockService.claimPendingPlaces(JOB, 10, 10))
+            .thenReturn(List.of(1L, 2L, 3L, 4L, 5L, 6L), List.of());
+        DistributedPlaceReader reader = newReader(10);
+
+        readChunk(reader, 5);
+        ChunkContext context = chunkContext();
+        context.setAttribute(ChunkListener.ROLLBACK_EXCEPTION_KEY, new IllegalStateException("write failed"));
+        reader.afterChunkError(context);
+
+        verify(lockService).failLeases(JOB, List.of(1L, 2L, 3L, 4L, 5L), "write failed");
+        verify(lockService, never()).completeLeases(anyString(), anyCollection());
+
+        assertThat(readChunk(reader, 5)).containsExactly(6L);
+        reader.afterChunk(chunkContext());
+        verify(lockService).completeLeases(JOB, List.of(6L));
+    }
+
+    @Test
+    @DisplayName("claim 직후 삭제된 장소 배치는 lease만 정리하고 다음 배치로 넘어감")
+    void skipsBatchWhosePlacesWereDeleted() throws Exception {
+        when(lockService.claimPendingPlaces(JOB, 2, 10))
+            .thenReturn(List.of(1L, 2L), List.of(3L), List.of());
+        DistributedPlaceReader reader = newReader();
+        when(placeRepository.findAllByIdInWithDescriptions(List.of(1L, 2L))).thenReturn(List.of());
+
+        assertThat(readAll(reader)).containsExactly(3L);
+        verify(lockService).completeLeases(JOB, List.of(1L, 2L));
+        reader.afterChunk(chunkContext());
+        verify(lockService).completeLeases(JOB, List.of(3L));
+    }
+
+    @Test
+    @DisplayName("실패 시 현재 배치 lease를 FAILED로 표시하고 완료 처리하지 않음")
+    void marksCurrentBatchAsFailed() throws Exception {
+        when(lockService.claimPendingPlaces(JOB, 2, 10))
+            .thenReturn(List.of(1L, 2L), List.of());
+        DistributedPlaceReader reader = newReader();
+
+        reader.read();
+        reader.markCurrentChunkAsFailed("crawler down");
+
+        verify(lockService).failLeases(JOB, List.of(1L, 2L), "crawler down");
+        assertThat(reader.read().getId()).isEqualTo(2L);
+        assertThat(reader.read()).isNull();
+        verify(lockService, never()).completeLeases(anyString(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("만료 락 정리는 매 배치가 아니라 주기적으로만 실행")
+    void sweepsExpiredLocksAtMostOncePerInterval() throws Exception {
+        when(lockService.claimPendingPlaces(eq(JOB), anyInt(), anyInt()))
+            .thenReturn(List.of(1L), List.of(2L), List.of(3L), List.of());
+        DistributedPlaceReader reader = newReader();
+
+        assertThat(readAll(reader)).containsExactly(1L, 2L, 3L);
+        verify(lockService, times(1)).markExpiredLocksAsFailed(JOB);
+    }
+}
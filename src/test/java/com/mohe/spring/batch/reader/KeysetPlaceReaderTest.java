@@ -0,0 +1,104 @@
+package com.mohe.spring.batch.reader;
+
+import com.mohe.spring.entity.Place;
+import com.mohe.spring.repository.PlaceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@DisplayName("키셋 장소 Reader 테스트")
+class KeysetPlaceReaderTest {
+
+    private final PlaceRepository placeRepository = mock(PlaceRepository.class);
+
+    /** 대상 ID 1..7 중 afterId 이후를 limit개씩 반환 */
+    private static List<Long> idsAfter(long afterId, int limit) {
+        List<Long> ids = new ArrayList<>();
+        for (long id = afterId + 1; id <= 7 && ids.size() < limit; id++) {
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    private static Place place(Long id) {
+        Place place = new Place();
+        place.setId(id);
+        place.setName("place-" + id);
+        return place;
+    }
+
+    private UpdateCrawledDataReader newReader() {
+        when(placeRepository.findPlaceIdsForBatchProcessingWithFilters(anyLong(), anyInt()))
+            .thenAnswer(invocation -> idsAfter(invocation.getArgument(0), invocation.getArgument(1)));
+        when(placeRepository.findAllByIdInWithDescriptions(anyCollection()))
+            .thenAnswer(invocation -> invocation.<Collection<Long>>getArgument(0).stream().map(KeysetPlaceReaderTest::place).toList());
+        return new UpdateCrawledDataReader(placeRepository, 3);
+    }
+
+    private static List<Long> readAll(KeysetPlaceReader reader) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        Place place;
+        while ((place = reader.read()) != null) {
+            ids.add(place.getId());
+        }
+        return ids;
+    }
+
+    @Test
+    @DisplayName("마지막 ID 이후만 조회하고 페이지 단위로 컬렉션을 일괄 로드")
+    void readsKeysetPagesWithBatchedHydration() throws Exception {
+        UpdateCrawledDataReader reader = newReader();
+        reader.open(new ExecutionContext());
+
+        assertThat(readAll(reader)).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+
+        verify(placeRepository).findPlaceIdsForBatchProcessingWithFilters(0L, 3);
+        verify(placeRepository).findPlaceIdsForBatchProcessingWithFilters(3L, 3);
+        verify(placeRepository).findPlaceIdsForBatchProcessingWithFilters(6L, 3);
+        // 마지막 페이지(1개)가 pageSize보다 작으므로 추가 조회 없음
+        verify(placeRepository, times(3)).findPlaceIdsForBatchProcessingWithFilters(anyLong(), anyInt());
+        verify(placeRepository, times(3)).findAllByIdInWithDescriptions(anyCollection());
+        verify(placeRepository, times(3)).fetchReviewsByIdIn(anyCollection());
+        verify(placeRepository, never()).findByIdWithCollections(anyLong());
+    }
+
+    @Test
+    @DisplayName("ExecutionContext에 저장된 마지막 ID 다음부터 재시작")
+    void resumesFromExecutionContext() throws Exception {
+        UpdateCrawledDataReader reader = newReader();
+        ExecutionContext context = new ExecutionContext();
+        reader.open(context);
+        reader.read();
+        reader.read();
+        reader.update(context);
+        reader.close();
+
+        UpdateCrawledDataReader restarted = newReader();
+        restarted.open(context);
+
+        assertThat(readAll(restarted)).containsExactly(3L, 4L, 5L, 6L, 7L);
+    }
+
+    @Test
+    @DisplayName("파티션 ID 구간 밖은 읽지 않음")
+    void readsOnlyWithinIdRange() throws Exception {
+        UpdateCrawledDataReader reader = newReader();
+        reader.setIdRange(2L, 5L);
+        reader.open(new ExecutionContext());
+
+        assertThat(readAll(reader)).containsExactly(2L, 3L, 4L, 5L);
+        verify(placeRepository).findPlaceIdsForBatchProcessingWithFilters(1L, 3);
+        verify(placeRepository).findPlaceIdsForBatchProcessingWithFilters(4L, 3);
+        verify(placeRepository, times(2)).findPlaceIdsForBatchProcessingWithFilters(anyLong(), anyInt());
+    }
+}
@@ -0,0 +1,113 @@
+package com.mohe.spring.batch.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mohe.spring.entity.Place;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Kakao 장소 검색 서비스 테스트")
+class KakaoPlaceApiServiceImplTest {
+
+    private final RestTemplate restTemplate = mock(RestTemplate.class);
+    private final List<Long> callNanos = Collections.synchronizedList(new ArrayList<>());
+
+    private KakaoPlaceApiServiceImpl service;
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    /**
+     * 쿼리마다 pageable_count 30 (2페이지), 문서 이름은 "쿼리-페이지"
+     */
+    private void stubKakao(String failingQueryPage) {
+        when(restTemplate.exchange(any(URI.class), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
+            .thenAnswer(invocation -> {
+                callNanos.add(System.nanoTime());
+                var params = UriComponentsBuilder.fromUri(invocation.getArgument(0)).build().getQueryParams();
+                String queryPage = params.getFirst("query") + "-" + params.getFirst("page");
+                if (queryPage.equals(failingQueryPage)) {
+                    throw new ResourceAccessException("Read timed out");
+                }
+                return ResponseEntity.ok("""
+                    {"meta": {"total_count": 30, "pageable_count": 30, "is_end": false},
+                     "documents": [{"place_name": "%s", "road_address_name": "%s 도로", "x": "127.0", "y": "37.5",
+                                    "category_name": "음식점 > 카페"}]}
+                    """.formatted(queryPage, queryPage));
+            });
+    }
+
+    @Test
+    @DisplayName("동시에 검색해도 모든 페이지 요청이 하나의 토큰 버킷을 거쳐 초당 한도로 나뉨")
+    void pacesConcurrentQueriesThroughSharedBucket() throws Exception {
+        // 초당 20회, burst 1 → 요청 간격 50ms
+        service = new KakaoPlaceApiServiceImpl(restTemplate, new ObjectMapper(), 20, 1, 4);
+        stubKakao(null);
+
+        ExecutorService queryPool = Executors.newFixedThreadPool(3);
+        List<CompletableFuture<List<Place>>> searches = new ArrayList<>();
+        try {
+            for (String query : List.of("a", "b", "c")) {
+                searches.add(CompletableFuture.supplyAsync(() -> service.searchPlaces(query, 300), queryPool));
+            }
+            for (int i = 0; i < searches.size(); i++) {
+                List<Place> places = searches.get(i).get(10, TimeUnit.SECONDS);
+                String query = List.of("a", "b", "c").get(i);
+                assertThat(places).extracting(Place::getName).containsExactly(query + "-1", query + "-2");
+            }
+        } finally {
+            queryPool.shutdownNow();
+        }
+
+        // 6회 요청 → 첫 요청 이후 5번의 간격은 최소 5 × 50ms (깨어나는 지연만큼만 오차 허용)
+        assertThat(callNanos).hasSize(6);
+        List<Long> sorted = new ArrayList<>(callNanos);
+        Collections.sort(sorted);
+        long spanMillis = TimeUnit.NANOSECONDS.toMillis(sorted.get(5) - sorted.get(0));
+        assertThat(spanMillis).isGreaterThanOrEqualTo(225);
+    }
+
+    @Test
+    @DisplayName("실패한 페이지는 건너뛰고 나머지 페이지 결과를 페이지 순서대로 반환")
+    void skipsFailedPage() {
+        service = new KakaoPlaceApiServiceImpl(restTemplate, new ObjectMapper(), 1_000, 10, 2);
+        stubKakao("a-2");
+
+        assertThat(service.searchPlaces("a", 300)).extracting(Place::getName).containsExactly("a-1");
+        assertThat(service.searchPlaces("b", 15)).extracting(Place::getName).containsExactly("b-1");
+        // maxResults 15 → 1페이지만 요청
+        verify(restTemplate, times(3)).exchange(any(URI.class), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class));
+    }
+
+    @Test
+    @DisplayName("첫 페이지가 실패하면 빈 결과")
+    void returnsEmptyWhenFirstPageFails() {
+        service = new KakaoPlaceApiServiceImpl(restTemplate, new ObjectMapper(), 1_000, 10, 2);
+        stubKakao("a-1");
+
+        assertThat(service.searchPlaces("a", 300)).isEmpty();
+        verify(restTemplate, times(1)).exchange(any(URI.class), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class));
+    }
+}
@@ -0,0 +1,182 @@
+package com.mohe.spring.batch.writer;
+
+import com.mohe.spring.batch.service.KakaoPlaceApiService;
+import com.mohe.spring.entity.Place;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+/**
+ * 장소 수집 Writer를 실제 PostgreSQL에서 실행 (ANY 배열, 시퀀스, 조건부 insert)
+ *
+ * <p>Kakao 검색은 mock으로 대체합니다. 호출 속도 제한은 {@code KakaoPlaceApiServiceImplTest}에서 확인합니다.</p>
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("장소 수집 Writer 테스트 (PostgreSQL)")
+class PlaceCollectionWriterTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final String SCHEMA = """
+        DROP TABLE IF EXISTS place_descriptions;
+        DROP TABLE IF EXISTS places;
+        DROP SEQUENCE IF EXISTS places_id_seq;
+        CREATE SEQUENCE places_id_seq START WITH 100;
+        CREATE TABLE places (
+            id bigint PRIMARY KEY DEFAULT nextval('places_id_seq'),
+            name varchar(255) NOT NULL,
+            latitude numeric(10,8),
+            longitude numeric(11,8),
+            road_address text,
+            website_url text,
+            category varchar(100)[],
+            crawl_status varchar(20),
+            embed_status varchar(20),
+            created_at timestamp,
+            updated_at timestamp
+        );
+        CREATE INDEX idx_places_road_address ON places (road_address);
+        CREATE TABLE place_descriptions (
+            id bigserial PRIMARY KEY,
+            place_id bigint NOT NULL REFERENCES places(id) ON DELETE CASCADE,
+            search_query varchar(500),
+            updated_at timestamp
+        );
+        INSERT INTO places (id, name, road_address) VALUES (1, 'existing', '서울 성동구 연무장길 1');
+        """;
+
+    private final KakaoPlaceApiService kakao = mock(KakaoPlaceApiService.class);
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private PlaceCollectionWriter writer;
+    private StepExecution stepExecution;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new SingleConnectionDataSource(
+            postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword(), true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute(SCHEMA);
+        writer = new PlaceCollectionWriter(kakao, jdbcTemplate, 2);
+        stepExecution = MetaDataInstanceFactory.createStepExecution();
+        writer.beforeStep(stepExecution);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.shutdown();
+        dataSource.destroy();
+    }
+
+    private static Place place(String name, String roadAddress, String... category) {
+        Place place = new Place();
+        place.setName(name);
+        place.setRoadAddress(roadAddress);
+        place.setLatitude(new BigDecimal("37.54460000"));
+        place.setLongitude(new BigDecimal("127.05570000"));
+        place.setCategory(List.of(category));
+        return place;
+    }
+
+    private long stat(String key) {
+        return stepExecution.getExecutionContext().getLong(key);
+    }
+
+    private String queryOf(String name) {
+        return jdbcTemplate.queryForObject("""
+            SELECT d.search_query FROM place_descriptions d JOIN places p ON p.id = d.place_id WHERE p.name = ?
+            """, String.class, name);
+    }
+
+    @Test
+    @DisplayName("DB에 있는 주소와 chunk 안 중복 주소는 건너뛰고, 먼저 나온 쿼리로 설명을 연결")
+    void skipsExistingAndInChunkDuplicates() throws Exception {
+        when(kakao.searchPlaces(eq("성수 카페"), anyInt())).thenReturn(List.of(
+            place("existing-again", "서울 성동구 연무장길 1", "음식점", "카페"),
+            place("cafe-a", "서울 성동구 연무장길 2", "음식점", "카페"),
+            place("no-address", null, "음식점")));
+        when(kakao.searchPlaces(eq("성수 맛집"), anyInt())).thenReturn(List.of(
+            place("cafe-a-again", "서울 성동구 연무장길 2", "음식점", "카페"),
+            place("diner-b", "서울 성동구 연무장길 3", "음식점", "한식"),
+            place("clinic", "서울 성동구 연무장길 4", "의료", "병원")));
+
+        writer.write(Chunk.of("성수 카페", "성수 맛집"));
+        writer.afterStep(stepExecution);
+
+        assertThat(jdbcTemplate.queryForList("SELECT name FROM places WHERE id >= 100 ORDER BY id", String.class))
+            .containsExactly("cafe-a", "diner-b", "no-address");
+        assertThat(queryOf("cafe-a")).isEqualTo("성수 카페");
+        assertThat(queryOf("diner-b")).isEqualTo("성수 맛집");
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM places WHERE crawl_status = 'PENDING' AND embed_status = 'PENDING'", Integer.class))
+            .isEqualTo(3);
+        assertThat(stat("placesFound")).isEqualTo(6);
+        assertThat(stat("placesCollected")).isEqualTo(3);
+        assertThat(stat("placesDuplicated")).isEqualTo(2);
+        assertThat(stat("placesFiltered")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한 쿼리의 Kakao 호출이 실패해도 chunk는 실패하지 않고 나머지 쿼리 결과를 저장")
+    void failedQueryDoesNotFailChunk() throws Exception {
+        when(kakao.searchPlaces(eq("실패"), anyInt())).thenThrow(new IllegalStateException("Kakao 503"));
+        when(kakao.searchPlaces(eq("성공"), anyInt())).thenReturn(List.of(place("ok", "서울 성동구 연무장길 9", "카페")));
+
+        writer.write(Chunk.of("실패", "성공"));
+        writer.afterStep(stepExecution);
+
+        assertThat(queryOf("ok")).isEqualTo("성공");
+        assertThat(stat("queriesProcessed")).isEqualTo(2);
+        assertThat(stat("placesCollected")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("중복 확인 이후 다른 쪽이 먼저 저장한 주소는 insert 단계에서 건너뜀")
+    void skipsAddressSavedAfterDuplicateCheck() throws Exception {
+        // 중복 확인 쿼리가 아무것도 못 찾은 상황 = 확인과 insert 사이에 다른 트랜잭션이 커밋
+        JdbcTemplate racing = spy(jdbcTemplate);
+        doReturn(List.of()).when(racing).query(startsWith("SELECT DISTINCT road_address"),
+            any(PreparedStatementSetter.class), any(RowMapper.class));
+        PlaceCollectionWriter racingWriter = new PlaceCollectionWriter(kakao, racing, 1);
+        racingWriter.beforeStep(stepExecution);
+        when(kakao.searchPlaces(eq("성수"), anyInt())).thenReturn(List.of(
+            place("duplicate", "서울 성동구 연무장길 1", "카페"),
+            place("fresh", "서울 성동구 연무장길 5", "카페")));
+
+        try {
+            racingWriter.write(Chunk.of("성수"));
+            racingWriter.afterStep(stepExecution);
+        } finally {
+            racingWriter.shutdown();
+        }
+
+        assertThat(jdbcTemplate.queryForList("SELECT name FROM places ORDER BY id", String.class))
+            .containsExactly("existing", "fresh");
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM place_descriptions", Integer.class)).isEqualTo(1);
+        assertThat(stat("placesCollected")).isEqualTo(1);
+        assertThat(stat("placesDuplicated")).isEqualTo(1);
+    }
+}
@@ -0,0 +1,114 @@
+package com.mohe.spring.config;
+
+import com.pgvector.PGvector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.postgresql.util.PGobject;
+
+import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PGvector Hibernate 타입 테스트")
+class PGvectorTypeTest {
+
+    private final PGvectorType type = new PGvectorType();
+
+    @Test
+    @DisplayName("equals/hashCode는 float[] 값 기준 (NaN끼리도 같음 → flush마다 dirty 판정되지 않음)")
+    void comparesByValue() {
+        PGvector a = new PGvector(new float[]{0.1f, -2f, Float.NaN});
+        PGvector b = new PGvector(new float[]{0.1f, -2f, Float.NaN});
+        PGvector c = new PGvector(new float[]{0.1f, -2f, 0f});
+
+        assertThat(type.equals(a, b)).isTrue();
+        assertThat(type.hashCode(a)).isEqualTo(type.hashCode(b));
+        assertThat(type.equals(a, c)).isFalse();
+        assertThat(type.equals(a, a)).isTrue();
+        assertThat(type.equals(null, null)).isTrue();
+        assertThat(type.equals(a, null)).isFalse();
+        assertThat(type.equals(null, a)).isFalse();
+        assertThat(type.hashCode(null)).isZero();
+    }
+
+    @Test
+    @DisplayName("deepCopy/disassemble/assemble은 배열을 복제해 원본과 공유하지 않음")
+    void copiesAreIndependent() {
+        float[] values = {1f, 2f, 3f};
+        PGvector original = new PGvector(values);
+
+        PGvector copy = type.deepCopy(original);
+        Serializable cached = type.disassemble(original);
+        PGvector assembled = type.assemble(cached, null);
+        values[0] = 99f;
+
+        assertThat(copy.toArray()).containsExactly(1f, 2f, 3f);
+        assertThat((float[]) cached).containsExactly(1f, 2f, 3f);
+        assertThat(assembled.toArray()).containsExactly(1f, 2f, 3f);
+        assertThat(type.equals(copy, assembled)).isTrue();
+        assertThat(type.replace(copy, null, null).toArray()).containsExactly(1f, 2f, 3f);
+
+        assertThat(type.deepCopy(null)).isNull();
+        assertThat(type.disassemble(null)).isNull();
+        assertThat(type.assemble(null, null)).isNull();
+    }
+
+    @Test
+    @DisplayName("바인딩은 BinaryPGvector, null은 Types.OTHER")
+    void bindsBinaryVector() throws Exception {
+        PreparedStatement statement = mock(PreparedStatement.class);
+
+        type.nullSafeSet(statement, new PGvector(new float[]{0.5f, -0.5f}), 1, null);
+        type.nullSafeSet(statement, null, 2, null);
+
+        ArgumentCaptor<Object> bound = ArgumentCaptor.forClass(Object.class);
+        verify(statement).setObject(eq(1), bound.capture());
+        assertThat(bound.getValue()).isInstanceOf(BinaryPGvector.class);
+        assertThat(((BinaryPGvector) bound.getValue()).toArray()).containsExactly(0.5f, -0.5f);
+        verify(statement).setNull(2, Types.OTHER);
+    }
+
+    @Test
+    @DisplayName("조회 결과는 바이너리/PGvector/텍스트 PGobject 모두 같은 값으로 변환")
+    void readsAllRepresentations() throws Exception {
+        PGobject text = new PGobject();
+        text.setType("vector");
+        text.setValue("[0.5,-1.5E-3]");
+        PGvector expected = new PGvector(new float[]{0.5f, -1.5e-3f});
+
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getObject(1)).thenReturn(new BinaryPGvector(new float[]{0.5f, -1.5e-3f}));
+        when(resultSet.getObject(2)).thenReturn(expected);
+        when(resultSet.getObject(3)).thenReturn(text);
+        when(resultSet.getObject(4)).thenReturn(null);
+
+        assertThat(type.equals(type.nullSafeGet(resultSet, 1, null, null), expected)).isTrue();
+        assertThat(type.nullSafeGet(resultSet, 2, null, null)).isSameAs(expected);
+        assertThat(type.equals(type.nullSafeGet(resultSet, 3, null, null), expected)).isTrue();
+        assertThat(type.nullSafeGet(resultSet, 4, null, null)).isNull();
+    }
+
+    @Test
+    @DisplayName("파싱할 수 없는 값이나 다른 타입은 SQLException")
+    void rejectsUnexpectedValues() throws Exception {
+        PGobject broken = new PGobject();
+        broken.setType("vector");
+        broken.setValue("oops");
+
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getObject(1)).thenReturn(broken);
+        when(resultSet.getObject(2)).thenReturn("[1,2]");
+
+        assertThatThrownBy(() -> type.nullSafeGet(resultSet, 1, null, null)).isInstanceOf(SQLException.class);
+        assertThatThrownBy(() -> type.nullSafeGet(resultSet, 2, null, null))
+            .isInstanceOf(SQLException.class)
+            .hasMessageContaining("java.lang.String");
+    }
+}
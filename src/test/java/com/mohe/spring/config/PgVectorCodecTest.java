@@ -0,0 +1,153 @@
+package com.mohe.spring.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("pgvector 코덱 / 바이너리 객체 테스트")
+class PgVectorCodecTest {
+
+    @Test
+    @DisplayName("바이너리 인코딩은 vector_send 포맷(차원 int16, unused int16, float4 big-endian)")
+    void encodesVectorSendFormat() {
+        byte[] bytes = PgVectorCodec.encode(new float[]{1.0f, -2.0f});
+
+        assertThat(bytes).hasSize(PgVectorCodec.binaryLength(new float[2])).hasSize(12);
+        assertThat(bytes).startsWith(0, 2, 0, 0);
+        // 1.0f = 0x3F800000, -2.0f = 0xC0000000
+        assertThat(bytes).endsWith(0x3F, 0x80, 0, 0, (byte) 0xC0, 0, 0, 0);
+    }
+
+    @Test
+    @DisplayName("바이너리 인코딩/디코딩 왕복 (음수, 지수 범위, 특수값, 오프셋)")
+    void binaryRoundTrip() {
+        float[] vector = {0.1f, -0.5f, 1.0e-38f, -3.4e38f, Float.MIN_VALUE, -0.0f, Float.NaN, Float.POSITIVE_INFINITY};
+
+        assertThat(PgVectorCodec.decode(PgVectorCodec.encode(vector), 0)).isEqualTo(vector);
+
+        byte[] withPrefix = new byte[3 + PgVectorCodec.binaryLength(vector)];
+        PgVectorCodec.encode(vector, withPrefix, 3);
+        float[] decoded = PgVectorCodec.decode(withPrefix, 3);
+        assertThat(decoded).isEqualTo(vector);
+        // 비트 단위로 보존 (-0.0f 부호 유지)
+        assertThat(Float.floatToRawIntBits(decoded[5])).isEqualTo(Float.floatToRawIntBits(-0.0f));
+    }
+
+    @Test
+    @DisplayName("빈 벡터 바이너리 왕복")
+    void emptyBinaryRoundTrip() {
+        byte[] bytes = PgVectorCodec.encode(new float[0]);
+
+        assertThat(bytes).containsExactly(0, 0, 0, 0);
+        assertThat(PgVectorCodec.decode(bytes, 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("헤더보다 짧거나 차원 수보다 짧은 페이로드는 거부")
+    void rejectsTruncatedPayload() {
+        assertThatThrownBy(() -> PgVectorCodec.decode(new byte[]{0, 1}, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        byte[] truncated = PgVectorCodec.encode(new float[]{1f, 2f});
+        assertThatThrownBy(() -> PgVectorCodec.decode(java.util.Arrays.copyOf(truncated, truncated.length - 1), 0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("2 dimensions");
+    }
+
+    @Test
+    @DisplayName("int16 범위를 넘는 차원은 인코딩 거부")
+    void rejectsTooManyDimensions() {
+        assertThatThrownBy(() -> PgVectorCodec.encode(new float[Short.MAX_VALUE + 1]))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("텍스트 파싱: 공백, 음수, 지수 표기, 빈 벡터")
+    void parsesTextLiteral() {
+        assertThat(PgVectorCodec.parse("[1,2.5,-3]")).containsExactly(1f, 2.5f, -3f);
+        assertThat(PgVectorCodec.parse(" [ 0.25 , -1.5E-3,2e2 ] ")).containsExactly(0.25f, -1.5e-3f, 200f);
+        assertThat(PgVectorCodec.parse("[]")).isEmpty();
+        assertThat(PgVectorCodec.parse("[  ]")).isEmpty();
+        assertThat(PgVectorCodec.parse(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("텍스트 파싱: NaN/Infinity는 그대로 전달 (거부는 서버의 vector_in 몫)")
+    void parsesNonFiniteValues() {
+        float[] parsed = PgVectorCodec.parse("[NaN,-Infinity]");
+
+        assertThat(parsed[0]).isNaN();
+        assertThat(parsed[1]).isEqualTo(Float.NEGATIVE_INFINITY);
+        assertThat(PgVectorCodec.format(parsed)).isEqualTo("[NaN,-Infinity]");
+    }
+
+    @Test
+    @DisplayName("잘못된 텍스트 리터럴은 예외")
+    void rejectsInvalidText() {
+        assertThatThrownBy(() -> PgVectorCodec.parse("1,2,3")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PgVectorCodec.parse("]1,2[")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PgVectorCodec.parse("[1,,2]")).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> PgVectorCodec.parse("[1,abc]")).isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    @DisplayName("텍스트 포맷/파싱 왕복")
+    void textRoundTrip() {
+        float[] vector = {0.1f, -0.5f, 1.0e-38f, -3.4e38f, 123456.79f};
+
+        assertThat(PgVectorCodec.format(vector)).isEqualTo("[0.1,-0.5,1.0E-38,-3.4E38,123456.79]");
+        assertThat(PgVectorCodec.parse(PgVectorCodec.format(vector))).isEqualTo(vector);
+        assertThat(PgVectorCodec.format(new float[0])).isEqualTo("[]");
+    }
+
+    @Test
+    @DisplayName("BinaryPGvector: 바이너리/텍스트 경로 모두 같은 값으로 복원")
+    void binaryObjectRoundTrip() throws Exception {
+        float[] vector = {0.5f, -1.25f, 3e-5f};
+        BinaryPGvector source = new BinaryPGvector(vector);
+
+        byte[] bytes = new byte[source.lengthInBytes()];
+        source.toBytes(bytes, 0);
+        BinaryPGvector fromBinary = new BinaryPGvector();
+        fromBinary.setByteValue(bytes, 0);
+
+        BinaryPGvector fromText = new BinaryPGvector();
+        fromText.setValue(source.getValue());
+
+        assertThat(fromBinary.toArray()).isEqualTo(vector);
+        assertThat(fromText.toArray()).isEqualTo(vector);
+        assertThat(fromBinary).isEqualTo(source).hasSameHashCodeAs(source);
+        assertThat(fromBinary.getType()).isEqualTo("vector");
+    }
+
+    @Test
+    @DisplayName("BinaryPGvector: null 값과 잘못된 입력")
+    void binaryObjectNullAndInvalid() {
+        BinaryPGvector empty = new BinaryPGvector();
+
+        assertThat(empty.isNull()).isTrue();
+        assertThat(empty.getValue()).isNull();
+        assertThat(empty.lengthInBytes()).isZero();
+        assertThat(empty.toPGvector()).isNull();
+        assertThat(BinaryPGvector.of(null)).isNull();
+
+        assertThatThrownBy(() -> empty.setValue("not-a-vector")).isInstanceOf(SQLException.class);
+        assertThatThrownBy(() -> empty.setByteValue(new byte[]{0, 5, 0, 0}, 0)).isInstanceOf(SQLException.class);
+    }
+
+    @Test
+    @DisplayName("BinaryPGvector: clone은 배열까지 복제")
+    void cloneCopiesArray() throws Exception {
+        BinaryPGvector source = new BinaryPGvector(new float[]{1f, 2f});
+        BinaryPGvector copy = (BinaryPGvector) source.clone();
+
+        copy.toArray()[0] = 9f;
+
+        assertThat(source.toArray()).containsExactly(1f, 2f);
+        assertThat(copy).isNotEqualTo(source);
+    }
+}
@@ -0,0 +1,150 @@
+package com.mohe.spring.controller;
+
+import com.mohe.spring.service.image.ImageStorage;
+import com.mohe.spring.service.image.ImageVariantService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("이미지 서빙 컨트롤러 테스트")
+class ImageServeControllerTest {
+
+    @TempDir
+    Path root;
+
+    @TempDir
+    Path generatedRoot;
+
+    private ImageStorage storage;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        storage = new ImageStorage(root.toString(), generatedRoot.toString());
+        ImageVariantService variants = new ImageVariantService(storage, new int[]{160, 320}, 1, 25_000_000, 1_000);
+        mockMvc = MockMvcBuilders.standaloneSetup(new ImageServeController(storage, variants, 60)).build();
+    }
+
+    private String storePng(int width, int height) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", out);
+        return storage.storePlaceImage(1L, new ByteArrayInputStream(out.toByteArray()), "png");
+    }
+
+    private static String hashOf(String url) {
+        String name = url.substring(url.lastIndexOf('/') + 1);
+        return name.substring(0, name.lastIndexOf('.'));
+    }
+
+    @Test
+    @DisplayName("내용 해시 경로는 1년 immutable 캐시와 해시 ETag로 서빙")
+    void servesContentHashedPathAsImmutable() throws Exception {
+        String url = storePng(400, 200);
+
+        MvcResult result = mockMvc.perform(get(url))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + hashOf(url) + "\""))
+            .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "image/png"))
+            .andReturn();
+
+        assertThat(result.getResponse().getHeader(HttpHeaders.CACHE_CONTROL))
+            .contains("max-age=31536000", "public", "immutable");
+        assertThat(result.getResponse().getContentAsByteArray())
+            .isEqualTo(Files.readAllBytes(storage.resolvePublicPath(url.substring("/images/".length())).orElseThrow()));
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 ETag와 같으면 본문 없이 304")
+    void returnsNotModifiedForMatchingEtag() throws Exception {
+        String url = storePng(400, 200);
+        String etag = "\"" + hashOf(url) + "\"";
+
+        MvcResult result = mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, etag))
+            .andReturn();
+
+        assertThat(result.getResponse().getHeader(HttpHeaders.CACHE_CONTROL)).contains("immutable");
+        assertThat(result.getResponse().getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("너비 변형은 버킷을 ETag에 포함하고 리사이즈된 이미지를 서빙")
+    void servesWidthVariantWithBucketEtag() throws Exception {
+        String url = storePng(400, 200);
+
+        MvcResult result = mockMvc.perform(get(url).param("w", "300"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + hashOf(url) + "-w320\""))
+            .andReturn();
+
+        BufferedImage variant = ImageIO.read(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()));
+        assertThat(variant.getWidth()).isEqualTo(320);
+        assertThat(result.getResponse().getHeader(HttpHeaders.CACHE_CONTROL)).contains("immutable");
+    }
+
+    @Test
+    @DisplayName("너비 요청에 원본으로 응답하면 immutable 대신 재검증 캐시")
+    void revalidatesOriginalServedForWidthRequest() throws Exception {
+        String url = storePng(100, 50);
+
+        MvcResult result = mockMvc.perform(get(url).param("w", "300"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + hashOf(url) + "\""))
+            .andReturn();
+
+        assertThat(result.getResponse().getHeader(HttpHeaders.CACHE_CONTROL))
+            .contains("max-age=60").doesNotContain("immutable");
+    }
+
+    @Test
+    @DisplayName("레거시 파일명은 설정된 max-age와 재검증용 ETag / Last-Modified로 서빙")
+    void servesLegacyPathWithRevalidation() throws Exception {
+        Files.writeString(root.resolve("7_cafe_1.jpeg"), "legacy", StandardCharsets.UTF_8);
+
+        MvcResult result = mockMvc.perform(get("/images/7_cafe_1.jpeg"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+            .andReturn();
+
+        assertThat(result.getResponse().getHeader(HttpHeaders.CACHE_CONTROL))
+            .contains("max-age=60").doesNotContain("immutable");
+        assertThat(result.getResponse().getContentAsString()).isEqualTo("legacy");
+
+        mockMvc.perform(get("/images/7_cafe_1.jpeg")
+                .header(HttpHeaders.IF_NONE_MATCH, result.getResponse().getHeader(HttpHeaders.ETAG)))
+            .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("경로가 없거나 저장소 밖·숨김 경로면 404")
+    void returnsNotFoundForInvalidPaths() throws Exception {
+        Files.createDirectories(root.resolve(".variants"));
+        Files.writeString(root.resolve(".variants/secret.png"), "variant");
+
+        mockMvc.perform(get("/images")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/images/")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/images/missing.png")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/images/.variants/secret.png")).andExpect(status().isNotFound());
+        mockMvc.perform(get(URI.create("/images/store/..%2F..%2Foutside.png"))).andExpect(status().isNotFound());
+    }
+}
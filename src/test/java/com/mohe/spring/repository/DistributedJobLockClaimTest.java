@@ -0,0 +1,220 @@
+package com.mohe.spring.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link DistributedJobLockRepository}의 장소 lease 네이티브 쿼리를 실제 PostgreSQL에서 실행
+ *
+ * <p>FOR UPDATE SKIP LOCKED / ON CONFLICT 동작은 H2로 재현할 수 없으므로 Testcontainers를 사용하며,
+ * Docker가 없는 환경에서는 건너뜁니다. 쿼리 문자열은 리포지토리의 {@link Query} 애너테이션에서 그대로 가져옵니다.</p>
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("분산 작업 lease claim 쿼리 테스트 (PostgreSQL)")
+class DistributedJobLockClaimTest {
+
+    private static final String JOB = "distributedCrawlingJob";
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final String SCHEMA = """
+        DROP TABLE IF EXISTS distributed_job_lock;
+        DROP TABLE IF EXISTS places;
+        CREATE TABLE places (
+            id bigint PRIMARY KEY,
+            name varchar(255) NOT NULL,
+            crawl_status varchar(20) DEFAULT 'PENDING'
+        );
+        CREATE TABLE distributed_job_lock (
+            id bigserial PRIMARY KEY,
+            job_name varchar(100) NOT NULL,
+            chunk_id varchar(255) NOT NULL,
+            item_id bigint,
+            worker_id varchar(100) NOT NULL,
+            worker_hostname varchar(255),
+            status varchar(20) DEFAULT 'LOCKED' NOT NULL,
+            locked_at timestamp DEFAULT CURRENT_TIMESTAMP NOT NULL,
+            started_at timestamp,
+            completed_at timestamp,
+            expires_at timestamp NOT NULL,
+            retry_count integer DEFAULT 0,
+            max_retries integer DEFAULT 3,
+            last_error text,
+            created_at timestamp DEFAULT CURRENT_TIMESTAMP NOT NULL,
+            updated_at timestamp DEFAULT CURRENT_TIMESTAMP NOT NULL,
+            CONSTRAINT uq_job_chunk UNIQUE (job_name, chunk_id)
+        );
+        INSERT INTO places (id, name) SELECT g, 'place-' || g FROM generate_series(1, 10) g;
+        """;
+
+    private final List<SingleConnectionDataSource> dataSources = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        worker(true).getJdbcTemplate().execute(SCHEMA);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSources.forEach(SingleConnectionDataSource::destroy);
+    }
+
+    /**
+     * 워커마다 별도 커넥션(= 별도 트랜잭션)
+     */
+    private NamedParameterJdbcTemplate worker(boolean autoCommit) {
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+            postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword(), true);
+        dataSource.setAutoCommit(autoCommit);
+        dataSources.add(dataSource);
+        return new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    private static String sql(String method, Class<?>... parameterTypes) throws Exception {
+        return DistributedJobLockRepository.class.getMethod(method, parameterTypes).getAnnotation(Query.class).value();
+    }
+
+    private static List<Long> claim(NamedParameterJdbcTemplate jdbc, String workerId, int limit, LocalDateTime now)
+            throws Exception {
+        String sql = sql("claimPendingPlaces", String.class, String.class, String.class, int.class,
+            LocalDateTime.class, LocalDateTime.class);
+        return jdbc.queryForList(sql, new MapSqlParameterSource()
+            .addValue("jobName", JOB)
+            .addValue("workerId", workerId)
+            .addValue("workerHostname", workerId + "-host")
+            .addValue("limit", limit)
+            .addValue("now", now)
+            .addValue("expiresAt", now.plusMinutes(10)), Long.class);
+    }
+
+    private static int release(NamedParameterJdbcTemplate jdbc, String workerId, Collection<Long> itemIds) throws Exception {
+        String sql = sql("releaseSettledLeases", String.class, String.class, Collection.class);
+        return jdbc.update(sql, new MapSqlParameterSource()
+            .addValue("jobName", JOB)
+            .addValue("workerId", workerId)
+            .addValue("itemIds", itemIds));
+    }
+
+    private static void commit(NamedParameterJdbcTemplate jdbc) throws Exception {
+        Connection connection = ((SingleConnectionDataSource) jdbc.getJdbcTemplate().getDataSource()).getConnection();
+        connection.commit();
+    }
+
+    @Test
+    @DisplayName("claim은 PENDING 장소를 ID 순서로 최대 limit개 획득하고 이미 lease된 장소는 다시 주지 않음")
+    void claimsPendingPlacesInOrder() throws Exception {
+        NamedParameterJdbcTemplate jdbc = worker(true);
+        jdbc.getJdbcTemplate().update("UPDATE places SET crawl_status = 'COMPLETED' WHERE id = 2");
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThat(claim(jdbc, "worker-a", 3, now)).containsExactlyInAnyOrder(1L, 3L, 4L);
+        assertThat(claim(jdbc, "worker-a", 3, now)).containsExactlyInAnyOrder(5L, 6L, 7L);
+        assertThat(jdbc.getJdbcTemplate().queryForObject(
+            "SELECT count(*) FROM distributed_job_lock WHERE status = 'PROCESSING'", Integer.class)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("두 워커가 동시에 claim해도 SKIP LOCKED로 서로 다른 장소를 대기 없이 획득")
+    void concurrentWorkersClaimDisjointPlaces() throws Exception {
+        NamedParameterJdbcTemplate workerA = worker(false);
+        NamedParameterJdbcTemplate workerB = worker(false);
+        LocalDateTime now = LocalDateTime.now();
+
+        // A는 claim 후 커밋하지 않은 채로 행 잠금을 유지
+        List<Long> claimedByA = claim(workerA, "worker-a", 4, now);
+
+        CompletableFuture<List<Long>> claimedByB = CompletableFuture.supplyAsync(() -> {
+            try {
+                List<Long> ids = claim(workerB, "worker-b", 4, now);
+                commit(workerB);
+                return ids;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // B가 A의 잠금을 기다렸다면 A가 커밋하기 전까지 끝나지 않음
+        List<Long> idsB = claimedByB.get(10, TimeUnit.SECONDS);
+        commit(workerA);
+
+        assertThat(claimedByA).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+        assertThat(idsB).containsExactlyInAnyOrder(5L, 6L, 7L, 8L);
+
+        Set<Long> all = new HashSet<>(claimedByA);
+        all.addAll(idsB);
+        assertThat(all).hasSize(8);
+        assertThat(worker(true).getJdbcTemplate().queryForObject(
+            "SELECT count(DISTINCT item_id) FROM distributed_job_lock", Integer.class)).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("만료된 lease만 재획득하고 재시도 횟수를 올림")
+    void reclaimsExpiredLeases() throws Exception {
+        NamedParameterJdbcTemplate jdbc = worker(true);
+        LocalDateTime now = LocalDateTime.now();
+        claim(jdbc, "worker-a", 2, now);
+
+        // 아직 만료 전 → 나머지 장소만
+        assertThat(claim(jdbc, "worker-b", 2, now.plusMinutes(5))).containsExactlyInAnyOrder(3L, 4L);
+
+        // worker-a의 lease(1, 2)는 만료됨
+        assertThat(claim(jdbc, "worker-b", 2, now.plusMinutes(11))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(jdbc.getJdbcTemplate().queryForList(
+            "SELECT retry_count FROM distributed_job_lock WHERE item_id IN (1, 2) AND worker_id = 'worker-b'",
+            Integer.class)).containsOnly(1);
+    }
+
+    @Test
+    @DisplayName("완료된 lease는 삭제되어 다시 PENDING이 된 장소를 즉시 claim할 수 있음")
+    void releasedLeaseAllowsRequeuedPlaceToBeClaimed() throws Exception {
+        NamedParameterJdbcTemplate jdbc = worker(true);
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> claimed = claim(jdbc, "worker-a", 2, now);
+        jdbc.getJdbcTemplate().update("UPDATE places SET crawl_status = 'COMPLETED' WHERE id IN (1, 2)");
+
+        assertThat(release(jdbc, "worker-b", claimed)).as("다른 워커의 lease는 삭제하지 않음").isZero();
+        assertThat(release(jdbc, "worker-a", claimed)).isEqualTo(2);
+
+        jdbc.getJdbcTemplate().update("UPDATE places SET crawl_status = 'PENDING' WHERE id = 1");
+        assertThat(claim(jdbc, "worker-b", 1, now)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("처리 후에도 PENDING인 장소의 lease는 삭제하지 않음 (즉시 재claim 루프 방지)")
+    void keepsLeaseOfPlaceStillPending() throws Exception {
+        NamedParameterJdbcTemplate jdbc = worker(true);
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> claimed = claim(jdbc, "worker-a", 2, now);
+        jdbc.getJdbcTemplate().update("UPDATE places SET crawl_status = 'COMPLETED' WHERE id = 1");
+        jdbc.getJdbcTemplate().update("DELETE FROM places WHERE id = 2");
+
+        // 1: 완료, 2: 삭제된 장소 → 둘 다 정리
+        assertThat(release(jdbc, "worker-a", claimed)).isEqualTo(2);
+
+        List<Long> next = claim(jdbc, "worker-a", 1, now);
+        assertThat(release(jdbc, "worker-a", next)).as("장소 3은 아직 PENDING").isZero();
+        assertThat(claim(jdbc, "worker-b", 1, now)).containsExactly(4L);
+    }
+}
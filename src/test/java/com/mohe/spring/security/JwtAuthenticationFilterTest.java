@@ -0,0 +1,167 @@
+package com.mohe.spring.security;
+
+import com.mohe.spring.entity.User;
+import com.mohe.spring.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("JWT 인증 필터 테스트")
+class JwtAuthenticationFilterTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilterTest.class);
+
+    private UserRepository userRepository;
+    private JwtTokenProvider jwtTokenProvider;
+    private UserPrincipalCache userPrincipalCache;
+    private JwtAuthenticationFilter filter;
+    private final AtomicLong now = new AtomicLong(0);
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        User user = new User();
+        user.setId(42L);
+        user.setEmail("user@mohe.app");
+        user.setNickname("모헤");
+        user.setPasswordHash("hash");
+        when(userRepository.findById(42L)).thenReturn(Optional.of(user));
+
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtSecret",
+            "testSecretKey1234567890123456789012345678901234567890123456789012345");
+
+        userPrincipalCache = new UserPrincipalCache(100, 60_000, now::get);
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, new CustomUserDetailsService(userRepository), userPrincipalCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private Authentication authenticate(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Test
+    @DisplayName("TTL 안의 반복 요청은 DB를 조회하지 않음")
+    void authenticatesWithoutDatabaseWithinTtl() throws Exception {
+        String token = jwtTokenProvider.generateRefreshToken(42L);
+
+        int requests = 2_000;
+        long started = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            Authentication authentication = authenticate(token);
+            assertThat(authentication).isNotNull();
+            assertThat(((UserPrincipal) authentication.getPrincipal()).getId()).isEqualTo(42L);
+        }
+        long perRequestNanos = (System.nanoTime() - started) / requests;
+        logger.info("JWT filter cost: {} µs/request (1 signature verification, 0 DB lookups)", perRequestNanos / 1000.0);
+
+        verify(userRepository, times(1)).findById(42L);
+        assertThat(userPrincipalCache.getStats()).containsEntry("hits", (long) requests - 1).containsEntry("misses", 1L);
+    }
+
+    @Test
+    @DisplayName("evict 후에는 다음 요청에서 사용자를 다시 조회")
+    void reloadsAfterEviction() throws Exception {
+        String token = jwtTokenProvider.generateRefreshToken(42L);
+
+        authenticate(token);
+        userPrincipalCache.evict(42L);
+        authenticate(token);
+        now.set(61_000);
+        authenticate(token);
+
+        verify(userRepository, times(3)).findById(42L);
+    }
+
+    @Test
+    @DisplayName("서명이 맞지 않는 토큰은 인증하지 않고 DB도 조회하지 않음")
+    void ignoresInvalidToken() throws Exception {
+        String token = jwtTokenProvider.generateRefreshToken(42L);
+        int i = token.lastIndexOf('.') + 5;
+        String tampered = token.substring(0, i) + (token.charAt(i) == 'A' ? 'B' : 'A') + token.substring(i + 1);
+
+        assertThat(authenticate(tampered)).isNull();
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("로드 도중 evict가 일어나면 로드한 값을 캐시하지 않음")
+    void doesNotCacheValueLoadedBeforeEviction() {
+        UserPrincipal stale = new UserPrincipal(7L, "a@mohe.app", "old", "old", List.of());
+
+        userPrincipalCache.get(7L, id -> {
+            userPrincipalCache.evict(7L);
+            return stale;
+        });
+
+        AtomicLong loads = new AtomicLong();
+        userPrincipalCache.get(7L, id -> {
+            loads.incrementAndGet();
+            return stale;
+        });
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("evict 이후 요청은 진행 중인 변경 전 조회 결과를 받지 않고 새로 조회")
+    void requestAfterEvictionDoesNotJoinInFlightLoad() throws Exception {
+        UserPrincipal before = new UserPrincipal(7L, "a@mohe.app", "old", "old", List.of());
+        UserPrincipal after = new UserPrincipal(7L, "a@mohe.app", "new", "new", List.of());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<UserPrincipal> inFlight = pool.submit(() -> userPrincipalCache.get(7L, id -> {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return before;
+            }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // 닉네임 변경 커밋 → evict, 그 직후 요청
+            userPrincipalCache.evict(7L);
+            assertThat(userPrincipalCache.get(7L, id -> after)).isSameAs(after);
+
+            release.countDown();
+            assertThat(inFlight.get(5, TimeUnit.SECONDS)).isSameAs(before);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(userPrincipalCache.get(7L, id -> before)).isSameAs(after);
+    }
+}
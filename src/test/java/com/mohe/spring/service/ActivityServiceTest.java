@@ -11,6 +11,7 @@ import com.mohe.spring.repository.PlaceRepository;
 import com.mohe.spring.repository.RecentViewRepository;
 import com.mohe.spring.repository.UserRepository;
 import com.mohe.spring.security.UserPrincipal;
+import com.mohe.spring.service.card.PlaceCardAssembler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -52,6 +53,9 @@ class ActivityServiceTest {
     @Mock
     private BookmarkRepository bookmarkRepository;
 
+    @Mock
+    private PlaceCardAssembler placeCardAssembler;
+
     @Mock
     private SecurityContext securityContext;
 
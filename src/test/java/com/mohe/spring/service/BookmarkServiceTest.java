@@ -8,6 +8,7 @@ import com.mohe.spring.repository.BookmarkRepository;
 import com.mohe.spring.repository.PlaceRepository;
 import com.mohe.spring.repository.UserRepository;
 import com.mohe.spring.security.UserPrincipal;
+import com.mohe.spring.service.card.PlaceCardAssembler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -49,6 +50,9 @@ class BookmarkServiceTest {
     @Mock
     private SimilarityCalculationService similarityCalculationService;
 
+    @Mock
+    private PlaceCardAssembler placeCardAssembler;
+
     @Mock
     private SecurityContext securityContext;
 
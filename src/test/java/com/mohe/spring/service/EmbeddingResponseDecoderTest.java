@@ -0,0 +1,67 @@
+package com.mohe.spring.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("임베딩 응답 스트리밍 디코더 테스트")
+class EmbeddingResponseDecoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("data[].embedding을 index 순서대로 float[]로 디코딩")
+    void decodesInIndexOrder() throws IOException {
+        String body = """
+            {
+              "object": "list",
+              "data": [
+                {"object": "embedding", "index": 1, "embedding": [0.5, -0.25, 1e-3]},
+                {"object": "embedding", "index": 0, "embedding": [0.1, 0.2, 0.3]}
+              ],
+              "model": "text-embedding-3-small",
+              "usage": {"prompt_tokens": 4, "total_tokens": 4}
+            }
+            """;
+
+        EmbeddingResponseDecoder decoder = new EmbeddingResponseDecoder(objectMapper.getFactory(), 3);
+        List<float[]> embeddings = decoder.decode(body.getBytes(StandardCharsets.UTF_8), 2);
+
+        assertThat(embeddings).hasSize(2);
+        assertThat(embeddings.get(0)).containsExactly(0.1f, 0.2f, 0.3f);
+        assertThat(embeddings.get(1)).containsExactly(0.5f, -0.25f, 0.001f);
+    }
+
+    @Test
+    @DisplayName("예상 차원과 다른 길이도 정확히 잘라서 반환")
+    void handlesUnexpectedDimensions() throws IOException {
+        String body = "{\"data\":[{\"embedding\":[1,2,3,4,5]}]}";
+
+        EmbeddingResponseDecoder decoder = new EmbeddingResponseDecoder(objectMapper.getFactory(), 2);
+        List<float[]> embeddings = decoder.decode(body.getBytes(StandardCharsets.UTF_8), 1);
+
+        assertThat(embeddings.get(0)).containsExactly(1f, 2f, 3f, 4f, 5f);
+
+        decoder = new EmbeddingResponseDecoder(objectMapper.getFactory(), 1536);
+        embeddings = decoder.decode(body.getBytes(StandardCharsets.UTF_8), 1);
+
+        assertThat(embeddings.get(0)).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("data 배열이 없으면 예외")
+    void failsWithoutData() {
+        String body = "{\"error\":{\"message\":\"invalid\"}}";
+        EmbeddingResponseDecoder decoder = new EmbeddingResponseDecoder(objectMapper.getFactory(), 1536);
+
+        assertThatThrownBy(() -> decoder.decode(body.getBytes(StandardCharsets.UTF_8), 1))
+            .isInstanceOf(IOException.class);
+    }
+}
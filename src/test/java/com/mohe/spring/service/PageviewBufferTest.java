@@ -0,0 +1,57 @@
+package com.mohe.spring.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("페이지뷰 버퍼 테스트")
+class PageviewBufferTest {
+
+    private static PageviewBuffer.Pageview pageview(int i) {
+        return new PageviewBuffer.Pageview("session-" + i, "127.0.0.1", "Mozilla/5.0 (iPhone)",
+            "/places/" + i, null, null, OffsetDateTime.now());
+    }
+
+    @Test
+    @DisplayName("쌓인 페이지뷰를 batch 크기로 나눠 insert")
+    void flushesInBatches() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        List<Integer> batchSizes = new ArrayList<>();
+        when(jdbcTemplate.batchUpdate(anyString(), any(BatchPreparedStatementSetter.class))).thenAnswer(invocation -> {
+            BatchPreparedStatementSetter setter = invocation.getArgument(1);
+            batchSizes.add(setter.getBatchSize());
+            return new int[setter.getBatchSize()];
+        });
+        PageviewBuffer buffer = new PageviewBuffer(jdbcTemplate, 1000, 100);
+
+        for (int i = 0; i < 250; i++) {
+            assertThat(buffer.offer(pageview(i))).isTrue();
+        }
+
+        assertThat(buffer.flush()).isEqualTo(250);
+        assertThat(batchSizes).containsExactly(100, 100, 50);
+        assertThat(buffer.flush()).isZero();
+        assertThat(buffer.getStats()).containsEntry("inserted", 250L).containsEntry("queued", 0);
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 요청을 막지 않고 버림")
+    void dropsWhenFull() {
+        PageviewBuffer buffer = new PageviewBuffer(mock(JdbcTemplate.class), 2, 100);
+
+        assertThat(buffer.offer(pageview(1))).isTrue();
+        assertThat(buffer.offer(pageview(2))).isTrue();
+        assertThat(buffer.offer(pageview(3))).isFalse();
+        assertThat(buffer.getStats()).containsEntry("dropped", 1L).containsEntry("queued", 2);
+    }
+}
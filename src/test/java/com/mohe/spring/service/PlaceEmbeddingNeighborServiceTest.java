@@ -0,0 +1,164 @@
+package com.mohe.spring.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 이웃 사전 계산을 pgvector가 설치된 PostgreSQL에서 실행 (Docker가 없으면 건너뜀)
+ *
+ * <p>3차원 벡터로 방향만 다르게 배치해 코사인 거리 순서를 손으로 계산할 수 있게 했습니다.</p>
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("임베딩 이웃 사전 계산 테스트 (PostgreSQL + pgvector)")
+class PlaceEmbeddingNeighborServiceTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(
+        DockerImageName.parse("pgvector/pgvector:pg16").asCompatibleSubstituteFor("postgres"));
+
+    private static final String SCHEMA = """
+        CREATE EXTENSION IF NOT EXISTS vector;
+        DROP TABLE IF EXISTS place_embedding_neighbors;
+        DROP TABLE IF EXISTS place_description_embeddings;
+        DROP TABLE IF EXISTS places;
+        CREATE TABLE places (
+            id bigint PRIMARY KEY,
+            embed_status varchar(20) NOT NULL
+        );
+        CREATE TABLE place_description_embeddings (
+            id bigserial PRIMARY KEY,
+            place_id bigint NOT NULL UNIQUE REFERENCES places(id) ON DELETE CASCADE,
+            embedding vector(3) NOT NULL,
+            created_at timestamp NOT NULL DEFAULT NOW()
+        );
+        CREATE INDEX ON place_description_embeddings USING hnsw (embedding vector_cosine_ops);
+        CREATE TABLE place_embedding_neighbors (
+            place_id bigint NOT NULL REFERENCES places(id) ON DELETE CASCADE,
+            rank smallint NOT NULL,
+            neighbor_place_id bigint NOT NULL REFERENCES places(id) ON DELETE CASCADE,
+            similarity real NOT NULL,
+            updated_at timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP,
+            PRIMARY KEY (place_id, rank)
+        );
+        """;
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private PlaceEmbeddingNeighborService service;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(postgres.getJdbcUrl());
+        dataSource.setUsername(postgres.getUsername());
+        dataSource.setPassword(postgres.getPassword());
+        dataSource.setMaximumPoolSize(6);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute(SCHEMA);
+
+        // 1 기준으로 2, 3이 가장 가깝지만 아직 COMPLETED가 아님
+        place(1, "COMPLETED", "[1,0,0]");
+        place(2, "PENDING", "[1,0.05,0]");
+        place(3, "FAILED", "[1,0.1,0]");
+        place(4, "COMPLETED", "[1,0.3,0]");
+        place(5, "COMPLETED", "[1,0.6,0]");
+        place(6, "COMPLETED", "[0,1,0]");
+
+        service = new PlaceEmbeddingNeighborService(
+            jdbcTemplate,
+            new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+            new DatabaseAdvisoryLock(jdbcTemplate),
+            2, 2, 2, 2, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    private void place(long id, String status, String embedding) {
+        jdbcTemplate.update("INSERT INTO places (id, embed_status) VALUES (?, ?)", id, status);
+        jdbcTemplate.update("INSERT INTO place_description_embeddings (place_id, embedding) VALUES (?, ?::vector)",
+            id, embedding);
+    }
+
+    private List<Long> storedNeighbors(long placeId) {
+        return jdbcTemplate.queryForList(
+            "SELECT neighbor_place_id FROM place_embedding_neighbors WHERE place_id = ? ORDER BY rank",
+            Long.class, placeId);
+    }
+
+    @Test
+    @DisplayName("전체 계산은 가장 가까운 미완료 장소를 건너뛰고도 COMPLETED 이웃 topK개를 채움")
+    void fillsTopKWithCompletedNeighbors() {
+        service.calculateAll();
+
+        assertThat(storedNeighbors(1)).containsExactly(4L, 5L);
+        assertThat(storedNeighbors(4)).containsExactly(5L, 1L);
+        assertThat(storedNeighbors(6)).hasSize(2);
+        // COMPLETED가 아닌 장소는 목록도 없고 이웃으로도 나오지 않음
+        assertThat(storedNeighbors(2)).isEmpty();
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM place_embedding_neighbors WHERE neighbor_place_id IN (2, 3)", Integer.class)).isZero();
+        assertThat(service.getStats()).containsEntry("lastRunMode", "full").containsEntry("lastRunPlaces", 4);
+    }
+
+    @Test
+    @DisplayName("증분 계산은 새 장소의 목록을 만들고 기존 장소 목록에도 역방향으로 병합")
+    void incrementalRefreshMergesNewPlace() {
+        service.calculateAll();
+        place(7, "COMPLETED", "[1,0.01,0]");
+
+        service.scheduledIncrementalRefresh();
+
+        assertThat(storedNeighbors(7)).containsExactly(1L, 4L);
+        assertThat(storedNeighbors(1)).containsExactly(7L, 4L);
+        assertThat(storedNeighbors(4)).containsExactly(5L, 7L);
+        assertThat(service.getStats()).containsEntry("lastRunMode", "incremental");
+    }
+
+    @Test
+    @DisplayName("조회 시점에 COMPLETED가 아닌 이웃은 제외")
+    void findNeighborIdsSkipsPlacesNoLongerCompleted() {
+        service.calculateAll();
+        jdbcTemplate.update("UPDATE places SET embed_status = 'PENDING' WHERE id = 4");
+
+        assertThat(service.findNeighborIds(1L, 10)).containsExactly(5L);
+        assertThat(service.findNeighborIds(1L, 1)).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 advisory lock을 잡고 있으면 계산하지 않음")
+    void skipsWhileAnotherInstanceHoldsLock() throws Exception {
+        try (Connection other = dataSource.getConnection(); Statement statement = other.createStatement()) {
+            statement.execute("SELECT pg_advisory_lock(hashtext('" + PlaceEmbeddingNeighborService.LOCK_NAME + "'))");
+
+            assertThatThrownBy(service::calculateAll).isInstanceOf(IllegalStateException.class);
+            service.scheduledFullRefresh();
+            assertThat(storedNeighbors(1)).isEmpty();
+
+            statement.execute("SELECT pg_advisory_unlock(hashtext('" + PlaceEmbeddingNeighborService.LOCK_NAME + "'))");
+        }
+
+        service.calculateAll();
+        assertThat(storedNeighbors(1)).containsExactly(4L, 5L);
+        assertThat(service.isRunning()).isFalse();
+    }
+}
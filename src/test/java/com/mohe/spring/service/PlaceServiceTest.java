@@ -0,0 +1,135 @@
+package com.mohe.spring.service;
+
+import com.mohe.spring.config.SpatialQueryProperties;
+import com.mohe.spring.entity.EmbedStatus;
+import com.mohe.spring.entity.Place;
+import com.mohe.spring.repository.BookmarkRepository;
+import com.mohe.spring.repository.PlaceImageRepository;
+import com.mohe.spring.repository.PlaceRepository;
+import com.mohe.spring.service.card.PlaceCardAssembler;
+import com.mohe.spring.service.geo.PlaceGeoIndex;
+import com.mohe.spring.service.hours.PlaceOpenHoursIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("장소 서비스 테스트")
+class PlaceServiceTest {
+
+    private static final double LATITUDE = 37.5665;
+    private static final double LONGITUDE = 126.9780;
+
+    @Mock
+    private PlaceRepository placeRepository;
+
+    @Mock
+    private VectorSearchService vectorSearchService;
+
+    @Mock
+    private BookmarkRepository bookmarkRepository;
+
+    @Mock
+    private LlmService llmService;
+
+    @Mock
+    private PlaceImageRepository placeImageRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private SpatialQueryProperties spatialQueryProperties;
+
+    @Mock
+    private PlaceEmbeddingNeighborService placeEmbeddingNeighborService;
+
+    @Mock
+    private PlaceCardAssembler placeCardAssembler;
+
+    @Mock
+    private PlaceOpenHoursIndex placeOpenHoursIndex;
+
+    private PlaceService placeService;
+
+    @BeforeEach
+    void setUp() {
+        // 1~6번은 약 110m 간격으로 가깝고, 7~9번은 그 바깥 — 모두 반경 3km 안
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = 1; id <= 9; id++) {
+            rows.add(new Object[]{id, LATITUDE + id * 0.001, LONGITUDE, 4.0});
+        }
+        when(placeRepository.findGeoIndexEntries()).thenReturn(rows);
+        PlaceGeoIndex placeGeoIndex = new PlaceGeoIndex(placeRepository, true, 0.01);
+        placeGeoIndex.rebuild();
+
+        placeService = new PlaceService(placeRepository, vectorSearchService, bookmarkRepository, llmService,
+            placeImageRepository, eventPublisher, placeGeoIndex, spatialQueryProperties,
+            placeEmbeddingNeighborService, placeCardAssembler, placeOpenHoursIndex);
+    }
+
+    private static Place place(Long id) {
+        Place place = new Place();
+        place.setId(id);
+        place.setName("place-" + id);
+        place.setEmbedStatus(EmbedStatus.COMPLETED);
+        return place;
+    }
+
+    private static boolean isOpen(Long placeId) {
+        return placeId >= 7;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> nearbyPlaceIds(int limit) {
+        placeService.getNearbyPlaces(LATITUDE, LONGITUDE, 3000.0, limit);
+        ArgumentCaptor<List<Place>> places = ArgumentCaptor.forClass(List.class);
+        verify(placeCardAssembler).toSimplePlaceDtos(places.capture(), eq(LATITUDE), eq(LONGITUDE));
+        return places.getValue().stream().map(Place::getId).toList();
+    }
+
+    @Test
+    @DisplayName("가장 가까운 limit×2개가 모두 영업 종료여도 영업 시간 사본으로 걸러 limit개를 채움")
+    void fillsLimitPastClosedNearestPlacesWithOpenHoursIndex() {
+        when(placeOpenHoursIndex.isReady()).thenReturn(true);
+        when(placeOpenHoursIndex.isOpen(anyLong(), anyInt()))
+            .thenAnswer(invocation -> isOpen(invocation.getArgument(0)));
+        when(placeRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            List<Place> places = new ArrayList<>();
+            invocation.<Iterable<Long>>getArgument(0).forEach(id -> places.add(place(id)));
+            return places;
+        });
+
+        assertThat(nearbyPlaceIds(3)).containsExactly(7L, 8L, 9L);
+        verify(placeRepository).findAllById(List.of(7L, 8L, 9L));
+    }
+
+    @Test
+    @DisplayName("영업 시간 사본이 없으면 limit개가 모일 때까지 후보를 넓혀 SQL로 확인")
+    void widensCandidatesUntilLimitWithoutOpenHoursIndex() {
+        when(placeOpenHoursIndex.isReady()).thenReturn(false);
+        when(placeRepository.findOpenPlacesByIds(anyCollection(), anyInt())).thenAnswer(invocation ->
+            invocation.<Collection<Long>>getArgument(0).stream()
+                .filter(PlaceServiceTest::isOpen)
+                .map(PlaceServiceTest::place)
+                .toList());
+
+        assertThat(nearbyPlaceIds(3)).containsExactly(7L, 8L, 9L);
+        // 이미 확인한 후보는 다시 조회하지 않음
+        verify(placeRepository).findOpenPlacesByIds(eq(List.of(1L, 2L, 3L, 4L, 5L, 6L)), anyInt());
+        verify(placeRepository).findOpenPlacesByIds(eq(List.of(7L, 8L, 9L)), anyInt());
+    }
+}
@@ -0,0 +1,124 @@
+package com.mohe.spring.service;
+
+import com.mohe.spring.entity.KeywordEmbeddingLookup;
+import com.mohe.spring.repository.KeywordEmbeddingLookupRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("쿼리 임베딩 캐시 테스트")
+class QueryEmbeddingCacheTest {
+
+    @Mock
+    private EmbeddingClient embeddingClient;
+
+    @Mock
+    private KeywordEmbeddingLookupRepository keywordEmbeddingLookupRepository;
+
+    @Test
+    @DisplayName("정규화된 동일 쿼리는 OpenAI를 한 번만 호출")
+    void cachesNormalizedQuery() {
+        QueryEmbeddingCache cache = new QueryEmbeddingCache(embeddingClient, keywordEmbeddingLookupRepository, 100, 60, false);
+        float[] vector = {0.1f, 0.2f};
+        when(embeddingClient.getEmbedding("성수동  카페")).thenReturn(vector);
+
+        assertThat(cache.getEmbedding("성수동  카페")).isSameAs(vector);
+        assertThat(cache.getEmbedding("  성수동 카페 ")).isSameAs(vector);
+
+        verify(embeddingClient, times(1)).getEmbedding(anyString());
+        assertThat(cache.getStats()).containsEntry("hits", 1L).containsEntry("misses", 1L);
+    }
+
+    @Test
+    @DisplayName("L2(keyword_embeddings)에 있으면 OpenAI를 호출하지 않음")
+    void usesL2Lookup() {
+        QueryEmbeddingCache cache = new QueryEmbeddingCache(embeddingClient, keywordEmbeddingLookupRepository, 100, 60, true);
+        float[] vector = {0.3f, 0.4f};
+        when(keywordEmbeddingLookupRepository.findByKeyword("데이트"))
+            .thenReturn(Optional.of(new KeywordEmbeddingLookup("데이트", vector)));
+
+        assertThat(cache.getEmbedding("데이트")).containsExactly(vector);
+
+        verifyNoInteractions(embeddingClient);
+        assertThat(cache.getStats()).containsEntry("l2Hits", 1L);
+    }
+
+    @Test
+    @DisplayName("L2 조회가 실패하면 OpenAI로 넘어가고, OpenAI 실패는 캐시하지 않음")
+    void fallsBackFromL2AndDoesNotCacheFailures() {
+        QueryEmbeddingCache cache = new QueryEmbeddingCache(embeddingClient, keywordEmbeddingLookupRepository, 100, 60, true);
+        float[] vector = {0.7f};
+        when(keywordEmbeddingLookupRepository.findByKeyword("야경")).thenThrow(new IllegalStateException("db down"));
+        when(embeddingClient.getEmbedding("야경"))
+            .thenThrow(new EmbeddingClient.EmbeddingServiceException("rate limited"))
+            .thenReturn(vector);
+
+        assertThatThrownBy(() -> cache.getEmbedding("야경")).hasMessage("rate limited");
+        assertThat(cache.getEmbedding("야경")).isSameAs(vector);
+        assertThat(cache.getEmbedding("야경")).isSameAs(vector);
+
+        verify(embeddingClient, times(2)).getEmbedding("야경");
+        assertThat(cache.getStats()).containsEntry("loadFailures", 1L).containsEntry("l2Hits", 0L);
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 가장 오래 사용되지 않은 항목을 제거")
+    void evictsLeastRecentlyUsed() {
+        QueryEmbeddingCache cache = new QueryEmbeddingCache(embeddingClient, keywordEmbeddingLookupRepository, 2, 60, false);
+        when(embeddingClient.getEmbedding(anyString())).thenReturn(new float[]{1f});
+
+        cache.getEmbedding("a");
+        cache.getEmbedding("b");
+        cache.getEmbedding("a");
+        cache.getEmbedding("c");
+        cache.getEmbedding("b");
+
+        verify(embeddingClient, times(2)).getEmbedding("b");
+        verify(embeddingClient, times(1)).getEmbedding("a");
+    }
+
+    @Test
+    @DisplayName("동시 miss는 하나의 호출로 합쳐짐")
+    void coalescesConcurrentMisses() throws Exception {
+        QueryEmbeddingCache cache = new QueryEmbeddingCache(embeddingClient, keywordEmbeddingLookupRepository, 100, 60, false);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        float[] vector = {0.5f};
+        when(embeddingClient.getEmbedding("맛집")).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return vector;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<float[]> first = executor.submit(() -> cache.getEmbedding("맛집"));
+            started.await(5, TimeUnit.SECONDS);
+            Future<float[]> second = executor.submit(() -> cache.getEmbedding("맛집"));
+            Thread.sleep(100);
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(vector);
+            assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(vector);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(embeddingClient, times(1)).getEmbedding("맛집");
+    }
+}
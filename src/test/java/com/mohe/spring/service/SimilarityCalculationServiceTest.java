@@ -0,0 +1,144 @@
+package com.mohe.spring.service;
+
+import com.mohe.spring.repository.PlaceSimilarityRepository;
+import com.mohe.spring.repository.PlaceSimilarityTopKRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 북마크 기반 top-K 증분 계산을 실제 PostgreSQL에서 실행 (Docker가 없으면 건너뜀)
+ *
+ * <p>minCoUsers 1로 사용자 한 명만 공유해도 이웃이 되게 해서, 북마크 삭제로 공유가 끊기는 경우를 재현합니다.</p>
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("장소 유사도 증분 계산 테스트 (PostgreSQL)")
+class SimilarityCalculationServiceTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final String SCHEMA = """
+        DROP TABLE IF EXISTS bookmarks;
+        DROP TABLE IF EXISTS place_similarity_topk;
+        DROP TABLE IF EXISTS place_similarity_topk_off;
+        CREATE TABLE bookmarks (
+            id bigserial PRIMARY KEY,
+            user_id bigint NOT NULL,
+            place_id bigint NOT NULL,
+            created_at timestamp DEFAULT NOW()
+        );
+        CREATE TABLE place_similarity_topk (
+            neighbor_place_id bigint NOT NULL,
+            place_id bigint NOT NULL,
+            co_users integer,
+            cosine_bin numeric(5,4),
+            jaccard numeric(5,4),
+            rank smallint NOT NULL,
+            updated_at timestamp(6),
+            UNIQUE (place_id, rank)
+        );
+        CREATE INDEX idx_place_similarity_topk_neighbor ON place_similarity_topk (neighbor_place_id);
+        """;
+
+    private static final long CAFE = 1L;
+    private static final long BAKERY = 2L;
+    private static final long PARK = 3L;
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private SimilarityCalculationService service;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(postgres.getJdbcUrl());
+        dataSource.setUsername(postgres.getUsername());
+        dataSource.setPassword(postgres.getPassword());
+        dataSource.setMaximumPoolSize(4);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute(SCHEMA);
+
+        service = new SimilarityCalculationService(
+            jdbcTemplate,
+            new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+            mock(PlaceSimilarityRepository.class),
+            mock(PlaceSimilarityTopKRepository.class),
+            Runnable::run,
+            20, 0.6, 0.4, 1, 1000, 500, 2);
+
+        // 사용자 1: 카페 + 빵집, 사용자 2: 빵집 + 공원
+        bookmark(1L, CAFE);
+        bookmark(1L, BAKERY);
+        bookmark(2L, BAKERY);
+        bookmark(2L, PARK);
+        service.calculateSimilarities();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    private void bookmark(long userId, long placeId) {
+        jdbcTemplate.update("INSERT INTO bookmarks (user_id, place_id) VALUES (?, ?)", userId, placeId);
+    }
+
+    private void unbookmark(long userId, long placeId) {
+        jdbcTemplate.update("DELETE FROM bookmarks WHERE user_id = ? AND place_id = ?", userId, placeId);
+        service.refreshTopKSimilarities(placeId);
+    }
+
+    private List<Long> neighbors(long placeId) {
+        return jdbcTemplate.queryForList(
+            "SELECT neighbor_place_id FROM place_similarity_topk WHERE place_id = ? ORDER BY rank", Long.class, placeId);
+    }
+
+    @Test
+    @DisplayName("북마크 삭제로 공유 사용자가 사라지면 상대 장소의 top-K에서도 빠짐")
+    void unbookmarkRemovesStaleNeighborFromOtherPlaces() {
+        assertThat(neighbors(CAFE)).containsExactly(BAKERY);
+        assertThat(neighbors(BAKERY)).containsExactlyInAnyOrder(CAFE, PARK);
+
+        // 빵집은 사용자 2의 북마크가 남아 있어 엔진에 있지만, 카페와 공유하던 사용자는 사라짐
+        unbookmark(1L, BAKERY);
+        service.scheduledIncrementalRefresh();
+
+        assertThat(neighbors(CAFE)).isEmpty();
+        assertThat(neighbors(BAKERY)).containsExactly(PARK);
+        assertThat(neighbors(PARK)).containsExactly(BAKERY);
+        assertThat(service.getStatus()).contains("0 places pending");
+    }
+
+    @Test
+    @DisplayName("재계산이 실패하면 dirty 표시를 남겨 다음 실행에서 다시 처리")
+    void keepsDirtyPlacesWhenRefreshFails() {
+        unbookmark(1L, BAKERY);
+
+        jdbcTemplate.execute("ALTER TABLE place_similarity_topk RENAME TO place_similarity_topk_off");
+        service.scheduledIncrementalRefresh();
+        jdbcTemplate.execute("ALTER TABLE place_similarity_topk_off RENAME TO place_similarity_topk");
+
+        assertThat(service.getStatus()).contains("1 places pending");
+        assertThat(neighbors(CAFE)).containsExactly(BAKERY);
+
+        service.scheduledIncrementalRefresh();
+
+        assertThat(service.getStatus()).contains("0 places pending");
+        assertThat(neighbors(CAFE)).isEmpty();
+        assertThat(neighbors(BAKERY)).containsExactly(PARK);
+    }
+}
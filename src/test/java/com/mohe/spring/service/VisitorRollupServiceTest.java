@@ -0,0 +1,284 @@
+package com.mohe.spring.service;
+
+import com.mohe.spring.util.HyperLogLog;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * visitor_logs 증분 집계를 실제 PostgreSQL에서 실행 (Docker가 없으면 건너뜀)
+ *
+ * <p>batchSize 2로 한 번의 실행이 여러 batch 트랜잭션으로 나뉘게 해서,
+ * batch 사이·실행 사이에 저장된 스케치가 병합되는지 확인합니다.
+ * 로그는 과거 날짜로 넣어 settle lag(1분)을 이미 지난 행으로 다룹니다.</p>
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("방문자 증분 집계 테스트 (PostgreSQL)")
+class VisitorRollupServiceTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final String SCHEMA = """
+        DROP TABLE IF EXISTS visitor_logs;
+        DROP TABLE IF EXISTS visitor_rollups;
+        DROP TABLE IF EXISTS visitor_rollup_dimensions;
+        DROP TABLE IF EXISTS visitor_rollup_state;
+        CREATE TABLE visitor_logs (
+            id bigserial PRIMARY KEY,
+            session_id varchar(255),
+            device_type varchar(20),
+            os varchar(50),
+            browser varchar(50),
+            page_path varchar(500),
+            created_at timestamptz DEFAULT NOW()
+        );
+        CREATE TABLE visitor_rollups (
+            granularity varchar(8) NOT NULL,
+            bucket_start timestamptz NOT NULL,
+            pageviews bigint NOT NULL DEFAULT 0,
+            visitors_hll bytea NOT NULL,
+            updated_at timestamptz NOT NULL DEFAULT NOW(),
+            PRIMARY KEY (granularity, bucket_start)
+        );
+        CREATE TABLE visitor_rollup_dimensions (
+            granularity varchar(8) NOT NULL,
+            bucket_start timestamptz NOT NULL,
+            dimension varchar(16) NOT NULL,
+            value varchar(500) NOT NULL,
+            pageviews bigint NOT NULL DEFAULT 0,
+            PRIMARY KEY (granularity, bucket_start, dimension, value)
+        );
+        CREATE TABLE visitor_rollup_state (
+            id smallint PRIMARY KEY,
+            last_log_id bigint NOT NULL DEFAULT 0,
+            updated_at timestamptz NOT NULL DEFAULT NOW()
+        );
+        INSERT INTO visitor_rollup_state (id, last_log_id) VALUES (1, 0);
+        """;
+
+    /** JVM 기본 시간대의 하루 시작 — 서비스의 버킷 경계와 같은 기준 */
+    private static final OffsetDateTime DAY_START =
+        LocalDate.of(2024, 10, 1).atStartOfDay(ZoneId.systemDefault()).toOffsetDateTime();
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private VisitorRollupService service;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(postgres.getJdbcUrl());
+        dataSource.setUsername(postgres.getUsername());
+        dataSource.setPassword(postgres.getPassword());
+        dataSource.setMaximumPoolSize(4);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute(SCHEMA);
+
+        service = new VisitorRollupService(
+            jdbcTemplate,
+            new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+            new DatabaseAdvisoryLock(jdbcTemplate),
+            2, 50, 60_000, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    private void log(String sessionId, int hour, String device) {
+        jdbcTemplate.update("""
+            INSERT INTO visitor_logs (session_id, device_type, os, browser, page_path, created_at)
+            VALUES (?, ?, 'iOS', 'Safari', '/home', ?)
+            """, sessionId, device, DAY_START.plusHours(hour).plusMinutes(10));
+    }
+
+    private void logNow(Connection connection, String sessionId) throws Exception {
+        try (PreparedStatement statement = connection.prepareStatement("""
+                INSERT INTO visitor_logs (session_id, device_type, os, browser, page_path)
+                VALUES (?, 'mobile', 'iOS', 'Safari', '/home')
+                """)) {
+            statement.setString(1, sessionId);
+            statement.executeUpdate();
+        }
+    }
+
+    private long watermark() {
+        return jdbcTemplate.queryForObject("SELECT last_log_id FROM visitor_rollup_state WHERE id = 1", Long.class);
+    }
+
+    private long maxLogId() {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM visitor_logs", Long.class);
+    }
+
+    private VisitorRollupService.Bucket bucket(String granularity, OffsetDateTime start) {
+        List<VisitorRollupService.Bucket> buckets = service.findBuckets(granularity, start);
+        assertThat(buckets).isNotEmpty();
+        VisitorRollupService.Bucket bucket = buckets.get(0);
+        assertThat(bucket.bucketStart().toInstant()).isEqualTo(start.toInstant());
+        return bucket;
+    }
+
+    private long devicePageviews(String device) {
+        return jdbcTemplate.queryForObject("""
+            SELECT pageviews FROM visitor_rollup_dimensions
+            WHERE granularity = 'DAY' AND bucket_start = ? AND dimension = 'device' AND value = ?
+            """, Long.class, DAY_START, device);
+    }
+
+    @Test
+    @DisplayName("두 번째 실행은 워터마크 이후 행만 더하고, 저장된 스케치와 병합해 고유 방문자를 셈")
+    void rollsUpIncrementally() {
+        log("a", 10, "mobile");
+        log("b", 10, "mobile");
+        log("a", 10, "desktop");
+
+        assertThat(service.rollup()).isEqualTo(3);
+        assertThat(watermark()).isEqualTo(maxLogId());
+        assertThat(bucket(VisitorRollupService.HOUR, DAY_START.plusHours(10)).pageviews()).isEqualTo(3);
+        assertThat(bucket(VisitorRollupService.HOUR, DAY_START.plusHours(10)).visitors().estimate()).isEqualTo(2);
+
+        log("a", 10, "mobile");
+        log("c", 10, "mobile");
+
+        assertThat(service.rollup()).isEqualTo(2);
+        assertThat(service.rollup()).isZero();
+        assertThat(watermark()).isEqualTo(maxLogId());
+
+        VisitorRollupService.Bucket hour = bucket(VisitorRollupService.HOUR, DAY_START.plusHours(10));
+        assertThat(hour.pageviews()).isEqualTo(5);
+        assertThat(hour.visitors().estimate()).isEqualTo(3);
+        assertThat(bucket(VisitorRollupService.DAY, DAY_START).pageviews()).isEqualTo(5);
+        assertThat(devicePageviews("mobile")).isEqualTo(4);
+        assertThat(devicePageviews("desktop")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 시간·다른 batch에 나온 같은 세션은 일 스케치에서 한 명")
+    void mergesSketchesAcrossBucketsAndBatches() {
+        log("a", 9, "mobile");
+        log("b", 9, "mobile");
+        log("a", 11, "mobile");
+        log("a", 23, "mobile");
+
+        assertThat(service.rollup()).isEqualTo(4);
+
+        assertThat(bucket(VisitorRollupService.HOUR, DAY_START.plusHours(9)).visitors().estimate()).isEqualTo(2);
+        assertThat(bucket(VisitorRollupService.HOUR, DAY_START.plusHours(11)).visitors().estimate()).isEqualTo(1);
+        assertThat(bucket(VisitorRollupService.HOUR, DAY_START.plusHours(23)).visitors().estimate()).isEqualTo(1);
+        VisitorRollupService.Bucket day = bucket(VisitorRollupService.DAY, DAY_START);
+        assertThat(day.pageviews()).isEqualTo(4);
+        assertThat(day.visitors().estimate()).isEqualTo(2);
+
+        // 시간 스케치를 병합해도 같은 결과 (주/월 추정과 같은 방식)
+        HyperLogLog merged = new HyperLogLog();
+        service.findBuckets(VisitorRollupService.HOUR, DAY_START).forEach(b -> merged.merge(b.visitors()));
+        assertThat(merged.estimate()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("batch가 실패하면 집계 행과 워터마크가 함께 롤백되고, 다음 실행에서 중복 없이 다시 집계")
+    void failedBatchRollsBackWatermarkWithRollups() {
+        log("a", 10, "mobile");
+        log("b", 10, "mobile");
+        log("c", 10, "mobile");
+        assertThat(service.rollup()).isEqualTo(3);
+        long before = watermark();
+
+        log("d", 10, "mobile");
+        log("e", 10, "mobile");
+        // visitor_rollups 쓰기 이후 단계에서 실패하도록 차원 테이블을 잠시 치움
+        jdbcTemplate.execute("ALTER TABLE visitor_rollup_dimensions RENAME TO visitor_rollup_dimensions_off");
+
+        assertThatThrownBy(service::rollup).isInstanceOf(RuntimeException.class);
+        assertThat(watermark()).isEqualTo(before);
+        assertThat(bucket(VisitorRollupService.HOUR, DAY_START.plusHours(10)).pageviews()).isEqualTo(3);
+
+        jdbcTemplate.execute("ALTER TABLE visitor_rollup_dimensions_off RENAME TO visitor_rollup_dimensions");
+
+        assertThat(service.rollup()).isEqualTo(2);
+        assertThat(watermark()).isEqualTo(maxLogId());
+        VisitorRollupService.Bucket hour = bucket(VisitorRollupService.HOUR, DAY_START.plusHours(10));
+        assertThat(hour.pageviews()).isEqualTo(5);
+        assertThat(hour.visitors().estimate()).isEqualTo(5);
+        assertThat(devicePageviews("mobile")).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 advisory lock을 잡고 있으면 집계하지 않음")
+    void skipsWhileAnotherInstanceHoldsLock() throws Exception {
+        log("a", 10, "mobile");
+
+        try (Connection other = dataSource.getConnection(); Statement statement = other.createStatement()) {
+            statement.execute("SELECT pg_advisory_lock(hashtext('" + VisitorRollupService.LOCK_NAME + "'))");
+
+            assertThat(service.rollup()).isZero();
+            assertThat(watermark()).isZero();
+
+            statement.execute("SELECT pg_advisory_unlock(hashtext('" + VisitorRollupService.LOCK_NAME + "'))");
+        }
+
+        assertThat(service.rollup()).isEqualTo(1);
+        assertThat(watermark()).isEqualTo(maxLogId());
+    }
+
+    @Test
+    @DisplayName("작은 id가 늦게 커밋돼도 settle lag이 지나기 전엔 뒤 id를 집계하지 않아 건너뛰지 않음")
+    void waitsForOutOfOrderCommitsBeforeAdvancingWatermark() throws Exception {
+        try (Connection slow = dataSource.getConnection(); Connection fast = dataSource.getConnection()) {
+            // 인스턴스 A의 flush가 id를 먼저 받고 늦게 커밋, 인스턴스 B의 flush는 뒤 id로 먼저 커밋
+            slow.setAutoCommit(false);
+            logNow(slow, "late");
+            logNow(fast, "early");
+
+            assertThat(service.rollup()).isZero();
+            assertThat(watermark()).isZero();
+
+            slow.commit();
+        }
+
+        // lag이 지난 것처럼 시각을 당긴 뒤엔 두 행 모두 집계
+        jdbcTemplate.update("UPDATE visitor_logs SET created_at = created_at - INTERVAL '10 minutes'");
+        assertThat(service.rollup()).isEqualTo(2);
+        assertThat(watermark()).isEqualTo(maxLogId());
+    }
+
+    @Test
+    @DisplayName("id 순으로 처음 나온 최근 행 앞에서 멈추고, 그 뒤의 오래된 행은 다음 실행에서 집계")
+    void stopsAtFirstUnsettledRow() throws Exception {
+        log("a", 10, "mobile");
+        try (Connection connection = dataSource.getConnection()) {
+            logNow(connection, "recent");
+        }
+        log("b", 10, "mobile");
+
+        assertThat(service.rollup()).isEqualTo(1);
+        assertThat(watermark()).isEqualTo(maxLogId() - 2);
+
+        jdbcTemplate.update("UPDATE visitor_logs SET created_at = ? WHERE session_id = 'recent'",
+            DAY_START.plusHours(10).plusMinutes(20));
+        assertThat(service.rollup()).isEqualTo(2);
+        assertThat(watermark()).isEqualTo(maxLogId());
+        assertThat(bucket(VisitorRollupService.HOUR, DAY_START.plusHours(10)).pageviews()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,135 @@
+package com.mohe.spring.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("격자 단위 날씨 캐시 테스트")
+class WeatherGridCacheTest {
+
+    private static WeatherData weather(double tempC) {
+        return new WeatherData(tempC, tempC * 9 / 5 + 32, "clear", "맑음", 50, 3.0, "afternoon");
+    }
+
+    @Test
+    @DisplayName("같은 기상청 격자 안의 서로 다른 좌표는 캐시를 공유")
+    void sharesEntryWithinGridCell() {
+        AtomicInteger loads = new AtomicInteger();
+        WeatherGridCache cache = new WeatherGridCache((lat, lon) -> {
+            loads.incrementAndGet();
+            return weather(20.0);
+        }, Runnable::run, 100, 600_000, 0.8, 0);
+
+        // 성수역 주변 수백 m 차이
+        cache.get(37.5446, 127.0557);
+        cache.get(37.5441, 127.0562);
+
+        assertThat(WeatherGridCache.keyOf(37.5446, 127.0557)).isEqualTo(WeatherGridCache.keyOf(37.5441, 127.0562));
+        assertThat(loads).hasValue(1);
+        assertThat(cache.getStats()).containsEntry("hits", 1L).containsEntry("misses", 1L);
+    }
+
+    @Test
+    @DisplayName("같은 격자의 동시 miss는 외부 API를 한 번만 호출")
+    void coalescesConcurrentMisses() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        WeatherGridCache cache = new WeatherGridCache((lat, lon) -> {
+            loads.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return weather(18.0);
+        }, Runnable::run, 100, 600_000, 0.8, 0);
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<WeatherData>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(pool.submit(() -> cache.get(33.4996, 126.5312)));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<WeatherData> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS).getTempC()).isEqualTo(18.0);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("refresh-ahead 구간에서는 기존 값을 반환하고 백그라운드에서 갱신")
+    void refreshesAheadOfExpiry() {
+        AtomicInteger loads = new AtomicInteger();
+        List<Runnable> scheduled = new ArrayList<>();
+        WeatherGridCache cache = new WeatherGridCache((lat, lon) -> weather(loads.incrementAndGet()),
+            scheduled::add, 100, 600_000, 0.0, 0);
+
+        assertThat(cache.get(37.5665, 126.9780).getTempC()).isEqualTo(1.0);
+        assertThat(cache.get(37.5665, 126.9780).getTempC()).isEqualTo(1.0);
+        assertThat(scheduled).hasSize(1);
+
+        scheduled.forEach(Runnable::run);
+        assertThat(cache.get(37.5665, 126.9780).getTempC()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("warm set 갱신은 비어 있는 격자만 백그라운드로 채우고 신선한 격자는 건너뜀")
+    void warmsMissingCellsOnly() {
+        AtomicInteger loads = new AtomicInteger();
+        List<Runnable> scheduled = new ArrayList<>();
+        WeatherGridCache cache = new WeatherGridCache((lat, lon) -> weather(loads.incrementAndGet()),
+            scheduled::add, 100, 600_000, 0.8, 0);
+
+        cache.refreshIfStale(37.5446, 127.0557);
+        cache.refreshIfStale(37.5441, 127.0562);
+        assertThat(scheduled).hasSize(1);
+        scheduled.forEach(Runnable::run);
+        scheduled.clear();
+
+        cache.refreshIfStale(37.5446, 127.0557);
+        assertThat(scheduled).isEmpty();
+        assertThat(cache.get(37.5441, 127.0562).getTempC()).isEqualTo(1.0);
+        assertThat(loads).hasValue(1);
+        assertThat(cache.getStats()).containsEntry("refreshes", 1L).containsEntry("hits", 1L);
+    }
+
+    @Test
+    @DisplayName("갱신 실패 시 stale 허용 구간 안이면 이전 값을 반환")
+    void servesStaleOnFailure() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        WeatherGridCache cache = new WeatherGridCache((lat, lon) -> {
+            if (loads.incrementAndGet() > 1) {
+                throw new RuntimeException("KMA down");
+            }
+            return weather(22.0);
+        }, task -> { }, 100, 1, 1.0, 60_000);
+
+        cache.get(37.3223, 127.0978);
+        Thread.sleep(5);
+
+        assertThat(cache.get(37.3223, 127.0978).getTempC()).isEqualTo(22.0);
+        assertThat(cache.getStats()).containsEntry("staleServed", 1L);
+
+        WeatherGridCache noGrace = new WeatherGridCache((lat, lon) -> {
+            throw new RuntimeException("KMA down");
+        }, Runnable::run, 100, 1, 1.0, 0);
+        assertThatThrownBy(() -> noGrace.get(37.3223, 127.0978)).hasMessage("KMA down");
+    }
+}
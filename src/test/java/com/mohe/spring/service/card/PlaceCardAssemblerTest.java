@@ -0,0 +1,150 @@
+package com.mohe.spring.service.card;
+
+import com.mohe.spring.dto.SimplePlaceDto;
+import com.mohe.spring.entity.Place;
+import com.mohe.spring.repository.PlaceBusinessHourRepository;
+import com.mohe.spring.repository.PlaceDescriptionRepository;
+import com.mohe.spring.repository.PlaceImageRepository;
+import com.mohe.spring.service.image.ImageVariantService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@DisplayName("장소 카드 일괄 조립 테스트")
+class PlaceCardAssemblerTest {
+
+    private PlaceImageRepository placeImageRepository;
+    private PlaceDescriptionRepository placeDescriptionRepository;
+    private PlaceBusinessHourRepository placeBusinessHourRepository;
+    private PlaceCardAssembler assembler;
+
+    @BeforeEach
+    void setUp() {
+        placeImageRepository = mock(PlaceImageRepository.class);
+        placeDescriptionRepository = mock(PlaceDescriptionRepository.class);
+        placeBusinessHourRepository = mock(PlaceBusinessHourRepository.class);
+        ImageVariantService imageVariantService = mock(ImageVariantService.class);
+        when(imageVariantService.bucketFor(600)).thenReturn(640);
+        assembler = new PlaceCardAssembler(placeImageRepository, placeDescriptionRepository, placeBusinessHourRepository,
+            imageVariantService, 600);
+    }
+
+    private static Place place(long id) {
+        Place place = mock(Place.class);
+        when(place.getId()).thenReturn(id);
+        when(place.getName()).thenReturn("장소 " + id);
+        when(place.getCategory()).thenReturn(List.of("카페"));
+        when(place.getRating()).thenReturn(new BigDecimal("4.5"));
+        when(place.getRoadAddress()).thenReturn("서울특별시 성동구 성수동 " + id);
+        when(place.getLatitude()).thenReturn(new BigDecimal("37.5446"));
+        when(place.getLongitude()).thenReturn(new BigDecimal("127.0557"));
+        return place;
+    }
+
+    @Test
+    @DisplayName("카드 20개를 조립해도 쿼리는 3회, 엔티티 컬렉션은 건드리지 않음")
+    void assemblesListWithConstantQueries() {
+        List<Place> places = new ArrayList<>();
+        List<Object[]> imageRows = new ArrayList<>();
+        List<Object[]> descriptionRows = new ArrayList<>();
+        List<Object[]> hourRows = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            places.add(place(id));
+            imageRows.add(new Object[]{id, "https://img/" + id + "/1.jpg"});
+            imageRows.add(new Object[]{id, "https://img/" + id + "/2.jpg"});
+            descriptionRows.add(new Object[]{id, "설명 " + id});
+            hourRows.add(new Object[]{id, "월", LocalTime.of(9, 0), LocalTime.of(21, 30), null, true, 30});
+        }
+        when(placeImageRepository.findUrlsByPlaceIds(anyCollection())).thenReturn(imageRows);
+        when(placeDescriptionRepository.findFirstMoheDescriptionsByPlaceIds(anyCollection())).thenReturn(descriptionRows);
+        when(placeBusinessHourRepository.findCardRowsByPlaceIds(anyCollection())).thenReturn(hourRows);
+
+        List<SimplePlaceDto> cards = assembler.toSimplePlaceDtos(places, 37.5446, 127.0557);
+
+        assertThat(cards).hasSize(20);
+        assertThat(cards).extracting(SimplePlaceDto::getId).startsWith("1", "2", "3").endsWith("20");
+
+        SimplePlaceDto first = cards.get(0);
+        assertThat(first.getImageUrl()).isEqualTo("https://img/1/1.jpg");
+        assertThat(first.getImages()).containsExactly("https://img/1/1.jpg", "https://img/1/2.jpg");
+        assertThat(first.getDescription()).isEqualTo("설명 1");
+        assertThat(first.getShortAddress()).isEqualTo("성동구 성수동");
+        assertThat(first.getDistance()).isEqualTo(0.0);
+        assertThat(first.getBusinessHours()).singleElement().satisfies(hour -> {
+            assertThat(hour.getOpen()).isEqualTo("09:00");
+            assertThat(hour.getClose()).isEqualTo("21:30");
+        });
+
+        verify(placeImageRepository, times(1)).findUrlsByPlaceIds(anyCollection());
+        verify(placeDescriptionRepository, times(1)).findFirstMoheDescriptionsByPlaceIds(anyCollection());
+        verify(placeBusinessHourRepository, times(1)).findCardRowsByPlaceIds(anyCollection());
+        verifyNoMoreInteractions(placeImageRepository, placeDescriptionRepository, placeBusinessHourRepository);
+
+        for (Place place : places) {
+            verify(place, never()).getImages();
+            verify(place, never()).getDescriptions();
+            verify(place, never()).getBusinessHours();
+            verify(place, never()).getReviews();
+        }
+    }
+
+    @Test
+    @DisplayName("빈 목록은 쿼리를 실행하지 않음")
+    void emptyListRunsNoQueries() {
+        assertThat(assembler.toSimplePlaceDtos(List.of(), null, null)).isEmpty();
+        assertThat(assembler.primaryImageUrls(List.of())).isEmpty();
+
+        verifyNoInteractions(placeImageRepository, placeDescriptionRepository, placeBusinessHourRepository);
+    }
+
+    @Test
+    @DisplayName("이미지·설명·영업시간이 없는 장소도 카드로 변환")
+    void placeWithoutDetailsStillRenders() {
+        Place place = place(7L);
+        when(place.getCategory()).thenReturn(List.of());
+        when(place.getRating()).thenReturn(null);
+
+        SimplePlaceDto card = assembler.toSimplePlaceDto(place, null, null);
+
+        assertThat(card.getCategory()).isEqualTo("기타");
+        assertThat(card.getRating()).isEqualTo(4.0);
+        assertThat(card.getImageUrl()).isNull();
+        assertThat(card.getImages()).isEmpty();
+        assertThat(card.getDescription()).isNull();
+        assertThat(card.getDistance()).isNull();
+    }
+
+    @Test
+    @DisplayName("목록 카드의 로컬 이미지 URL에는 카드 너비 버킷을 붙이고, 외부 URL과 상세 화면은 원본 URL")
+    void appendsCardWidthToLocalImages() {
+        Place place = place(3L);
+        List<Object[]> imageRows = List.of(
+            new Object[]{3L, "/images/store/03/3/9a1c0e2b7d4f5a61.jpg"},
+            new Object[]{3L, "https://ldb-phinf.pstatic.net/3/2.jpg"},
+            new Object[]{3L, "/images/3_cafe_3.jpeg?v=2"});
+        when(placeImageRepository.findUrlsByPlaceIds(anyCollection())).thenReturn(imageRows);
+        when(placeImageRepository.findFirstImagesByPlaceIds(anyList())).thenReturn(imageRows.subList(0, 1));
+
+        SimplePlaceDto card = assembler.toSimplePlaceDtos(List.of(place), null, null).get(0);
+        assertThat(card.getImageUrl()).isEqualTo("/images/store/03/3/9a1c0e2b7d4f5a61.jpg?w=640");
+        assertThat(card.getImages()).containsExactly(
+            "/images/store/03/3/9a1c0e2b7d4f5a61.jpg?w=640",
+            "https://ldb-phinf.pstatic.net/3/2.jpg",
+            "/images/3_cafe_3.jpeg?v=2");
+        assertThat(assembler.primaryImageUrls(List.of(3L)))
+            .containsEntry(3L, "/images/store/03/3/9a1c0e2b7d4f5a61.jpg?w=640");
+
+        assertThat(assembler.toSimplePlaceDto(place, null, null).getImageUrl())
+            .isEqualTo("/images/store/03/3/9a1c0e2b7d4f5a61.jpg");
+    }
+}
@@ -0,0 +1,152 @@
+package com.mohe.spring.service.embedding;
+
+import com.mohe.spring.dto.embedding.FloatEmbeddingResponse;
+import com.mohe.spring.entity.KeywordEmbeddingLookup;
+import com.mohe.spring.repository.KeywordEmbeddingLookupRepository;
+import com.mohe.spring.repository.PlaceDescriptionEmbeddingRepository;
+import com.mohe.spring.service.EmbeddingClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@DisplayName("장소 임베딩 파이프라인 테스트")
+class PlaceEmbeddingPipelineTest {
+
+    private EmbeddingClient embeddingClient;
+    private KeywordEmbeddingLookupRepository lookupRepository;
+    private PlaceDescriptionEmbeddingRepository descEmbeddingRepository;
+    private JdbcTemplate jdbcTemplate;
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger maxActive = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        embeddingClient = mock(EmbeddingClient.class);
+        lookupRepository = mock(KeywordEmbeddingLookupRepository.class);
+        descEmbeddingRepository = mock(PlaceDescriptionEmbeddingRepository.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+
+        // 지연이 있는 임베딩 서버 스텁: 입력마다 1.0으로 채운 벡터 반환, 동시 요청 수 기록
+        when(embeddingClient.getFloatEmbeddings(anyList())).thenAnswer(invocation -> {
+            List<String> texts = invocation.getArgument(0);
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } finally {
+                active.decrementAndGet();
+            }
+            List<float[]> vectors = new ArrayList<>();
+            for (int i = 0; i < texts.size(); i++) {
+                vectors.add(new float[]{1.0f, 0.5f});
+            }
+            return new FloatEmbeddingResponse(vectors);
+        });
+        when(descEmbeddingRepository.findPlaceIdsByPlaceIdIn(anyCollection())).thenReturn(List.of());
+    }
+
+    private PlaceEmbeddingPipeline pipeline(int maxInputsPerRequest, int maxConcurrentRequests) {
+        return new PlaceEmbeddingPipeline(embeddingClient, lookupRepository, descEmbeddingRepository, jdbcTemplate,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)), maxInputsPerRequest, maxConcurrentRequests);
+    }
+
+    private static List<PlaceEmbeddingPipeline.PlaceInput> places(int count) {
+        List<PlaceEmbeddingPipeline.PlaceInput> inputs = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            List<String> keywords = new ArrayList<>();
+            for (int k = 0; k < 9; k++) {
+                keywords.add("키워드" + ((id * 7 + k) % 300));
+            }
+            inputs.add(new PlaceEmbeddingPipeline.PlaceInput(id, keywords, "설명 " + id));
+        }
+        return inputs;
+    }
+
+    @Test
+    @DisplayName("chunk 전체 키워드를 중복 제거해 최대 크기 요청으로 묶고 동시 요청 수를 제한")
+    void coalescesKeywordsAcrossPlaces() {
+        List<KeywordEmbeddingLookup> cached = new ArrayList<>();
+        for (int k = 0; k < 50; k++) {
+            cached.add(new KeywordEmbeddingLookup("키워드" + k, new float[]{0.1f, 0.2f}));
+        }
+        when(lookupRepository.findByKeywordIn(anyList())).thenReturn(cached);
+
+        // 장소 200개 × 키워드 9개 → 서로 다른 키워드 300개 중 50개 캐시, 미캐시 250 + 설명 200 = 450 입력
+        PlaceEmbeddingPipeline.Result result = pipeline(100, 2).embed(places(200));
+
+        // 장소당 1회(200회) 대신 ceil(450 / 100) = 5회
+        verify(embeddingClient, times(5)).getFloatEmbeddings(anyList());
+        verify(lookupRepository, times(1)).findByKeywordIn(anyList());
+        assertThat(maxActive.get()).isLessThanOrEqualTo(2);
+
+        assertThat(result.apiRequests()).isEqualTo(5);
+        assertThat(result.cacheHits()).isEqualTo(50);
+        assertThat(result.newKeywords()).isEqualTo(250);
+        assertThat(result.keywordCounts()).hasSize(200).allSatisfy((placeId, count) -> assertThat(count).isEqualTo(9));
+        assertThat(result.descriptionPlaceIds()).hasSize(200);
+
+        // 1800 place_keyword 행 → 500행씩 multi-row INSERT 4회
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, atLeastOnce()).update(sql.capture(), any(PreparedStatementSetter.class));
+        assertThat(sql.getAllValues()).filteredOn(s -> s.startsWith("INSERT INTO place_keyword_embeddings")).hasSize(4);
+        assertThat(sql.getAllValues()).filteredOn(s -> s.startsWith("INSERT INTO keyword_embeddings")).hasSize(1);
+        assertThat(sql.getAllValues()).filteredOn(s -> s.startsWith("DELETE FROM place_keyword_embeddings")).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("캐시와 기존 문장 임베딩으로 모두 해결되면 API를 호출하지 않음")
+    void skipsApiWhenEverythingCached() {
+        List<KeywordEmbeddingLookup> cached = new ArrayList<>();
+        for (int k = 0; k < 300; k++) {
+            cached.add(new KeywordEmbeddingLookup("키워드" + k, new float[]{0.1f, 0.2f}));
+        }
+        when(lookupRepository.findByKeywordIn(anyList())).thenReturn(cached);
+        when(descEmbeddingRepository.findPlaceIdsByPlaceIdIn(anyCollection())).thenReturn(List.of(1L, 2L, 3L));
+
+        PlaceEmbeddingPipeline.Result result = pipeline(100, 2).embed(places(3));
+
+        verifyNoInteractions(embeddingClient);
+        assertThat(result.apiRequests()).isZero();
+        assertThat(result.keywordCounts()).containsOnlyKeys(1L, 2L, 3L);
+        assertThat(result.descriptionPlaceIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("실패한 요청의 입력만 빠지고 나머지 결과는 저장")
+    void failedRequestDoesNotDropOtherResults() {
+        when(lookupRepository.findByKeywordIn(anyList())).thenReturn(List.of());
+        AtomicInteger calls = new AtomicInteger();
+        when(embeddingClient.getFloatEmbeddings(anyList())).thenAnswer(invocation -> {
+            List<String> texts = invocation.getArgument(0);
+            if (calls.incrementAndGet() == 1) {
+                throw new EmbeddingClient.EmbeddingServiceException("rate limited");
+            }
+            return new FloatEmbeddingResponse(texts.stream().map(t -> new float[]{1.0f}).toList());
+        });
+
+        List<PlaceEmbeddingPipeline.PlaceInput> inputs = List.of(
+            new PlaceEmbeddingPipeline.PlaceInput(1L, List.of("a", "b"), null),
+            new PlaceEmbeddingPipeline.PlaceInput(2L, List.of("c", "d"), null)
+        );
+        PlaceEmbeddingPipeline.Result result = pipeline(2, 1).embed(inputs);
+
+        assertThat(result.apiRequests()).isEqualTo(2);
+        assertThat(result.failedRequests()).isEqualTo(1);
+        assertThat(result.keywordCounts()).containsOnlyKeys(2L).containsEntry(2L, 2);
+    }
+}
@@ -0,0 +1,113 @@
+package com.mohe.spring.service.geo;
+
+import com.mohe.spring.repository.PlaceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("장소 geo index 테스트")
+class PlaceGeoIndexTest {
+
+    @Mock
+    private PlaceRepository placeRepository;
+
+    private PlaceGeoIndex placeGeoIndex;
+
+    @BeforeEach
+    void setUp() {
+        placeGeoIndex = new PlaceGeoIndex(placeRepository, true, 0.01);
+    }
+
+    @Test
+    @DisplayName("로드 전에는 준비되지 않은 상태")
+    void notReadyBeforeRebuild() {
+        assertThat(placeGeoIndex.isReady()).isFalse();
+        assertThat(placeGeoIndex.findNearest(37.5, 127.0, 5, 10.0, Double.NaN)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("반경 조회는 거리순으로 반경 내 장소만 반환")
+    void findWithinRadius() {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{1L, 37.5665, 126.9780, 4.5});   // 서울시청
+        rows.add(new Object[]{2L, 37.5700, 126.9820, 4.0});   // 약 0.5km
+        rows.add(new Object[]{3L, 37.4979, 127.0276, 4.2});   // 강남역 약 8.8km
+        rows.add(new Object[]{4L, 35.1796, 129.0756, 4.8});   // 부산
+        when(placeRepository.findGeoIndexEntries()).thenReturn(rows);
+
+        placeGeoIndex.rebuild();
+
+        assertThat(placeGeoIndex.isReady()).isTrue();
+        assertThat(placeGeoIndex.size()).isEqualTo(4);
+
+        List<PlaceGeoIndex.Hit> hits = placeGeoIndex.findWithinRadius(37.5665, 126.9780, 10.0, Double.NaN, 10);
+        assertThat(hits).extracting(PlaceGeoIndex.Hit::placeId).containsExactly(1L, 2L, 3L);
+        assertThat(hits.get(2).distanceKm()).isBetween(8.0, 10.0);
+    }
+
+    @Test
+    @DisplayName("k-최근접 조회는 반경을 확장하며 최소 평점 필터를 적용")
+    void findNearestWithRatingFilter() {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{1L, 37.5665, 126.9780, 2.0});
+        rows.add(new Object[]{2L, 37.5700, 126.9820, null});
+        rows.add(new Object[]{3L, 37.4979, 127.0276, 4.2});
+        rows.add(new Object[]{4L, 35.1796, 129.0756, 4.8});
+        when(placeRepository.findGeoIndexEntries()).thenReturn(rows);
+
+        placeGeoIndex.rebuild();
+
+        List<PlaceGeoIndex.Hit> hits = placeGeoIndex.findNearest(37.5665, 126.9780, 2, 100.0, 3.0);
+        assertThat(hits).extracting(PlaceGeoIndex.Hit::placeId).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("k-최근접 필터는 수집 단계에서 적용되어 가까운 장소가 모두 걸러져도 k개를 채움")
+    void findNearestAppliesFilterWhileWidening() {
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = 1; id <= 6; id++) {
+            rows.add(new Object[]{id, 37.5665 + id * 0.001, 126.9780, 4.0});
+        }
+        rows.add(new Object[]{7L, 37.4979, 127.0276, 4.2});   // 약 8.8km
+        rows.add(new Object[]{8L, 37.5665, 127.1000, 4.2});   // 약 10.8km
+        when(placeRepository.findGeoIndexEntries()).thenReturn(rows);
+
+        placeGeoIndex.rebuild();
+
+        List<PlaceGeoIndex.Hit> hits = placeGeoIndex.findNearest(37.5665, 126.9780, 2, 100.0, Double.NaN,
+            placeId -> placeId >= 7);
+        assertThat(hits).extracting(PlaceGeoIndex.Hit::placeId).containsExactly(7L, 8L);
+    }
+
+    @Test
+    @DisplayName("변경분 반영 시 COMPLETED가 아닌 장소는 제거")
+    void refreshChangesRemovesNonCompleted() {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{1L, 37.5665, 126.9780, 4.5});
+        rows.add(new Object[]{2L, 37.5700, 126.9820, 4.0});
+        when(placeRepository.findGeoIndexEntries()).thenReturn(rows);
+        placeGeoIndex.rebuild();
+
+        List<Object[]> changes = new ArrayList<>();
+        changes.add(new Object[]{1L, 37.5665, 126.9780, 4.5, "PENDING"});
+        changes.add(new Object[]{5L, 37.5660, 126.9790, 4.1, "COMPLETED"});
+        when(placeRepository.findGeoIndexChangesSince(any(LocalDateTime.class))).thenReturn(changes);
+
+        placeGeoIndex.refreshChanges();
+
+        List<PlaceGeoIndex.Hit> hits = placeGeoIndex.findWithinRadius(37.5665, 126.9780, 5.0, Double.NaN, 10);
+        assertThat(hits).extracting(PlaceGeoIndex.Hit::placeId).containsExactly(5L, 2L);
+    }
+}
@@ -0,0 +1,121 @@
+package com.mohe.spring.service.image;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("이미지 수집 엔진 테스트")
+class ImageIngestionEngineTest {
+
+    private ImageProcessorService imageProcessorService;
+    private ImageIngestionEngine engine;
+    private final List<Long> sleeps = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() {
+        imageProcessorService = mock(ImageProcessorService.class);
+        when(imageProcessorService.placeImageFileName(anyLong(), anyString(), anyInt(), anyString()))
+            .thenAnswer(invocation -> "place/" + invocation.getArgument(0) + "_" + invocation.getArgument(2) + ".jpg");
+        // 테스트에서는 실제로 잠들지 않고 백오프 시간만 기록
+        engine = new ImageIngestionEngine(imageProcessorService, 4, 1000, 100, 3, 100, sleeps::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    @Test
+    @DisplayName("429 응답은 백오프 후 재시도해 저장")
+    void retriesOnTooManyRequests() {
+        AtomicInteger calls = new AtomicInteger();
+        when(imageProcessorService.requestSave(eq("https://cdn.example.com/a.jpg"), anyString())).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() <= 2) {
+                throw HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null);
+            }
+            return invocation.getArgument(1);
+        });
+
+        List<String> saved = engine.ingest(1L, "카페", List.of("https://cdn.example.com/a.jpg")).join();
+
+        assertThat(saved).containsExactly("/images/place/1_1.jpg");
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(sleeps).hasSize(2);
+        // 지수 백오프: 100ms(+jitter) → 200ms(+jitter)
+        assertThat(sleeps.get(0)).isBetween(100L, 150L);
+        assertThat(sleeps.get(1)).isBetween(200L, 300L);
+        assertThat(engine.getStats()).containsEntry("retries", 2L).containsEntry("saved", 1L);
+    }
+
+    @Test
+    @DisplayName("404 같은 4xx는 재시도하지 않고 해당 이미지만 제외")
+    void doesNotRetryClientErrors() {
+        when(imageProcessorService.requestSave(eq("https://cdn.example.com/missing.jpg"), anyString()))
+            .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+        when(imageProcessorService.requestSave(eq("https://cdn.example.com/ok.jpg"), anyString()))
+            .thenAnswer(invocation -> invocation.getArgument(1));
+
+        List<String> saved = engine.ingest(2L, "식당",
+            List.of("https://cdn.example.com/missing.jpg", "https://cdn.example.com/ok.jpg")).join();
+
+        assertThat(saved).containsExactly("/images/place/2_2.jpg");
+        verify(imageProcessorService, times(1)).requestSave(eq("https://cdn.example.com/missing.jpg"), anyString());
+        assertThat(sleeps).isEmpty();
+    }
+
+    @Test
+    @DisplayName("동시에 처리해도 결과는 입력 URL 순서를 유지")
+    void preservesInputOrder() {
+        when(imageProcessorService.requestSave(anyString(), anyString())).thenAnswer(invocation -> {
+            String url = invocation.getArgument(0);
+            // 앞쪽 이미지가 더 늦게 끝나도록 지연
+            Thread.sleep(url.endsWith("1.jpg") ? 50 : 5);
+            return invocation.getArgument(1);
+        });
+
+        List<String> urls = List.of(
+            "https://a.example.com/1.jpg", "https://b.example.com/2.jpg", "https://c.example.com/3.jpg");
+        List<String> saved = engine.ingest(3L, "공원", urls).join();
+
+        assertThat(saved).containsExactly(
+            "/images/place/3_1.jpg", "/images/place/3_2.jpg", "/images/place/3_3.jpg");
+    }
+
+    @Test
+    @DisplayName("호스트 토큰을 기다리는 동안에는 전역 슬롯을 잡지 않아 다른 호스트 이미지가 먼저 진행")
+    void waitsForHostTokenBeforeTakingSlot() throws Exception {
+        // 슬롯 1개, 호스트당 초당 1회 → slow 호스트의 두 번째 이미지는 약 1초 대기
+        ImageIngestionEngine throttled = new ImageIngestionEngine(imageProcessorService, 1, 1, 1, 1, 100, sleeps::add);
+        when(imageProcessorService.requestSave(anyString(), anyString())).thenAnswer(invocation -> invocation.getArgument(1));
+
+        try {
+            CompletableFuture<List<String>> slow = throttled.ingest(4L, "느린",
+                List.of("https://slow.example.com/1.jpg", "https://slow.example.com/2.jpg"));
+            Thread.sleep(50);
+            CompletableFuture<List<String>> fast = throttled.ingest(5L, "빠른", List.of("https://fast.example.com/1.jpg"));
+
+            assertThat(fast.get(500, TimeUnit.MILLISECONDS)).containsExactly("/images/place/5_1.jpg");
+            assertThat(slow).isNotDone();
+            assertThat(slow.get(5, TimeUnit.SECONDS)).hasSize(2);
+        } finally {
+            throttled.shutdown();
+        }
+    }
+}
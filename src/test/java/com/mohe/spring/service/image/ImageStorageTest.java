@@ -0,0 +1,80 @@
+package com.mohe.spring.service.image;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("이미지 저장소 테스트")
+class ImageStorageTest {
+
+    @TempDir
+    Path root;
+
+    @TempDir
+    Path generatedRoot;
+
+    private ImageStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new ImageStorage(root.toString(), generatedRoot.toString());
+    }
+
+    private static ByteArrayInputStream bytes(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("내용 해시 파일명으로 장소별 샤드 디렉터리에 저장하고 같은 내용은 한 번만 저장")
+    void storesByContentHashInShardedPlaceDirectory() throws Exception {
+        String first = storage.storePlaceImage(12351L, bytes("image-a"), "JPG");
+        String again = storage.storePlaceImage(12351L, bytes("image-a"), "jpg");
+        String other = storage.storePlaceImage(12351L, bytes("image-b"), "unknown");
+
+        // 12351 & 0xff = 0x3f
+        assertThat(first).matches("/images/store/3f/12351/[0-9a-f]{16}\\.jpg");
+        assertThat(again).isEqualTo(first);
+        assertThat(other).endsWith(".jpeg").isNotEqualTo(first);
+        assertThat(storage.resolvePublicPath(first.substring("/images/".length()))).isPresent();
+        assertThat(ImageStorage.isImmutablePath(first.substring("/images/".length()))).isTrue();
+    }
+
+    @Test
+    @DisplayName("삭제는 해당 장소 디렉터리와 레거시 파일만 지우고 삭제 수를 반환")
+    void deletesOnlyPlaceImages() throws Exception {
+        storage.storePlaceImage(7L, bytes("a"), "jpg");
+        storage.storePlaceImage(7L, bytes("b"), "jpg");
+        String kept = storage.storePlaceImage(8L, bytes("c"), "jpg");
+        Files.writeString(root.resolve("7_cafe_1.jpeg"), "legacy");
+        Files.writeString(root.resolve("70_other_1.jpeg"), "legacy");
+
+        assertThat(storage.deletePlaceImages(7L)).isEqualTo(3);
+        assertThat(storage.deletePlaceImages(7L)).isZero();
+        assertThat(root.resolve("70_other_1.jpeg")).exists();
+        assertThat(storage.resolvePublicPath(kept.substring("/images/".length()))).isPresent();
+    }
+
+    @Test
+    @DisplayName("저장소 밖 경로와 숨김 디렉터리는 조회하지 않음")
+    void rejectsTraversalAndHiddenPaths() throws Exception {
+        Files.writeString(root.resolve("7_legacy_1.jpeg"), "legacy");
+        Files.writeString(generatedRoot.resolve("generated.png"), "generated");
+        Files.createDirectories(root.resolve(".variants"));
+        Files.writeString(root.resolve(".variants/secret.jpg"), "variant");
+
+        assertThat(storage.resolvePublicPath("7_legacy_1.jpeg")).isPresent();
+        assertThat(storage.resolvePublicPath("places/generated.png")).contains(generatedRoot.resolve("generated.png"));
+        assertThat(storage.resolvePublicPath("../etc/passwd")).isEmpty();
+        assertThat(storage.resolvePublicPath("store/../../outside.jpg")).isEmpty();
+        assertThat(storage.resolvePublicPath(".variants/secret.jpg")).isEmpty();
+        assertThat(storage.resolvePublicPath("missing.jpg")).isEmpty();
+    }
+}
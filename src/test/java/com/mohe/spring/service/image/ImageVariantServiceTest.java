@@ -0,0 +1,244 @@
+package com.mohe.spring.service.image;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("리사이즈 변형 이미지 서비스 테스트")
+class ImageVariantServiceTest {
+
+    private static final long NO_PIXEL_LIMIT = Long.MAX_VALUE;
+
+    @TempDir
+    Path root;
+
+    @TempDir
+    Path generatedRoot;
+
+    private final AtomicInteger resizes = new AtomicInteger();
+
+    private Path png(String name, int width, int height) throws Exception {
+        Path file = root.resolve(name);
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", file.toFile());
+        return file;
+    }
+
+    private ImageVariantService service(int maxConcurrency, long maxPixels, long acquireTimeoutMillis,
+                                        CountDownLatch started, CountDownLatch release) {
+        ImageStorage storage = new ImageStorage(root.toString(), generatedRoot.toString());
+        return new ImageVariantService(storage, new int[]{640, 160, 320}, maxConcurrency,
+            maxPixels, acquireTimeoutMillis, (source, width, opaque) -> {
+                resizes.incrementAndGet();
+                if (started != null) {
+                    started.countDown();
+                    await(release);
+                }
+                return ImageVariantService.resize(source, width, opaque);
+            });
+    }
+
+    @Test
+    @DisplayName("요청 너비를 버킷으로 올려 한 번만 리사이즈하고 같은 버킷 요청은 저장된 변형을 재사용")
+    void generatesBucketedVariantOnce() throws Exception {
+        ImageVariantService variants = service(1, NO_PIXEL_LIMIT, 1_000, null, null);
+        Path wide = png("wide.png", 800, 400);
+
+        assertThat(variants.bucketFor(1)).isEqualTo(160);
+        assertThat(variants.bucketFor(300)).isEqualTo(320);
+        assertThat(variants.bucketFor(320)).isEqualTo(320);
+        assertThat(variants.bucketFor(5000)).isEqualTo(640);
+
+        ImageVariantService.Variant first = variants.resolve(wide, 300);
+        assertThat(first.bucket()).isEqualTo(320);
+        BufferedImage resized = ImageIO.read(first.file().toFile());
+        assertThat(resized.getWidth()).isEqualTo(320);
+        assertThat(resized.getHeight()).isEqualTo(160);
+
+        ImageVariantService.Variant cached = variants.resolve(wide, 250);
+        assertThat(cached.file()).isEqualTo(first.file());
+        assertThat(resizes).hasValue(1);
+        assertThat(variants.getStats()).containsEntry("generated", 1L).containsEntry("cacheHits", 1L);
+    }
+
+    @Test
+    @DisplayName("버킷보다 좁은 원본과 리사이즈할 수 없는 형식은 원본을 그대로 사용")
+    void servesOriginalWhenResizeIsNotNeeded() throws Exception {
+        ImageVariantService variants = service(1, NO_PIXEL_LIMIT, 1_000, null, null);
+        Path narrow = png("narrow.png", 100, 50);
+        Path webp = root.resolve("photo.webp");
+
+        assertThat(variants.resolve(narrow, 160)).isEqualTo(new ImageVariantService.Variant(narrow, 0));
+        assertThat(variants.resolve(narrow, 160).isOriginal()).isTrue();
+        assertThat(variants.resolve(webp, 160)).isEqualTo(new ImageVariantService.Variant(webp, 0));
+        assertThat(resizes).hasValue(0);
+        assertThat(variants.getStats()).containsEntry("originalOnly", 1);
+    }
+
+    @Test
+    @DisplayName("동시에 같은 변형을 요청하면 한 번만 생성하고 모두 같은 파일을 받음")
+    void sharesOneGenerationPerKey() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ImageVariantService variants = service(4, NO_PIXEL_LIMIT, 1_000, started, release);
+        Path wide = png("wide.png", 800, 400);
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        List<Future<ImageVariantService.Variant>> requests = new ArrayList<>();
+        try {
+            requests.add(pool.submit(() -> variants.resolve(wide, 300)));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 3; i++) {
+                requests.add(pool.submit(() -> variants.resolve(wide, 320)));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            Path first = requests.get(0).get(5, TimeUnit.SECONDS).file();
+            for (Future<ImageVariantService.Variant> request : requests) {
+                assertThat(request.get(5, TimeUnit.SECONDS)).isEqualTo(new ImageVariantService.Variant(first, 320));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(resizes).hasValue(1);
+        assertThat(variants.getStats()).containsEntry("generated", 1L).containsEntry("inFlight", 0);
+    }
+
+    @Test
+    @DisplayName("픽셀 수가 상한을 넘는 원본은 디코딩하지 않고 원본을 사용")
+    void skipsOversizedImagesBeforeDecoding() throws Exception {
+        ImageVariantService variants = service(1, 100_000, 1_000, null, null);
+        Path large = png("large.png", 800, 400);
+
+        assertThat(variants.resolve(large, 320)).isEqualTo(new ImageVariantService.Variant(large, 0));
+        assertThat(variants.resolve(large, 320).isOriginal()).isTrue();
+        assertThat(resizes).hasValue(0);
+        assertThat(variants.getStats()).containsEntry("oversized", 1L);
+    }
+
+    @Test
+    @DisplayName("리사이즈 슬롯을 제한 시간 안에 얻지 못하면 원본으로 응답하고 다음 요청에서 다시 생성")
+    void fallsBackToOriginalWhenResizeSlotsAreBusy() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ImageVariantService variants = service(1, NO_PIXEL_LIMIT, 50, started, release);
+        Path first = png("first.png", 800, 400);
+        Path second = png("second.png", 800, 400);
+
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<ImageVariantService.Variant> busy = pool.submit(() -> variants.resolve(first, 320));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(variants.resolve(second, 320)).isEqualTo(new ImageVariantService.Variant(second, 0));
+            assertThat(variants.getStats()).containsEntry("busyFallbacks", 1L).containsEntry("originalOnly", 0);
+
+            release.countDown();
+            assertThat(busy.get(5, TimeUnit.SECONDS).bucket()).isEqualTo(320);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(variants.resolve(second, 320).bucket()).isEqualTo(320);
+        assertThat(resizes).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("변형은 버킷 아래 원본 공개 경로에 두고, 원본이 변형보다 새로우면 다시 생성")
+    void regeneratesVariantWhenOriginalChanges() throws Exception {
+        ImageVariantService variants = service(1, NO_PIXEL_LIMIT, 1_000, null, null);
+        Path legacy = png("7_cafe_1.png", 800, 400);
+
+        Path variant = variants.resolve(legacy, 320).file();
+        assertThat(variant).isEqualTo(root.resolve(".variants/320/7_cafe_1.png"));
+
+        // 같은 파일명으로 원본을 교체 — 기존 변형은 교체 전에 만들어진 것
+        Files.setLastModifiedTime(variant, FileTime.from(Instant.now().minusSeconds(3600)));
+        ImageIO.write(new BufferedImage(800, 800, BufferedImage.TYPE_INT_ARGB), "png", legacy.toFile());
+
+        BufferedImage regenerated = ImageIO.read(variants.resolve(legacy, 320).file().toFile());
+        assertThat(regenerated.getHeight()).isEqualTo(320);
+        assertThat(resizes).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("장소 이미지를 삭제하면 그 장소의 변형도 함께 삭제")
+    void deletesVariantsWithPlaceImages() throws Exception {
+        ImageStorage storage = new ImageStorage(root.toString(), generatedRoot.toString());
+        ImageVariantService variants = service(1, NO_PIXEL_LIMIT, 1_000, null, null);
+        String removed = storeWidePng(storage, 7L);
+        String kept = storeWidePng(storage, 8L);
+        Path removedVariant = variants.resolve(storage.resolvePublicPath(removed.substring(8)).orElseThrow(), 160).file();
+        Path keptVariant = variants.resolve(storage.resolvePublicPath(kept.substring(8)).orElseThrow(), 160).file();
+        Path legacy = png("7_cafe_1.png", 800, 400);
+        Path legacyVariant = variants.resolve(legacy, 160).file();
+
+        assertThat(storage.deletePlaceImages(7L)).isEqualTo(2);
+
+        assertThat(removedVariant).doesNotExist();
+        assertThat(legacyVariant).doesNotExist();
+        assertThat(keptVariant).exists();
+    }
+
+    @Test
+    @DisplayName("sweep은 원본이 사라졌거나 원본보다 오래된 변형만 지우고 통계에 남김")
+    void sweepsOrphanedAndStaleVariants() throws Exception {
+        ImageVariantService variants = service(1, NO_PIXEL_LIMIT, 1_000, null, null);
+        Path kept = png("kept.png", 800, 400);
+        Path orphan = png("orphan.png", 800, 400);
+        Path stale = png("stale.png", 800, 400);
+        Path keptVariant = variants.resolve(kept, 160).file();
+        Path orphanVariant = variants.resolve(orphan, 160).file();
+        Path staleVariant = variants.resolve(stale, 320).file();
+        // 이전 버전의 해시 키 변형 — 대응하는 원본 경로가 없음
+        Path hashed = root.resolve(".variants/160/ab/ab12cd34.png");
+        Files.createDirectories(hashed.getParent());
+        Files.copy(keptVariant, hashed);
+
+        Files.delete(orphan);
+        Files.setLastModifiedTime(staleVariant, FileTime.from(Instant.now().minusSeconds(3600)));
+
+        assertThat(variants.sweepVariants()).isEqualTo(3);
+
+        assertThat(keptVariant).exists();
+        assertThat(orphanVariant).doesNotExist();
+        assertThat(staleVariant).doesNotExist();
+        assertThat(hashed).doesNotExist();
+        assertThat(variants.getStats()).containsEntry("swept", 3L).containsEntry("variantFiles", 1L);
+    }
+
+    private static String storeWidePng(ImageStorage storage, long placeId) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        // 장소마다 내용이 달라야 해시 파일명이 달라짐
+        ImageIO.write(new BufferedImage(800, 400 + (int) placeId, BufferedImage.TYPE_INT_ARGB), "png", out);
+        return storage.storePlaceImage(placeId, new ByteArrayInputStream(out.toByteArray()), "png");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.mohe.spring.service.refresh;
+
+import com.mohe.spring.dto.refresh.BatchRefreshResponseDto;
+import com.mohe.spring.dto.refresh.PlaceRefreshResponseDto;
+import com.mohe.spring.repository.PlaceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("전체 장소 새로고침 (스트리밍 + 병렬) 테스트")
+class PlaceBulkRefreshServiceTest {
+
+    private static final List<Long> PLACE_IDS = LongStream.rangeClosed(1, 7).boxed().toList();
+
+    private PlaceRepository placeRepository;
+    private JdbcTemplate jdbcTemplate;
+    private PlaceRefreshService placeRefreshService;
+    private PlaceBulkRefreshService service;
+    private final ConcurrentHashMap.KeySetView<Long, Boolean> refreshed = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    void setUp() {
+        placeRepository = mock(PlaceRepository.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        placeRefreshService = mock(PlaceRefreshService.class);
+
+        when(placeRepository.count()).thenReturn((long) PLACE_IDS.size());
+        when(placeRepository.findIdsAfter(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            Pageable pageable = invocation.getArgument(1);
+            return PLACE_IDS.stream().filter(id -> id > afterId).limit(pageable.getPageSize()).toList();
+        });
+        when(placeRefreshService.refreshPlaceData(anyLong())).thenAnswer(invocation -> {
+            Long placeId = invocation.getArgument(0);
+            refreshed.add(placeId);
+            if (placeId == 4L) {
+                throw new IllegalStateException("crawler timeout");
+            }
+            return PlaceRefreshResponseDto.builder().placeId(placeId).placeName("place-" + placeId).build();
+        });
+
+        service = new PlaceBulkRefreshService(placeRepository, jdbcTemplate, placeRefreshService, 3, 1000, 2, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("ID를 keyset 페이지로 읽어 모든 장소를 처리하고 실패만 결과에 남김")
+    void refreshesAllPlacesByKeysetPages() {
+        BatchRefreshResponseDto result = service.refreshAll(false);
+
+        assertThat(refreshed).containsExactlyInAnyOrderElementsOf(PLACE_IDS);
+        assertThat(result.getSuccessCount()).isEqualTo(6);
+        assertThat(result.getFailedCount()).isEqualTo(1);
+        assertThat(result.getResults()).extracting(BatchRefreshResponseDto.PlaceRefreshSummary::getPlaceId)
+            .containsExactly(4L);
+
+        // 페이지 크기 2: 0 → 2 → 4 → 6 → 7(빈 페이지)
+        verify(placeRepository).findIdsAfter(eq(0L), any(Pageable.class));
+        verify(placeRepository).findIdsAfter(eq(6L), any(Pageable.class));
+        verify(placeRepository).findIdsAfter(eq(7L), any(Pageable.class));
+        verify(placeRepository, never()).findAll();
+        verify(jdbcTemplate).update(anyString(), eq("all-places"), eq("COMPLETED"), eq(7L),
+            eq(7L), eq(6L), eq(1L), any());
+        assertThat(service.isRunning()).isFalse();
+    }
+
+    @Test
+    @DisplayName("resume 시 체크포인트 다음 ID부터 이어서 처리하고 이전 카운트를 이어받음")
+    @SuppressWarnings("unchecked")
+    void resumesAfterCheckpoint() {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq("all-places")))
+            .thenReturn(List.of(new PlaceBulkRefreshService.Checkpoint("STOPPED", 5L, 5L, 4L, 1L)));
+
+        BatchRefreshResponseDto result = service.refreshAll(true);
+
+        assertThat(refreshed).containsExactlyInAnyOrder(6L, 7L);
+        assertThat(result.getSuccessCount()).isEqualTo(6);
+        assertThat(result.getFailedCount()).isEqualTo(1);
+        verify(placeRepository).findIdsAfter(eq(5L), any(Pageable.class));
+        verify(jdbcTemplate).update(anyString(), eq("all-places"), eq("COMPLETED"), eq(7L),
+            eq(7L), eq(6L), eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("완료된 체크포인트는 resume해도 처음부터 다시 실행")
+    @SuppressWarnings("unchecked")
+    void completedCheckpointStartsOver() {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq("all-places")))
+            .thenReturn(List.of(new PlaceBulkRefreshService.Checkpoint("COMPLETED", 7L, 7L, 7L, 0L)));
+
+        service.refreshAll(true);
+
+        assertThat(refreshed).containsExactlyInAnyOrderElementsOf(PLACE_IDS);
+        verify(placeRepository).findIdsAfter(eq(0L), any(Pageable.class));
+    }
+}
@@ -0,0 +1,44 @@
+package com.mohe.spring.service.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("하이브리드 검색 RRF 병합 테스트")
+class HybridRankFusionTest {
+
+    private static final HybridRankFusion.Weights NO_DISTANCE = new HybridRankFusion.Weights(1.0, 1.0, 0.0);
+
+    @Test
+    @DisplayName("두 목록에 모두 있는 후보가 한쪽에만 있는 후보보다 앞선다")
+    void rewardsAgreementBetweenLists() {
+        List<Long> fused = HybridRankFusion.fuse(
+            List.of(1L, 2L, 3L), List.of(4L, 3L, 5L), Map.of(), NO_DISTANCE, HybridRankFusion.DEFAULT_K, 10);
+
+        assertThat(fused.get(0)).isEqualTo(3L);
+        assertThat(fused).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("거리 가중치가 있으면 동일 순위 후보 중 가까운 곳이 앞선다")
+    void usesDistanceAsRerankFeature() {
+        HybridRankFusion.Weights weights = new HybridRankFusion.Weights(1.0, 1.0, 0.5);
+        List<Long> fused = HybridRankFusion.fuse(
+            List.of(1L), List.of(2L), Map.of(1L, 30.0, 2L, 1.0), weights, HybridRankFusion.DEFAULT_K, 10);
+
+        assertThat(fused).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("가중치가 같고 점수가 같으면 키워드 결과가 먼저, limit 적용")
+    void breaksTiesByKeywordOrderAndLimits() {
+        List<Long> fused = HybridRankFusion.fuse(
+            List.of(1L, 2L), List.of(3L, 4L), Map.of(), NO_DISTANCE, HybridRankFusion.DEFAULT_K, 3);
+
+        assertThat(fused).containsExactly(1L, 3L, 2L);
+    }
+}
@@ -0,0 +1,70 @@
+package com.mohe.spring.service.similarity;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("북마크 공동 출현 유사도 엔진 테스트")
+class BookmarkCooccurrenceEngineTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(2);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    // user 1: 10, 20, 30 / user 2: 10, 20 / user 3: 20, 30 / user 4: 40
+    private final long[] users = {1, 1, 1, 2, 2, 3, 3, 4};
+    private final long[] places = {10, 20, 30, 10, 20, 20, 30, 40};
+
+    @Test
+    @DisplayName("Jaccard와 binary cosine을 계산하고 점수순으로 정렬")
+    void computesJaccardAndCosine() {
+        BookmarkCooccurrenceEngine engine = BookmarkCooccurrenceEngine.build(users, places, users.length);
+        BookmarkCooccurrenceEngine.Config config = new BookmarkCooccurrenceEngine.Config(5, 0.5, 0.5, 1, 100);
+
+        List<BookmarkCooccurrenceEngine.Neighbor>[] results =
+            engine.computeTopK(new int[]{engine.indexOf(10)}, config, pool);
+
+        // place 10: users {1,2}; place 20: users {1,2,3}; place 30: users {1,3}
+        List<BookmarkCooccurrenceEngine.Neighbor> neighbors = results[0];
+        assertThat(neighbors).extracting(BookmarkCooccurrenceEngine.Neighbor::placeId).containsExactly(20L, 30L);
+        assertThat(neighbors.get(0).coUsers()).isEqualTo(2);
+        assertThat(neighbors.get(0).jaccard()).isCloseTo(2.0 / 3.0, within(1e-9));
+        assertThat(neighbors.get(0).cosine()).isCloseTo(2.0 / Math.sqrt(6.0), within(1e-9));
+        assertThat(neighbors.get(1).jaccard()).isCloseTo(1.0 / 3.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("minCoUsers와 topK 제한 적용")
+    void appliesThresholdAndTopK() {
+        BookmarkCooccurrenceEngine engine = BookmarkCooccurrenceEngine.build(users, places, users.length);
+
+        List<BookmarkCooccurrenceEngine.Neighbor>[] strict = engine.computeTopK(
+            new int[]{engine.indexOf(20)}, new BookmarkCooccurrenceEngine.Config(5, 1.0, 0.0, 2, 100), pool);
+        assertThat(strict[0]).extracting(BookmarkCooccurrenceEngine.Neighbor::placeId).containsExactlyInAnyOrder(10L, 30L);
+
+        List<BookmarkCooccurrenceEngine.Neighbor>[] top1 = engine.computeTopK(
+            new int[]{engine.indexOf(30)}, new BookmarkCooccurrenceEngine.Config(1, 1.0, 0.0, 1, 100), pool);
+        assertThat(top1[0]).extracting(BookmarkCooccurrenceEngine.Neighbor::placeId).containsExactly(20L);
+    }
+
+    @Test
+    @DisplayName("증분 갱신 대상은 사용자를 공유하는 장소까지 포함")
+    void findsAffectedPlaces() {
+        BookmarkCooccurrenceEngine engine = BookmarkCooccurrenceEngine.build(users, places, users.length);
+
+        int[] affected = engine.affectedPlaces(new int[]{engine.indexOf(10)}, 100);
+
+        assertThat(Arrays.stream(affected).mapToLong(engine::placeIdAt).boxed().toList())
+            .containsExactlyInAnyOrder(10L, 20L, 30L);
+    }
+}
@@ -0,0 +1,56 @@
+package com.mohe.spring.service.similarity;
+
+import com.mohe.spring.repository.PlaceKeywordEmbeddingRepository;
+import com.pgvector.PGvector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("후보 풀 정확 코사인 순위 테스트")
+class CandidateEmbeddingScorerTest {
+
+    private final PlaceKeywordEmbeddingRepository repository = mock(PlaceKeywordEmbeddingRepository.class);
+    private final CandidateEmbeddingScorer scorer = new CandidateEmbeddingScorer(repository);
+
+    private static Object[] row(long placeId, float... embedding) {
+        return new Object[]{placeId, new PGvector(embedding)};
+    }
+
+    @Test
+    @DisplayName("장소 점수는 키워드 중 최고 유사도이고 후보의 임베딩만 한 번에 조회")
+    void ranksCandidatesByBestKeyword() {
+        Set<Long> candidates = Set.of(1L, 2L, 3L);
+        when(repository.findEmbeddingRowsByPlaceIds(candidates)).thenReturn(List.of(
+            row(1L, 0, 1),
+            row(1L, 1, 1),      // 장소 1의 최고 키워드: cos 45° ≈ 0.707
+            row(2L, 2, 0),      // 장소 2: 질의와 같은 방향 → 1.0
+            row(3L, -1, 0),     // 장소 3: 반대 방향 → -1.0
+            row(3L, 1, 2, 3)    // 차원이 다른 벡터는 무시
+        ));
+
+        List<CandidateEmbeddingScorer.ScoredPlace> ranked = scorer.rank(new float[]{5, 0}, candidates, 10);
+
+        assertThat(ranked).extracting(CandidateEmbeddingScorer.ScoredPlace::placeId).containsExactly(2L, 1L, 3L);
+        assertThat((double) ranked.get(1).score()).isCloseTo(Math.sqrt(0.5), within(1e-6));
+        verify(repository, times(1)).findEmbeddingRowsByPlaceIds(any());
+    }
+
+    @Test
+    @DisplayName("limit만큼 자르고, 영벡터 질의는 조회하지 않음")
+    void limitsAndSkipsZeroQuery() {
+        Set<Long> candidates = Set.of(1L, 2L);
+        when(repository.findEmbeddingRowsByPlaceIds(candidates)).thenReturn(List.of(row(1L, 1, 0), row(2L, 0, 1)));
+
+        assertThat(scorer.rank(new float[]{1, 0}, candidates, 1))
+            .extracting(CandidateEmbeddingScorer.ScoredPlace::placeId).containsExactly(1L);
+        assertThat(scorer.rank(new float[]{0, 0}, candidates, 5)).isEmpty();
+        verify(repository, times(1)).findEmbeddingRowsByPlaceIds(any());
+    }
+}
@@ -0,0 +1,157 @@
+package com.mohe.spring.service.similarity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mohe.spring.entity.PlaceDescriptionVector;
+import com.mohe.spring.entity.User;
+import com.mohe.spring.entity.UserPreferenceVector;
+import com.mohe.spring.entity.VectorSimilarityResult;
+import com.mohe.spring.repository.PlaceDescriptionVectorRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.*;
+
+@DisplayName("장소 벡터 인메모리 저장소 테스트")
+class PlaceVectorStoreTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlaceVectorStoreTest.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static JsonNode keywords(String json) throws Exception {
+        return objectMapper.readTree(json);
+    }
+
+    private static UserPreferenceVector userVector(String mbti, String vector, JsonNode keywords) {
+        User user = new User("user@mohe.app", "hash");
+        user.setMbti(mbti);
+        return new UserPreferenceVector(user, "profile", vector, keywords, "test-model");
+    }
+
+    private static String randomVectorText(Random random, int dimension) {
+        StringBuilder text = new StringBuilder("[");
+        for (int i = 0; i < dimension; i++) {
+            if (i > 0) {
+                text.append(", ");
+            }
+            text.append(random.nextFloat());
+        }
+        return text.append(']').toString();
+    }
+
+    @Test
+    @DisplayName("미리 디코딩한 점수가 엔티티 calculateSimilarityWithUser 결과와 같음")
+    void matchesEntitySimilarity() throws Exception {
+        JsonNode placeKeywords = keywords("""
+            [{"keyword_id": 16, "keyword": "quiet", "confidence": 0.9},
+             {"keyword_id": 5, "keyword": "coffee", "confidence": 0.35},
+             {"keyword_id": 7, "keyword": "dessert", "confidence": 0.2},
+             {"keyword_id": 5, "keyword": "coffee", "confidence": 0.6}]
+            """);
+        JsonNode userKeywords = keywords("""
+            [{"keyword_id": 5, "keyword": "coffee", "confidence": 0.8},
+             {"keyword_id": 9, "keyword": "books", "confidence": 0.5}]
+            """);
+        PlaceDescriptionVector entity = new PlaceDescriptionVector(null, "desc", "[0.1, 0.5, -0.2]", placeKeywords, "test-model");
+
+        for (String mbti : new String[]{"INTJ", "ESFP", null}) {
+            UserPreferenceVector user = userVector(mbti, "[0.3,0.4, 0.0]", userKeywords);
+            VectorSimilarityResult expected = entity.calculateSimilarityWithUser(user);
+
+            PlaceVectorStore.UserVector prepared = PlaceVectorStore.prepare(user);
+            PlaceVectorStore.PlaceVector placeVector = PlaceVectorStore.decode(entity.getDescriptionVector(), placeKeywords);
+            VectorSimilarityResult actual = PlaceVectorStore.similarity(prepared, placeVector);
+
+            assertThat(actual.getCosineSimilarity()).isCloseTo(expected.getCosineSimilarity(), within(1e-12));
+            assertThat(actual.getJaccardSimilarity()).isEqualTo(expected.getJaccardSimilarity());
+            assertThat(actual.getEuclideanDistance()).isCloseTo(expected.getEuclideanDistance(), within(1e-12));
+            assertThat(actual.getMbtiBoostFactor()).isEqualTo(expected.getMbtiBoostFactor());
+            assertThat(actual.getCommonKeywords()).isEqualTo(expected.getCommonKeywords());
+            assertThat(actual.getWeightedSimilarity()).isCloseTo(expected.getWeightedSimilarity(), within(1e-12));
+            assertThat(PlaceVectorStore.weightedScore(prepared, placeVector))
+                .isCloseTo(expected.getWeightedSimilarity(), within(1e-12));
+        }
+    }
+
+    @Test
+    @DisplayName("재빌드 후 조회, 깨진 행은 건너뛰고 차원이 다르면 NaN")
+    void rebuildsAndSkipsBrokenRows() throws Exception {
+        PlaceDescriptionVectorRepository repository = mock(PlaceDescriptionVectorRepository.class);
+        JsonNode empty = keywords("[]");
+        when(repository.findVectorRows()).thenReturn(List.of(
+            new Object[]{1L, "[1.0, 0.0]", empty},
+            new Object[]{2L, "[not-a-number]", empty},
+            new Object[]{3L, "[1.0, 0.0, 0.0]", empty}
+        ));
+        PlaceVectorStore store = new PlaceVectorStore(repository, true);
+        assertThat(store.isReady()).isFalse();
+
+        store.rebuild();
+
+        assertThat(store.isReady()).isTrue();
+        assertThat(store.entries()).containsOnlyKeys(1L, 3L);
+        assertThat(store.getStats()).containsEntry("lastSkipped", 1L);
+
+        PlaceVectorStore.UserVector user = PlaceVectorStore.prepare(userVector(null, "[1.0, 0.0]", empty));
+        // 양쪽 키워드가 모두 없으면 Jaccard 1.0 → 0.7 + 0.3
+        assertThat(PlaceVectorStore.weightedScore(user, store.get(1L))).isCloseTo(1.0, within(1e-12));
+        assertThat(PlaceVectorStore.weightedScore(user, store.get(3L))).isNaN();
+    }
+
+    @Test
+    @DisplayName("후보 500개 재순위 비용 측정 (엔티티 파싱 방식과 비교)")
+    void measuresCandidateRerankCost() throws Exception {
+        Random random = new Random(3);
+        JsonNode placeKeywords = keywords("""
+            [{"keyword_id": 1, "keyword": "a", "confidence": 0.9},
+             {"keyword_id": 2, "keyword": "b", "confidence": 0.7},
+             {"keyword_id": 3, "keyword": "c", "confidence": 0.5}]
+            """);
+        UserPreferenceVector user = userVector("ENFP", randomVectorText(random, 100), placeKeywords);
+
+        List<PlaceDescriptionVector> entities = new ArrayList<>();
+        List<PlaceVectorStore.PlaceVector> decoded = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            String vector = randomVectorText(random, 100);
+            entities.add(new PlaceDescriptionVector(null, "desc", vector, placeKeywords, "test-model"));
+            decoded.add(PlaceVectorStore.decode(vector, placeKeywords));
+        }
+
+        double sink = 0;
+        for (int round = 0; round < 20; round++) {
+            for (PlaceDescriptionVector entity : entities) {
+                sink += entity.calculateSimilarityWithUser(user).getWeightedSimilarity();
+            }
+        }
+        long started = System.nanoTime();
+        for (PlaceDescriptionVector entity : entities) {
+            sink += entity.calculateSimilarityWithUser(user).getWeightedSimilarity();
+        }
+        long entityNanos = System.nanoTime() - started;
+
+        for (int round = 0; round < 200; round++) {
+            PlaceVectorStore.UserVector prepared = PlaceVectorStore.prepare(user);
+            for (PlaceVectorStore.PlaceVector placeVector : decoded) {
+                sink += PlaceVectorStore.weightedScore(prepared, placeVector);
+            }
+        }
+        started = System.nanoTime();
+        PlaceVectorStore.UserVector prepared = PlaceVectorStore.prepare(user);
+        for (PlaceVectorStore.PlaceVector placeVector : decoded) {
+            sink += PlaceVectorStore.weightedScore(prepared, placeVector);
+        }
+        long storeNanos = System.nanoTime() - started;
+
+        logger.info("Re-ranking 500 candidates: entity parsing {} µs, pre-decoded store {} µs (sink={})",
+            entityNanos / 1000.0, storeNanos / 1000.0, sink);
+        assertThat(storeNanos).isPositive();
+    }
+}
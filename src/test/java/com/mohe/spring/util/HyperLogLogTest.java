@@ -0,0 +1,55 @@
+package com.mohe.spring.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("HyperLogLog 고유 방문자 추정 테스트")
+class HyperLogLogTest {
+
+    @Test
+    @DisplayName("10만 세션의 추정 오차가 5% 이내이고 중복은 세지 않음")
+    void estimatesDistinctSessions() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int repeat = 0; repeat < 3; repeat++) {
+            for (int i = 0; i < 100_000; i++) {
+                sketch.add("session-" + i);
+            }
+        }
+
+        assertThat((double) sketch.estimate()).isCloseTo(100_000, within(5_000.0));
+    }
+
+    @Test
+    @DisplayName("작은 수는 linear counting으로 거의 정확하게 추정")
+    void smallCardinalityIsNearlyExact() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 50; i++) {
+            sketch.add("s" + i);
+        }
+        sketch.add(null);
+
+        assertThat(sketch.estimate()).isBetween(48L, 52L);
+    }
+
+    @Test
+    @DisplayName("시간 단위 스케치를 병합하면 겹치는 세션은 한 번만 셈")
+    void mergedSketchCountsOverlapOnce() {
+        HyperLogLog morning = new HyperLogLog();
+        HyperLogLog evening = new HyperLogLog();
+        for (int i = 0; i < 20_000; i++) {
+            morning.add("session-" + i);
+        }
+        for (int i = 10_000; i < 30_000; i++) {
+            evening.add("session-" + i);
+        }
+
+        HyperLogLog day = HyperLogLog.fromBytes(morning.toBytes());
+        day.merge(evening);
+
+        assertThat((double) day.estimate()).isCloseTo(30_000, within(1_500.0));
+        assertThat(day.toBytes()).hasSize(1 << HyperLogLog.DEFAULT_PRECISION);
+    }
+}
@@ -0,0 +1,190 @@
+package com.mohe.spring.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LRU + TTL 로딩 캐시 테스트")
+class LoadingLruCacheTest {
+
+    private static final long NO_CAP = Long.MAX_VALUE;
+
+    @Test
+    @DisplayName("TTL 안에서는 같은 키의 값을 재사용")
+    void reusesValueWithinTtl() {
+        AtomicLong now = new AtomicLong(0);
+        AtomicInteger loads = new AtomicInteger();
+        LoadingLruCache<String, String> cache = LoadingLruCache.<String, String>builder("test")
+            .maxEntries(100).ttlMillis(60_000).clock(now::get).build();
+
+        assertThat(cache.get("60,127|AFTERNOON|SUNNY|ENFP|10", () -> "feed-" + loads.incrementAndGet())).isEqualTo("feed-1");
+        now.set(59_000);
+        assertThat(cache.get("60,127|AFTERNOON|SUNNY|ENFP|10", () -> "feed-" + loads.incrementAndGet())).isEqualTo("feed-1");
+
+        assertThat(loads).hasValue(1);
+        assertThat(cache.getStats()).containsEntry("hits", 1L).containsEntry("misses", 1L);
+    }
+
+    @Test
+    @DisplayName("stale-while-revalidate: 유예 구간에서는 이전 값을 반환하고 백그라운드에서 한 번만 갱신")
+    void servesStaleWhileRevalidating() {
+        AtomicLong now = new AtomicLong(0);
+        AtomicInteger loads = new AtomicInteger();
+        List<Runnable> scheduled = new ArrayList<>();
+        LoadingLruCache<String, String> cache = LoadingLruCache.<String, String>builder("test")
+            .maxEntries(100).ttlMillis(60_000).staleWhileRevalidate(30_000)
+            .refreshExecutor(scheduled::add).clock(now::get).build();
+
+        cache.get("k", () -> "feed-" + loads.incrementAndGet());
+        now.set(70_000);
+
+        assertThat(cache.get("k", () -> "feed-" + loads.incrementAndGet())).isEqualTo("feed-1");
+        assertThat(cache.get("k", () -> "feed-" + loads.incrementAndGet())).isEqualTo("feed-1");
+        assertThat(scheduled).hasSize(1);
+
+        scheduled.forEach(Runnable::run);
+        assertThat(cache.get("k", () -> "feed-" + loads.incrementAndGet())).isEqualTo("feed-2");
+        assertThat(cache.getStats()).containsEntry("staleServed", 2L).containsEntry("refreshes", 1L);
+    }
+
+    @Test
+    @DisplayName("만료 시각은 호출자가 준 상한(시간대 종료 시각)을 넘지 않음")
+    void expiryIsCappedByCaller() {
+        AtomicLong now = new AtomicLong(0);
+        AtomicInteger loads = new AtomicInteger();
+        LoadingLruCache<String, String> cache = LoadingLruCache.<String, String>builder("test")
+            .maxEntries(100).ttlMillis(600_000).staleWhileRevalidate(0)
+            .refreshExecutor(Runnable::run).clock(now::get).build();
+
+        cache.get("k", 5_000, () -> "feed-" + loads.incrementAndGet());
+        now.set(5_000);
+
+        assertThat(cache.get("k", 3_600_000, () -> "feed-" + loads.incrementAndGet())).isEqualTo("feed-2");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 가장 오래 사용되지 않은 항목을 제거")
+    void evictsLeastRecentlyUsed() {
+        LoadingLruCache<String, String> cache = LoadingLruCache.<String, String>builder("test")
+            .maxEntries(2).ttlMillis(60_000).build();
+
+        cache.get("a", () -> "a");
+        cache.get("b", () -> "b");
+        cache.get("a", () -> "a");
+        cache.get("c", () -> "c");
+
+        assertThat(cache.keys()).containsExactly("a", "c");
+        assertThat(cache.getStats()).containsEntry("evictions", 1L);
+    }
+
+    @Test
+    @DisplayName("로드 도중 invalidate가 일어나면 로드한 값을 저장하지 않음")
+    void doesNotStoreValueLoadedBeforeInvalidation() {
+        LoadingLruCache<String, String> cache = LoadingLruCache.<String, String>builder("test")
+            .maxEntries(10).ttlMillis(60_000).build();
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get("k", () -> {
+            cache.invalidate("k");
+            return "old-" + loads.incrementAndGet();
+        })).isEqualTo("old-1");
+
+        assertThat(cache.get("k", () -> "new-" + loads.incrementAndGet())).isEqualTo("new-2");
+        assertThat(cache.get("k", () -> "new-" + loads.incrementAndGet())).isEqualTo("new-2");
+    }
+
+    @Test
+    @DisplayName("invalidate 이후 요청은 진행 중인 무효화 전 로드를 공유하지 않고 새로 로드")
+    void requestAfterInvalidationDoesNotJoinStaleLoad() throws Exception {
+        LoadingLruCache<String, String> cache = LoadingLruCache.<String, String>builder("test")
+            .maxEntries(10).ttlMillis(60_000).build();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> stale = pool.submit(() -> cache.get("k", () -> {
+                started.countDown();
+                await(release);
+                return "old";
+            }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            cache.invalidate("k");
+            assertThat(cache.get("k", () -> "new")).isEqualTo("new");
+
+            release.countDown();
+            assertThat(stale.get(5, TimeUnit.SECONDS)).isEqualTo("old");
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(cache.get("k", () -> "unused")).isEqualTo("new");
+        assertThat(cache.getStats()).containsEntry("coalesced", 0L);
+    }
+
+    @Test
+    @DisplayName("동시 miss는 하나의 로드를 공유하고, 실패도 모든 대기자에게 전달한 뒤 캐시하지 않음")
+    void coalescesConcurrentMissesIncludingFailures() throws Exception {
+        LoadingLruCache<String, String> cache = LoadingLruCache.<String, String>builder("test")
+            .maxEntries(10).ttlMillis(60_000).build();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = pool.submit(() -> cache.get("k", () -> {
+                loads.incrementAndGet();
+                started.countDown();
+                await(release);
+                throw new IllegalStateException("upstream down");
+            }));
+            started.await(5, TimeUnit.SECONDS);
+            Future<String> second = pool.submit(() -> cache.get("k", () -> "unused-" + loads.incrementAndGet()));
+            Thread.sleep(100);
+            release.countDown();
+
+            assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("upstream down");
+            assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("upstream down");
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(cache.get("k", () -> "ok")).isEqualTo("ok");
+        assertThat(cache.getStats()).containsEntry("coalesced", 1L).containsEntry("loadFailures", 1L);
+    }
+
+    @Test
+    @DisplayName("백그라운드 갱신을 쓰는 설정은 executor 없이 만들 수 없음")
+    void requiresExecutorForBackgroundRefresh() {
+        assertThatThrownBy(() -> LoadingLruCache.<String, String>builder("test").staleWhileRevalidate(1_000).build())
+            .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> LoadingLruCache.<String, String>builder("test").refreshAheadMillis(1_000).build())
+            .isInstanceOf(NullPointerException.class);
+        assertThat(LoadingLruCache.<String, String>builder("test").staleIfError(1_000).build().get("k", NO_CAP, () -> "v"))
+            .isEqualTo("v");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.mohe.spring.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("토큰 버킷 레이트 리미터 테스트")
+class TokenBucketTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("burst만큼은 바로 통과하고 이후 요청은 초당 한도 간격으로 예약")
+    void reservesAtConfiguredRate() {
+        AtomicLong now = new AtomicLong(0);
+        TokenBucket bucket = new TokenBucket(10, 2, now::get);
+
+        assertThat(bucket.reserve()).isZero();
+        assertThat(bucket.reserve()).isZero();
+        assertThat(bucket.reserve()).isEqualTo(100 * MS);
+        assertThat(bucket.reserve()).isEqualTo(200 * MS);
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 토큰이 채워지지만 burst를 넘지 않음")
+    void refillsUpToBurst() {
+        AtomicLong now = new AtomicLong(0);
+        TokenBucket bucket = new TokenBucket(10, 3, now::get);
+        for (int i = 0; i < 3; i++) {
+            assertThat(bucket.tryAcquire()).isTrue();
+        }
+        assertThat(bucket.tryAcquire()).isFalse();
+
+        now.set(100 * MS);
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isFalse();
+
+        now.set(10_000 * MS);
+        for (int i = 0; i < 3; i++) {
+            assertThat(bucket.tryAcquire()).isTrue();
+        }
+        assertThat(bucket.tryAcquire()).isFalse();
+    }
+}
@@ -0,0 +1,60 @@
+package com.mohe.spring.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("벡터 내적 커널 테스트")
+class VectorKernelsTest {
+
+    private static float[] randomVector(Random random, int dimension) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+
+    private static double naiveDot(float[] a, float[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += (double) a[i] * b[i];
+        }
+        return sum;
+    }
+
+    @Test
+    @DisplayName("언롤 내적이 double 기준값과 일치 (4의 배수가 아닌 길이 포함)")
+    void dotMatchesReference() {
+        Random random = new Random(7);
+        for (int dimension : new int[]{1, 3, 4, 7, 1536, 1537}) {
+            float[] a = randomVector(random, dimension);
+            float[] b = randomVector(random, dimension);
+            assertThat((double) VectorKernels.dot(a, b)).isCloseTo(naiveDot(a, b), within(1e-2));
+        }
+    }
+
+    @Test
+    @DisplayName("오프셋 내적은 행 우선 행렬의 한 행만 읽음")
+    void dotWithOffsetReadsOneRow() {
+        float[] matrix = {1, 2, 3, 4, 5, 6};
+        float[] query = {1, 0, 1};
+
+        assertThat(VectorKernels.dot(matrix, 3, query, 0, 3)).isEqualTo(10f);
+    }
+
+    @Test
+    @DisplayName("정규화된 질의와의 코사인 유사도, 영벡터는 0")
+    void cosineToUnitVector() {
+        float[] query = {3, 4};
+        assertThat(VectorKernels.normalize(query)).isEqualTo(5f);
+
+        assertThat((double) VectorKernels.cosineToUnit(new float[]{6, 8}, query)).isCloseTo(1.0, within(1e-6));
+        assertThat((double) VectorKernels.cosineToUnit(new float[]{-4, 3}, query)).isCloseTo(0.0, within(1e-6));
+        assertThat(VectorKernels.cosineToUnit(new float[]{0, 0}, query)).isZero();
+    }
+}
@@ -0,0 +1,85 @@
+package com.mohe.spring.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("주간 영업시간 비트맵 테스트")
+class WeeklyOpenHoursTest {
+
+    private static WeeklyOpenHours.DayHours hours(String day, String open, String close) {
+        return new WeeklyOpenHours.DayHours(day,
+            open != null ? LocalTime.parse(open) : null,
+            close != null ? LocalTime.parse(close) : null,
+            true);
+    }
+
+    private static boolean openAt(byte[] bitmap, DayOfWeek day, String time) {
+        return WeeklyOpenHours.isOpen(bitmap, WeeklyOpenHours.slotOf(day, LocalTime.parse(time)));
+    }
+
+    @Test
+    @DisplayName("당일 영업시간: 시작 포함, 종료 미포함, 다른 요일은 휴무")
+    void sameDayHours() {
+        byte[] bitmap = WeeklyOpenHours.compile(List.of(hours("월", "10:00", "22:00")));
+
+        assertThat(bitmap).hasSize(WeeklyOpenHours.BYTES);
+        assertThat(openAt(bitmap, DayOfWeek.MONDAY, "09:55")).isFalse();
+        assertThat(openAt(bitmap, DayOfWeek.MONDAY, "10:00")).isTrue();
+        assertThat(openAt(bitmap, DayOfWeek.MONDAY, "21:59")).isTrue();
+        assertThat(openAt(bitmap, DayOfWeek.MONDAY, "22:00")).isFalse();
+        assertThat(openAt(bitmap, DayOfWeek.TUESDAY, "12:00")).isFalse();
+    }
+
+    @Test
+    @DisplayName("자정을 넘기는 영업은 다음 요일 새벽까지, 일요일은 월요일로 이어짐")
+    void overnightHoursSpillIntoNextDay() {
+        byte[] bitmap = WeeklyOpenHours.compile(List.of(
+            hours("금요일", "18:00", "02:00"),
+            hours("일", "20:00", "01:30")));
+
+        assertThat(openAt(bitmap, DayOfWeek.FRIDAY, "23:30")).isTrue();
+        assertThat(openAt(bitmap, DayOfWeek.SATURDAY, "01:00")).isTrue();
+        assertThat(openAt(bitmap, DayOfWeek.SATURDAY, "02:00")).isFalse();
+        // 자정 넘김 구간은 시작 요일 새벽에는 영업이 아님
+        assertThat(openAt(bitmap, DayOfWeek.FRIDAY, "01:00")).isFalse();
+        assertThat(openAt(bitmap, DayOfWeek.MONDAY, "01:25")).isTrue();
+        assertThat(openAt(bitmap, DayOfWeek.MONDAY, "01:30")).isFalse();
+    }
+
+    @Test
+    @DisplayName("시각이 없거나 같으면 종일 영업, isOperating=false는 휴무")
+    void allDayAndClosedDays() {
+        byte[] bitmap = WeeklyOpenHours.compile(List.of(
+            hours("토", null, null),
+            hours("일", "00:00", "00:00"),
+            new WeeklyOpenHours.DayHours("수", LocalTime.parse("09:00"), LocalTime.parse("18:00"), false)));
+
+        assertThat(openAt(bitmap, DayOfWeek.SATURDAY, "03:00")).isTrue();
+        assertThat(openAt(bitmap, DayOfWeek.SUNDAY, "23:55")).isTrue();
+        assertThat(openAt(bitmap, DayOfWeek.WEDNESDAY, "12:00")).isFalse();
+    }
+
+    @Test
+    @DisplayName("영업시간 정보가 없으면 null이고 영업 중으로 간주")
+    void missingHoursAreTreatedAsOpen() {
+        assertThat(WeeklyOpenHours.compile(List.of())).isNull();
+        assertThat(WeeklyOpenHours.isOpen(null, 0)).isTrue();
+    }
+
+    @Test
+    @DisplayName("비트 순서가 PostgreSQL get_bit(bytea, n)과 같음")
+    void bitOrderMatchesPostgresGetBit() {
+        byte[] bitmap = WeeklyOpenHours.compile(List.of(hours("월", "00:05", "00:10")));
+
+        // 월요일 00:05 = 슬롯 1 → 첫 바이트의 하위에서 두 번째 비트
+        assertThat(bitmap[0]).isEqualTo((byte) 0b0000_0010);
+        assertThat(WeeklyOpenHours.slotOf(DayOfWeek.SUNDAY, LocalTime.of(23, 59)))
+            .isEqualTo(WeeklyOpenHours.SLOTS_PER_WEEK - 1);
+    }
+}